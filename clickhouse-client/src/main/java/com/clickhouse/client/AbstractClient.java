@@ -261,6 +261,49 @@ public abstract class AbstractClient<T> implements ClickHouseClient {
         }
     }
 
+    /**
+     * Gets load balancing policy tracking requests sent to the given server.
+     *
+     * @param server non-null server
+     * @return load balancing policy, or null when requests are not tracked
+     */
+    private ClickHouseLoadBalancingPolicy getTrackingPolicy(ClickHouseNode server) {
+        ClickHouseNodeManager m = server.manager.get();
+        ClickHouseLoadBalancingPolicy policy = m != null ? m.getPolicy() : null;
+        return policy != null && policy.isRequestTrackingEnabled() ? policy : null;
+    }
+
+    /**
+     * Sends the request and notifies load balancing policy about start and
+     * completion of the request.
+     *
+     * @param sealedRequest non-null sealed request
+     * @param async         whether to send the request using
+     *                      {@link #sendAsync(ClickHouseRequest, Object...)}
+     * @param args          arguments required for async execution
+     * @return non-null response
+     * @throws ClickHouseException when error occurred preparing the request
+     * @throws IOException         when error occurred sending the request
+     */
+    private ClickHouseResponse sendTracked(ClickHouseRequest<?> sealedRequest, boolean async, Object[] args)
+            throws ClickHouseException, IOException {
+        final ClickHouseNode server = sealedRequest.getServer();
+        final ClickHouseLoadBalancingPolicy policy = getTrackingPolicy(server);
+        if (policy == null) {
+            return async ? sendAsync(sealedRequest, args) : send(sealedRequest);
+        }
+
+        policy.onRequestStart(server);
+        final long startTime = System.nanoTime();
+        try {
+            ClickHouseResponse response = async ? sendAsync(sealedRequest, args) : send(sealedRequest);
+            return new ClickHouseTrackedResponse(response, policy, server, System.nanoTime() - startTime);
+        } catch (ClickHouseException | IOException | RuntimeException e) {
+            policy.onRequestComplete(server, System.nanoTime() - startTime, e);
+            throw e;
+        }
+    }
+
     @Override
     public CompletableFuture<ClickHouseResponse> execute(ClickHouseRequest<?> request) {
         // sealedRequest is an immutable copy of the original request
@@ -270,14 +313,14 @@ public abstract class AbstractClient<T> implements ClickHouseClient {
             final Object[] args = getAsyncExecArguments(sealedRequest);
             return CompletableFuture.supplyAsync(() -> {
                 try {
-                    return sendAsync(sealedRequest, args);
+                    return sendTracked(sealedRequest, true, args);
                 } catch (ClickHouseException | IOException e) {
                     throw new CompletionException(ClickHouseException.of(e, sealedRequest.getServer()));
                 }
             }, getExecutor());
         } else {
             try {
-                return CompletableFuture.completedFuture(send(sealedRequest));
+                return CompletableFuture.completedFuture(sendTracked(sealedRequest, false, null));
             } catch (ClickHouseException | IOException e) {
                 return failedResponse(ClickHouseException.of(e, sealedRequest.getServer()));
             }
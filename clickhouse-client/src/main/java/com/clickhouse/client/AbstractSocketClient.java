@@ -1,6 +1,7 @@
 package com.clickhouse.client;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
@@ -8,28 +9,28 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
-import java.nio.channels.ClosedSelectorException;
-import java.nio.channels.FileChannel;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 import com.clickhouse.client.config.ClickHouseClientOption;
 import com.clickhouse.data.ClickHouseChecker;
 import com.clickhouse.data.ClickHouseDataStreamFactory;
-import com.clickhouse.data.ClickHouseFile;
 import com.clickhouse.data.ClickHouseInputStream;
 import com.clickhouse.data.ClickHouseOutputStream;
-import com.clickhouse.data.ClickHousePassThruStream;
 import com.clickhouse.data.ClickHousePipedOutputStream;
 import com.clickhouse.data.ClickHouseUtils;
+import com.clickhouse.data.stream.AbstractByteArrayInputStream;
+import com.clickhouse.data.stream.AbstractByteArrayOutputStream;
 import com.clickhouse.logging.Logger;
 import com.clickhouse.logging.LoggerFactory;
 
@@ -40,6 +41,10 @@ public class AbstractSocketClient implements AutoCloseable {
         final ClickHouseOutputStream out;
 
         final AtomicReference<Throwable> error;
+        final CompletableFuture<Boolean> future;
+        final AtomicInteger tasks;
+
+        volatile long lastActivity;
 
         SocketRequest(ClickHouseConfig config, ClickHouseInputStream in, ClickHouseOutputStream out) {
             this.config = config;
@@ -47,6 +52,10 @@ public class AbstractSocketClient implements AutoCloseable {
             this.out = out;
 
             this.error = new AtomicReference<>(null);
+            this.future = new CompletableFuture<>();
+            this.tasks = new AtomicInteger(0);
+
+            this.lastActivity = System.currentTimeMillis();
         }
 
         boolean hasError() {
@@ -58,6 +67,102 @@ public class AbstractSocketClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Task running in a worker thread, which may block on user streams.
+     */
+    @FunctionalInterface
+    private interface StreamTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * Input stream of bytes received by the event loop, see
+     * {@link AbstractSocketClient#getInputStream()}.
+     */
+    final class ChannelInputStream extends AbstractByteArrayInputStream {
+        ChannelInputStream(int bufferSize) {
+            super(null, null, null);
+
+            this.buffer = new byte[bufferSize];
+        }
+
+        @Override
+        protected int updateBuffer() throws IOException {
+            position = 0;
+            if (closed) {
+                return limit = 0;
+            }
+
+            if (!retainBuffers()) {
+                throw new ClosedChannelException();
+            }
+            final int len;
+            try {
+                synchronized (streamLock) {
+                    awaitStream(() -> readyBytes != 0, ERROR_READ_TIMEOUT);
+                    len = readyBytes;
+                    if (len > 0) {
+                        // event loop does not touch read buffer until OP_READ is set again
+                        readBuffer.get(buffer, 0, len);
+                        readyBytes = 0;
+                    }
+                }
+            } finally {
+                releaseBuffers();
+            }
+
+            if (len < 0) {
+                return limit = 0;
+            }
+            // read ahead while caller is busy with the bytes just received
+            setInterestOp(SelectionKey.OP_READ);
+            return limit = len;
+        }
+    }
+
+    /**
+     * Output stream writing into the socket channel, see
+     * {@link AbstractSocketClient#getOutputStream()}.
+     */
+    final class ChannelOutputStream extends AbstractByteArrayOutputStream {
+        ChannelOutputStream(int bufferSize) {
+            super(null, bufferSize, null);
+        }
+
+        @Override
+        protected void flushBuffer(byte[] bytes, int offset, int length) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            // event loop is only needed when socket output buffer is full
+            channel.write(buffer);
+            if (!buffer.hasRemaining()) {
+                return;
+            }
+
+            synchronized (streamLock) {
+                pendingBytes = buffer;
+                setInterestOp(SelectionKey.OP_WRITE);
+                try {
+                    awaitStream(() -> pendingBytes == null, ERROR_WRITE_TIMEOUT);
+                } catch (IOException e) {
+                    pendingBytes = null;
+                    // part of the bytes may have been sent already
+                    closeQuietly();
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+
+            if (position > 0) {
+                flushBuffer();
+            }
+        }
+    }
+
+    public static final String ERROR_CONNECT_TIMEOUT = "Connect timed out after waiting for more than %d ms";
     public static final String ERROR_INVALID_INPUT_STREAM = "Non-null unclosed input stream is required";
     public static final String ERROR_INVALID_OUTPUT_STREAM = "Non-null unclosed out stream is required";
     public static final String ERROR_READ_TIMEOUT = "Read timed out after waiting for more than %d ms";
@@ -174,19 +279,68 @@ public class AbstractSocketClient implements AutoCloseable {
         return socket;
     }
 
+
+    private final ClickHouseConfig config;
+    private final SocketChannel channel;
+    private final ClickHouseSocketEventLoop eventLoop;
+    private final SelectionKey selectionKey;
     /**
-     * Reads raw request from the input stream.
+     * Request in progress, there's at most one for each connection.
      */
     private final AtomicReference<SocketRequest> request;
-    private final SelectionKey selectionKey;
     private final AtomicReference<CompletableFuture<Boolean>> completed;
+    /**
+     * Buffer of bytes read from the socket. It's owned by the event loop while
+     * {@link SelectionKey#OP_READ} is set, and by a worker thread otherwise.
+     */
+    private final ByteBuffer readBuffer;
+    /**
+     * Buffer of bytes to write into the socket. It's owned by the event loop
+     * while {@link SelectionKey#OP_WRITE} is set, and by a worker thread
+     * otherwise.
+     */
+    private final ByteBuffer writeBuffer;
+    /**
+     * Reference count of the pooled buffers - one held by the client until it's
+     * closed, and one for each running worker task.
+     */
+    private final AtomicInteger bufferRefs;
+    private final AtomicBoolean closed;
+    /**
+     * Lock for handing over bytes between the event loop and the thread using
+     * {@link #getInputStream()} or {@link #getOutputStream()}.
+     */
+    private final Object streamLock;
+    /**
+     * Number of bytes in read buffer waiting for the input stream, or -1 when the
+     * server closed the connection. Guarded by {@link #streamLock}.
+     */
+    private int readyBytes;
+    /**
+     * Bytes the output stream could not write without blocking. Guarded by
+     * {@link #streamLock}.
+     */
+    private ByteBuffer pendingBytes;
+    /**
+     * Error from event loop, which will be thrown to the thread using streams.
+     * Guarded by {@link #streamLock}.
+     */
+    private Throwable streamError;
+
+    private volatile long connectStartTime;
+    private volatile int streamTimeout;
+    private volatile ChannelInputStream inputStream;
+    private volatile ChannelOutputStream outputStream;
 
     protected SocketChannel getSocketChannel() {
-        return (SocketChannel) this.selectionKey.channel();
+        return channel;
     }
 
     protected CompletableFuture<Boolean> processRequest(ClickHouseConfig config, ClickHouseInputStream in,
             ClickHouseOutputStream out) throws IOException {
+        if (inputStream != null || outputStream != null) {
+            throw new IllegalStateException("Socket is being used by streams");
+        }
         final long timeout = config.getSocketTimeout();
 
         log.trace("About to set request: [in=%s, out=%s, timeout=%d]", in, out, timeout);
@@ -203,182 +357,408 @@ public class AbstractSocketClient implements AutoCloseable {
         }
         // log.trace("Request changed to: [%s]", req);
 
-        setInterestOp(SelectionKey.OP_WRITE);
+        setInterestOp(SelectionKey.OP_READ);
+        offload(req, () -> fill(req));
 
-        return ClickHouseClient.submit(() -> {
-            while (req != request.get() || !req.isDone()) {
-                // busy wait
-            }
-            return req.hasError();
-        });
+        // completed by worker thread, so no thread is blocked while waiting for response
+        return req.future;
     }
 
     protected final void setInterestOp(int op) {
-        final SelectionKey key = this.selectionKey;
-        if (!key.isValid()) {
-            return;
-        }
-        final int interestOps = key.interestOps();
-        if ((interestOps & op) == 0) {
-            key.interestOps(interestOps | op);
-        }
+        eventLoop.execute(() -> {
+            final SelectionKey key = this.selectionKey;
+            if (!key.isValid()) {
+                return;
+            }
+            final int interestOps = key.interestOps();
+            if ((interestOps & op) == 0) {
+                key.interestOps(interestOps | op);
+            }
+        });
     }
 
     protected final void removeInterestOp(int op) {
-        final SelectionKey key = this.selectionKey;
-        if (!key.isValid()) {
-            return;
-        }
-        final int interestOps = key.interestOps();
-        if ((interestOps & op) != 0) {
-            key.interestOps(interestOps & ~op);
-        }
+        eventLoop.execute(() -> {
+            final SelectionKey key = this.selectionKey;
+            if (!key.isValid()) {
+                return;
+            }
+            final int interestOps = key.interestOps();
+            if ((interestOps & op) != 0) {
+                key.interestOps(interestOps & ~op);
+            }
+        });
     }
 
     protected void onConnect(ClickHouseConfig config, SocketChannel channel) throws IOException {
         if (channel.finishConnect()) {
             log.debug("Connection established: [%s] <-> [%s]", localAddress(), remoteAddress());
-            setInterestOp(SelectionKey.OP_READ);
+            removeInterestOp(SelectionKey.OP_CONNECT);
+            final CompletableFuture<Boolean> future = completed.get();
+            if (future != null) {
+                future.complete(true);
+            }
         } else {
             throw new ConnectException(ClickHouseUtils.format("Failed to connect to [%s]", remoteAddress()));
         }
     }
 
     /**
-     * Reads byte from socket input buffer.
+     * Writes bytes read from socket into the response stream. It's called in a
+     * worker thread, so it's safe to block on the output stream.
      *
      * @param config non-null configuration
-     * @param sc     socket channel
-     * @param out    output stream
-     * @return true if the read was a success; false otherwise
-     * @throws IOException
+     * @param buffer non-null buffer holding bytes read from socket
+     * @param out    non-null response stream
+     * @return true if the response is complete; false to continue reading until
+     *         the server closes the connection
+     * @throws IOException when failed to write into the response stream
      */
-    protected boolean onRead(ClickHouseConfig config, SocketChannel sc, ClickHouseOutputStream out) throws IOException {
-        final long socketTimeout = config.getSocketTimeout();
-        final long startTime = socketTimeout > 0L ? System.currentTimeMillis() : 0L;
-
-        // final ClickHousePassThruStream s = out.getUnderlyingStream();
-        ByteBuffer buffer = ByteBuffer.allocate(config.getWriteBufferSize());
-        byte[] bytes = buffer.array();
-        int len = 0;
-        while ((len = sc.read(buffer)) > 0) {
-            log.trace("Receive from [%s]: [%s]", out, new String(bytes, 0, len));
-            out.write(bytes, 0, len);
-            buffer.clear();
-            if (startTime > 0L && System.currentTimeMillis() - startTime > socketTimeout) {
-                throw new SocketTimeoutException(ClickHouseUtils.format(ERROR_READ_TIMEOUT, socketTimeout));
-            }
+    protected boolean onRead(ClickHouseConfig config, ByteBuffer buffer, ClickHouseOutputStream out)
+            throws IOException {
+        log.trace("Receive from [%s]: [%s]", out,
+                new String(buffer.array(), buffer.position(), buffer.remaining()));
+        out.write(buffer.array(), buffer.position(), buffer.remaining());
+        return false;
+    }
+
+    /**
+     * Fills the given buffer with bytes read from the request stream. It's called
+     * in a worker thread, so it's safe to block on the input stream.
+     *
+     * @param config non-null configuration
+     * @param in     non-null request stream
+     * @param buffer non-null cleared buffer to fill
+     * @return true if the buffer should be written into socket; false when the
+     *         request stream reached its end
+     * @throws IOException when failed to read from the request stream
+     */
+    protected boolean onWrite(ClickHouseConfig config, ClickHouseInputStream in, ByteBuffer buffer)
+            throws IOException {
+        final int len = in.read(buffer.array(), buffer.position(), buffer.remaining());
+        if (len < 0) {
+            return false;
         }
 
-        return len != -1;
+        log.trace("Send to [%s]: [%s]", in, new String(buffer.array(), buffer.position(), len));
+        buffer.position(buffer.position() + len);
+        return true;
     }
 
-    protected long onWrite(ClickHouseConfig config, SocketChannel sc, ClickHouseInputStream in, long startPosition)
-            throws IOException {
-        final long socketTimeout = config.getSocketTimeout();
-        final long startTime = socketTimeout > 0L ? System.currentTimeMillis() : 0L;
-
-        final ClickHousePassThruStream s = in.getUnderlyingStream();
-        if (s.hasInput() && s instanceof ClickHouseFile) {
-            try (FileChannel fc = FileChannel.open(((ClickHouseFile) s).getFile().toPath())) {
-                long size = fc.size();
-                long chunkSize = config.getRequestChunkSize();
-                long offset = startPosition;
-                while (size > 0) {
-                    // TODO write chunk header
-                    long transferred = fc.transferTo(offset, size >= chunkSize ? chunkSize : size, sc);
-                    if (transferred == 0) { // output buffer is jammed
-                        return offset;
-                    }
-                    size -= transferred;
-                    offset += transferred;
+    /**
+     * Handles selected key. Always called from event loop thread, so it never
+     * touches user streams.
+     *
+     * @param key non-null selection key
+     */
+    final void onSelected(SelectionKey key) {
+        final SocketRequest req = request.get();
+        try {
+            if (key.isValid() && key.isConnectable()) {
+                onConnect(config, channel);
+            }
+
+            if (!channel.isConnected()) {
+                return;
+            } else if (inputStream != null || outputStream != null) {
+                onStreamSelected(key);
+                return;
+            } else if (req == null) {
+                return;
+            }
+
+            if (key.isValid() && key.isWritable()) {
+                final ByteBuffer buffer = writeBuffer;
+                if (channel.write(buffer) > 0) {
+                    req.lastActivity = System.currentTimeMillis();
+                }
+                // otherwise socket output buffer was full due to slow/jammed network
+                if (!buffer.hasRemaining()) {
+                    removeInterestOp(SelectionKey.OP_WRITE);
+                    offload(req, () -> fill(req));
                 }
             }
-        } else {
-            ByteBuffer buffer = ByteBuffer.allocate(config.getReadBufferSize());
-            byte[] bytes = buffer.array();
-            int len = 0;
-            while ((len = in.read(bytes)) > 0) {
-                buffer.limit(len);
-                log.trace("Send to [%s]: [%s]", in, new String(bytes, 0, len));
-                while (buffer.hasRemaining()) {
-                    if (sc.write(buffer) == 0) {
-                        return 1L;
-                    }
-                    if (startTime > 0L && System.currentTimeMillis() - startTime > socketTimeout) {
-                        throw new SocketTimeoutException(ClickHouseUtils.format(ERROR_WRITE_TIMEOUT, socketTimeout));
-                    }
+
+            if (key.isValid() && key.isReadable()) {
+                final ByteBuffer buffer = readBuffer;
+                buffer.clear();
+                final int len = channel.read(buffer);
+                if (len != 0) {
+                    removeInterestOp(SelectionKey.OP_READ);
+                    buffer.flip();
+                    offload(req, () -> drain(req, len < 0));
                 }
             }
+        } catch (Throwable t) { // NOSONAR
+            final CompletableFuture<Boolean> future = completed.get();
+            if (future != null) {
+                future.completeExceptionally(t);
+            }
+            if (req != null) {
+                fail(req, t);
+            } else {
+                failStreams(t);
+                closeQuietly();
+            }
         }
-
-        return 0L;
     }
 
-    protected boolean start() throws IOException {
-        final ClickHouseConfig f = (ClickHouseConfig) this.selectionKey.attachment();
-        final long socketTimeout = f.getSocketTimeout();
-
-        try (SocketChannel c = getSocketChannel(); Selector s = this.selectionKey.selector()) {
-            while (c.isOpen()) {
-                if (s.select(c.isConnected() ? socketTimeout : f.getConnectionTimeout()) < 1) {
-                    LockSupport.parkNanos(1L);
+    /**
+     * Hands over bytes between socket channel and the thread using streams.
+     * Always called from event loop thread.
+     *
+     * @param key non-null selection key
+     * @throws IOException when failed to read from or write into socket channel
+     */
+    private void onStreamSelected(SelectionKey key) throws IOException {
+        if (key.isValid() && key.isWritable()) {
+            synchronized (streamLock) {
+                final ByteBuffer buffer = pendingBytes;
+                if (buffer != null) {
+                    channel.write(buffer);
                 }
+                if (buffer == null || !buffer.hasRemaining()) {
+                    removeInterestOp(SelectionKey.OP_WRITE);
+                    pendingBytes = null;
+                    streamLock.notifyAll();
+                }
+            }
+        }
 
-                final Iterator<SelectionKey> keysIterator = s.selectedKeys().iterator();
-                while (keysIterator.hasNext()) {
-                    final SelectionKey key = keysIterator.next();
-                    keysIterator.remove();
+        if (key.isValid() && key.isReadable()) {
+            final ByteBuffer buffer = readBuffer;
+            buffer.clear();
+            final int len = channel.read(buffer);
+            if (len != 0) {
+                removeInterestOp(SelectionKey.OP_READ);
+                buffer.flip();
+                synchronized (streamLock) {
+                    readyBytes = len < 0 ? -1 : len;
+                    streamLock.notifyAll();
+                }
+            }
+        }
+    }
 
-                    final SocketChannel sc = (SocketChannel) key.channel();
-                    if (key.isValid() && key.isConnectable()) {
-                        onConnect(f, sc);
-                    }
+    /**
+     * Waits until the given condition is met. Caller must hold
+     * {@link #streamLock}.
+     *
+     * @param condition    non-null condition to wait for
+     * @param timeoutError error message when timed out
+     * @throws IOException when timed out, interrupted, or the socket failed or
+     *                     closed
+     */
+    private void awaitStream(BooleanSupplier condition, String timeoutError) throws IOException {
+        final int timeout = streamTimeout;
+        final long deadline = System.currentTimeMillis() + timeout;
+        while (!condition.getAsBoolean()) {
+            if (streamError != null) {
+                throw new IOException("Socket failed", streamError);
+            } else if (closed.get()) {
+                throw new ClosedChannelException();
+            }
 
-                    final SocketRequest req = request.get();
-                    if (req == null) {
-                        continue;
-                    }
+            long wait = 0L;
+            if (timeout > 0) {
+                wait = deadline - System.currentTimeMillis();
+                if (wait <= 0L) {
+                    throw new SocketTimeoutException(ClickHouseUtils.format(timeoutError, timeout));
+                }
+            }
+            try {
+                streamLock.wait(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for socket");
+            }
+        }
+    }
 
-                    if (key.isValid() && key.isWritable()) {
-                        final ClickHouseInputStream in = req.in;
-                        // socket output buffer was full due to slow/jammed network
-                        long offset = (long) in.getUserData("offset", 0L);
-                        if ((offset = onWrite(req.config, sc, in, offset)) > 0L && in.available() > 0) {
-                            // processRequest(in, socketTimeout);
-                        } else {
-                            in.close();
-                            removeInterestOp(SelectionKey.OP_WRITE);
-                        }
-                        in.setUserData("offset", offset);
-                    }
+    private void failStreams(Throwable error) {
+        synchronized (streamLock) {
+            if (streamError == null) {
+                streamError = error;
+            }
+            streamLock.notifyAll();
+        }
+    }
 
-                    if (key.isValid() && key.isReadable()) {
-                        final ClickHouseOutputStream out = req.out;
-                        if (onRead(req.config, sc, out)) {
-                            log.trace("Reset request holder: %s", request.compareAndSet(req, null));
-                            out.close();
-                        } else {
-                            throw new ConnectException("Failed to read");
-                        }
-                    }
-                }
+    /**
+     * Checks connect and socket timeouts. Always called from event loop thread.
+     * Time spent by worker threads on user streams does not count.
+     *
+     * @param now current time in milliseconds
+     */
+    final void checkTimeout(long now) {
+        final CompletableFuture<Boolean> future = completed.get();
+        if (future != null && !future.isDone()) {
+            final int timeout = config.getConnectionTimeout();
+            if (timeout > 0 && now - connectStartTime > timeout) {
+                future.completeExceptionally(
+                        new ConnectException(ClickHouseUtils.format(ERROR_CONNECT_TIMEOUT, timeout)));
+                closeQuietly();
             }
-        } catch (Throwable t) {
-            final SocketRequest req = request.get();
-            if (req != null && !req.isDone()) {
-                req.error.compareAndSet(null, t);
-                throw t;
-            } else if (t instanceof ClosedSelectorException) {
-                log.info("Socket channel between [%s] and [%s] was closed", localAddress(), remoteAddress());
+            return;
+        }
+
+        final SocketRequest req = request.get();
+        if (req != null && req.tasks.get() == 0) {
+            final long timeout = req.config.getSocketTimeout();
+            if (timeout > 0L && now - req.lastActivity > timeout) {
+                fail(req, new SocketTimeoutException(ClickHouseUtils.format(ERROR_READ_TIMEOUT, timeout)));
             }
+        }
+    }
+
+    /**
+     * Reads next chunk of the request into write buffer, and then asks event loop
+     * to write it into socket.
+     *
+     * @param req non-null request
+     * @throws IOException when failed to read request
+     */
+    private void fill(SocketRequest req) throws IOException {
+        if (request.get() != req || req.in.isClosed()) {
+            return;
+        }
+
+        final ByteBuffer buffer = writeBuffer;
+        buffer.clear();
+        if (onWrite(req.config, req.in, buffer)) {
+            buffer.flip();
+            setInterestOp(SelectionKey.OP_WRITE);
+        } else {
+            req.in.close();
+        }
+    }
+
+    /**
+     * Writes bytes in read buffer into the response stream, and then asks event
+     * loop to read more unless the response is complete.
+     *
+     * @param req non-null request
+     * @param eof whether the server closed the connection
+     * @throws IOException when failed to write response
+     */
+    private void drain(SocketRequest req, boolean eof) throws IOException {
+        if (eof) {
+            // response without framing ends when the server closes the connection
+            finish(req);
+            close();
+        } else if (onRead(req.config, readBuffer, req.out)) {
+            finish(req);
+        } else {
+            setInterestOp(SelectionKey.OP_READ);
+        }
+    }
+
+    private void finish(SocketRequest req) throws IOException {
+        final boolean partial = !req.in.isClosed();
+        try {
+            req.in.close();
+            req.out.close();
         } finally {
+            log.trace("Reset request holder: %s", request.compareAndSet(req, null));
+            req.future.complete(req.hasError());
+        }
+
+        if (partial) {
+            // unsent part of the request cannot be told apart from next request
             close();
         }
+    }
+
+    private void fail(SocketRequest req, Throwable error) {
+        if (!req.error.compareAndSet(null, error)) {
+            return;
+        }
+
+        log.trace("Reset request holder: %s", request.compareAndSet(req, null));
+        closeQuietly();
 
+        // closing user streams may block, so never do that in event loop
+        final Runnable task = () -> {
+            try {
+                req.in.close();
+                req.out.close();
+            } catch (Exception e) {
+                log.debug("Failed to close streams of failed request", e);
+            } finally {
+                req.future.complete(true);
+            }
+        };
+        if (eventLoop.inEventLoop()) {
+            try {
+                ClickHouseClient.getExecutorService().execute(task);
+            } catch (RuntimeException e) {
+                req.future.complete(true);
+            }
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs the given task in a worker thread. Event loop stops watching the
+     * involved operation until the task asks for it again, so the buffers are
+     * never accessed by both threads at the same time.
+     *
+     * @param req  non-null request
+     * @param task non-null task
+     */
+    private void offload(SocketRequest req, StreamTask task) {
+        if (!retainBuffers()) {
+            fail(req, new ClosedChannelException());
+            return;
+        }
+
+        req.tasks.incrementAndGet();
+        try {
+            ClickHouseClient.getExecutorService().execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable t) { // NOSONAR
+                    fail(req, t);
+                } finally {
+                    req.lastActivity = System.currentTimeMillis();
+                    req.tasks.decrementAndGet();
+                    releaseBuffers();
+                }
+            });
+        } catch (RuntimeException e) {
+            req.tasks.decrementAndGet();
+            releaseBuffers();
+            fail(req, e);
+        }
+    }
+
+    private boolean retainBuffers() {
+        int refs;
+        do {
+            refs = bufferRefs.get();
+            if (refs <= 0) {
+                return false;
+            }
+        } while (!bufferRefs.compareAndSet(refs, refs + 1));
         return true;
     }
 
+    private void releaseBuffers() {
+        if (bufferRefs.decrementAndGet() == 0) {
+            ClickHouseSocketEventLoop.release(readBuffer);
+            ClickHouseSocketEventLoop.release(writeBuffer);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            log.debug("Failed to close socket channel", e);
+        }
+    }
+
     public AbstractSocketClient() throws IOException {
         this(new ClickHouseConfig());
     }
@@ -395,52 +775,136 @@ public class AbstractSocketClient implements AutoCloseable {
         }
 
         this.request = new AtomicReference<>(null);
-
-        SocketChannel channel = setSocketOptions(config, SocketChannel.open());
-        channel.configureBlocking(false);
-        this.selectionKey = channel.register(Selector.open(), 0, config);
+        this.config = config;
 
         this.completed = new AtomicReference<>(null);
+        this.readBuffer = ClickHouseSocketEventLoop.allocate(config.getReadBufferSize());
+        this.writeBuffer = ClickHouseSocketEventLoop.allocate(config.getWriteBufferSize());
+        this.bufferRefs = new AtomicInteger(1);
+        this.closed = new AtomicBoolean(false);
+
+        this.streamLock = new Object();
+        this.streamTimeout = config.getSocketTimeout();
+
+        this.channel = setSocketOptions(config, SocketChannel.open());
+        this.channel.configureBlocking(false);
+        this.eventLoop = ClickHouseSocketEventLoop.next();
+        // register last, as event loop may use the client right after that
+        try {
+            this.selectionKey = eventLoop.register(channel, this).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            channel.close();
+            releaseBuffers();
+            throw new IOException("Interrupted while registering socket channel", e);
+        } catch (ExecutionException e) {
+            channel.close();
+            releaseBuffers();
+            throw new IOException("Failed to register socket channel", e.getCause());
+        }
     }
 
     public CompletableFuture<Boolean> connect(ClickHouseNode server) throws IOException {
-        return connect(new InetSocketAddress(server.getHost(), server.getPort()));
+        ClickHouseDnsResolver resolver = ClickHouseDnsResolver.getInstance();
+        return connect(resolver != null ? resolver.resolve(server.getProtocol(), server.getHost(), server.getPort())
+                : new InetSocketAddress(server.getHost(), server.getPort()));
     }
 
+    /**
+     * Connects to the given address. The connection is handled by a shared event
+     * loop, so no thread is dedicated to this client.
+     *
+     * @param address non-null address to connect to
+     * @return future which will be completed with {@code true} once connected
+     * @throws IOException when failed to initiate the connection
+     */
     public CompletableFuture<Boolean> connect(InetSocketAddress address) throws IOException {
         log.trace("Connecting to [%s]", address);
-        final SocketChannel channel = (SocketChannel) this.selectionKey.channel();
-        if (!channel.connect(ClickHouseChecker.nonNull(address, InetSocketAddress.class.getSimpleName()))) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        if (!completed.compareAndSet(null, future)) {
+            throw new ConnectException("Connection has been initiated already");
+        }
+
+        connectStartTime = System.currentTimeMillis();
+        if (channel.connect(ClickHouseChecker.nonNull(address, InetSocketAddress.class.getSimpleName()))) {
+            future.complete(true);
+        } else {
             setInterestOp(SelectionKey.OP_CONNECT);
         }
+        return future;
+    }
 
-        return ClickHouseClient.submit(this::start);
+    /**
+     * Gets input stream for reading from socket in calling thread. It's an
+     * alternative to {@link #send(ClickHouseConfig, ClickHouseInputStream)} for
+     * protocols driven by the client, and the two cannot be mixed. The event loop
+     * reads one buffer ahead, so the calling thread only waits when nothing has
+     * been received yet.
+     *
+     * @return non-null input stream
+     */
+    public synchronized ClickHouseInputStream getInputStream() {
+        if (inputStream == null) {
+            if (request.get() != null) {
+                throw new IllegalStateException("Socket is being used by a request");
+            }
+            inputStream = new ChannelInputStream(config.getReadBufferSize());
+            setInterestOp(SelectionKey.OP_READ);
+        }
+        return inputStream;
     }
 
-    // public ClickHouseInputStream getInputStream() {
-    // return resp.getInputStream();
-    // }
+    /**
+     * Gets output stream for writing into socket in calling thread. Bytes are
+     * written directly, and the calling thread only waits for the event loop when
+     * socket output buffer is full. See {@link #getInputStream()}.
+     *
+     * @return non-null output stream
+     */
+    public synchronized ClickHouseOutputStream getOutputStream() {
+        if (outputStream == null) {
+            if (request.get() != null) {
+                throw new IllegalStateException("Socket is being used by a request");
+            }
+            outputStream = new ChannelOutputStream(config.getWriteBufferSize());
+        }
+        return outputStream;
+    }
 
-    // public ClickHouseOutputStream getOutputStream() {
-    // return req;
-    // }
+    /**
+     * Gets how long the streams wait for the socket.
+     *
+     * @return timeout in milliseconds, zero or negative means no timeout
+     */
+    public int getStreamTimeout() {
+        return streamTimeout;
+    }
+
+    /**
+     * Sets how long {@link #getInputStream()} and {@link #getOutputStream()} wait
+     * for the socket. Defaults to socket timeout.
+     *
+     * @param timeout timeout in milliseconds, zero or negative means no timeout
+     */
+    public void setStreamTimeout(int timeout) {
+        this.streamTimeout = timeout;
+    }
 
     public boolean isActive() {
-        final SocketChannel channel = getSocketChannel();
         return channel.isOpen() && channel.isConnected();
     }
 
     public boolean isShutdown() {
-        final Socket s = getSocketChannel().socket();
+        final Socket s = channel.socket();
         return s.isInputShutdown() && s.isOutputShutdown() || !isActive();
     }
 
     public InetSocketAddress localAddress() throws IOException {
-        return (InetSocketAddress) getSocketChannel().getLocalAddress();
+        return (InetSocketAddress) channel.getLocalAddress();
     }
 
     public InetSocketAddress remoteAddress() throws IOException {
-        return (InetSocketAddress) getSocketChannel().getRemoteAddress();
+        return (InetSocketAddress) channel.getRemoteAddress();
     }
 
     public ClickHouseInputStream send(ClickHouseConfig config, ClickHouseInputStream rawRequest) throws IOException {
@@ -467,25 +931,36 @@ public class AbstractSocketClient implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
-        final SelectionKey key = this.selectionKey;
-        if (!key.isValid()) {
+        if (!closed.compareAndSet(false, true)) {
             return;
         }
 
+        final SelectionKey key = this.selectionKey;
         try {
-            log.trace("Closing selector...");
-            if (key.selector().isOpen()) {
-                key.selector().close();
-            }
+            log.trace("Closing selection key...");
+            log.trace("Release attached object: [%s]", key.attach(null));
+            key.cancel();
         } finally {
             log.trace("Closing channel...");
-            if (key.channel().isOpen()) {
-                key.channel().close();
+            if (channel.isOpen()) {
+                channel.close();
             }
+            // selector is shared, so just let it know the key is gone
+            key.selector().wakeup();
 
-            log.trace("Closing selection key...");
-            log.trace("Release attached object: [%s]", key.attach(null));
-            key.cancel();
+            final CompletableFuture<Boolean> future = completed.get();
+            if (future != null && !future.isDone()) {
+                future.completeExceptionally(new ClosedChannelException());
+            }
+            final SocketRequest req = request.get();
+            if (req != null) {
+                fail(req, new ClosedChannelException());
+            }
+            synchronized (streamLock) {
+                streamLock.notifyAll();
+            }
+            // event loop may be using the buffers right now
+            eventLoop.execute(this::releaseBuffers);
         }
     }
 }
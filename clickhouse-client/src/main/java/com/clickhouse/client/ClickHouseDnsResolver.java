@@ -1,9 +1,22 @@
 package com.clickhouse.client;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.clickhouse.client.config.ClickHouseDefaults;
 import com.clickhouse.client.naming.SrvResolver;
+import com.clickhouse.data.ClickHouseChecker;
+import com.clickhouse.data.ClickHouseDataStreamFactory;
 import com.clickhouse.data.ClickHouseUtils;
 import com.clickhouse.logging.Logger;
 import com.clickhouse.logging.LoggerFactory;
@@ -12,6 +25,14 @@ import com.clickhouse.logging.LoggerFactory;
  * Default DNS resolver. It tries to look up service record (SRV record) when
  * {@link com.clickhouse.client.config.ClickHouseDefaults#SRV_RESOLVE} is set to
  * {@code true}.
+ *
+ * <p>
+ * Resolved addresses are cached for
+ * {@link com.clickhouse.client.config.ClickHouseDefaults#DNS_CACHE_TTL}
+ * seconds and failed lookups for
+ * {@link com.clickhouse.client.config.ClickHouseDefaults#DNS_NEGATIVE_CACHE_TTL}
+ * seconds. Cached addresses are refreshed in background when they're about to
+ * expire, so that establishing a new connection rarely waits for DNS lookup.
  */
 public class ClickHouseDnsResolver {
     private static final Logger log = LoggerFactory.getLogger(ClickHouseDnsResolver.class);
@@ -19,6 +40,37 @@ public class ClickHouseDnsResolver {
     private static final ClickHouseDnsResolver instance = ClickHouseUtils.getService(ClickHouseDnsResolver.class,
             new ClickHouseDnsResolver());
 
+    /**
+     * Cached result of a lookup.
+     */
+    static final class CacheEntry {
+        final List<InetAddress> addresses;
+        final UnknownHostException error;
+        final long expireTime;
+        final long refreshTime;
+        final AtomicBoolean refreshing;
+        final AtomicInteger index;
+
+        CacheEntry(List<InetAddress> addresses, UnknownHostException error, long ttl) {
+            long currentTime = System.nanoTime();
+            this.addresses = addresses;
+            this.error = error;
+            this.expireTime = currentTime + ttl;
+            // refresh successful lookup a bit earlier than expiry
+            this.refreshTime = error == null ? currentTime + ttl - ttl / 5 : this.expireTime;
+            this.refreshing = new AtomicBoolean(false);
+            this.index = new AtomicInteger(0);
+        }
+
+        boolean isExpired(long currentTime) {
+            return currentTime - expireTime >= 0L;
+        }
+
+        boolean shouldRefresh(long currentTime) {
+            return currentTime - refreshTime >= 0L;
+        }
+    }
+
     protected static ClickHouseDnsResolver newInstance() {
         ClickHouseDnsResolver resolver = null;
 
@@ -37,7 +89,139 @@ public class ClickHouseDnsResolver {
         return instance;
     }
 
+    private final Map<String, CacheEntry> cache;
+    private final long ttl;
+    private final long negativeTtl;
+
+    public ClickHouseDnsResolver() {
+        this((int) ClickHouseDefaults.DNS_CACHE_TTL.getEffectiveDefaultValue(),
+                (int) ClickHouseDefaults.DNS_NEGATIVE_CACHE_TTL.getEffectiveDefaultValue());
+    }
+
+    /**
+     * Creates a resolver with custom cache settings.
+     *
+     * @param ttl         time in seconds to cache resolved addresses, zero or
+     *                    negative value disables caching
+     * @param negativeTtl time in seconds to cache failed lookups, zero or negative
+     *                    value disables negative caching
+     */
+    protected ClickHouseDnsResolver(int ttl, int negativeTtl) {
+        this.cache = new ConcurrentHashMap<>();
+        this.ttl = ttl > 0 ? TimeUnit.SECONDS.toNanos(ttl) : 0L;
+        this.negativeTtl = negativeTtl > 0 ? TimeUnit.SECONDS.toNanos(negativeTtl) : 0L;
+    }
+
+    /**
+     * Looks up all addresses of the given host name. It's called without cache
+     * involved.
+     *
+     * @param host non-null host name
+     * @return non-empty addresses
+     * @throws UnknownHostException when failed to resolve the host name
+     */
+    protected InetAddress[] lookup(String host) throws UnknownHostException {
+        return InetAddress.getAllByName(host);
+    }
+
+    /**
+     * Looks up the host and caches the result.
+     *
+     * @param host    non-null host name
+     * @param current current cache entry to keep when the lookup failed, null
+     *                means failed lookup should be cached
+     * @return non-null cache entry
+     */
+    private CacheEntry load(String host, CacheEntry current) {
+        CacheEntry entry;
+        try {
+            InetAddress[] addresses = lookup(host);
+            List<InetAddress> list = new ArrayList<>(addresses.length);
+            Collections.addAll(list, addresses);
+            entry = new CacheEntry(Collections.unmodifiableList(list), null, ttl);
+            if (ttl > 0L) {
+                cache.put(host, entry);
+            }
+        } catch (UnknownHostException e) {
+            if (current != null) {
+                // serve stale addresses until they expire
+                log.debug("Failed to refresh addresses of %s", host, e);
+                current.refreshing.set(false);
+                return current;
+            }
+            entry = new CacheEntry(Collections.emptyList(), e, negativeTtl);
+            if (negativeTtl > 0L) {
+                cache.put(host, entry);
+            } else {
+                cache.remove(host);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Gets cached addresses of the given host name, or looks it up when the
+     * cache entry does not exist or expired.
+     *
+     * @param host non-null host name
+     * @return non-null cache entry
+     */
+    private CacheEntry get(String host) {
+        final CacheEntry entry = cache.get(host);
+        long currentTime = System.nanoTime();
+        if (entry == null || entry.isExpired(currentTime)) {
+            return load(host, null);
+        } else if (entry.shouldRefresh(currentTime) && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                ClickHouseDataStreamFactory.getInstance().getExecutor().execute(() -> load(host, entry));
+            } catch (RejectedExecutionException e) {
+                entry.refreshing.set(false);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Removes all cached addresses.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Resolves all addresses of the given host name.
+     *
+     * @param protocol non-null protocol
+     * @param host     non-null host name
+     * @return non-empty addresses
+     * @throws UnknownHostException when failed to resolve the host name
+     */
+    public List<InetAddress> resolveAll(ClickHouseProtocol protocol, String host) throws UnknownHostException {
+        CacheEntry entry = get(ClickHouseChecker.nonEmpty(host, "Host"));
+        if (entry.error != null) {
+            throw entry.error;
+        }
+        return entry.addresses;
+    }
+
+    /**
+     * Resolves socket address. When the host name has more than one address, the
+     * addresses are returned one after another.
+     *
+     * @param protocol non-null protocol
+     * @param host     non-null host name
+     * @param port     port number
+     * @return non-null socket address, which is unresolved when failed to resolve
+     *         the host name
+     */
     public InetSocketAddress resolve(ClickHouseProtocol protocol, String host, int port) {
-        return new InetSocketAddress(host, port);
+        CacheEntry entry = get(ClickHouseChecker.nonEmpty(host, "Host"));
+        int size = entry.addresses.size();
+        if (size == 0) {
+            return InetSocketAddress.createUnresolved(host, port);
+        }
+        InetAddress address = entry.addresses
+                .get(size == 1 ? 0 : entry.index.getAndUpdate(v -> v + 1 >= size ? 0 : v + 1));
+        return new InetSocketAddress(address, port);
     }
 }
@@ -8,6 +8,7 @@ import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import com.clickhouse.client.ClickHouseNode.Status;
@@ -22,6 +23,8 @@ import com.clickhouse.data.ClickHouseUtils;
  */
 public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
     static class DefaultPolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = -8663828214632785943L;
+
         @Override
         protected ScheduledExecutorService getScheduler() {
             return null;
@@ -29,6 +32,8 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
     }
 
     static class FirstAlivePolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = 3015622914424129177L;
+
         @Override
         protected ClickHouseNode get(ClickHouseNodes manager, ClickHouseNodeSelector t) {
             boolean noSelector = t == null || t == ClickHouseNodeSelector.EMPTY;
@@ -64,6 +69,8 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
     }
 
     static class RandomPolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = 1607152582913827585L;
+
         private final Random rand;
 
         protected RandomPolicy() {
@@ -79,6 +86,8 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
     }
 
     static class RoundRobinPolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = -7629719789279235135L;
+
         @Override
         protected ClickHouseNode get(ClickHouseNodes manager, ClickHouseNodeSelector t) {
             boolean noSelector = t == null || t == ClickHouseNodeSelector.EMPTY;
@@ -100,6 +109,116 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
         }
     }
 
+    static class LeastOutstandingPolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = -5805336836590806979L;
+
+        @Override
+        protected ClickHouseNode get(ClickHouseNodes manager, ClickHouseNodeSelector t) {
+            boolean noSelector = t == null || t == ClickHouseNodeSelector.EMPTY;
+            ClickHouseNode node = null;
+            double min = 0D;
+            int ties = 0;
+            for (ClickHouseNode n : manager.nodes) {
+                if (!noSelector && !t.match(n)) {
+                    continue;
+                }
+                double cost = (n.load.getOutstanding() + 1D) / weightOf(n);
+                if (node == null || cost < min) {
+                    node = n;
+                    min = cost;
+                    ties = 1;
+                } else if (cost == min && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                    // pick one of equally loaded nodes randomly
+                    node = n;
+                }
+            }
+            return node != null ? node : super.get(manager, t);
+        }
+
+        @Override
+        protected boolean isRequestTrackingEnabled() {
+            return true;
+        }
+
+        @Override
+        protected void onRequestStart(ClickHouseNode node) {
+            node.load.start();
+        }
+
+        @Override
+        protected void onRequestComplete(ClickHouseNode node, long elapsedNanos, Throwable failure) {
+            node.load.complete();
+        }
+    }
+
+    static class PeakEwmaPolicy extends ClickHouseLoadBalancingPolicy {
+        private static final long serialVersionUID = 5512609680735193283L;
+
+        static final long DEFAULT_DECAY_TIME = TimeUnit.SECONDS.toNanos(10L);
+
+        private final long decayTime;
+
+        protected PeakEwmaPolicy() {
+            this(DEFAULT_DECAY_TIME);
+        }
+
+        protected PeakEwmaPolicy(long decayTime) {
+            this.decayTime = decayTime > 0L ? decayTime : DEFAULT_DECAY_TIME;
+        }
+
+        @Override
+        protected ClickHouseNode get(ClickHouseNodes manager, ClickHouseNodeSelector t) {
+            boolean noSelector = t == null || t == ClickHouseNodeSelector.EMPTY;
+            // power of two choices: sample two suitable nodes and pick the cheaper one
+            ClickHouseNode first = null;
+            ClickHouseNode second = null;
+            int count = 0;
+            for (ClickHouseNode n : manager.nodes) {
+                if (!noSelector && !t.match(n)) {
+                    continue;
+                }
+                if (++count == 1) {
+                    first = n;
+                } else if (count == 2) {
+                    second = n;
+                } else {
+                    int i = ThreadLocalRandom.current().nextInt(count);
+                    if (i == 0) {
+                        first = n;
+                    } else if (i == 1) {
+                        second = n;
+                    }
+                }
+            }
+
+            if (first == null) {
+                return super.get(manager, t);
+            } else if (second == null) {
+                return first;
+            }
+            return first.load.getCost(decayTime) / weightOf(first) <= second.load.getCost(decayTime)
+                    / weightOf(second) ? first : second;
+        }
+
+        @Override
+        protected boolean isRequestTrackingEnabled() {
+            return true;
+        }
+
+        @Override
+        protected void onRequestStart(ClickHouseNode node) {
+            node.load.start();
+        }
+
+        @Override
+        protected void onRequestComplete(ClickHouseNode node, long elapsedNanos, Throwable failure) {
+            node.load.complete();
+            if (elapsedNanos >= 0L) {
+                node.load.observe(elapsedNanos, failure != null, decayTime);
+            }
+        }
+    }
+
     private static final long serialVersionUID = 1481796695764210324L;
     private static final Map<String, ClickHouseLoadBalancingPolicy> policies = new ConcurrentHashMap<>();
 
@@ -128,6 +247,27 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
      * Policy to pick healthy node one after another based their order in the list.
      */
     public static final String ROUND_ROBIN = "roundRobin";
+    /**
+     * Policy to pick healthy node with least outstanding requests relative to its
+     * weight.
+     */
+    public static final String LEAST_OUTSTANDING = "leastOutstanding";
+    /**
+     * Policy to pick the better one of two randomly chosen healthy nodes, based on
+     * peak EWMA of response latency, number of outstanding requests and weight.
+     */
+    public static final String PEAK_EWMA = "peakEwma";
+
+    /**
+     * Gets weight of the given node for load balancing.
+     *
+     * @param node non-null node
+     * @return positive weight
+     */
+    static int weightOf(ClickHouseNode node) {
+        int weight = node.getWeight();
+        return weight > 0 ? weight : ClickHouseNode.DEFAULT_WEIGHT;
+    }
 
     /**
      * Creates policy.
@@ -145,6 +285,10 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
             policy = new RandomPolicy();
         } else if (ROUND_ROBIN.equalsIgnoreCase(name)) {
             policy = new RoundRobinPolicy();
+        } else if (LEAST_OUTSTANDING.equalsIgnoreCase(name)) {
+            policy = new LeastOutstandingPolicy();
+        } else if (PEAK_EWMA.equalsIgnoreCase(name)) {
+            policy = new PeakEwmaPolicy();
         } else {
             try {
                 Class<?> clazz = ClickHouseLoadBalancingPolicy.class.getClassLoader().loadClass(name);
@@ -168,8 +312,9 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
     /**
      * Gets or creates singleton load balancing policy.
      *
-     * @param name policy name, one of {@link #FIRST_ALIVE},{@link #RANDOM} and
-     *             {@link #ROUND_ROBIN}, or a fully qualified class name
+     * @param name policy name, one of {@link #FIRST_ALIVE}, {@link #RANDOM},
+     *             {@link #ROUND_ROBIN}, {@link #LEAST_OUTSTANDING} and
+     *             {@link #PEAK_EWMA}, or a fully qualified class name
      * @return non-null load balancing policy
      */
     public static ClickHouseLoadBalancingPolicy of(String name) {
@@ -330,6 +475,40 @@ public abstract class ClickHouseLoadBalancingPolicy implements Serializable {
         }
     }
 
+    /**
+     * Checks whether the client should call {@link #onRequestStart(ClickHouseNode)}
+     * and {@link #onRequestComplete(ClickHouseNode, long, Throwable)} for each
+     * request sent to a managed node. Defaults to {@code false}.
+     *
+     * @return true if requests should be tracked; false otherwise
+     */
+    protected boolean isRequestTrackingEnabled() {
+        return false;
+    }
+
+    /**
+     * Called right before a request is sent to the node. Only called when
+     * {@link #isRequestTrackingEnabled()} returns {@code true}. Implementation must
+     * be thread-safe.
+     *
+     * @param node non-null node the request is sent to
+     */
+    protected void onRequestStart(ClickHouseNode node) {
+    }
+
+    /**
+     * Called when the request is completed, which means the response was closed
+     * or the request failed. Only called when {@link #isRequestTrackingEnabled()}
+     * returns {@code true}. Implementation must be thread-safe.
+     *
+     * @param node         non-null node the request was sent to
+     * @param elapsedNanos time in nanoseconds elapsed until response was received
+     *                     or the request failed
+     * @param failure      failure of the request, null when succeeded
+     */
+    protected void onRequestComplete(ClickHouseNode node, long elapsedNanos, Throwable failure) {
+    }
+
     /**
      * Gets scheduled executor service for auto discovery and health check.
      *
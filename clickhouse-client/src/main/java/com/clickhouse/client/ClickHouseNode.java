@@ -847,7 +847,12 @@ public class ClickHouseNode implements Function<ClickHouseNodeSelector, ClickHou
                 ClickHouseClientOption.NODE_DISCOVERY_LIMIT.getKey(),
                 ClickHouseClientOption.HEALTH_CHECK_INTERVAL.getKey(),
                 ClickHouseClientOption.NODE_GROUP_SIZE.getKey(),
-                ClickHouseClientOption.CHECK_ALL_NODES.getKey()
+                ClickHouseClientOption.CHECK_ALL_NODES.getKey(),
+                ClickHouseClientOption.RESOLVE_ALL_ADDRESSES.getKey(),
+                ClickHouseClientOption.HEALTH_CHECK_PARALLELISM.getKey(),
+                ClickHouseClientOption.HEALTH_CHECK_SUCCESS_THRESHOLD.getKey(),
+                ClickHouseClientOption.HEALTH_CHECK_FAILURE_THRESHOLD.getKey(),
+                ClickHouseClientOption.HEALTH_CHECK_MAX_BACKOFF.getKey()
         }) {
             if (template.options.containsKey(key)) {
                 params.remove(key);
@@ -875,7 +880,15 @@ public class ClickHouseNode implements Function<ClickHouseNodeSelector, ClickHou
      * Last update time in milliseconds.
      */
     protected final AtomicLong lastUpdateTime;
-    // TODO: metrics
+    /**
+     * Load of the node, only updated when request tracking is enabled in load
+     * balancing policy.
+     */
+    final ClickHouseNodeLoad load;
+    /**
+     * Results of recent health checks of the node.
+     */
+    final ClickHouseNodeHealth health;
 
     // consolidated copy of credentials, options and tags
     protected final ClickHouseConfig config;
@@ -909,6 +922,8 @@ public class ClickHouseNode implements Function<ClickHouseNodeSelector, ClickHou
             this.options = Collections.emptyMap();
         }
         this.lastUpdateTime = new AtomicLong(0L);
+        this.load = new ClickHouseNodeLoad();
+        this.health = new ClickHouseNodeHealth();
         this.tags = tags == null || tags.isEmpty() ? Collections.emptySet()
                 : Collections.unmodifiableSet(new LinkedHashSet<>(tags));
 
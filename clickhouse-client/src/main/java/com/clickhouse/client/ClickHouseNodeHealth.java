@@ -0,0 +1,78 @@
+package com.clickhouse.client;
+
+import java.io.Serializable;
+
+/**
+ * Results of recent health checks of a node, used by {@link ClickHouseNodes}
+ * to dampen status flapping and to back off from nodes that keep failing.
+ */
+final class ClickHouseNodeHealth implements Serializable {
+    private static final long serialVersionUID = 3092863716539174920L;
+
+    private int successes;
+    private int failures;
+    private long nextCheckTime;
+
+    ClickHouseNodeHealth() {
+        this.successes = 0;
+        this.failures = 0;
+        this.nextCheckTime = 0L;
+    }
+
+    /**
+     * Checks whether the node should be checked at the given time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return true if the node should be checked; false if it's backing off
+     */
+    synchronized boolean isDue(long currentTime) {
+        return currentTime >= nextCheckTime;
+    }
+
+    /**
+     * Gets number of consecutive failed checks.
+     *
+     * @return number of consecutive failures
+     */
+    synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Records a successful check.
+     *
+     * @param threshold number of consecutive successes required
+     * @return true if the threshold has been reached
+     */
+    synchronized boolean succeed(int threshold) {
+        failures = 0;
+        nextCheckTime = 0L;
+        return ++successes >= threshold;
+    }
+
+    /**
+     * Records a failed check. Next check is delayed exponentially, starting from
+     * {@code interval} and up to {@code maxBackoff}, after the threshold has been
+     * reached.
+     *
+     * @param threshold   number of consecutive failures required
+     * @param currentTime current time in milliseconds
+     * @param interval    base interval in milliseconds, zero or negative value
+     *                    disables backoff
+     * @param maxBackoff  maximum delay in milliseconds, zero or negative value
+     *                    disables backoff
+     * @return true if the threshold has been reached
+     */
+    synchronized boolean fail(int threshold, long currentTime, long interval, long maxBackoff) {
+        successes = 0;
+        if (failures < Integer.MAX_VALUE) {
+            failures++;
+        }
+        boolean reached = failures >= threshold;
+        if (reached && interval > 0L && maxBackoff > 0L) {
+            int exponent = Math.min(failures - threshold, 30);
+            nextCheckTime = currentTime + (interval > (maxBackoff >> exponent) ? maxBackoff : interval << exponent);
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,112 @@
+package com.clickhouse.client;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of a node as seen by the client: number of outstanding requests and
+ * peak EWMA(exponentially weighted moving average) of response latency. It's
+ * updated by {@link ClickHouseLoadBalancingPolicy} when request tracking is
+ * enabled.
+ */
+final class ClickHouseNodeLoad implements Serializable {
+    private static final long serialVersionUID = -2592185237658961862L;
+
+    /**
+     * Cost of a node which has outstanding requests but no latency observed yet.
+     */
+    static final double PENALTY = 1E15D;
+
+    private final AtomicInteger outstanding;
+
+    private double latency;
+    private long timestamp;
+
+    ClickHouseNodeLoad() {
+        this.outstanding = new AtomicInteger(0);
+
+        this.latency = 0D;
+        this.timestamp = System.nanoTime();
+    }
+
+    /**
+     * Decays latency according to the time elapsed since last update.
+     *
+     * @param now       current time in nanoseconds
+     * @param decayTime decay time in nanoseconds
+     */
+    private void decay(long now, long decayTime) {
+        long elapsed = now - timestamp;
+        if (elapsed > 0L) {
+            latency *= Math.exp(-(double) elapsed / decayTime);
+            timestamp = now;
+        }
+    }
+
+    /**
+     * Gets number of outstanding requests.
+     *
+     * @return number of outstanding requests
+     */
+    int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Gets decayed peak EWMA of latency.
+     *
+     * @param decayTime decay time in nanoseconds
+     * @return latency in nanoseconds
+     */
+    synchronized double getLatency(long decayTime) {
+        decay(System.nanoTime(), decayTime);
+        return latency;
+    }
+
+    /**
+     * Gets cost of sending one more request to the node, which is latency
+     * multiplied by number of outstanding requests plus one.
+     *
+     * @param decayTime decay time in nanoseconds
+     * @return cost of the node
+     */
+    double getCost(long decayTime) {
+        int requests = outstanding.get();
+        double l = getLatency(decayTime);
+        return l <= 0D && requests > 0 ? PENALTY + requests : l * (requests + 1);
+    }
+
+    /**
+     * Marks start of a request.
+     */
+    void start() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * Marks completion of a request.
+     */
+    void complete() {
+        outstanding.updateAndGet(v -> v > 0 ? v - 1 : 0);
+    }
+
+    /**
+     * Records latency of a request. Latency goes up to the peak immediately and
+     * goes down smoothly over time. Failed requests never lower latency.
+     *
+     * @param elapsed   latency in nanoseconds
+     * @param failed    whether the request failed
+     * @param decayTime decay time in nanoseconds
+     */
+    synchronized void observe(long elapsed, boolean failed, long decayTime) {
+        long now = System.nanoTime();
+        if (elapsed > latency) {
+            latency = elapsed;
+            timestamp = now;
+        } else if (!failed) {
+            double w = Math.exp(-(double) Math.max(now - timestamp, 0L) / decayTime);
+            latency = latency * w + elapsed * (1D - w);
+            timestamp = now;
+        }
+    }
+}
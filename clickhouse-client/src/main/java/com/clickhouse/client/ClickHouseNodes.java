@@ -1,6 +1,9 @@
 package com.clickhouse.client;
 
 import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -14,6 +17,9 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +32,7 @@ import com.clickhouse.client.config.ClickHouseDefaults;
 import com.clickhouse.data.ClickHouseChecker;
 import com.clickhouse.data.ClickHouseFormat;
 import com.clickhouse.data.ClickHouseRecord;
+import com.clickhouse.data.ClickHouseUtils;
 import com.clickhouse.data.ClickHouseValues;
 import com.clickhouse.logging.Logger;
 import com.clickhouse.logging.LoggerFactory;
@@ -141,7 +148,8 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
         if (list.size() == 1 && defaultParams.isEmpty()) {
             endpoints = new StringBuilder().append(defaultProtocol).append(ClickHouseNode.SCHEME_DELIMITER)
                     .append(list.iterator().next()).toString();
-            return new ClickHouseNodes(Collections.singletonList(ClickHouseNode.of(endpoints, defaultOptions)));
+            ClickHouseNode node = ClickHouseNode.of(endpoints, defaultOptions);
+            return new ClickHouseNodes(Collections.singletonList(node));
         }
 
         ClickHouseNode defaultNode = ClickHouseNode.of(defaultProtocol + "://localhost" + defaultParams,
@@ -153,6 +161,38 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
         return new ClickHouseNodes(nodes, defaultNode);
     }
 
+    /**
+     * Replaces each node by nodes of all addresses its host name resolves to.
+     * Node will be kept as is when its host name resolves to only one address or
+     * cannot be resolved.
+     *
+     * @param nodes non-null nodes
+     * @return non-null nodes
+     */
+    static List<ClickHouseNode> resolveAllAddresses(Collection<ClickHouseNode> nodes) {
+        ClickHouseDnsResolver resolver = ClickHouseDnsResolver.getInstance();
+        Set<ClickHouseNode> set = new LinkedHashSet<>();
+        for (ClickHouseNode node : nodes) {
+            List<InetAddress> addresses = Collections.emptyList();
+            try {
+                addresses = resolver.resolveAll(node.getProtocol(), node.getHost());
+            } catch (UnknownHostException e) {
+                log.debug("Failed to resolve addresses of %s", node.getHost(), e);
+            }
+
+            if (addresses.size() < 2) {
+                set.add(node);
+                continue;
+            }
+            for (InetAddress address : addresses) {
+                String host = address instanceof Inet6Address ? "[" + address.getHostAddress() + "]"
+                        : address.getHostAddress();
+                set.add(ClickHouseNode.builder(node).host(host).build());
+            }
+        }
+        return new LinkedList<>(set);
+    }
+
     /**
      * Picks node from {@code source} and put into {@code target}.
      *
@@ -335,6 +375,14 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
      * Reference holding future of scheduled health check.
      */
     protected final AtomicReference<ScheduledFuture<?>> healthCheckFuture;
+    /**
+     * Reference holding executor for checking nodes concurrently.
+     */
+    protected final AtomicReference<ExecutorService> healthCheckExecutor;
+    /**
+     * Clients used for health check, one per node endpoint.
+     */
+    protected final Map<String, ClickHouseClient> healthCheckClients;
     /**
      * Load balancing policy.
      */
@@ -351,6 +399,16 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
      * Template node.
      */
     protected final ClickHouseNode template;
+    /**
+     * Nodes as they were given, before being replaced by nodes of all addresses
+     * their host names resolve to. Empty when
+     * {@link ClickHouseClientOption#RESOLVE_ALL_ADDRESSES} is disabled.
+     */
+    protected final List<ClickHouseNode> unresolvedNodes;
+    /**
+     * Nodes of all addresses resolved last time.
+     */
+    protected final AtomicReference<Set<ClickHouseNode>> resolvedNodes;
 
     /**
      * Constructor for testing purpose.
@@ -376,8 +434,18 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
 
         this.discoveryFuture = new AtomicReference<>(null);
         this.healthCheckFuture = new AtomicReference<>(null);
+        this.healthCheckExecutor = new AtomicReference<>(null);
+        this.healthCheckClients = new ConcurrentHashMap<>();
 
         this.template = template;
+        if (template.config.getBoolOption(ClickHouseClientOption.RESOLVE_ALL_ADDRESSES)) {
+            this.unresolvedNodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+            nodes = resolveAllAddresses(nodes);
+            this.resolvedNodes = new AtomicReference<>(new LinkedHashSet<>(nodes));
+        } else {
+            this.unresolvedNodes = Collections.emptyList();
+            this.resolvedNodes = new AtomicReference<>(Collections.emptySet());
+        }
         this.groupSize = template.config.getIntOption(ClickHouseClientOption.NODE_GROUP_SIZE);
 
         Set<String> tags = new LinkedHashSet<>();
@@ -550,67 +618,206 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
     }
 
     /**
-     * Checks (faulty) node status.
+     * Resolves all addresses of the given nodes.
+     *
+     * @param nodes non-null nodes
+     * @return non-null nodes
      */
-    public void check() {
-        // exclusive access
-        if (!checking.compareAndSet(false, true)) {
+    protected List<ClickHouseNode> resolveAddresses(Collection<ClickHouseNode> nodes) {
+        return resolveAllAddresses(nodes);
+    }
+
+    /**
+     * Resolves host names of {@link #unresolvedNodes} again, so that nodes of
+     * newly added addresses start to be managed and nodes of removed addresses
+     * are dropped. Lookups are served from the DNS cache, which is refreshed in
+     * background.
+     */
+    protected void refreshAddresses() {
+        if (unresolvedNodes.isEmpty()) {
             return;
         }
 
-        Set<ClickHouseNode> list = new LinkedHashSet<>();
-        long currentTime = System.currentTimeMillis();
-        boolean checkAll = template.config.getBoolOption(ClickHouseClientOption.CHECK_ALL_NODES);
-        int numberOfFaultyNodes = -1;
-        lock.readLock().lock();
-        // TODO:
-        // 1) minimize the list;
-        // 2) detect flaky node and check it again later in a less frequent way
+        Set<ClickHouseNode> current = new LinkedHashSet<>(resolveAddresses(unresolvedNodes));
+        Set<ClickHouseNode> previous = resolvedNodes.getAndSet(current);
+        if (current.equals(previous)) {
+            return;
+        }
+
+        for (ClickHouseNode n : current) {
+            if (!previous.contains(n)) {
+                update(n, Status.MANAGED);
+            }
+        }
+        for (ClickHouseNode n : previous) {
+            if (!current.contains(n)) {
+                update(n, Status.STANDALONE);
+            }
+        }
+    }
+
+    /**
+     * Gets executor for checking nodes concurrently. The executor is sized by
+     * {@link ClickHouseClientOption#HEALTH_CHECK_PARALLELISM} regardless of how
+     * many nodes are checked at the time it's created.
+     *
+     * @return non-null executor
+     */
+    protected ExecutorService getHealthCheckExecutor() {
+        ExecutorService executor = healthCheckExecutor.get();
+        if (executor == null) {
+            int parallelism = Math.max(template.config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_PARALLELISM),
+                    1);
+            // idle threads are released so that unused instance can be garbage collected
+            ExecutorService newExecutor = ClickHouseUtils.newThreadPool("ClickHouseHealthCheck-", parallelism,
+                    parallelism, 0, 0L, true);
+            if (healthCheckExecutor.compareAndSet(null, newExecutor)) {
+                executor = newExecutor;
+            } else {
+                newExecutor.shutdown();
+                executor = healthCheckExecutor.get();
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Probes and pings the given node. Client of the node is reused among checks
+     * and closed only when the node is not alive.
+     *
+     * @param node non-null node to check
+     * @return probed node when it's alive; null otherwise
+     */
+    protected ClickHouseNode ping(ClickHouseNode node) {
+        ClickHouseNode n = node;
         try {
-            pickNodes(faultyNodes, selector, list, groupSize, currentTime);
-            numberOfFaultyNodes = list.size();
-            if (checkAll) {
-                pickNodes(nodes, selector, list, groupSize, currentTime);
+            n = node.probe();
+            // probe is faster than ping but it cannot tell if the server works or not
+            final ClickHouseNode server = n;
+            ClickHouseClient client = healthCheckClients.computeIfAbsent(server.getBaseUri(),
+                    k -> ClickHouseClient.builder().agent(false).config(server.config)
+                            .nodeSelector(ClickHouseNodeSelector.of(server.getProtocol())).build());
+            if (client.ping(server, server.config.getConnectionTimeout())) {
+                return server;
             }
-        } finally {
-            checking.set(false);
-            lock.readLock().unlock();
+        } catch (Exception e) {
+            // ignore
+        }
+
+        ClickHouseClient client = healthCheckClients.remove(n.getBaseUri());
+        if (client != null) {
+            client.close();
+        }
+        return null;
+    }
+
+    /**
+     * Checks (faulty) node status. Nodes are checked concurrently, up to
+     * {@link ClickHouseClientOption#HEALTH_CHECK_PARALLELISM} at a time. Node
+     * status changes only after
+     * {@link ClickHouseClientOption#HEALTH_CHECK_SUCCESS_THRESHOLD} or
+     * {@link ClickHouseClientOption#HEALTH_CHECK_FAILURE_THRESHOLD} consecutive
+     * checks with the same result, and node that keeps failing will be checked
+     * less often. When {@link ClickHouseClientOption#RESOLVE_ALL_ADDRESSES} is
+     * enabled, addresses of all nodes are resolved again before the check.
+     */
+    public void check() {
+        // exclusive access
+        if (!checking.compareAndSet(false, true)) {
+            return;
         }
 
+        final ClickHouseConfig config = template.config;
+        boolean checkAll = config.getBoolOption(ClickHouseClientOption.CHECK_ALL_NODES);
         boolean hasFaultyNode = false;
-        int count = 0;
         try {
+            refreshAddresses();
+
+            Set<ClickHouseNode> list = new LinkedHashSet<>();
+            long currentTime = System.currentTimeMillis();
+            int numberOfFaultyNodes;
+            lock.readLock().lock();
+            try {
+                pickNodes(faultyNodes, selector, list, groupSize, currentTime);
+                numberOfFaultyNodes = list.size();
+                if (checkAll) {
+                    pickNodes(nodes, selector, list, groupSize, currentTime);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            List<ClickHouseNode> candidates = new ArrayList<>(list.size());
+            List<Boolean> wasFaulty = new ArrayList<>(list.size());
+            int count = 0;
             for (ClickHouseNode node : list) {
-                ClickHouseNode n = node.probe();
-                // probe is faster than ping but it cannot tell if the server works or not
-                boolean isAlive = false;
-                try (ClickHouseClient client = ClickHouseClient.builder().agent(false).config(n.config)
-                        .nodeSelector(ClickHouseNodeSelector.of(n.getProtocol())).build()) {
-                    isAlive = client.ping(n, n.config.getConnectionTimeout());
-                } catch (Exception e) {
-                    // ignore
+                boolean faulty = count++ < numberOfFaultyNodes;
+                if (node.health.isDue(currentTime)) {
+                    candidates.add(node);
+                    wasFaulty.add(faulty);
+                } else {
+                    // still backing off
+                    hasFaultyNode = hasFaultyNode || faulty;
+                }
+            }
+
+            final int size = candidates.size();
+            final ClickHouseNode[] results = new ClickHouseNode[size];
+            int parallelism = Math.min(config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_PARALLELISM), size);
+            if (parallelism > 1) {
+                final AtomicInteger next = new AtomicInteger(0);
+                final Runnable worker = () -> {
+                    for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                        results[i] = ping(candidates.get(i));
+                    }
+                };
+                ExecutorService executor = getHealthCheckExecutor();
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[parallelism];
+                for (int i = 0; i < parallelism; i++) {
+                    futures[i] = CompletableFuture.runAsync(worker, executor);
                 }
-                if (!n.equals(node)) {
-                    update(n, Status.MANAGED);
-                    update(node, Status.STANDALONE);
+                CompletableFuture.allOf(futures).join();
+            } else {
+                for (int i = 0; i < size; i++) {
+                    results[i] = ping(candidates.get(i));
                 }
+            }
 
-                boolean wasFaultyBefore = numberOfFaultyNodes == -1 || count < numberOfFaultyNodes;
-                if (isAlive) {
-                    if (wasFaultyBefore) {
-                        update(n, Status.HEALTHY);
+            int successThreshold = config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_SUCCESS_THRESHOLD);
+            int failureThreshold = config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_FAILURE_THRESHOLD);
+            long maxBackoff = config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_MAX_BACKOFF);
+            currentTime = System.currentTimeMillis();
+            for (int i = 0; i < size; i++) {
+                ClickHouseNode node = candidates.get(i);
+                ClickHouseNode n = results[i];
+                boolean wasFaultyBefore = wasFaulty.get(i);
+                if (n != null) {
+                    if (!n.equals(node)) {
+                        update(n, Status.MANAGED);
+                        update(node, Status.STANDALONE);
+                    }
+                    if (n.health.succeed(successThreshold)) {
+                        if (wasFaultyBefore) {
+                            update(n, Status.HEALTHY);
+                        }
+                    } else if (wasFaultyBefore) {
+                        hasFaultyNode = true;
                     }
                 } else {
                     hasFaultyNode = true;
-                    if (!wasFaultyBefore) {
-                        update(n, Status.FAULTY);
+                    long interval = node.config.getNodeCheckInterval();
+                    if (interval < 1L) {
+                        interval = config.getIntOption(ClickHouseClientOption.HEALTH_CHECK_INTERVAL);
+                    }
+                    if (node.health.fail(failureThreshold, currentTime, interval, maxBackoff) && !wasFaultyBefore) {
+                        update(node, Status.FAULTY);
                     }
                 }
-                count++;
             }
         } catch (Exception e) {
             log.warn("Unexpected error occurred when checking node status", e);
         } finally {
+            checking.set(false);
             if (checkAll || hasFaultyNode) {
                 scheduleHealthCheck();
             }
@@ -768,6 +975,17 @@ public class ClickHouseNodes implements ClickHouseNodeManager {
                 future.cancel(true);
             }
         }
+
+        ExecutorService executor = healthCheckExecutor.getAndSet(null);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        for (String key : new ArrayList<>(healthCheckClients.keySet())) {
+            ClickHouseClient client = healthCheckClients.remove(key);
+            if (client != null) {
+                client.close();
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,233 @@
+package com.clickhouse.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.clickhouse.data.ClickHouseThreadFactory;
+import com.clickhouse.logging.Logger;
+import com.clickhouse.logging.LoggerFactory;
+
+/**
+ * Event loop shared by {@link AbstractSocketClient} instances. Each loop owns
+ * one selector and one daemon thread, and there's one loop per CPU core, so
+ * the number of threads does not grow along with the number of socket
+ * connections. The loop thread only does non-blocking channel I/O; reading
+ * from and writing into user streams is left to worker threads.
+ */
+final class ClickHouseSocketEventLoop implements Runnable {
+    static final class DefaultLoops {
+        static final ClickHouseSocketEventLoop[] loops;
+
+        static {
+            ThreadFactory factory = new ClickHouseThreadFactory("ClickHouseSocketEventLoop-");
+            int size = Runtime.getRuntime().availableProcessors();
+            loops = new ClickHouseSocketEventLoop[size];
+            for (int i = 0; i < size; i++) {
+                try {
+                    loops[i] = new ClickHouseSocketEventLoop(factory);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to open selector", e);
+                }
+            }
+        }
+
+        private DefaultLoops() {
+        }
+    }
+
+    /**
+     * Pool of heap buffers keyed by capacity.
+     */
+    static final class BufferPool {
+        private final int maxBuffers;
+        private final Map<Integer, Queue<ByteBuffer>> buffers;
+
+        /**
+         * Creates a pool.
+         *
+         * @param maxBuffers maximum number of idle buffers kept for each capacity
+         */
+        BufferPool(int maxBuffers) {
+            this.maxBuffers = maxBuffers;
+            this.buffers = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Gets a buffer from pool, or allocates a new one when there's none.
+         *
+         * @param capacity capacity of the buffer
+         * @return non-null cleared buffer
+         */
+        ByteBuffer allocate(int capacity) {
+            Queue<ByteBuffer> queue = buffers.get(capacity);
+            ByteBuffer buffer = queue != null ? queue.poll() : null;
+            return buffer != null ? buffer : ByteBuffer.allocate(capacity);
+        }
+
+        /**
+         * Returns the given buffer to pool. The buffer must not be used afterwards.
+         *
+         * @param buffer buffer, could be null
+         */
+        void release(ByteBuffer buffer) {
+            if (buffer != null) {
+                buffer.clear();
+                buffers.computeIfAbsent(buffer.capacity(), k -> new ArrayBlockingQueue<>(maxBuffers)).offer(buffer);
+            }
+        }
+    }
+
+    /**
+     * Maximum number of idle buffers kept in pool for each buffer size.
+     */
+    static final int MAX_POOLED_BUFFERS = 64;
+    /**
+     * Interval in milliseconds for checking connect and socket timeouts.
+     */
+    static final long TIMEOUT_CHECK_INTERVAL = 100L;
+
+    private static final Logger log = LoggerFactory.getLogger(ClickHouseSocketEventLoop.class);
+
+    private static final AtomicInteger index = new AtomicInteger(0);
+    private static final BufferPool pool = new BufferPool(MAX_POOLED_BUFFERS);
+
+    /**
+     * Gets next event loop in round-robin manner.
+     *
+     * @return non-null event loop
+     */
+    static ClickHouseSocketEventLoop next() {
+        final ClickHouseSocketEventLoop[] loops = DefaultLoops.loops;
+        return loops[(index.getAndIncrement() & Integer.MAX_VALUE) % loops.length];
+    }
+
+    /**
+     * Gets a buffer from the pool shared by all clients.
+     *
+     * @param capacity capacity of the buffer
+     * @return non-null cleared buffer
+     * @see BufferPool#allocate(int)
+     */
+    static ByteBuffer allocate(int capacity) {
+        return pool.allocate(capacity);
+    }
+
+    /**
+     * Returns the given buffer to the pool shared by all clients.
+     *
+     * @param buffer buffer, could be null
+     * @see BufferPool#release(ByteBuffer)
+     */
+    static void release(ByteBuffer buffer) {
+        pool.release(buffer);
+    }
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks;
+    private final Thread thread;
+
+    ClickHouseSocketEventLoop(ThreadFactory factory) throws IOException {
+        this.selector = Selector.open();
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.thread = factory.newThread(this);
+        this.thread.start();
+    }
+
+    /**
+     * Checks whether current thread is the one running this event loop.
+     *
+     * @return true if current thread is the event loop thread; false otherwise
+     */
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs the given task in event loop thread.
+     *
+     * @param task non-null task
+     */
+    void execute(Runnable task) {
+        if (inEventLoop()) {
+            task.run();
+        } else {
+            tasks.offer(task);
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Registers the given channel to this event loop.
+     *
+     * @param channel non-null socket channel in non-blocking mode
+     * @param client  non-null client to handle selected keys
+     * @return future of the selection key
+     */
+    CompletableFuture<SelectionKey> register(SocketChannel channel, AbstractSocketClient client) {
+        final CompletableFuture<SelectionKey> future = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                future.complete(channel.register(selector, 0, client));
+            } catch (ClosedChannelException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void run() {
+        long lastCheck = System.currentTimeMillis();
+        while (selector.isOpen()) {
+            try {
+                selector.select(TIMEOUT_CHECK_INTERVAL);
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                final Iterator<SelectionKey> keysIterator = selector.selectedKeys().iterator();
+                while (keysIterator.hasNext()) {
+                    final SelectionKey key = keysIterator.next();
+                    keysIterator.remove();
+
+                    final Object attachment = key.attachment();
+                    if (key.isValid() && attachment instanceof AbstractSocketClient) {
+                        ((AbstractSocketClient) attachment).onSelected(key);
+                    }
+                }
+
+                final long now = System.currentTimeMillis();
+                if (now - lastCheck >= TIMEOUT_CHECK_INTERVAL) {
+                    lastCheck = now;
+                    for (SelectionKey key : selector.keys()) {
+                        final Object attachment = key.attachment();
+                        if (key.isValid() && attachment instanceof AbstractSocketClient) {
+                            ((AbstractSocketClient) attachment).checkTimeout(now);
+                        }
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                break;
+            } catch (Throwable t) { // NOSONAR
+                // one misbehaving connection should not stop the loop shared by others
+                log.warn("Unexpected error from event loop", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.clickhouse.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseRecord;
+
+/**
+ * Response wrapper notifying load balancing policy when the response is closed,
+ * so that the policy knows when the request is completed.
+ */
+final class ClickHouseTrackedResponse implements ClickHouseResponse {
+    private static final long serialVersionUID = 8318462893516624873L;
+
+    private final ClickHouseResponse response;
+    private final ClickHouseLoadBalancingPolicy policy;
+    private final ClickHouseNode server;
+    private final long elapsedNanos;
+    private final AtomicBoolean completed;
+
+    ClickHouseTrackedResponse(ClickHouseResponse response, ClickHouseLoadBalancingPolicy policy,
+            ClickHouseNode server, long elapsedNanos) {
+        this.response = response;
+        this.policy = policy;
+        this.server = server;
+        this.elapsedNanos = elapsedNanos;
+        this.completed = new AtomicBoolean(false);
+    }
+
+    @Override
+    public List<ClickHouseColumn> getColumns() {
+        return response.getColumns();
+    }
+
+    @Override
+    public ClickHouseResponseSummary getSummary() {
+        return response.getSummary();
+    }
+
+    @Override
+    public ClickHouseInputStream getInputStream() {
+        return response.getInputStream();
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+        return response.getTimeZone();
+    }
+
+    @Override
+    public ClickHouseRecord firstRecord() {
+        return response.firstRecord();
+    }
+
+    @Override
+    public <T> T firstRecord(Class<T> objClass) {
+        return response.firstRecord(objClass);
+    }
+
+    @Override
+    public Iterable<ClickHouseRecord> records() {
+        return response.records();
+    }
+
+    @Override
+    public <T> Iterable<T> records(Class<T> objClass) {
+        return response.records(objClass);
+    }
+
+    @Override
+    public void pipe(OutputStream output, int bufferSize) throws IOException {
+        response.pipe(output, bufferSize);
+    }
+
+    @Override
+    public Stream<ClickHouseRecord> stream() {
+        return response.stream();
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> objClass) {
+        return response.stream(objClass);
+    }
+
+    @Override
+    public void close() {
+        try {
+            response.close();
+        } finally {
+            if (completed.compareAndSet(false, true)) {
+                policy.onRequestComplete(server, elapsedNanos, null);
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return response.isClosed();
+    }
+}
@@ -30,6 +30,13 @@ public enum ClickHouseClientOption implements ClickHouseOption {
      */
     AUTO_DISCOVERY("auto_discovery", false,
             "Whether the client should discover more nodes from system tables and/or clickhouse-keeper/zookeeper."),
+    /**
+     * Whether to use each address a host name resolves to as a separate node.
+     */
+    RESOLVE_ALL_ADDRESSES("resolve_all_addresses", false,
+            "Whether to use each address a host name resolves to as a separate node for load balancing. "
+                    + "Addresses are resolved again on each health check. "
+                    + "Please note that nodes are connected using IP address, so it may not work with SSL hostname verification."),
     /**
      * Custom server settings for all queries.
      */
@@ -49,7 +56,7 @@ public enum ClickHouseClientOption implements ClickHouseOption {
      * Load balancing policy.
      */
     LOAD_BALANCING_POLICY("load_balancing_policy", "",
-            "Load balancing policy, can be one of '', 'firstAlive', 'random', 'roundRobin', or full qualified class name implementing ClickHouseLoadBalancingPolicy."),
+            "Load balancing policy, can be one of '', 'firstAlive', 'random', 'roundRobin', 'leastOutstanding', 'peakEwma', or full qualified class name implementing ClickHouseLoadBalancingPolicy."),
     /**
      * Load balancing tags for filtering out nodes.
      */
@@ -88,6 +95,31 @@ public enum ClickHouseClientOption implements ClickHouseOption {
      */
     CHECK_ALL_NODES("check_all_nodes", false,
             "Whether to perform health check against all nodes or just faulty ones."),
+    /**
+     * Maximum number of nodes to check concurrently.
+     */
+    HEALTH_CHECK_PARALLELISM("health_check_parallelism", 8,
+            "Maximum number of nodes to check concurrently, one or less means one node at a time."),
+    /**
+     * Number of consecutive successful health checks before a faulty node is
+     * considered healthy.
+     */
+    HEALTH_CHECK_SUCCESS_THRESHOLD("health_check_success_threshold", 1,
+            "Number of consecutive successful health checks before a faulty node is considered healthy."),
+    /**
+     * Number of consecutive failed health checks before a healthy node is
+     * considered faulty.
+     */
+    HEALTH_CHECK_FAILURE_THRESHOLD("health_check_failure_threshold", 1,
+            "Number of consecutive failed health checks before a healthy node is considered faulty."),
+    /**
+     * Maximum delay in milliseconds between health checks of a node that keeps
+     * failing.
+     */
+    HEALTH_CHECK_MAX_BACKOFF("health_check_max_backoff", 60000,
+            "Maximum delay in milliseconds between health checks of a node that keeps failing. "
+                    + "The delay starts from node_check_interval(or health_check_interval when it's not set) "
+                    + "and doubles after each failure, zero or negative value means no backoff."),
     /**
      * Default buffer size in byte for both request and response. It will be reset
      * to {@link #MAX_BUFFER_SIZE} if it's too large.
@@ -103,7 +103,17 @@ public enum ClickHouseDefaults implements ClickHouseOption {
      * {@link com.clickhouse.client.naming.SrvResolver}(e.g. resolve SRV record to
      * extract both host and port from a given name).
      */
-    SRV_RESOLVE("srv_resolve", false, "Whether to resolve DNS SRV name.");
+    SRV_RESOLVE("srv_resolve", false, "Whether to resolve DNS SRV name."),
+    /**
+     * Time in seconds to cache resolved addresses of a host name.
+     */
+    DNS_CACHE_TTL("dns_cache_ttl", 30,
+            "Time in seconds to cache resolved addresses of a host name, zero or negative value disables caching."),
+    /**
+     * Time in seconds to cache failed lookup of a host name.
+     */
+    DNS_NEGATIVE_CACHE_TTL("dns_negative_cache_ttl", 5,
+            "Time in seconds to cache failed lookup of a host name, zero or negative value disables negative caching.");
 
     private final String key;
     private final Serializable defaultValue;
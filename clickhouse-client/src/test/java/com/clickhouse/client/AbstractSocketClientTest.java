@@ -1,8 +1,27 @@
 package com.clickhouse.client;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseOutputStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -20,6 +39,226 @@ public class AbstractSocketClientTest {
         }
     }
 
+    static class ThreadTrackingOutputStream extends ByteArrayOutputStream {
+        final Set<String> threads = new CopyOnWriteArraySet<>();
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            threads.add(Thread.currentThread().getName());
+            super.write(b, off, len);
+        }
+    }
+
+    static String readRequest(Socket socket, int length) throws IOException {
+        InputStream in = socket.getInputStream();
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int len = in.read(bytes, offset, length - offset);
+            if (len < 0) {
+                break;
+            }
+            offset += len;
+        }
+        return new String(bytes, 0, offset, StandardCharsets.US_ASCII);
+    }
+
+    @Test(groups = { "unit" })
+    public void testBufferPool() {
+        ClickHouseSocketEventLoop.BufferPool pool = new ClickHouseSocketEventLoop.BufferPool(1);
+        ByteBuffer buffer = pool.allocate(1024);
+        Assert.assertEquals(buffer.capacity(), 1024);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer b = pool.allocate(1024);
+        Assert.assertSame(b, buffer, "Released buffer should be reused");
+        Assert.assertEquals(b.position(), 0);
+        Assert.assertNotSame(pool.allocate(1024), b);
+        Assert.assertEquals(pool.allocate(512).capacity(), 512);
+
+        // only one idle buffer is kept for each capacity
+        ByteBuffer other = pool.allocate(1024);
+        pool.release(b);
+        pool.release(other);
+        Assert.assertSame(pool.allocate(1024), b);
+        Assert.assertNotSame(pool.allocate(1024), other);
+    }
+
+    @Test(groups = { "unit" })
+    public void testSharedEventLoop() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+            int count = Runtime.getRuntime().availableProcessors() * 2 + 1;
+            List<AbstractSocketClient> clients = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    AbstractSocketClient client = new AbstractSocketClient();
+                    clients.add(client);
+                    CompletableFuture<Boolean> future = client.connect(address);
+                    server.accept().close();
+                    Assert.assertTrue(future.get(5L, TimeUnit.SECONDS));
+                    Assert.assertTrue(client.isActive());
+                }
+
+                Set<Thread> threads = Thread.getAllStackTraces().keySet();
+                Assert.assertEquals(threads.stream()
+                        .filter(t -> t.getName().startsWith("ClickHouseSocketEventLoop-")).count(),
+                        Runtime.getRuntime().availableProcessors());
+            } finally {
+                for (AbstractSocketClient client : clients) {
+                    client.close();
+                    Assert.assertFalse(client.isActive());
+                }
+            }
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testResponseEndsWhenServerCloses() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+            CountDownLatch firstChunkSent = new CountDownLatch(1);
+            CountDownLatch secondChunkAllowed = new CountDownLatch(1);
+            CompletableFuture<String> received = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = server.accept()) {
+                    String req = readRequest(socket, 5);
+                    OutputStream out = socket.getOutputStream();
+                    out.write("first,".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    firstChunkSent.countDown();
+                    secondChunkAllowed.await(5L, TimeUnit.SECONDS);
+                    out.write("second".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    return req;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            ClickHouseConfig config = new ClickHouseConfig();
+            ThreadTrackingOutputStream bytes = new ThreadTrackingOutputStream();
+            try (AbstractSocketClient client = new AbstractSocketClient(config)) {
+                Assert.assertTrue(client.connect(address).get(5L, TimeUnit.SECONDS));
+                CompletableFuture<Boolean> future = client.processRequest(config,
+                        ClickHouseInputStream.of(new byte[][] { "hello".getBytes(StandardCharsets.US_ASCII) }),
+                        ClickHouseOutputStream.of(bytes, 1));
+
+                Assert.assertTrue(firstChunkSent.await(5L, TimeUnit.SECONDS));
+                Thread.sleep(200L);
+                Assert.assertFalse(future.isDone(), "Response should not end on the first empty read");
+
+                secondChunkAllowed.countDown();
+                Assert.assertFalse(future.get(5L, TimeUnit.SECONDS));
+                Assert.assertEquals(received.get(5L, TimeUnit.SECONDS), "hello");
+                Assert.assertEquals(new String(bytes.toByteArray(), StandardCharsets.US_ASCII), "first,second");
+                Assert.assertFalse(bytes.threads.isEmpty());
+                for (String name : bytes.threads) {
+                    Assert.assertFalse(name.startsWith("ClickHouseSocketEventLoop-"),
+                            "Response stream should not be written in event loop thread");
+                }
+            }
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testFramedResponse() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+            CountDownLatch done = new CountDownLatch(1);
+            CompletableFuture.runAsync(() -> {
+                try (Socket socket = server.accept()) {
+                    for (int i = 0; i < 2; i++) {
+                        String req = readRequest(socket, 3);
+                        socket.getOutputStream().write((req + ";").getBytes(StandardCharsets.US_ASCII));
+                        socket.getOutputStream().flush();
+                    }
+                    done.await(5L, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            ClickHouseConfig config = new ClickHouseConfig();
+            try (AbstractSocketClient client = new AbstractSocketClient(config) {
+                @Override
+                protected boolean onRead(ClickHouseConfig config, ByteBuffer buffer, ClickHouseOutputStream out)
+                        throws IOException {
+                    super.onRead(config, buffer, out);
+                    return buffer.get(buffer.limit() - 1) == ';';
+                }
+            }) {
+                Assert.assertTrue(client.connect(address).get(5L, TimeUnit.SECONDS));
+                for (String str : new String[] { "abc", "xyz" }) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    Assert.assertFalse(client.processRequest(config,
+                            ClickHouseInputStream.of(new byte[][] { str.getBytes(StandardCharsets.US_ASCII) }),
+                            ClickHouseOutputStream.of(bytes, 1)).get(5L, TimeUnit.SECONDS));
+                    Assert.assertEquals(new String(bytes.toByteArray(), StandardCharsets.US_ASCII), str + ";");
+                }
+                Assert.assertTrue(client.isActive(), "Framed response should keep the connection open");
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testStreams() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+            CountDownLatch replied = new CountDownLatch(1);
+            CompletableFuture<String> received = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = server.accept()) {
+                    String req = readRequest(socket, 5);
+                    socket.getOutputStream().write("world".getBytes(StandardCharsets.US_ASCII));
+                    socket.getOutputStream().flush();
+                    replied.await(5L, TimeUnit.SECONDS);
+                    return req;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            try (AbstractSocketClient client = new AbstractSocketClient(new ClickHouseConfig())) {
+                Assert.assertTrue(client.connect(address).get(5L, TimeUnit.SECONDS));
+                ClickHouseOutputStream out = client.getOutputStream();
+                ClickHouseInputStream in = client.getInputStream();
+                Assert.assertSame(client.getOutputStream(), out);
+                Assert.assertSame(client.getInputStream(), in);
+                Assert.assertThrows(IllegalStateException.class, () -> client.send(new ClickHouseConfig(),
+                        ClickHouseInputStream.of(new byte[][] { new byte[1] })));
+
+                out.writeBytes("hello".getBytes(StandardCharsets.US_ASCII)).flush();
+                Assert.assertEquals(in.readAsciiString(5), "world");
+
+                // nothing else is coming
+                client.setStreamTimeout(200);
+                Assert.assertThrows(SocketTimeoutException.class, () -> in.read());
+                replied.countDown();
+                Assert.assertEquals(received.get(5L, TimeUnit.SECONDS), "hello");
+            } finally {
+                replied.countDown();
+            }
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testStreamsWhenServerCloses() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(server.getInetAddress(), server.getLocalPort());
+            try (AbstractSocketClient client = new AbstractSocketClient(new ClickHouseConfig())) {
+                Assert.assertTrue(client.connect(address).get(5L, TimeUnit.SECONDS));
+                ClickHouseInputStream in = client.getInputStream();
+                try (Socket socket = server.accept()) {
+                    socket.getOutputStream().write(new byte[] { 1, 2 });
+                }
+                Assert.assertEquals(in.readBytes(2), new byte[] { 1, 2 });
+                Assert.assertEquals(in.read(), -1);
+            }
+        }
+    }
+
     @Test(groups = { "unit" })
     public void testGetCustomSocketFactory() {
         CustomListFactory defaultFactory = new CustomListFactory();
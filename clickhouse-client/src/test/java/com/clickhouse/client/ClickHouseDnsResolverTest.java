@@ -0,0 +1,96 @@
+package com.clickhouse.client;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClickHouseDnsResolverTest {
+    static class CountingResolver extends ClickHouseDnsResolver {
+        final AtomicInteger lookups = new AtomicInteger();
+
+        CountingResolver(int ttl, int negativeTtl) {
+            super(ttl, negativeTtl);
+        }
+
+        @Override
+        protected InetAddress[] lookup(String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            if ("multi.host".equals(host)) {
+                return new InetAddress[] {
+                        InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 1 }),
+                        InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 2 }),
+                        InetAddress.getByAddress(host, new byte[] { 10, 0, 0, 3 })
+                };
+            }
+            throw new UnknownHostException(host);
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testCache() throws UnknownHostException {
+        CountingResolver resolver = new CountingResolver(60, 60);
+        Assert.assertEquals(resolver.resolveAll(ClickHouseProtocol.HTTP, "multi.host").size(), 3);
+        Assert.assertEquals(resolver.resolveAll(ClickHouseProtocol.HTTP, "multi.host").size(), 3);
+        Assert.assertEquals(resolver.lookups.get(), 1);
+
+        // negative caching
+        Assert.assertThrows(UnknownHostException.class,
+                () -> resolver.resolveAll(ClickHouseProtocol.HTTP, "unknown.host"));
+        Assert.assertThrows(UnknownHostException.class,
+                () -> resolver.resolveAll(ClickHouseProtocol.HTTP, "unknown.host"));
+        InetSocketAddress address = resolver.resolve(ClickHouseProtocol.HTTP, "unknown.host", 8123);
+        Assert.assertTrue(address.isUnresolved());
+        Assert.assertEquals(address.getHostString(), "unknown.host");
+        Assert.assertEquals(resolver.lookups.get(), 2);
+
+        resolver.clearCache();
+        Assert.assertEquals(resolver.resolveAll(ClickHouseProtocol.HTTP, "multi.host").size(), 3);
+        Assert.assertEquals(resolver.lookups.get(), 3);
+    }
+
+    @Test(groups = { "unit" })
+    public void testNoCache() throws UnknownHostException {
+        CountingResolver resolver = new CountingResolver(0, 0);
+        Assert.assertEquals(resolver.resolveAll(ClickHouseProtocol.HTTP, "multi.host").size(), 3);
+        Assert.assertEquals(resolver.resolveAll(ClickHouseProtocol.HTTP, "multi.host").size(), 3);
+        Assert.assertThrows(UnknownHostException.class,
+                () -> resolver.resolveAll(ClickHouseProtocol.HTTP, "unknown.host"));
+        Assert.assertThrows(UnknownHostException.class,
+                () -> resolver.resolveAll(ClickHouseProtocol.HTTP, "unknown.host"));
+        Assert.assertEquals(resolver.lookups.get(), 4);
+    }
+
+    @Test(groups = { "unit" })
+    public void testResolve() throws UnknownHostException {
+        CountingResolver resolver = new CountingResolver(60, 0);
+        InetAddress[] expected = new InetAddress[] {
+                InetAddress.getByAddress(new byte[] { 10, 0, 0, 1 }),
+                InetAddress.getByAddress(new byte[] { 10, 0, 0, 2 }),
+                InetAddress.getByAddress(new byte[] { 10, 0, 0, 3 }),
+                InetAddress.getByAddress(new byte[] { 10, 0, 0, 1 })
+        };
+        for (InetAddress a : expected) {
+            InetSocketAddress address = resolver.resolve(ClickHouseProtocol.HTTP, "multi.host", 9000);
+            Assert.assertFalse(address.isUnresolved());
+            Assert.assertEquals(address.getAddress(), a);
+            Assert.assertEquals(address.getPort(), 9000);
+        }
+        Assert.assertEquals(resolver.lookups.get(), 1);
+    }
+
+    @Test(groups = { "unit" })
+    public void testResolveAllAddresses() {
+        ClickHouseNode node = ClickHouseNode.of("http://127.0.0.1:8123");
+        Assert.assertEquals(ClickHouseNodes.resolveAllAddresses(Collections.singletonList(node)),
+                Collections.singletonList(node));
+        ClickHouseNode unknown = ClickHouseNode.of("http://unknown.host.invalid:8123");
+        Assert.assertEquals(ClickHouseNodes.resolveAllAddresses(Arrays.asList(node, unknown, node)),
+                Arrays.asList(node, unknown));
+    }
+}
@@ -60,6 +60,16 @@ public class ClickHouseLoadBalancingPolicyTest {
                 ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.RANDOM));
         Assert.assertEquals(ClickHouseLoadBalancingPolicy.of("RoundRobin"),
                 ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.ROUND_ROBIN));
+        Assert.assertEquals(ClickHouseLoadBalancingPolicy.of("leastoutstanding"),
+                ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.LEAST_OUTSTANDING));
+        Assert.assertEquals(ClickHouseLoadBalancingPolicy.of("PeakEWMA"),
+                ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.PEAK_EWMA));
+        Assert.assertFalse(ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.ROUND_ROBIN)
+                .isRequestTrackingEnabled());
+        Assert.assertTrue(ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.LEAST_OUTSTANDING)
+                .isRequestTrackingEnabled());
+        Assert.assertTrue(ClickHouseLoadBalancingPolicy.of(ClickHouseLoadBalancingPolicy.PEAK_EWMA)
+                .isRequestTrackingEnabled());
         // custom policy
         Assert.assertEquals(ClickHouseLoadBalancingPolicy.of(CustomPolicy.class.getName()),
                 ClickHouseLoadBalancingPolicy.of(CustomPolicy.class.getName()));
@@ -354,4 +364,107 @@ public class ClickHouseLoadBalancingPolicyTest {
             }
         }
     }
+
+    @Test(dataProvider = "nodeSelectorProvider", groups = { "unit" })
+    public void testLeastOutstanding(ClickHouseNodeSelector nodeSelector) {
+        int size = 5;
+        int tag = nodeSelector != null && nodeSelector.getPreferredTags().size() > 0
+                ? Integer.parseInt(nodeSelector.getPreferredTags().iterator().next())
+                : -1;
+
+        ClickHouseNodes nodes = createNodes(size, ClickHouseLoadBalancingPolicy.LEAST_OUTSTANDING);
+        ClickHouseLoadBalancingPolicy policy = nodes.getPolicy();
+
+        // requests are never completed so every node gets one before any gets the second
+        int[] counters = new int[size];
+        for (int i = 0; i < size * 3; i++) {
+            ClickHouseNode node = nodes.apply(nodeSelector);
+            policy.onRequestStart(node);
+            counters[node.getPort() - 1] += 1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (tag == -1) {
+                Assert.assertEquals(counters[i], 3);
+            } else {
+                Assert.assertEquals(counters[i], i == tag ? size * 3 : 0);
+            }
+        }
+
+        if (tag == -1) {
+            ClickHouseNode node = nodes.nodes.get(2);
+            policy.onRequestComplete(node, 1000L, null);
+            Assert.assertEquals(node.load.getOutstanding(), 2);
+            Assert.assertEquals(nodes.apply(nodeSelector), node);
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testLeastOutstandingWithWeight() {
+        ClickHouseNode template = ClickHouseNode.builder().host("test.host")
+                .addOption(ClickHouseClientOption.LOAD_BALANCING_POLICY.getKey(),
+                        ClickHouseLoadBalancingPolicy.LEAST_OUTSTANDING)
+                .build();
+        ClickHouseNodes nodes = new ClickHouseNodes(Arrays.asList(
+                ClickHouseNode.builder(template).port(ClickHouseProtocol.HTTP, 1).weight(1).build(),
+                ClickHouseNode.builder(template).port(ClickHouseProtocol.HTTP, 2).weight(3).build()), template);
+        ClickHouseLoadBalancingPolicy policy = nodes.getPolicy();
+
+        int[] counters = new int[2];
+        for (int i = 0; i < 400; i++) {
+            ClickHouseNode node = nodes.apply(null);
+            policy.onRequestStart(node);
+            counters[node.getPort() - 1] += 1;
+        }
+        Assert.assertEquals(counters[0], 100);
+        Assert.assertEquals(counters[1], 300);
+    }
+
+    @Test(dataProvider = "nodeSelectorProvider", groups = { "unit" })
+    public void testPeakEwma(ClickHouseNodeSelector nodeSelector) {
+        int size = 5;
+        int len = 1000;
+        int tag = nodeSelector != null && nodeSelector.getPreferredTags().size() > 0
+                ? Integer.parseInt(nodeSelector.getPreferredTags().iterator().next())
+                : -1;
+
+        ClickHouseNodes nodes = createNodes(size, ClickHouseLoadBalancingPolicy.PEAK_EWMA);
+        ClickHouseLoadBalancingPolicy policy = nodes.getPolicy();
+        // first node is slow, others are fast
+        for (int i = 0; i < size; i++) {
+            ClickHouseNode node = nodes.nodes.get(i);
+            policy.onRequestStart(node);
+            policy.onRequestComplete(node, i == 0 ? TimeUnit.SECONDS.toNanos(5L) : TimeUnit.MILLISECONDS.toNanos(5L),
+                    null);
+            Assert.assertEquals(node.load.getOutstanding(), 0);
+        }
+
+        int[] counters = new int[size];
+        for (int i = 0; i < len; i++) {
+            ClickHouseNode node = nodes.apply(nodeSelector);
+            counters[node.getPort() - 1] += 1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (tag != -1) {
+                Assert.assertEquals(counters[i], i == tag ? len : 0);
+            } else if (i == 0) {
+                Assert.assertEquals(counters[i], 0, "Slow node should never win against a fast one");
+            } else {
+                Assert.assertTrue(counters[i] > 0, "All fast nodes should have been touched");
+            }
+        }
+
+        if (tag == -1) {
+            // failures never make a node look faster
+            ClickHouseNode node = nodes.nodes.get(0);
+            double latency = node.load.getLatency(TimeUnit.SECONDS.toNanos(10L));
+            policy.onRequestStart(node);
+            policy.onRequestComplete(node, 1L, new IllegalStateException());
+            Assert.assertTrue(node.load.getLatency(TimeUnit.SECONDS.toNanos(10L)) > latency / 2);
+            // no latency yet but outstanding requests
+            ClickHouseNodeLoad load = new ClickHouseNodeLoad();
+            Assert.assertEquals(load.getCost(1L), 0D);
+            load.start();
+            Assert.assertTrue(load.getCost(1L) >= ClickHouseNodeLoad.PENALTY);
+        }
+    }
 }
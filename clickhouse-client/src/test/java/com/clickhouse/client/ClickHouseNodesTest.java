@@ -1,16 +1,22 @@
 package com.clickhouse.client;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.clickhouse.client.ClickHouseNode.Status;
 import com.clickhouse.client.config.ClickHouseClientOption;
@@ -543,4 +549,164 @@ public class ClickHouseNodesTest {
         Assert.assertEquals(nodes.nodes.size(), 0);
         Assert.assertEquals(nodes.faultyNodes.size(), 2);
     }
+
+    @Test(groups = { "unit" })
+    public void testHealthCheckWithThreshold() {
+        Map<String, String> options = new HashMap<>();
+        options.put(ClickHouseClientOption.CHECK_ALL_NODES.getKey(), "true");
+        options.put(ClickHouseClientOption.HEALTH_CHECK_INTERVAL.getKey(), "60000");
+        options.put(ClickHouseClientOption.HEALTH_CHECK_PARALLELISM.getKey(), "2");
+        options.put(ClickHouseClientOption.HEALTH_CHECK_FAILURE_THRESHOLD.getKey(), "2");
+        ClickHouseNodes nodes = ClickHouseNodes.of("http://x1,x2,x3", options);
+        try {
+            Assert.assertEquals(nodes.nodes.size(), 3);
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+
+            nodes.check();
+            Assert.assertEquals(nodes.nodes.size(), 3);
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+            for (ClickHouseNode node : nodes.nodes) {
+                Assert.assertEquals(node.health.getFailures(), 1);
+            }
+
+            nodes.check();
+            Assert.assertEquals(nodes.nodes.size(), 0);
+            Assert.assertEquals(nodes.faultyNodes.size(), 3);
+
+            // backing off
+            nodes.check();
+            for (ClickHouseNode node : nodes.faultyNodes) {
+                Assert.assertEquals(node.health.getFailures(), 2);
+            }
+        } finally {
+            nodes.shutdown();
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testRefreshAddresses() {
+        Map<String, String> options = new HashMap<>();
+        options.put(ClickHouseClientOption.RESOLVE_ALL_ADDRESSES.getKey(), "true");
+        ClickHouseNode template = ClickHouseNode.of("http://127.0.0.1", options);
+        ClickHouseNode a = ClickHouseNode.builder(template).host("127.0.0.2").build();
+        ClickHouseNode b = ClickHouseNode.builder(template).host("127.0.0.3").build();
+        ClickHouseNode c = ClickHouseNode.builder(template).host("127.0.0.4").build();
+
+        AtomicReference<List<ClickHouseNode>> addresses = new AtomicReference<>(Collections.singletonList(template));
+        ClickHouseNodes nodes = new ClickHouseNodes(Collections.singletonList(template), template) {
+            @Override
+            protected List<ClickHouseNode> resolveAddresses(Collection<ClickHouseNode> nodes) {
+                Assert.assertEquals(nodes, Collections.singletonList(template));
+                return addresses.get();
+            }
+        };
+        try {
+            Assert.assertEquals(nodes.unresolvedNodes, Collections.singletonList(template));
+            Assert.assertEquals(nodes.nodes, Collections.singletonList(template));
+
+            nodes.refreshAddresses();
+            Assert.assertEquals(nodes.nodes, Collections.singletonList(template));
+
+            // pods added behind a headless service
+            addresses.set(Arrays.asList(a, b));
+            nodes.refreshAddresses();
+            Assert.assertEquals(nodes.nodes, Arrays.asList(a, b));
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+            Assert.assertTrue(template.isStandalone());
+
+            // one pod replaced by another
+            nodes.update(b, Status.FAULTY);
+            addresses.set(Arrays.asList(a, c));
+            nodes.check();
+            Assert.assertEquals(nodes.nodes, Arrays.asList(a, c));
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+            Assert.assertTrue(b.isStandalone());
+            Assert.assertFalse(c.isStandalone());
+        } finally {
+            nodes.shutdown();
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testConcurrentHealthCheck() {
+        Map<String, String> options = new HashMap<>();
+        options.put(ClickHouseClientOption.HEALTH_CHECK_PARALLELISM.getKey(), "6");
+        ClickHouseNode template = ClickHouseNode.of("http://localhost", options);
+        List<ClickHouseNode> list = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            list.add(ClickHouseNode.of("http://x" + i, template));
+        }
+
+        AtomicInteger active = new AtomicInteger(0);
+        AtomicInteger maxActive = new AtomicInteger(0);
+        AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+        ClickHouseNodes nodes = new ClickHouseNodes(list, template) {
+            @Override
+            protected ClickHouseNode ping(ClickHouseNode node) {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    // wait until all nodes in this round are probed at the same time
+                    CountDownLatch l = latch.get();
+                    l.countDown();
+                    l.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    active.decrementAndGet();
+                }
+                return node;
+            }
+        };
+        try {
+            Assert.assertEquals(nodes.nodes.size(), 6);
+
+            // first check only covers two faulty nodes
+            nodes.update(list.get(0), Status.FAULTY);
+            nodes.update(list.get(1), Status.FAULTY);
+            latch.set(new CountDownLatch(2));
+            nodes.check();
+            Assert.assertEquals(maxActive.get(), 2);
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+
+            // executor created above must not limit later checks
+            for (ClickHouseNode node : list) {
+                nodes.update(node, Status.FAULTY);
+            }
+            Assert.assertEquals(nodes.faultyNodes.size(), 6);
+            maxActive.set(0);
+            latch.set(new CountDownLatch(6));
+            nodes.check();
+            Assert.assertEquals(maxActive.get(), 6);
+            Assert.assertEquals(nodes.nodes.size(), 6);
+            Assert.assertEquals(nodes.faultyNodes.size(), 0);
+        } finally {
+            nodes.shutdown();
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testNodeHealth() {
+        ClickHouseNodeHealth health = new ClickHouseNodeHealth();
+        Assert.assertTrue(health.isDue(0L));
+        Assert.assertFalse(health.fail(2, 0L, 100L, 1000L));
+        Assert.assertTrue(health.isDue(0L));
+        Assert.assertTrue(health.fail(2, 0L, 100L, 1000L));
+        Assert.assertFalse(health.isDue(99L));
+        Assert.assertTrue(health.isDue(100L));
+        Assert.assertTrue(health.fail(2, 100L, 100L, 1000L));
+        Assert.assertFalse(health.isDue(299L));
+        Assert.assertTrue(health.isDue(300L));
+        for (int i = 0; i < 100; i++) {
+            health.fail(2, 0L, 100L, 1000L);
+        }
+        Assert.assertFalse(health.isDue(999L));
+        Assert.assertTrue(health.isDue(1000L));
+
+        Assert.assertFalse(health.succeed(2));
+        Assert.assertTrue(health.isDue(0L));
+        Assert.assertEquals(health.getFailures(), 0);
+        Assert.assertTrue(health.succeed(2));
+        Assert.assertFalse(health.fail(2, 0L, 100L, 1000L));
+        Assert.assertFalse(health.succeed(2));
+    }
 }
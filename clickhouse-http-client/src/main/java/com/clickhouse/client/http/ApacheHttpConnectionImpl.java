@@ -3,7 +3,9 @@ package com.clickhouse.client.http;
 import com.clickhouse.client.AbstractSocketClient;
 import com.clickhouse.client.ClickHouseClient;
 import com.clickhouse.client.ClickHouseConfig;
+import com.clickhouse.client.ClickHouseDnsResolver;
 import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseProtocol;
 import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseSocketFactory;
 import com.clickhouse.client.ClickHouseSslContextProvider;
@@ -19,6 +21,8 @@ import com.clickhouse.data.ClickHouseOutputStream;
 import com.clickhouse.data.ClickHouseUtils;
 import com.clickhouse.logging.Logger;
 import com.clickhouse.logging.LoggerFactory;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -62,8 +66,10 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
@@ -407,6 +413,28 @@ public class ApacheHttpConnectionImpl extends ClickHouseHttpConnection {
         }
     }
 
+    /**
+     * DNS resolver backed by {@link ClickHouseDnsResolver}, so that addresses are
+     * cached instead of being looked up for each new connection.
+     */
+    static final class CachingDnsResolver implements DnsResolver {
+        static final CachingDnsResolver INSTANCE = new CachingDnsResolver();
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            ClickHouseDnsResolver resolver = ClickHouseDnsResolver.getInstance();
+            if (resolver == null) {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            }
+            return resolver.resolveAll(ClickHouseProtocol.HTTP, host).toArray(new InetAddress[0]);
+        }
+
+        @Override
+        public String resolveCanonicalHostname(String host) throws UnknownHostException {
+            return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+        }
+    }
+
     static class HttpConnectionManager extends PoolingHttpClientConnectionManager {
         private static final String PROVIDER = "Apache-HttpClient";
         private static final String USER_AGENT;
@@ -428,7 +456,8 @@ public class ApacheHttpConnectionImpl extends ClickHouseHttpConnection {
         public HttpConnectionManager(Registry<ConnectionSocketFactory> socketFactory, ClickHouseConfig config,
                                      PoolConcurrencyPolicy poolConcurrentcyPolicy, PoolReusePolicy poolReusePolicy,
                                      TimeValue ttl) {
-            super(socketFactory, poolConcurrentcyPolicy, poolReusePolicy, ttl);
+            super(socketFactory, poolConcurrentcyPolicy, poolReusePolicy, ttl, null, CachingDnsResolver.INSTANCE,
+                    null);
             ConnectionConfig connConfig = ConnectionConfig.custom()
                     .setConnectTimeout(Timeout.of(config.getConnectionTimeout(), TimeUnit.MILLISECONDS))
                     .setValidateAfterInactivity(config.getLongOption(ClickHouseHttpOption.AHC_VALIDATE_AFTER_INACTIVITY), TimeUnit.MILLISECONDS)
@@ -0,0 +1,297 @@
+package com.clickhouse.client.http;
+
+import java.io.IOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.clickhouse.data.ClickHouseByteBuffer;
+import com.clickhouse.data.ClickHouseDataConfig;
+import com.clickhouse.data.ClickHouseDataStreamFactory;
+import com.clickhouse.data.ClickHouseDataUpdater;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.ClickHouseUtils;
+
+/**
+ * Output stream acting as request body publisher. Buffers filled by the writer
+ * are handed over to the subscriber as they are, without being copied into a
+ * piped stream first. Writer is blocked when the subscriber does not keep up,
+ * so that at most {@code queueLength} buffers are held in memory.
+ */
+class ClickHouseRequestPublisher extends ClickHouseOutputStream implements BodyPublisher {
+    private final BlockingQueue<ByteBuffer> queue;
+    private final int bufferSize;
+    private final long timeout;
+
+    private final AtomicReference<Subscriber<? super ByteBuffer>> subscriber;
+    private final AtomicLong demand;
+    private final AtomicInteger wip;
+
+    private volatile boolean cancelled;
+    private boolean completed;
+
+    private ByteBuffer buffer;
+
+    ClickHouseRequestPublisher(int bufferSize, int queueLength, long timeout, Runnable postCloseAction) {
+        super(null, postCloseAction);
+
+        this.queue = queueLength <= 0 ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(queueLength);
+        this.bufferSize = ClickHouseDataConfig.getBufferSize(bufferSize);
+        this.timeout = timeout;
+
+        this.subscriber = new AtomicReference<>();
+        this.demand = new AtomicLong();
+        this.wip = new AtomicInteger();
+
+        this.cancelled = false;
+        this.completed = false;
+
+        this.buffer = ByteBuffer.allocate(this.bufferSize);
+    }
+
+    /**
+     * Delivers queued buffers to the subscriber as long as there's demand. Only
+     * one thread, either the writer or the one requesting more data, is draining
+     * the queue at a time.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            Subscriber<? super ByteBuffer> s = subscriber.get();
+            while (s != null && !cancelled && !completed) {
+                ByteBuffer b = queue.peek();
+                if (b == null) {
+                    break;
+                } else if (b == ClickHouseByteBuffer.EMPTY_BUFFER) {
+                    queue.poll();
+                    completed = true;
+                    s.onComplete();
+                } else if (demand.get() > 0L) {
+                    queue.poll();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    s.onNext(b);
+                } else {
+                    break;
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void updateBuffer(boolean allocateNewBuffer) throws IOException {
+        ByteBuffer b = buffer;
+        ((Buffer) b).flip();
+
+        updateBuffer(b);
+
+        if (allocateNewBuffer) {
+            buffer = ByteBuffer.allocate(bufferSize);
+        }
+    }
+
+    private void updateBuffer(ByteBuffer b) throws IOException {
+        if (cancelled) {
+            throw new IOException("Request body was cancelled");
+        }
+
+        try {
+            if (timeout > 0L) {
+                if (!queue.offer(b, timeout, TimeUnit.MILLISECONDS)) {
+                    throw new IOException(ClickHouseUtils.format("Write timed out after %d ms", timeout));
+                }
+            } else {
+                queue.put(b);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Thread was interrupted when putting buffer into queue", e);
+        }
+
+        drain();
+    }
+
+    /**
+     * Cancels the request body, usually because the request completed or failed
+     * before all data was written. Queued buffers are discarded and further
+     * writes will fail.
+     */
+    void cancel() {
+        cancelled = true;
+        queue.clear();
+    }
+
+    /**
+     * Checks whether the request body was cancelled.
+     *
+     * @return true if the request body was cancelled; false otherwise
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1L;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (!subscriber.compareAndSet(null, s)) {
+            // request body can't be replayed, for instance on redirect
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // ignore
+                }
+
+                @Override
+                public void cancel() {
+                    // ignore
+                }
+            });
+            s.onError(new IllegalStateException("Request body can only be subscribed once"));
+            return;
+        }
+
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0L) {
+                    ClickHouseRequestPublisher.this.cancel();
+                    s.onError(new IllegalArgumentException("Non-positive request: " + n));
+                    return;
+                }
+
+                demand.getAndUpdate(v -> v + n < 0L ? Long.MAX_VALUE : v + n);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                ClickHouseRequestPublisher.this.cancel();
+            }
+        });
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            if (buffer.position() > 0) {
+                updateBuffer(false);
+            }
+            updateBuffer(ClickHouseByteBuffer.EMPTY_BUFFER);
+        } finally {
+            closed = true;
+            buffer = ClickHouseByteBuffer.EMPTY_BUFFER;
+            ClickHouseDataStreamFactory.handleCustomAction(postCloseAction);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+
+        if (buffer.position() > 0) {
+            updateBuffer(true);
+        }
+    }
+
+    @Deprecated
+    @Override
+    public ClickHouseOutputStream transferBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (bytes == null) {
+            throw new NullPointerException();
+        } else if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return this;
+        }
+        ensureOpen();
+
+        if (buffer.position() > 0) {
+            updateBuffer(true);
+        }
+        updateBuffer(ByteBuffer.wrap(bytes, offset, length));
+
+        return this;
+    }
+
+    @Override
+    public ClickHouseOutputStream writeByte(byte b) throws IOException {
+        ensureOpen();
+
+        buffer.put(b);
+        if (!buffer.hasRemaining()) {
+            updateBuffer(true);
+        }
+        return this;
+    }
+
+    @Override
+    public ClickHouseOutputStream writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (bytes == null) {
+            throw new NullPointerException();
+        } else if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return this;
+        }
+        ensureOpen();
+
+        ByteBuffer b = buffer;
+        while (length > 0) {
+            int remain = b.remaining();
+            if (length < remain) {
+                b.put(bytes, offset, length);
+                length = 0;
+            } else {
+                b.put(bytes, offset, remain);
+                offset += remain;
+                length -= remain;
+                updateBuffer(true);
+                b = buffer;
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public ClickHouseOutputStream writeCustom(ClickHouseDataUpdater writer) throws IOException {
+        ensureOpen();
+
+        int position = 0;
+        int written = 0;
+        do {
+            position = buffer.position();
+            int limit = buffer.limit();
+            written = writer.update(buffer.array(), position, limit);
+            if (written < 0) {
+                ((Buffer) buffer).position(limit);
+                updateBuffer(true);
+            }
+        } while (written < 0);
+        ((Buffer) buffer).position(position + written);
+        return this;
+    }
+}
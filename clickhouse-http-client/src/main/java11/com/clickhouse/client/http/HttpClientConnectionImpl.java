@@ -9,12 +9,10 @@ import com.clickhouse.client.config.ClickHouseClientOption;
 import com.clickhouse.client.config.ClickHouseProxyType;
 import com.clickhouse.client.http.config.ClickHouseHttpOption;
 import com.clickhouse.data.ClickHouseChecker;
-import com.clickhouse.data.ClickHouseDataStreamFactory;
 import com.clickhouse.data.ClickHouseExternalTable;
 import com.clickhouse.data.ClickHouseFormat;
 import com.clickhouse.data.ClickHouseInputStream;
 import com.clickhouse.data.ClickHouseOutputStream;
-import com.clickhouse.data.ClickHousePipedOutputStream;
 import com.clickhouse.logging.Logger;
 import com.clickhouse.logging.LoggerFactory;
 
@@ -216,13 +214,23 @@ public class HttpClientConnectionImpl extends ClickHouseHttpConnection {
             String sql, ClickHouseInputStream data, List<ClickHouseExternalTable> tables, ClickHouseOutputStream output,
             Runnable postAction) throws IOException {
 
-            ClickHousePipedOutputStream stream = ClickHouseDataStreamFactory.getInstance()
-                    .createPipedOutputStream(config);
-            reqBuilder.POST(HttpRequest.BodyPublishers.ofInputStream(stream::getInputStream));
-            // running in async is necessary to avoid deadlock of the piped stream
+            ClickHouseRequestPublisher body = new ClickHouseRequestPublisher(config.getRequestChunkSize(),
+                    config.getMaxQueuedBuffers(), config.getSocketTimeout(), null);
+            reqBuilder.POST(body);
+            // running in async is necessary as the request body is published while being written
             CompletableFuture<HttpResponse<InputStream>> f = postRequest(reqBuilder.build());
+            // stop writing when response arrived early or request failed, instead of waiting for timeout
+            f.whenComplete((r, e) -> body.cancel());
 
-            postData(config, boundary, sql, data, tables, stream);
+            IOException writeError = null;
+            try {
+                postData(config, boundary, sql, data, tables, body);
+            } catch (IOException e) {
+                if (!body.isCancelled()) {
+                    throw e;
+                }
+                writeError = e;
+            }
 
             HttpResponse<InputStream> r;
             try {
@@ -232,13 +240,25 @@ public class HttpClientConnectionImpl extends ClickHouseHttpConnection {
                 throw new IOException("Thread was interrupted when posting request or receiving response", e);
             } catch (ExecutionException e) {
                 Throwable cause = e.getCause();
-                if (cause instanceof HttpConnectTimeoutException) {
-                    throw new ConnectException(cause.getMessage());
-                } else {
-                    throw new IOException("Failed to post request", cause);
+                IOException error = cause instanceof HttpConnectTimeoutException
+                        ? new ConnectException(cause.getMessage())
+                        : new IOException("Failed to post request", cause);
+                if (writeError != null) {
+                    error.addSuppressed(writeError);
                 }
+                throw error;
             }
 
+            // let error response, which arrived before all data was written, speak for
+            // itself, but never treat truncated request body as success
+            if (writeError != null && r.statusCode() == HttpURLConnection.HTTP_OK) {
+                try {
+                    r.body().close();
+                } catch (IOException e) {
+                    writeError.addSuppressed(e);
+                }
+                throw writeError;
+            }
             return buildResponse(config, r, output, postAction);
     }
 
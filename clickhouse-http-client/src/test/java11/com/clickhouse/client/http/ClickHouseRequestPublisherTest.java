@@ -0,0 +1,163 @@
+package com.clickhouse.client.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClickHouseRequestPublisherTest {
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
+        final List<ByteBuffer> buffers = new CopyOnWriteArrayList<>();
+        volatile Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            buffers.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        String getString() {
+            StringBuilder builder = new StringBuilder();
+            for (ByteBuffer b : buffers) {
+                builder.append(StandardCharsets.US_ASCII.decode(b.duplicate()));
+            }
+            return builder.toString();
+        }
+    }
+
+    private static void write(ClickHouseRequestPublisher publisher, String str) throws IOException {
+        publisher.writeBytes(str.getBytes(StandardCharsets.US_ASCII));
+        publisher.flush();
+    }
+
+    @Test(groups = { "unit" })
+    public void testRequest() throws IOException {
+        ClickHouseRequestPublisher publisher = new ClickHouseRequestPublisher(8, 0, 0L, null);
+        TestSubscriber s = new TestSubscriber();
+        publisher.subscribe(s);
+        Assert.assertNotNull(s.subscription);
+
+        write(publisher, "1");
+        write(publisher, "22");
+        write(publisher, "333");
+        Assert.assertEquals(s.buffers.size(), 0, "Nothing should be delivered without demand");
+
+        s.subscription.request(1L);
+        Assert.assertEquals(s.getString(), "1");
+        s.subscription.request(1L);
+        Assert.assertEquals(s.getString(), "122");
+
+        publisher.close();
+        Assert.assertFalse(s.completed, "Should not complete before queued buffers are delivered");
+        s.subscription.request(5L);
+        Assert.assertEquals(s.getString(), "122333");
+        Assert.assertTrue(s.completed);
+        Assert.assertNull(s.error);
+
+        // buffers written before subscription are delivered as well
+        publisher = new ClickHouseRequestPublisher(8, 0, 0L, null);
+        write(publisher, "123456789");
+        publisher.close();
+        s = new TestSubscriber();
+        publisher.subscribe(s);
+        s.subscription.request(Long.MAX_VALUE);
+        s.subscription.request(Long.MAX_VALUE);
+        Assert.assertEquals(s.getString(), "123456789");
+        Assert.assertEquals(s.buffers.size(), 2);
+        Assert.assertTrue(s.completed);
+    }
+
+    @Test(groups = { "unit" })
+    public void testNonPositiveRequest() throws IOException {
+        ClickHouseRequestPublisher publisher = new ClickHouseRequestPublisher(8, 0, 0L, null);
+        TestSubscriber s = new TestSubscriber();
+        publisher.subscribe(s);
+        write(publisher, "1");
+        s.subscription.request(0L);
+        Assert.assertTrue(s.error instanceof IllegalArgumentException);
+        Assert.assertTrue(publisher.isCancelled());
+        Assert.assertEquals(s.buffers.size(), 0);
+    }
+
+    @Test(groups = { "unit" })
+    public void testCancel() throws IOException {
+        ClickHouseRequestPublisher publisher = new ClickHouseRequestPublisher(8, 0, 0L, null);
+        TestSubscriber s = new TestSubscriber();
+        publisher.subscribe(s);
+        s.subscription.request(1L);
+        write(publisher, "1");
+        write(publisher, "2");
+        Assert.assertEquals(s.getString(), "1");
+
+        s.subscription.cancel();
+        Assert.assertTrue(publisher.isCancelled());
+        Assert.assertThrows(IOException.class, () -> write(publisher, "3"));
+
+        // queued buffers are discarded
+        s.subscription.request(5L);
+        Assert.assertEquals(s.getString(), "1");
+        Assert.assertFalse(s.completed);
+        Assert.assertNull(s.error);
+    }
+
+    @Test(groups = { "unit" })
+    public void testSubscribeTwice() throws IOException {
+        ClickHouseRequestPublisher publisher = new ClickHouseRequestPublisher(8, 0, 0L, null);
+        TestSubscriber s1 = new TestSubscriber();
+        publisher.subscribe(s1);
+        TestSubscriber s2 = new TestSubscriber();
+        publisher.subscribe(s2);
+        Assert.assertNotNull(s2.subscription);
+        Assert.assertTrue(s2.error instanceof IllegalStateException);
+        s2.subscription.request(1L);
+
+        // first subscriber is not affected
+        Assert.assertFalse(publisher.isCancelled());
+        write(publisher, "1");
+        publisher.close();
+        s1.subscription.request(1L);
+        Assert.assertEquals(s1.getString(), "1");
+        Assert.assertTrue(s1.completed);
+        Assert.assertEquals(s2.buffers.size(), 0);
+        Assert.assertFalse(s2.completed);
+    }
+
+    @Test(groups = { "unit" })
+    public void testWriteTimeout() throws IOException {
+        ClickHouseRequestPublisher publisher = new ClickHouseRequestPublisher(8, 1, 100L, null);
+        TestSubscriber s = new TestSubscriber();
+        publisher.subscribe(s);
+        write(publisher, "1");
+
+        long startTime = System.currentTimeMillis();
+        IOException e = Assert.expectThrows(IOException.class, () -> write(publisher, "2"));
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 100L);
+        Assert.assertTrue(e.getMessage().contains("timed out"), e.getMessage());
+
+        // subscriber keeps receiving what was queued
+        s.subscription.request(1L);
+        Assert.assertEquals(s.getString(), "1");
+    }
+}
@@ -32,6 +32,8 @@ public class JdbcConfig {
     public static final String PROP_JDBC_COMPLIANT = "jdbcCompliant";
     public static final String PROP_NAMED_PARAM = "namedParameter";
     public static final String PROP_NULL_AS_DEFAULT = "nullAsDefault";
+    public static final String PROP_STATEMENT_CACHE_SIZE = "statementCacheSize";
+    public static final String PROP_TABLE_COLUMNS_CACHE_TTL = "tableColumnsCacheTtl";
     public static final String PROP_TX_SUPPORT = "transactionSupport";
     public static final String PROP_TYPE_MAP = "typeMappings";
     public static final String PROP_WRAPPER_OBJ = "wrapperObject";
@@ -56,6 +58,8 @@ public class JdbcConfig {
     private static final String DEFAULT_JDBC_COMPLIANT = BOOLEAN_TRUE;
     private static final String DEFAULT_NAMED_PARAM = BOOLEAN_FALSE;
     private static final String DEFAULT_NULL_AS_DEFAULT = "0";
+    private static final String DEFAULT_STATEMENT_CACHE_SIZE = "100";
+    private static final String DEFAULT_TABLE_COLUMNS_CACHE_TTL = "0";
     private static final String DEFAULT_TX_SUPPORT = BOOLEAN_FALSE;
     private static final String DEFAULT_TYPE_MAP = "";
     private static final String DEFAULT_WRAPPER_OBJ = BOOLEAN_FALSE;
@@ -97,6 +101,10 @@ public class JdbcConfig {
                         BOOLEAN_TRUE, BOOLEAN_FALSE),
                 newDriverProperty(PROP_NULL_AS_DEFAULT, DEFAULT_NULL_AS_DEFAULT,
                         "Default approach to handle null value, sets to 0 or negative number to throw exception when target column is not nullable, 1 to disable the null-check, and 2 or higher to replace null to default value of corresponding data type."),
+                newDriverProperty(PROP_STATEMENT_CACHE_SIZE, DEFAULT_STATEMENT_CACHE_SIZE,
+                        "Maximum number of parsed statements and table columns cached by each connection for preparing statements, zero or negative number disables the cache."),
+                newDriverProperty(PROP_TABLE_COLUMNS_CACHE_TTL, DEFAULT_TABLE_COLUMNS_CACHE_TTL,
+                        "Seconds to cache columns of tables used in prepared INSERT statements, zero or negative number disables the cache. Cached columns are also removed when executing DDL on the connection."),
                 newDriverProperty(PROP_TX_SUPPORT, DEFAULT_TX_SUPPORT, "Whether to enable transaction support or not.",
                         BOOLEAN_TRUE, BOOLEAN_FALSE),
                 newDriverProperty(PROP_TYPE_MAP, DEFAULT_TYPE_MAP,
@@ -201,6 +209,8 @@ public class JdbcConfig {
     private final boolean externalDatabase;
     private final boolean namedParameter;
     private final int nullAsDefault;
+    private final int statementCacheSize;
+    private final int tableColumnsCacheTtl;
     private final boolean txSupport;
     private final Map<String, Class<?>> typeMap;
     private final boolean wrapperObject;
@@ -223,6 +233,9 @@ public class JdbcConfig {
         this.jdbcCompliant = extractBooleanValue(props, PROP_JDBC_COMPLIANT, DEFAULT_JDBC_COMPLIANT);
         this.namedParameter = extractBooleanValue(props, PROP_NAMED_PARAM, DEFAULT_NAMED_PARAM);
         this.nullAsDefault = extractIntValue(props, PROP_NULL_AS_DEFAULT, DEFAULT_NULL_AS_DEFAULT);
+        this.statementCacheSize = extractIntValue(props, PROP_STATEMENT_CACHE_SIZE, DEFAULT_STATEMENT_CACHE_SIZE);
+        this.tableColumnsCacheTtl = extractIntValue(props, PROP_TABLE_COLUMNS_CACHE_TTL,
+                DEFAULT_TABLE_COLUMNS_CACHE_TTL);
         this.txSupport = extractBooleanValue(props, PROP_TX_SUPPORT, DEFAULT_TX_SUPPORT);
         this.typeMap = extractTypeMapValue(props, PROP_TYPE_MAP, DEFAULT_TYPE_MAP);
         this.wrapperObject = extractBooleanValue(props, PROP_WRAPPER_OBJ, DEFAULT_WRAPPER_OBJ);
@@ -367,6 +380,27 @@ public class JdbcConfig {
         return namedParameter;
     }
 
+    /**
+     * Gets maximum number of parsed statements, as well as table columns, cached
+     * by each connection.
+     *
+     * @return maximum number of cached statements, zero or negative number means
+     *         no cache
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Gets seconds to cache columns of tables used in prepared insert statements.
+     *
+     * @return seconds to cache table columns, zero or negative number means no
+     *         cache
+     */
+    public int getTableColumnsCacheTtl() {
+        return tableColumnsCacheTtl;
+    }
+
     /**
      * Checks whether {@link java.sql.Array} and {@link java.sql.Struct} should be
      * returned for array and tuple when calling
@@ -170,6 +170,8 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
 
     private final AtomicReference<JdbcTransaction> txRef;
 
+    private final JdbcStatementCache stmtCache;
+
     protected JdbcTransaction createTransaction() throws SQLException {
         if (!isTransactionSupported()) {
             return new JdbcTransaction(null);
@@ -244,13 +246,19 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
         } else {
             columns = columns.substring(1); // remove the leading bracket
         }
+        String key = new StringBuilder(ClickHouseChecker.isNullOrEmpty(dbName) ? getCurrentDatabase() : dbName)
+                .append('\0').append(tableName).append('\0').append(columns).toString();
+        List<ClickHouseColumn> list = stmtCache.getColumns(key);
+        if (list != null) {
+            return list;
+        }
+
         StringBuilder builder = new StringBuilder();
         builder.append("SELECT ").append(columns).append(" FROM ");
         if (!ClickHouseChecker.isNullOrEmpty(dbName)) {
             builder.append('`').append(ClickHouseUtils.escape(dbName, '`')).append('`').append('.');
         }
         builder.append('`').append(ClickHouseUtils.escape(tableName, '`')).append('`').append(" WHERE 0");
-        List<ClickHouseColumn> list;
         try (ClickHouseResponse resp = clientRequest.copy().format(ClickHouseFormat.RowBinaryWithNamesAndTypes)
                 .option(ClickHouseClientOption.RENAME_RESPONSE_COLUMN, ClickHouseRenameMethod.NONE)
                 .query(builder.toString()).executeAndWait()) {
@@ -258,9 +266,17 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
         } catch (Exception e) {
             throw SqlExceptionUtils.handle(e);
         }
+        stmtCache.putColumns(key, list);
         return list;
     }
 
+    /**
+     * Removes cached table columns, as table structure might have changed.
+     */
+    void invalidateTableColumns() {
+        stmtCache.invalidateColumns();
+    }
+
     protected String getDatabase() throws SQLException {
         ensureOpen();
 
@@ -453,6 +469,7 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
         this.serverVersion = version;
         this.typeMap = new HashMap<>(jdbcConf.getTypeMap());
         this.txRef = new AtomicReference<>(this.autoCommit ? null : createTransaction());
+        this.stmtCache = new JdbcStatementCache(jdbcConf.getStatementCacheSize(), jdbcConf.getTableColumnsCacheTtl());
     }
 
     @Override
@@ -791,8 +808,13 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
         ensureOpen();
 
         ClickHouseConfig config = clientRequest.getConfig();
-        // TODO remove the extra parsing
-        ClickHouseSqlStatement[] stmts = parse(sql, config, clientRequest.getSettings());
+        // statements prepared before on this connection are not parsed again
+        ParseHandler handler = getParseHandler(clientRequest.getSettings());
+        ClickHouseSqlStatement[] stmts = stmtCache.getStatements(sql, handler);
+        if (stmts == null) {
+            stmts = ClickHouseSqlParser.parse(sql, config, handler);
+            stmtCache.putStatements(sql, handler, stmts);
+        }
         if (stmts.length != 1) {
             throw SqlExceptionUtils
                     .clientError("Prepared statement only supports one query but we got: " + stmts.length);
@@ -1170,6 +1192,11 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
 
     @Override
     public ClickHouseSqlStatement[] parse(String sql, ClickHouseConfig config, Map<String, Serializable> settings) {
+        return ClickHouseSqlParser.parse(sql, config != null ? config : clientRequest.getConfig(),
+                getParseHandler(settings));
+    }
+
+    private ParseHandler getParseHandler(Map<String, Serializable> settings) {
         ParseHandler handler = null;
         if (jdbcConf.isJdbcCompliant()) {
             boolean allowLwDelete = initialDeleteSupport > 1;
@@ -1185,7 +1212,7 @@ public class ClickHouseConnectionImpl extends JdbcWrapper implements ClickHouseC
         } else if (jdbcConf.useLocalFile()) {
             handler = JdbcParseHandler.getInstance(false, false, true);
         }
-        return ClickHouseSqlParser.parse(sql, config != null ? config : clientRequest.getConfig(), handler);
+        return handler;
     }
 
     @Override
@@ -331,7 +331,12 @@ public class ClickHouseStatementImpl extends JdbcWrapper
         if (resp != null) {
             return resp;
         }
-        return executeStatement(stmt.getSQL(), options, tables, settings);
+        resp = executeStatement(stmt.getSQL(), options, tables, settings);
+        if (stmt.isDDL() && !stmt.isQuery()) {
+            // columns of prepared insert statements might have changed
+            ((ClickHouseConnectionImpl) connection).invalidateTableColumns();
+        }
+        return resp;
     }
 
     private ClickHouseResponse sendRequest(String sql, Function<ClickHouseRequest<?>, ClickHouseRequest<?>> preSeal) throws SQLException {
@@ -0,0 +1,142 @@
+package com.clickhouse.jdbc.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.jdbc.parser.ClickHouseSqlStatement;
+import com.clickhouse.jdbc.parser.ParseHandler;
+
+/**
+ * Per connection LRU cache of parsed statements and table columns, so that
+ * preparing the same statement again costs a lookup instead of parsing the
+ * query, and for insert, a round-trip to the server.
+ */
+final class JdbcStatementCache {
+    static final class LruCacheMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 2950745512339587264L;
+
+        private final int capacity;
+
+        LruCacheMap(int capacity) {
+            super(16, 0.75f, true);
+
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    static final class ParsedStatements {
+        final ParseHandler handler;
+        final ClickHouseSqlStatement[] statements;
+
+        ParsedStatements(ParseHandler handler, ClickHouseSqlStatement[] statements) {
+            this.handler = handler;
+            this.statements = statements;
+        }
+    }
+
+    static final class TableColumns {
+        final List<ClickHouseColumn> columns;
+        final long expireTime;
+
+        TableColumns(List<ClickHouseColumn> columns, long expireTime) {
+            this.columns = columns;
+            this.expireTime = expireTime;
+        }
+    }
+
+    private final Map<String, ParsedStatements> statements;
+    private final Map<String, TableColumns> columns;
+    private final long ttl;
+    private final LongSupplier clock;
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity maximum number of statements and table columns to cache,
+     *                 zero or negative number disables the cache
+     * @param ttl      seconds to cache table columns, zero or negative number
+     *                 disables caching of table columns
+     */
+    JdbcStatementCache(int capacity, int ttl) {
+        this(capacity, ttl, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache using the given clock.
+     *
+     * @param capacity maximum number of statements and table columns to cache,
+     *                 zero or negative number disables the cache
+     * @param ttl      seconds to cache table columns, zero or negative number
+     *                 disables caching of table columns
+     * @param clock    non-null clock in nanoseconds, like
+     *                 {@link System#nanoTime()}
+     */
+    JdbcStatementCache(int capacity, int ttl, LongSupplier clock) {
+        this.statements = capacity > 0 ? Collections.synchronizedMap(new LruCacheMap<>(capacity)) : null;
+        this.columns = capacity > 0 && ttl > 0 ? Collections.synchronizedMap(new LruCacheMap<>(capacity)) : null;
+        this.ttl = ttl > 0 ? TimeUnit.SECONDS.toNanos(ttl) : 0L;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets parsed statements.
+     *
+     * @param sql     non-null SQL
+     * @param handler parse handler used for parsing, could be null
+     * @return parsed statements, or null if the SQL was not parsed using the same
+     *         handler
+     */
+    ClickHouseSqlStatement[] getStatements(String sql, ParseHandler handler) {
+        ParsedStatements cached = statements != null ? statements.get(sql) : null;
+        return cached != null && cached.handler == handler ? cached.statements : null;
+    }
+
+    void putStatements(String sql, ParseHandler handler, ClickHouseSqlStatement[] stmts) {
+        if (statements != null) {
+            statements.put(sql, new ParsedStatements(handler, stmts));
+        }
+    }
+
+    /**
+     * Gets columns of a table.
+     *
+     * @param key non-null key consists of database, table and columns
+     * @return unmodifiable list of columns, or null if not cached or expired
+     */
+    List<ClickHouseColumn> getColumns(String key) {
+        TableColumns cached = columns != null ? columns.get(key) : null;
+        if (cached == null) {
+            return null;
+        } else if (clock.getAsLong() - cached.expireTime >= 0L) {
+            columns.remove(key);
+            return null;
+        }
+        return cached.columns;
+    }
+
+    void putColumns(String key, List<ClickHouseColumn> list) {
+        if (columns != null) {
+            columns.put(key, new TableColumns(Collections.unmodifiableList(list), clock.getAsLong() + ttl));
+        }
+    }
+
+    /**
+     * Removes all cached table columns, usually because table structure might
+     * have changed.
+     */
+    void invalidateColumns() {
+        if (columns != null) {
+            columns.clear();
+        }
+    }
+}
@@ -0,0 +1,598 @@
+/* Generated by: ParserGeneratorCC: Do not edit this line. ClickHouseSqlParserConstants.java */
+package com.clickhouse.jdbc.parser;
+
+
+/**
+ * Token literal values and constants.
+ * Generated by com.helger.pgcc.output.java.OtherFilesGenJava#start()
+ */
+public interface ClickHouseSqlParserConstants {
+
+  /** End of File. */
+  int EOF = 0;
+  /** RegularExpression Id. */
+  int WHITESPACE = 1;
+  /** RegularExpression Id. */
+  int JDBC_LITERAL = 2;
+  /** RegularExpression Id. */
+  int SINGLE_LINE_COMMENT = 3;
+  /** RegularExpression Id. */
+  int ALTER = 8;
+  /** RegularExpression Id. */
+  int ATTACH = 9;
+  /** RegularExpression Id. */
+  int CHECK = 10;
+  /** RegularExpression Id. */
+  int CREATE = 11;
+  /** RegularExpression Id. */
+  int DELETE = 12;
+  /** RegularExpression Id. */
+  int DESC = 13;
+  /** RegularExpression Id. */
+  int DESCRIBE = 14;
+  /** RegularExpression Id. */
+  int DETACH = 15;
+  /** RegularExpression Id. */
+  int DROP = 16;
+  /** RegularExpression Id. */
+  int EXISTS = 17;
+  /** RegularExpression Id. */
+  int EXPLAIN = 18;
+  /** RegularExpression Id. */
+  int GRANT = 19;
+  /** RegularExpression Id. */
+  int INSERT = 20;
+  /** RegularExpression Id. */
+  int KILL = 21;
+  /** RegularExpression Id. */
+  int OPTIMIZE = 22;
+  /** RegularExpression Id. */
+  int RENAME = 23;
+  /** RegularExpression Id. */
+  int REVOKE = 24;
+  /** RegularExpression Id. */
+  int SELECT = 25;
+  /** RegularExpression Id. */
+  int SET = 26;
+  /** RegularExpression Id. */
+  int SHOW = 27;
+  /** RegularExpression Id. */
+  int SYSTEM = 28;
+  /** RegularExpression Id. */
+  int TRUNCATE = 29;
+  /** RegularExpression Id. */
+  int UPDATE = 30;
+  /** RegularExpression Id. */
+  int USE = 31;
+  /** RegularExpression Id. */
+  int WATCH = 32;
+  /** RegularExpression Id. */
+  int BEGIN = 33;
+  /** RegularExpression Id. */
+  int COMMIT = 34;
+  /** RegularExpression Id. */
+  int ROLLBACK = 35;
+  /** RegularExpression Id. */
+  int ALL = 36;
+  /** RegularExpression Id. */
+  int AND = 37;
+  /** RegularExpression Id. */
+  int APPLY = 38;
+  /** RegularExpression Id. */
+  int ARRAY = 39;
+  /** RegularExpression Id. */
+  int AS = 40;
+  /** RegularExpression Id. */
+  int ASOF = 41;
+  /** RegularExpression Id. */
+  int BETWEEN = 42;
+  /** RegularExpression Id. */
+  int CASE = 43;
+  /** RegularExpression Id. */
+  int CLUSTER = 44;
+  /** RegularExpression Id. */
+  int COMPRESSION = 45;
+  /** RegularExpression Id. */
+  int DATE = 46;
+  /** RegularExpression Id. */
+  int DATABASE = 47;
+  /** RegularExpression Id. */
+  int DATABASES = 48;
+  /** RegularExpression Id. */
+  int DICTIONARY = 49;
+  /** RegularExpression Id. */
+  int DICTIONARIES = 50;
+  /** RegularExpression Id. */
+  int DISTINCT = 51;
+  /** RegularExpression Id. */
+  int ELSE = 52;
+  /** RegularExpression Id. */
+  int END = 53;
+  /** RegularExpression Id. */
+  int EXCEPT = 54;
+  /** RegularExpression Id. */
+  int FINAL = 55;
+  /** RegularExpression Id. */
+  int FORMAT = 56;
+  /** RegularExpression Id. */
+  int FROM = 57;
+  /** RegularExpression Id. */
+  int FULL = 58;
+  /** RegularExpression Id. */
+  int FUNCTION = 59;
+  /** RegularExpression Id. */
+  int GLOBAL = 60;
+  /** RegularExpression Id. */
+  int GROUP = 61;
+  /** RegularExpression Id. */
+  int HAVING = 62;
+  /** RegularExpression Id. */
+  int IF = 63;
+  /** RegularExpression Id. */
+  int ILIKE = 64;
+  /** RegularExpression Id. */
+  int IN = 65;
+  /** RegularExpression Id. */
+  int INFILE = 66;
+  /** RegularExpression Id. */
+  int INNER = 67;
+  /** RegularExpression Id. */
+  int INPUT = 68;
+  /** RegularExpression Id. */
+  int INTERVAL = 69;
+  /** RegularExpression Id. */
+  int INTO = 70;
+  /** RegularExpression Id. */
+  int IS = 71;
+  /** RegularExpression Id. */
+  int JOIN = 72;
+  /** RegularExpression Id. */
+  int LEFT = 73;
+  /** RegularExpression Id. */
+  int LEVEL = 74;
+  /** RegularExpression Id. */
+  int LIKE = 75;
+  /** RegularExpression Id. */
+  int LIMIT = 76;
+  /** RegularExpression Id. */
+  int LIVE = 77;
+  /** RegularExpression Id. */
+  int MATERIALIZED = 78;
+  /** RegularExpression Id. */
+  int NOT = 79;
+  /** RegularExpression Id. */
+  int OFFSET = 80;
+  /** RegularExpression Id. */
+  int ON = 81;
+  /** RegularExpression Id. */
+  int OR = 82;
+  /** RegularExpression Id. */
+  int ORDER = 83;
+  /** RegularExpression Id. */
+  int OUTFILE = 84;
+  /** RegularExpression Id. */
+  int POLICY = 85;
+  /** RegularExpression Id. */
+  int PREWHERE = 86;
+  /** RegularExpression Id. */
+  int PROFILE = 87;
+  /** RegularExpression Id. */
+  int QUOTA = 88;
+  /** RegularExpression Id. */
+  int REPLACE = 89;
+  /** RegularExpression Id. */
+  int ROLE = 90;
+  /** RegularExpression Id. */
+  int ROW = 91;
+  /** RegularExpression Id. */
+  int RIGHT = 92;
+  /** RegularExpression Id. */
+  int SAMPLE = 93;
+  /** RegularExpression Id. */
+  int SETTINGS = 94;
+  /** RegularExpression Id. */
+  int STDOUT = 95;
+  /** RegularExpression Id. */
+  int TEMPORARY = 96;
+  /** RegularExpression Id. */
+  int TABLE = 97;
+  /** RegularExpression Id. */
+  int TABLES = 98;
+  /** RegularExpression Id. */
+  int THEN = 99;
+  /** RegularExpression Id. */
+  int TIES = 100;
+  /** RegularExpression Id. */
+  int TIMESTAMP = 101;
+  /** RegularExpression Id. */
+  int TOP = 102;
+  /** RegularExpression Id. */
+  int TOTALS = 103;
+  /** RegularExpression Id. */
+  int TRANSACTION = 104;
+  /** RegularExpression Id. */
+  int UNION = 105;
+  /** RegularExpression Id. */
+  int USER = 106;
+  /** RegularExpression Id. */
+  int USING = 107;
+  /** RegularExpression Id. */
+  int VALUES = 108;
+  /** RegularExpression Id. */
+  int VIEW = 109;
+  /** RegularExpression Id. */
+  int WHEN = 110;
+  /** RegularExpression Id. */
+  int WHERE = 111;
+  /** RegularExpression Id. */
+  int WITH = 112;
+  /** RegularExpression Id. */
+  int SECOND = 113;
+  /** RegularExpression Id. */
+  int MINUTE = 114;
+  /** RegularExpression Id. */
+  int HOUR = 115;
+  /** RegularExpression Id. */
+  int DAY = 116;
+  /** RegularExpression Id. */
+  int WEEK = 117;
+  /** RegularExpression Id. */
+  int MONTH = 118;
+  /** RegularExpression Id. */
+  int QUARTER = 119;
+  /** RegularExpression Id. */
+  int YEAR = 120;
+  /** RegularExpression Id. */
+  int INF = 121;
+  /** RegularExpression Id. */
+  int NAN = 122;
+  /** RegularExpression Id. */
+  int NULL = 123;
+  /** RegularExpression Id. */
+  int A = 124;
+  /** RegularExpression Id. */
+  int B = 125;
+  /** RegularExpression Id. */
+  int C = 126;
+  /** RegularExpression Id. */
+  int D = 127;
+  /** RegularExpression Id. */
+  int E = 128;
+  /** RegularExpression Id. */
+  int F = 129;
+  /** RegularExpression Id. */
+  int G = 130;
+  /** RegularExpression Id. */
+  int H = 131;
+  /** RegularExpression Id. */
+  int I = 132;
+  /** RegularExpression Id. */
+  int J = 133;
+  /** RegularExpression Id. */
+  int K = 134;
+  /** RegularExpression Id. */
+  int L = 135;
+  /** RegularExpression Id. */
+  int M = 136;
+  /** RegularExpression Id. */
+  int N = 137;
+  /** RegularExpression Id. */
+  int O = 138;
+  /** RegularExpression Id. */
+  int P = 139;
+  /** RegularExpression Id. */
+  int Q = 140;
+  /** RegularExpression Id. */
+  int R = 141;
+  /** RegularExpression Id. */
+  int S = 142;
+  /** RegularExpression Id. */
+  int T = 143;
+  /** RegularExpression Id. */
+  int U = 144;
+  /** RegularExpression Id. */
+  int V = 145;
+  /** RegularExpression Id. */
+  int W = 146;
+  /** RegularExpression Id. */
+  int X = 147;
+  /** RegularExpression Id. */
+  int Y = 148;
+  /** RegularExpression Id. */
+  int Z = 149;
+  /** RegularExpression Id. */
+  int LETTER = 150;
+  /** RegularExpression Id. */
+  int ZERO = 151;
+  /** RegularExpression Id. */
+  int DEC_DIGIT = 152;
+  /** RegularExpression Id. */
+  int HEX_DIGIT = 153;
+  /** RegularExpression Id. */
+  int ARROW = 154;
+  /** RegularExpression Id. */
+  int ASTERISK = 155;
+  /** RegularExpression Id. */
+  int AT = 156;
+  /** RegularExpression Id. */
+  int BACK_QUOTE = 157;
+  /** RegularExpression Id. */
+  int BACK_SLASH = 158;
+  /** RegularExpression Id. */
+  int COLON = 159;
+  /** RegularExpression Id. */
+  int COMMA = 160;
+  /** RegularExpression Id. */
+  int CONCAT = 161;
+  /** RegularExpression Id. */
+  int CONVERT = 162;
+  /** RegularExpression Id. */
+  int DASH = 163;
+  /** RegularExpression Id. */
+  int DOLLAR = 164;
+  /** RegularExpression Id. */
+  int DOT = 165;
+  /** RegularExpression Id. */
+  int EQ_DOUBLE = 166;
+  /** RegularExpression Id. */
+  int EQ_SINGLE = 167;
+  /** RegularExpression Id. */
+  int GE = 168;
+  /** RegularExpression Id. */
+  int GT = 169;
+  /** RegularExpression Id. */
+  int HASH = 170;
+  /** RegularExpression Id. */
+  int LBRACE = 171;
+  /** RegularExpression Id. */
+  int LBRACKET = 172;
+  /** RegularExpression Id. */
+  int LE = 173;
+  /** RegularExpression Id. */
+  int LPAREN = 174;
+  /** RegularExpression Id. */
+  int LT = 175;
+  /** RegularExpression Id. */
+  int NOT_EQ = 176;
+  /** RegularExpression Id. */
+  int PERCENT = 177;
+  /** RegularExpression Id. */
+  int PLUS = 178;
+  /** RegularExpression Id. */
+  int QUERY = 179;
+  /** RegularExpression Id. */
+  int DOUBLE_QUOTE = 180;
+  /** RegularExpression Id. */
+  int SINGLE_QUOTE = 181;
+  /** RegularExpression Id. */
+  int RBRACE = 182;
+  /** RegularExpression Id. */
+  int RBRACKET = 183;
+  /** RegularExpression Id. */
+  int RPAREN = 184;
+  /** RegularExpression Id. */
+  int SEMICOLON = 185;
+  /** RegularExpression Id. */
+  int SLASH = 186;
+  /** RegularExpression Id. */
+  int UNDERSCORE = 187;
+  /** RegularExpression Id. */
+  int STRING_LITERAL = 188;
+  /** RegularExpression Id. */
+  int IDENTIFIER = 189;
+  /** RegularExpression Id. */
+  int BACK_QUOTED_NAME = 190;
+  /** RegularExpression Id. */
+  int DOUBLE_QUOTED_NAME = 191;
+  /** RegularExpression Id. */
+  int FLOATING_LITERAL = 192;
+  /** RegularExpression Id. */
+  int DECIMAL_LITERAL = 193;
+  /** RegularExpression Id. */
+  int HEXADECIMAL_LITERAL = 194;
+
+  /** Lexical state. */
+  int DEFAULT = 0;
+  /** Lexical state. */
+  int MULTI_LINE_COMMENT = 1;
+
+  /** Literal token values. */
+  String[] tokenImage = {
+    "<EOF>",
+    "<WHITESPACE>",
+    "<JDBC_LITERAL>",
+    "<SINGLE_LINE_COMMENT>",
+    "\"/*\"",
+    "\"/*\"",
+    "\"*/\"",
+    "<token of kind 7>",
+    "<ALTER>",
+    "<ATTACH>",
+    "<CHECK>",
+    "<CREATE>",
+    "<DELETE>",
+    "<DESC>",
+    "<DESCRIBE>",
+    "<DETACH>",
+    "<DROP>",
+    "<EXISTS>",
+    "<EXPLAIN>",
+    "<GRANT>",
+    "<INSERT>",
+    "<KILL>",
+    "<OPTIMIZE>",
+    "<RENAME>",
+    "<REVOKE>",
+    "<SELECT>",
+    "<SET>",
+    "<SHOW>",
+    "<SYSTEM>",
+    "<TRUNCATE>",
+    "<UPDATE>",
+    "<USE>",
+    "<WATCH>",
+    "<BEGIN>",
+    "<COMMIT>",
+    "<ROLLBACK>",
+    "<ALL>",
+    "<AND>",
+    "<APPLY>",
+    "<ARRAY>",
+    "<AS>",
+    "<ASOF>",
+    "<BETWEEN>",
+    "<CASE>",
+    "<CLUSTER>",
+    "<COMPRESSION>",
+    "<DATE>",
+    "<DATABASE>",
+    "<DATABASES>",
+    "<DICTIONARY>",
+    "<DICTIONARIES>",
+    "<DISTINCT>",
+    "<ELSE>",
+    "<END>",
+    "<EXCEPT>",
+    "<FINAL>",
+    "<FORMAT>",
+    "<FROM>",
+    "<FULL>",
+    "<FUNCTION>",
+    "<GLOBAL>",
+    "<GROUP>",
+    "<HAVING>",
+    "<IF>",
+    "<ILIKE>",
+    "<IN>",
+    "<INFILE>",
+    "<INNER>",
+    "<INPUT>",
+    "<INTERVAL>",
+    "<INTO>",
+    "<IS>",
+    "<JOIN>",
+    "<LEFT>",
+    "<LEVEL>",
+    "<LIKE>",
+    "<LIMIT>",
+    "<LIVE>",
+    "<MATERIALIZED>",
+    "<NOT>",
+    "<OFFSET>",
+    "<ON>",
+    "<OR>",
+    "<ORDER>",
+    "<OUTFILE>",
+    "<POLICY>",
+    "<PREWHERE>",
+    "<PROFILE>",
+    "<QUOTA>",
+    "<REPLACE>",
+    "<ROLE>",
+    "<ROW>",
+    "<RIGHT>",
+    "<SAMPLE>",
+    "<SETTINGS>",
+    "<STDOUT>",
+    "<TEMPORARY>",
+    "<TABLE>",
+    "<TABLES>",
+    "<THEN>",
+    "<TIES>",
+    "<TIMESTAMP>",
+    "<TOP>",
+    "<TOTALS>",
+    "<TRANSACTION>",
+    "<UNION>",
+    "<USER>",
+    "<USING>",
+    "<VALUES>",
+    "<VIEW>",
+    "<WHEN>",
+    "<WHERE>",
+    "<WITH>",
+    "<SECOND>",
+    "<MINUTE>",
+    "<HOUR>",
+    "<DAY>",
+    "<WEEK>",
+    "<MONTH>",
+    "<QUARTER>",
+    "<YEAR>",
+    "<INF>",
+    "<NAN>",
+    "<NULL>",
+    "<A>",
+    "<B>",
+    "<C>",
+    "<D>",
+    "<E>",
+    "<F>",
+    "<G>",
+    "<H>",
+    "<I>",
+    "<J>",
+    "<K>",
+    "<L>",
+    "<M>",
+    "<N>",
+    "<O>",
+    "<P>",
+    "<Q>",
+    "<R>",
+    "<S>",
+    "<T>",
+    "<U>",
+    "<V>",
+    "<W>",
+    "<X>",
+    "<Y>",
+    "<Z>",
+    "<LETTER>",
+    "\"0\"",
+    "<DEC_DIGIT>",
+    "<HEX_DIGIT>",
+    "\"->\"",
+    "\"*\"",
+    "\"@\"",
+    "\"`\"",
+    "\"\\\\\"",
+    "\":\"",
+    "\",\"",
+    "\"||\"",
+    "\"::\"",
+    "\"-\"",
+    "\"$\"",
+    "\".\"",
+    "\"==\"",
+    "\"=\"",
+    "\">=\"",
+    "\">\"",
+    "\"#\"",
+    "\"{\"",
+    "\"[\"",
+    "\"<=\"",
+    "\"(\"",
+    "\"<\"",
+    "<NOT_EQ>",
+    "\"%\"",
+    "\"+\"",
+    "\"?\"",
+    "\"\\\"\"",
+    "\"\\\'\"",
+    "\"}\"",
+    "\"]\"",
+    "\")\"",
+    "\";\"",
+    "\"/\"",
+    "\"_\"",
+    "<STRING_LITERAL>",
+    "<IDENTIFIER>",
+    "<BACK_QUOTED_NAME>",
+    "<DOUBLE_QUOTED_NAME>",
+    "<FLOATING_LITERAL>",
+    "<DECIMAL_LITERAL>",
+    "<HEXADECIMAL_LITERAL>",
+  };
+
+}
@@ -0,0 +1,60 @@
+package com.clickhouse.jdbc.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.jdbc.JdbcParseHandler;
+import com.clickhouse.jdbc.parser.ClickHouseSqlParser;
+import com.clickhouse.jdbc.parser.ClickHouseSqlStatement;
+import com.clickhouse.jdbc.parser.ParseHandler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JdbcStatementCacheTest {
+    @Test(groups = "unit")
+    public void testStatements() {
+        ParseHandler handler = JdbcParseHandler.getInstance(false, false, false);
+        JdbcStatementCache cache = new JdbcStatementCache(2, 0);
+        ClickHouseSqlStatement[] stmts = ClickHouseSqlParser.parse("select 1", null, handler);
+        cache.putStatements("select 1", handler, stmts);
+        Assert.assertSame(cache.getStatements("select 1", handler), stmts);
+        Assert.assertNull(cache.getStatements("select 1", null), "Should be parsed again using different handler");
+
+        cache.putStatements("select 2", handler, stmts);
+        cache.getStatements("select 1", handler);
+        cache.putStatements("select 3", handler, stmts);
+        Assert.assertNull(cache.getStatements("select 2", handler), "Least recently used one should be evicted");
+        Assert.assertSame(cache.getStatements("select 1", handler), stmts);
+        Assert.assertSame(cache.getStatements("select 3", handler), stmts);
+
+        cache = new JdbcStatementCache(0, 10);
+        cache.putStatements("select 1", handler, stmts);
+        Assert.assertNull(cache.getStatements("select 1", handler));
+    }
+
+    @Test(groups = "unit")
+    public void testColumns() {
+        List<ClickHouseColumn> columns = Arrays.asList(ClickHouseColumn.of("a", "String"));
+        JdbcStatementCache cache = new JdbcStatementCache(10, 0);
+        cache.putColumns("db\0t\0*", columns);
+        Assert.assertNull(cache.getColumns("db\0t\0*"), "Table columns should not be cached without TTL");
+
+        cache = new JdbcStatementCache(10, 60);
+        cache.putColumns("db\0t\0*", columns);
+        Assert.assertEquals(cache.getColumns("db\0t\0*"), columns);
+        cache.invalidateColumns();
+        Assert.assertNull(cache.getColumns("db\0t\0*"));
+
+        AtomicLong clock = new AtomicLong(Long.MAX_VALUE - TimeUnit.MILLISECONDS.toNanos(500L));
+        cache = new JdbcStatementCache(10, 1, clock::get);
+        cache.putColumns("db\0t\0*", columns);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999L));
+        Assert.assertEquals(cache.getColumns("db\0t\0*"), columns, "Clock overflow should not expire columns");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1L));
+        Assert.assertNull(cache.getColumns("db\0t\0*"), "Table columns should have expired");
+    }
+}
@@ -1,6 +1,7 @@
 package com.clickhouse.r2dbc;
 
 import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
 import com.clickhouse.data.ClickHouseFormat;
 import io.r2dbc.spi.Batch;
 import io.r2dbc.spi.Result;
@@ -8,6 +9,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,9 +32,35 @@ public class ClickHouseBatch implements Batch {
 
     @Override
     public Publisher<? extends Result> execute() {
-        return Flux.fromStream(sqlList.stream().map(sql -> {
-            request.query(sql).format(PREFERRED_FORMAT);
-            return Mono.fromFuture(request::execute); }))
+        List<Mono<ClickHouseResponse>> monoList = new ArrayList<>(sqlList.size());
+        for (int i = 0, len = sqlList.size(); i < len; i++) {
+            String sql = sqlList.get(i);
+            ClickHouseInsertValues insertValues = ClickHouseInsertValues.of(sql);
+            List<String> rows = new ArrayList<>();
+            if (insertValues != null) {
+                // merge consecutive inserts into the same table and columns into one request
+                rows.add(insertValues.getValues());
+                while (i + 1 < len) {
+                    ClickHouseInsertValues next = ClickHouseInsertValues.of(sqlList.get(i + 1));
+                    if (next == null || !next.getInsert().equals(insertValues.getInsert())) {
+                        break;
+                    }
+                    rows.add(next.getValues());
+                    i++;
+                }
+            }
+
+            if (rows.size() > 1) {
+                monoList.add(insertValues.execute(request, output -> {
+                    for (String row : rows) {
+                        output.writeBytes(row.getBytes(StandardCharsets.UTF_8));
+                    }
+                }));
+            } else {
+                monoList.add(Mono.fromFuture(() -> request.query(sql).format(PREFERRED_FORMAT).execute()));
+            }
+        }
+        return Flux.fromIterable(monoList)
                 .flatMap(Mono::flux)
                 .map(ClickHouseResult::new);
     }
@@ -0,0 +1,172 @@
+package com.clickhouse.r2dbc;
+
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.data.ClickHouseFormat;
+import com.clickhouse.data.ClickHouseUtils;
+import com.clickhouse.data.ClickHouseWriter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Insert statement in the form of {@code INSERT INTO ... VALUES (...)}, which
+ * is split into the insert part and the row part, so that many rows can be
+ * streamed to server in one request using {@link ClickHouseFormat#Values}
+ * format.
+ */
+final class ClickHouseInsertValues {
+    private static final String KEYWORD_INSERT = "insert";
+    private static final String KEYWORD_INTO = "into";
+    private static final String KEYWORD_VALUES = "values";
+
+    private static boolean isIdentifierChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '$';
+    }
+
+    private static int skipWhitespaces(String str, int index, int len) {
+        while (index < len && Character.isWhitespace(str.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Skips the given case-insensitive keyword.
+     *
+     * @return index next to the keyword, or -1 if there's no such keyword at the
+     *         given index
+     */
+    private static int skipKeyword(String str, int index, int len, String keyword) {
+        int end = index + keyword.length();
+        if (end > len || !str.regionMatches(true, index, keyword, 0, keyword.length())
+                || (end < len && isIdentifierChar(str.charAt(end)))) {
+            return -1;
+        }
+        return end;
+    }
+
+    /**
+     * Skips quoted or unquoted identifier.
+     *
+     * @return index next to the identifier, or -1 if there's no identifier at the
+     *         given index
+     */
+    private static int skipIdentifier(String str, int index, int len) {
+        if (index >= len) {
+            return -1;
+        }
+
+        char ch = str.charAt(index);
+        if (ch == '`' || ch == '"') {
+            return ClickHouseUtils.skipQuotedString(str, index, len, ch);
+        } else if (!isIdentifierChar(ch) || Character.isDigit(ch)) {
+            return -1;
+        }
+
+        while (++index < len && isIdentifierChar(str.charAt(index))) {
+            // skip identifier
+        }
+        return index;
+    }
+
+    /**
+     * Splits the given SQL. Only {@code INSERT INTO [db.]table [(columns)] VALUES
+     * (row)} is supported, so that the row can be bound and streamed along with
+     * other rows. Anything else, for example {@code FORMAT}, {@code SELECT} or
+     * {@code SETTINGS} clause, comments and more than one row, is left to the
+     * server.
+     *
+     * @param sql SQL statement
+     * @return split insert statement, or null if the SQL is not an insert
+     *         statement with exactly one row after {@code VALUES}
+     */
+    static ClickHouseInsertValues of(String sql) {
+        if (sql == null) {
+            return null;
+        }
+
+        String str = sql.trim();
+        int len = str.length();
+        while (len > 0 && str.charAt(len - 1) == ';') {
+            len--;
+        }
+
+        int index = skipKeyword(str, 0, len, KEYWORD_INSERT);
+        if (index < 0 || (index = skipKeyword(str, skipWhitespaces(str, index, len), len, KEYWORD_INTO)) < 0) {
+            return null;
+        }
+
+        int end;
+        try {
+            // [db.]table
+            index = skipIdentifier(str, skipWhitespaces(str, index, len), len);
+            if (index > 0 && index < len && str.charAt(index) == '.') {
+                index = skipIdentifier(str, index + 1, len);
+            }
+            if (index < 0) {
+                return null;
+            }
+
+            // optional column list
+            end = skipWhitespaces(str, index, len);
+            if (end < len && str.charAt(end) == '(') {
+                index = ClickHouseUtils.skipBrackets(str, end, len, '(');
+                end = skipWhitespaces(str, index, len);
+            }
+            String insert = str.substring(0, index);
+
+            // VALUES must come right after table and columns
+            if ((end = skipKeyword(str, end, len, KEYWORD_VALUES)) < 0
+                    || (end = skipWhitespaces(str, end, len)) >= len || str.charAt(end) != '(') {
+                return null;
+            }
+            index = end;
+            end = ClickHouseUtils.skipBrackets(str, index, len, '(');
+            if (skipWhitespaces(str, end, len) < len) {
+                // more than one row, or something else
+                return null;
+            }
+            return new ClickHouseInsertValues(insert, str.substring(index, end));
+        } catch (IllegalArgumentException e) {
+            // unbalanced quotes or brackets
+            return null;
+        }
+    }
+
+    private final String insert;
+    private final String values;
+
+    private ClickHouseInsertValues(String insert, String values) {
+        this.insert = insert;
+        this.values = values;
+    }
+
+    /**
+     * Gets the insert part, for example {@code INSERT INTO t(a, b)}.
+     *
+     * @return non-null insert part
+     */
+    String getInsert() {
+        return insert;
+    }
+
+    /**
+     * Gets the row part, for example {@code (?, 'x')}.
+     *
+     * @return non-null row part in brackets
+     */
+    String getValues() {
+        return values;
+    }
+
+    /**
+     * Sends rows written by the given writer to server in one request.
+     *
+     * @param request request to copy options and settings from
+     * @param writer  writer of rows in {@link ClickHouseFormat#Values} format
+     * @return response of the request
+     */
+    Mono<ClickHouseResponse> execute(ClickHouseRequest<?> request, ClickHouseWriter writer) {
+        return Mono.fromFuture(() -> request.write().query(insert).format(ClickHouseFormat.Values).data(writer)
+                .execute());
+    }
+}
@@ -14,7 +14,6 @@ import reactor.core.publisher.Mono;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.StreamSupport;
 
 public class ClickHouseResult implements Result {
 
@@ -23,11 +22,7 @@ public class ClickHouseResult implements Result {
     private final Flux<? extends Result.Segment> segments;
 
     ClickHouseResult(ClickHouseResponse response) {
-        Flux<? extends RowSegment> rowSegments = Mono.just(response)
-                .flatMapMany(resp -> Flux
-                        .fromStream(StreamSupport.stream(resp.records().spliterator(), false)
-                                .map(rec -> ClickHousePair.of(resp.getColumns(), rec))))
-                    .map(pair -> new ClickHouseRow(pair.getRight(), pair.getLeft()))
+        Flux<? extends RowSegment> rowSegments = ClickHouseRows.of(response)
                 .map(RowSegment::new);
         Mono<? extends UpdateCount> updatedCount =  Mono.just(response).map(ClickHouseResponse::getSummary)
                 .map(ClickHouseResponseSummary::getProgress)
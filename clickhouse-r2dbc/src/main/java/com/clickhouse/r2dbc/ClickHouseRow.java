@@ -5,11 +5,8 @@ import com.clickhouse.data.ClickHouseRecord;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class ClickHouseRow implements Row {
 
@@ -17,14 +14,12 @@ public class ClickHouseRow implements Row {
     final ClickHouseRowMetadata rowMetadata;
 
     ClickHouseRow(ClickHouseRecord record, List<ClickHouseColumn> columnList) {
+        this(record, ClickHouseRows.getRowMetadata(columnList));
+    }
+
+    ClickHouseRow(ClickHouseRecord record, ClickHouseRowMetadata rowMetadata) {
         this.record = record;
-        this.rowMetadata = new ClickHouseRowMetadata(columnList.stream()
-                .map(ClickHouseColumnMetadata::new)
-                .collect(Collectors
-                        .toMap(ClickHouseColumnMetadata::getName,
-                                Function.identity(),
-                                (v1,v2) -> v2, // since every key will be unique, won't need to merge so just overwrite with the latest one.
-                                LinkedHashMap::new)));
+        this.rowMetadata = rowMetadata;
     }
 
     @Override
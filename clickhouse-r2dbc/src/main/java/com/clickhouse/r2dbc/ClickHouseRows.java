@@ -0,0 +1,76 @@
+package com.clickhouse.r2dbc;
+
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Emits rows of a response on demand. Records are read from a blocking input
+ * stream, so reading happens on a dedicated scheduler instead of the thread
+ * subscribing or requesting more rows, which is usually an event loop.
+ */
+final class ClickHouseRows {
+    /**
+     * Maximum number of rows requested from the response at a time.
+     */
+    static final int PREFETCH = 256;
+
+    private static final Scheduler scheduler = Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "clickhouse-r2dbc", 60, true);
+
+    static ClickHouseRowMetadata getRowMetadata(List<ClickHouseColumn> columns) {
+        return new ClickHouseRowMetadata(columns.stream()
+                .map(ClickHouseColumnMetadata::new)
+                .collect(Collectors
+                        .toMap(ClickHouseColumnMetadata::getName,
+                                Function.identity(),
+                                (v1, v2) -> v2, // since every key will be unique, won't need to merge so just overwrite with the latest one.
+                                LinkedHashMap::new)));
+    }
+
+    /**
+     * Creates a flux of rows. One row is read from the response per requested
+     * one, and the response is closed when the flux completes, fails or is
+     * cancelled. Each record is copied, because rows may be queued ahead of
+     * the subscriber while the response reuses the same record and value
+     * wrappers for reading next row.
+     *
+     * @param response non-null response
+     * @return non-null flux of rows
+     */
+    static Flux<ClickHouseRow> of(ClickHouseResponse response) {
+        return Flux.<ClickHouseRow, RowIterator>generate(() -> new RowIterator(response), (it, sink) -> {
+            if (it.records.hasNext()) {
+                sink.next(new ClickHouseRow(it.records.next().copy(), it.metadata));
+            } else {
+                sink.complete();
+            }
+            return it;
+        }, it -> response.close())
+                .subscribeOn(scheduler)
+                .limitRate(PREFETCH);
+    }
+
+    static final class RowIterator {
+        final Iterator<ClickHouseRecord> records;
+        final ClickHouseRowMetadata metadata;
+
+        RowIterator(ClickHouseResponse response) {
+            this.records = response.records().iterator();
+            this.metadata = getRowMetadata(response.getColumns());
+        }
+    }
+
+    private ClickHouseRows() {
+    }
+}
@@ -1,5 +1,6 @@
 package com.clickhouse.r2dbc;
 
+import com.clickhouse.client.ClickHouseParameterizedQuery;
 import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseResponse;
 import com.clickhouse.client.config.ClickHouseClientOption;
@@ -14,6 +15,7 @@ import io.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +39,8 @@ public class ClickHouseStatement implements Statement {
     public static final String SQL_DOESN_T_HAVE_BINDING_PARAMETER_NAMES = "Sql doesn't have binding parameter names.";
 
     private final ClickHouseRequest<?> request;
+    private final ClickHouseInsertValues insertValues;
+    private final ClickHouseParameterizedQuery rowQuery;
     private final List<String> namedParameters;
     private final ClickHouseStatementBinding bindings;
     private int fetchSize;
@@ -44,6 +48,13 @@ public class ClickHouseStatement implements Statement {
     public ClickHouseStatement(String sql, ClickHouseRequest<?> request) {
         this.request = request.query(sql);
         namedParameters = request.getPreparedQuery().getParameters();
+        insertValues = ClickHouseInsertValues.of(sql);
+        ClickHouseParameterizedQuery query = insertValues != null
+                ? ClickHouseParameterizedQuery.of(request.getConfig(), insertValues.getValues())
+                : null;
+        // parameters must all be in the row part, so that they can be applied row by row
+        rowQuery = query != null && query.hasParameter() && query.getParameters().equals(namedParameters) ? query
+                : null;
         bindings = new ClickHouseStatementBinding(namedParameters.size());
     }
 
@@ -138,14 +149,19 @@ public class ClickHouseStatement implements Statement {
         if (boundList.isEmpty()) {
             return Flux.from(Mono.fromFuture(request::execute)
                     .map(ClickHouseResult::new));
+        } else if (boundList.size() > 1 && rowQuery != null) {
+            // all rows in one request, instead of one request per row
+            return Flux.from(insertValues.execute(request, output -> {
+                StringBuilder builder = new StringBuilder();
+                for (ClickHouseStatementBinding.Binding binding : boundList) {
+                    rowQuery.apply(builder, nullSafeValues(binding));
+                    output.writeBytes(builder.toString().getBytes(StandardCharsets.UTF_8));
+                    builder.setLength(0);
+                }
+            }).map(ClickHouseResult::new));
         } else {
             Stream<Mono<ClickHouseResponse>> monoStream = boundList.stream().map(binding -> {
-                for (int i = 0; i < binding.values.length; i++ ) {
-                    if (binding.values[i] == EXPLICITLY_SET_NULL_VALUE) {
-                        binding.values[i] = null;
-                    }
-                }
-                request.params(binding.values);
+                request.params(nullSafeValues(binding));
                 return Mono.fromFuture(request::execute);
             });
             return Flux.fromStream(monoStream)
@@ -154,6 +170,15 @@ public class ClickHouseStatement implements Statement {
         }
     }
 
+    private static Object[] nullSafeValues(ClickHouseStatementBinding.Binding binding) {
+        for (int i = 0; i < binding.values.length; i++ ) {
+            if (binding.values[i] == EXPLICITLY_SET_NULL_VALUE) {
+                binding.values[i] = null;
+            }
+        }
+        return binding.values;
+    }
+
     @Override
     public Statement returnGeneratedValues(String... columns) {
         throw new UnsupportedOperationException(GENERATED_VALUES_CAN_NOT_BE_RETURNED_FROM_CLICKHOUSE_DATABASE);
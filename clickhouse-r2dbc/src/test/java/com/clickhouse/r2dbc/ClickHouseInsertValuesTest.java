@@ -0,0 +1,126 @@
+package com.clickhouse.r2dbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.clickhouse.client.ClickHouseConfig;
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.client.ClickHouseTestClient;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.ClickHouseWriter;
+
+import reactor.core.publisher.Flux;
+
+public class ClickHouseInsertValuesTest {
+    static final class RecordingClient extends ClickHouseTestClient {
+        final List<String> queries = new ArrayList<>();
+        final List<String> data = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<ClickHouseResponse> execute(ClickHouseRequest<?> request) {
+            queries.add(request.getStatements(false).get(0));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            if (request.getWriter().isPresent()) {
+                try (ClickHouseOutputStream out = ClickHouseOutputStream.of(bytes)) {
+                    ClickHouseWriter writer = request.getWriter().get();
+                    writer.write(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            data.add(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+            return CompletableFuture.completedFuture(new ClickHouseRowsTest.TestResponse(0, -1));
+        }
+    }
+
+    private static void assertInsertValues(String sql, String insert, String values) {
+        ClickHouseInsertValues v = ClickHouseInsertValues.of(sql);
+        Assertions.assertNotNull(v, sql);
+        Assertions.assertEquals(insert, v.getInsert());
+        Assertions.assertEquals(values, v.getValues());
+    }
+
+    @Test
+    public void testSingleRow() {
+        assertInsertValues("insert into t values(1)", "insert into t", "(1)");
+        assertInsertValues(" INSERT  INTO db.t VALUES (?, 'x') ", "INSERT  INTO db.t", "(?, 'x')");
+        assertInsertValues("Insert Into `my db`.\"t 1\"(a, `b c`)Values(:a, :b)", "Insert Into `my db`.\"t 1\"(a, `b c`)",
+                "(:a, :b)");
+        assertInsertValues("insert into t(a, b)\nvalues\n(1, (2, 3), [4])", "insert into t(a, b)",
+                "(1, (2, 3), [4])");
+    }
+
+    @Test
+    public void testTrailingSemicolon() {
+        assertInsertValues("insert into t values (1);", "insert into t", "(1)");
+        assertInsertValues("insert into t values (1) ;; ", "insert into t", "(1)");
+        assertInsertValues("insert into t values (';')", "insert into t", "(';')");
+    }
+
+    @Test
+    public void testKeywordInIdentifierOrString() {
+        assertInsertValues("insert into values_t (values) values ('values')", "insert into values_t (values)",
+                "('values')");
+        assertInsertValues("insert into `select` values ('select 1')", "insert into `select`", "('select 1')");
+        assertInsertValues("insert into t(`a) values (1`) values ('x) values (2')", "insert into t(`a) values (1`)",
+                "('x) values (2')");
+    }
+
+    @Test
+    public void testUnsupported() {
+        for (String sql : new String[] {
+                null, "", ";", "select 1", "insert", "insert into", "insert into t", "insert into t values",
+                "insert into t values 1", "insert into t values (1", "insert into t values ('1)",
+                "inserted into t values (1)", "insert into table t values (1)",
+                "insert into t format Values (1)", "INSERT INTO t FORMAT Values(1)",
+                "insert into t select * from s where a in (values (1))",
+                "insert into t select 'values (1)'",
+                "insert into t(a) select 1 from system.one where 'x' = 'values'",
+                "insert into t settings async_insert=1 values (1)",
+                "insert into t values (1), (2)", "insert into t values (1) (2)",
+                "insert into t values (1) -- comment", "insert /* c */ into t values (1)",
+                "insert into t values (1); select 1", }) {
+            Assertions.assertNull(ClickHouseInsertValues.of(sql), String.valueOf(sql));
+        }
+    }
+
+    @Test
+    public void testBatchMerge() {
+        RecordingClient client = new RecordingClient();
+        client.init(new ClickHouseConfig());
+        ClickHouseRequest<?> request = client.read(ClickHouseNode.of("http://localhost"));
+        ClickHouseBatch batch = new ClickHouseBatch(request);
+        batch.add("insert into t values (1, 'a')")
+                .add("insert into t values (2, 'b');")
+                .add("insert into t(a) values (3)")
+                .add("insert into t(a) values (4)")
+                .add("insert into t values (5), (6)")
+                .add("insert into t values (7, 'c')")
+                .add("select 1")
+                .add("insert into t values (8, 'd')")
+                .add("insert into t values (9, 'e')");
+        Assertions.assertEquals(6, Flux.from(batch.execute()).collectList().block(Duration.ofSeconds(10)).size());
+
+        Assertions.assertEquals(6, client.queries.size());
+        Assertions.assertTrue(client.queries.get(0).startsWith("insert into t"), client.queries.get(0));
+        Assertions.assertEquals("(1, 'a')(2, 'b')", client.data.get(0));
+        Assertions.assertTrue(client.queries.get(1).startsWith("insert into t(a)"), client.queries.get(1));
+        Assertions.assertEquals("(3)(4)", client.data.get(1));
+        // multiple rows are not split, and single insert is sent as is
+        Assertions.assertEquals("insert into t values (5), (6)", client.queries.get(2));
+        Assertions.assertEquals("insert into t values (7, 'c')", client.queries.get(3));
+        Assertions.assertEquals("select 1", client.queries.get(4));
+        Assertions.assertEquals("(8, 'd')(9, 'e')", client.data.get(5));
+    }
+}
@@ -0,0 +1,176 @@
+package com.clickhouse.r2dbc;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.client.ClickHouseResponseSummary;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseRecord;
+import com.clickhouse.data.ClickHouseSimpleRecord;
+import com.clickhouse.data.ClickHouseValue;
+import com.clickhouse.data.value.ClickHouseIntegerValue;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+public class ClickHouseRowsTest {
+    static final class TestResponse implements ClickHouseResponse {
+        private static final long serialVersionUID = -2476326512512359232L;
+
+        final List<ClickHouseColumn> columns = Collections.singletonList(ClickHouseColumn.of("n", "Int32"));
+        final int rows;
+        final int failAt;
+        final ClickHouseRecord reusedRecord;
+        final AtomicInteger read = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        TestResponse(int rows, int failAt) {
+            this(rows, failAt, false);
+        }
+
+        TestResponse(int rows, int failAt, boolean reuseRecord) {
+            this.rows = rows;
+            this.failAt = failAt;
+            // like ClickHouseDataProcessor with reuse_value_wrapper enabled
+            this.reusedRecord = reuseRecord
+                    ? ClickHouseSimpleRecord.of(columns, new ClickHouseValue[] { ClickHouseIntegerValue.ofNull() })
+                    : null;
+        }
+
+        @Override
+        public List<ClickHouseColumn> getColumns() {
+            return columns;
+        }
+
+        @Override
+        public ClickHouseResponseSummary getSummary() {
+            return ClickHouseResponseSummary.EMPTY;
+        }
+
+        @Override
+        public ClickHouseInputStream getInputStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<ClickHouseRecord> records() {
+            return () -> new Iterator<ClickHouseRecord>() {
+                @Override
+                public boolean hasNext() {
+                    return read.get() < rows;
+                }
+
+                @Override
+                public ClickHouseRecord next() {
+                    threads.add(Thread.currentThread());
+                    int i = read.getAndIncrement();
+                    if (i >= rows) {
+                        throw new NoSuchElementException();
+                    } else if (i == failAt) {
+                        throw new IllegalStateException("Failed to read row " + i);
+                    }
+                    if (reusedRecord != null) {
+                        reusedRecord.getValue(0).update(i);
+                        return reusedRecord;
+                    }
+                    return ClickHouseSimpleRecord.of(columns, new ClickHouseValue[] { ClickHouseIntegerValue.of(i) });
+                }
+            };
+        }
+
+        @Override
+        public <T> Iterable<T> records(Class<T> objClass) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.getCount() == 0L;
+        }
+    }
+
+    @Test
+    public void testReadOffSubscribingThread() throws InterruptedException {
+        TestResponse response = new TestResponse(10, -1);
+        List<Integer> list = ClickHouseRows.of(response).map(row -> row.get(0, Integer.class)).collectList()
+                .block(Duration.ofSeconds(10));
+        Assertions.assertEquals(10, list.size());
+        Assertions.assertEquals(Integer.valueOf(9), list.get(9));
+        Assertions.assertFalse(response.threads.isEmpty());
+        for (Thread t : response.threads) {
+            Assertions.assertNotSame(Thread.currentThread(), t);
+            Assertions.assertTrue(t.getName().startsWith("clickhouse-r2dbc"), t.getName());
+        }
+        Assertions.assertTrue(response.closed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReusedRecord() {
+        TestResponse response = new TestResponse(10, -1, true);
+        // rows are queued before values are read, so each row must hold its own copy
+        List<ClickHouseRow> rows = ClickHouseRows.of(response).collectList().block(Duration.ofSeconds(10));
+        Assertions.assertEquals(10, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(Integer.valueOf(i), rows.get(i).get(0, Integer.class));
+        }
+    }
+
+    @Test
+    public void testBoundedDemand() throws InterruptedException {
+        TestResponse response = new TestResponse(Integer.MAX_VALUE, -1);
+        Flux<ClickHouseRow> rows = ClickHouseRows.of(response);
+        StepVerifier.create(rows, 0L)
+                .expectSubscription()
+                .thenRequest(1L)
+                .expectNextCount(1L)
+                .thenAwait(Duration.ofMillis(100L))
+                .then(() -> Assertions.assertTrue(response.read.get() <= ClickHouseRows.PREFETCH,
+                        "Should not read more than prefetched rows, but got " + response.read.get()))
+                .thenRequest(ClickHouseRows.PREFETCH * 2L)
+                .expectNextCount(ClickHouseRows.PREFETCH * 2L)
+                .then(() -> Assertions.assertTrue(response.read.get() <= ClickHouseRows.PREFETCH * 4,
+                        "Should not read more than requested rows, but got " + response.read.get()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+        // response is closed on cancel
+        Assertions.assertTrue(response.closed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCloseOnCancel() throws InterruptedException {
+        TestResponse response = new TestResponse(1000, -1);
+        Assertions.assertEquals(5, ClickHouseRows.of(response).take(5).collectList().block(Duration.ofSeconds(10))
+                .size());
+        Assertions.assertTrue(response.closed.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(response.read.get() < 1000);
+    }
+
+    @Test
+    public void testCloseOnError() throws InterruptedException {
+        TestResponse response = new TestResponse(10, 3);
+        StepVerifier.create(ClickHouseRows.of(response))
+                .expectNextCount(3L)
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(10));
+        Assertions.assertTrue(response.closed.await(10, TimeUnit.SECONDS));
+    }
+}
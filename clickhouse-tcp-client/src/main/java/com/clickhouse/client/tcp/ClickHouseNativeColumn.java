@@ -0,0 +1,444 @@
+package com.clickhouse.client.tcp;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.clickhouse.data.ClickHouseByteBuffer;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseDataType;
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.format.BinaryStreamUtils;
+
+/**
+ * Values of a column in a native block. Native format stores a block column by
+ * column, while RowBinary, which is used by the rest of the client, stores it
+ * row by row, so values are kept here to convert one to another. Fixed-length
+ * values share the same layout in both formats, variable-length ones differ in
+ * how sizes and null flags are arranged.
+ */
+abstract class ClickHouseNativeColumn {
+    static final class FixedColumn extends ClickHouseNativeColumn {
+        private final int width;
+
+        private byte[] data;
+
+        FixedColumn(int width) {
+            this.width = width;
+            this.data = ClickHouseByteBuffer.EMPTY_BYTES;
+        }
+
+        private byte[] ensureCapacity(int rows) {
+            int required = (count + rows) * width;
+            if (data.length < required) {
+                data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+            }
+            return data;
+        }
+
+        @Override
+        void readNative(ClickHouseInputStream input, int rows) throws IOException {
+            int len = rows * width;
+            ClickHouseByteBuffer buf = input.readBuffer(len);
+            System.arraycopy(buf.array(), buf.position(), ensureCapacity(rows), count * width, len);
+            count += rows;
+        }
+
+        @Override
+        void writeNative(ClickHouseOutputStream output) throws IOException {
+            output.writeBytes(data, 0, count * width);
+        }
+
+        @Override
+        void readRowBinary(ClickHouseInputStream input) throws IOException {
+            ClickHouseByteBuffer buf = input.readBuffer(width);
+            System.arraycopy(buf.array(), buf.position(), ensureCapacity(1), count * width, width);
+            count++;
+        }
+
+        @Override
+        void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException {
+            output.writeBytes(data, row * width, width);
+        }
+
+        @Override
+        void appendDefault() {
+            Arrays.fill(ensureCapacity(1), count * width, (count + 1) * width, (byte) 0);
+            count++;
+        }
+    }
+
+    static final class StringColumn extends ClickHouseNativeColumn {
+        private byte[] data;
+        private int[] offsets;
+
+        StringColumn() {
+            this.data = ClickHouseByteBuffer.EMPTY_BYTES;
+            this.offsets = new int[0];
+        }
+
+        private int end(int row) {
+            return row > 0 ? offsets[row - 1] : 0;
+        }
+
+        private void append(ClickHouseInputStream input) throws IOException {
+            int len = input.readVarInt();
+            int start = end(count);
+            if (offsets.length <= count) {
+                offsets = Arrays.copyOf(offsets, Math.max(16, offsets.length * 2));
+            }
+            if (data.length < start + len) {
+                data = Arrays.copyOf(data, Math.max(start + len, data.length * 2));
+            }
+            ClickHouseByteBuffer buf = input.readBuffer(len);
+            System.arraycopy(buf.array(), buf.position(), data, start, len);
+            offsets[count++] = start + len;
+        }
+
+        @Override
+        void readNative(ClickHouseInputStream input, int rows) throws IOException {
+            for (int i = 0; i < rows; i++) {
+                append(input);
+            }
+        }
+
+        @Override
+        void writeNative(ClickHouseOutputStream output) throws IOException {
+            for (int i = 0; i < count; i++) {
+                writeRowBinary(output, i);
+            }
+        }
+
+        @Override
+        void readRowBinary(ClickHouseInputStream input) throws IOException {
+            append(input);
+        }
+
+        @Override
+        void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException {
+            int start = end(row);
+            int len = offsets[row] - start;
+            output.writeVarInt(len).writeBytes(data, start, len);
+        }
+
+        @Override
+        void appendDefault() {
+            if (offsets.length <= count) {
+                offsets = Arrays.copyOf(offsets, Math.max(16, offsets.length * 2));
+            }
+            offsets[count] = end(count);
+            count++;
+        }
+    }
+
+    static final class NullableColumn extends ClickHouseNativeColumn {
+        private final ClickHouseNativeColumn nested;
+
+        private byte[] nulls;
+
+        NullableColumn(ClickHouseNativeColumn nested) {
+            this.nested = nested;
+            this.nulls = ClickHouseByteBuffer.EMPTY_BYTES;
+        }
+
+        private byte[] ensureCapacity(int rows) {
+            int required = count + rows;
+            if (nulls.length < required) {
+                nulls = Arrays.copyOf(nulls, Math.max(required, nulls.length * 2));
+            }
+            return nulls;
+        }
+
+        @Override
+        void readNative(ClickHouseInputStream input, int rows) throws IOException {
+            ClickHouseByteBuffer buf = input.readBuffer(rows);
+            System.arraycopy(buf.array(), buf.position(), ensureCapacity(rows), count, rows);
+            nested.readNative(input, rows);
+            count += rows;
+        }
+
+        @Override
+        void writeNative(ClickHouseOutputStream output) throws IOException {
+            output.writeBytes(nulls, 0, count);
+            nested.writeNative(output);
+        }
+
+        @Override
+        void readRowBinary(ClickHouseInputStream input) throws IOException {
+            byte b = input.readByte();
+            ensureCapacity(1)[count++] = b;
+            if (b != 0) {
+                nested.appendDefault();
+            } else {
+                nested.readRowBinary(input);
+            }
+        }
+
+        @Override
+        void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException {
+            if (nulls[row] != 0) {
+                output.writeByte((byte) 1);
+            } else {
+                output.writeByte((byte) 0);
+                nested.writeRowBinary(output, row);
+            }
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity(1)[count++] = 1;
+            nested.appendDefault();
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            nested.clear();
+        }
+    }
+
+    static final class ArrayColumn extends ClickHouseNativeColumn {
+        private final ClickHouseNativeColumn nested;
+
+        private long[] offsets;
+
+        ArrayColumn(ClickHouseNativeColumn nested) {
+            this.nested = nested;
+            this.offsets = new long[0];
+        }
+
+        private long end(int row) {
+            return row > 0 ? offsets[row - 1] : 0L;
+        }
+
+        private void append(long size) {
+            if (offsets.length <= count) {
+                offsets = Arrays.copyOf(offsets, Math.max(16, offsets.length * 2));
+            }
+            offsets[count] = end(count) + size;
+            count++;
+        }
+
+        @Override
+        void readNative(ClickHouseInputStream input, int rows) throws IOException {
+            long base = end(count);
+            long previous = 0L;
+            for (int i = 0; i < rows; i++) {
+                long offset = BinaryStreamUtils.readInt64(input);
+                append(offset - previous);
+                previous = offset;
+            }
+            nested.readNative(input, (int) (end(count) - base));
+        }
+
+        @Override
+        void writeNative(ClickHouseOutputStream output) throws IOException {
+            for (int i = 0; i < count; i++) {
+                BinaryStreamUtils.writeInt64(output, offsets[i]);
+            }
+            nested.writeNative(output);
+        }
+
+        @Override
+        void readRowBinary(ClickHouseInputStream input) throws IOException {
+            int size = input.readVarInt();
+            for (int i = 0; i < size; i++) {
+                nested.readRowBinary(input);
+            }
+            append(size);
+        }
+
+        @Override
+        void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException {
+            int start = (int) end(row);
+            int end = (int) offsets[row];
+            output.writeVarInt(end - start);
+            for (int i = start; i < end; i++) {
+                nested.writeRowBinary(output, i);
+            }
+        }
+
+        @Override
+        void appendDefault() {
+            append(0L);
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            nested.clear();
+        }
+    }
+
+    static final class TupleColumn extends ClickHouseNativeColumn {
+        private final ClickHouseNativeColumn[] nested;
+
+        TupleColumn(ClickHouseNativeColumn... nested) {
+            this.nested = nested;
+        }
+
+        @Override
+        void readNative(ClickHouseInputStream input, int rows) throws IOException {
+            for (ClickHouseNativeColumn c : nested) {
+                c.readNative(input, rows);
+            }
+            count += rows;
+        }
+
+        @Override
+        void writeNative(ClickHouseOutputStream output) throws IOException {
+            for (ClickHouseNativeColumn c : nested) {
+                c.writeNative(output);
+            }
+        }
+
+        @Override
+        void readRowBinary(ClickHouseInputStream input) throws IOException {
+            for (ClickHouseNativeColumn c : nested) {
+                c.readRowBinary(input);
+            }
+            count++;
+        }
+
+        @Override
+        void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException {
+            for (ClickHouseNativeColumn c : nested) {
+                c.writeRowBinary(output, row);
+            }
+        }
+
+        @Override
+        void appendDefault() {
+            for (ClickHouseNativeColumn c : nested) {
+                c.appendDefault();
+            }
+            count++;
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            for (ClickHouseNativeColumn c : nested) {
+                c.clear();
+            }
+        }
+    }
+
+    static final int POINT_LENGTH = 16;
+
+    /**
+     * Creates column values holder for the given column. LowCardinality is
+     * treated as the underlying type, because the client always asks server to
+     * convert it to full column.
+     *
+     * @param column non-null column
+     * @return non-null column values holder
+     * @throws IllegalArgumentException when the data type is not supported
+     */
+    static ClickHouseNativeColumn of(ClickHouseColumn column) {
+        ClickHouseNativeColumn c = ofType(column);
+        return column.isNullable() ? new NullableColumn(c) : c;
+    }
+
+    static ClickHouseNativeColumn ofType(ClickHouseColumn column) {
+        final ClickHouseDataType type = column.getDataType();
+        final List<ClickHouseColumn> nested = column.getNestedColumns();
+        switch (type) {
+            case String:
+                return new StringColumn();
+            case FixedString:
+                return new FixedColumn(column.getPrecision());
+            case DateTime:
+                return new FixedColumn(ClickHouseDataType.DateTime32.getByteLength());
+            case Decimal:
+                int precision = column.getPrecision();
+                if (precision <= ClickHouseDataType.Decimal32.getMaxPrecision()) {
+                    return new FixedColumn(ClickHouseDataType.Decimal32.getByteLength());
+                } else if (precision <= ClickHouseDataType.Decimal64.getMaxPrecision()) {
+                    return new FixedColumn(ClickHouseDataType.Decimal64.getByteLength());
+                } else if (precision <= ClickHouseDataType.Decimal128.getMaxPrecision()) {
+                    return new FixedColumn(ClickHouseDataType.Decimal128.getByteLength());
+                }
+                return new FixedColumn(ClickHouseDataType.Decimal256.getByteLength());
+            case Nothing:
+                return new FixedColumn(1);
+            case Point:
+                return new FixedColumn(POINT_LENGTH);
+            case Ring:
+                return new ArrayColumn(new FixedColumn(POINT_LENGTH));
+            case Polygon:
+                return new ArrayColumn(new ArrayColumn(new FixedColumn(POINT_LENGTH)));
+            case MultiPolygon:
+                return new ArrayColumn(new ArrayColumn(new ArrayColumn(new FixedColumn(POINT_LENGTH))));
+            case Array:
+                return new ArrayColumn(of(nested.get(0)));
+            case Map:
+                return new ArrayColumn(new TupleColumn(of(column.getKeyInfo()), of(column.getValueInfo())));
+            case Tuple:
+                ClickHouseNativeColumn[] elements = new ClickHouseNativeColumn[nested.size()];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = of(nested.get(i));
+                }
+                return new TupleColumn(elements);
+            case SimpleAggregateFunction:
+                return of(nested.get(0));
+            default:
+                if (!type.isNested() && type.getByteLength() > 0) {
+                    return new FixedColumn(type.getByteLength());
+                }
+                throw new IllegalArgumentException("Unsupported data type: " + column.getOriginalTypeName());
+        }
+    }
+
+    protected int count;
+
+    /**
+     * Reads values of the given number of rows in native format and appends
+     * them.
+     *
+     * @param input non-null input stream
+     * @param rows  number of rows
+     * @throws IOException when failed to read
+     */
+    abstract void readNative(ClickHouseInputStream input, int rows) throws IOException;
+
+    /**
+     * Writes all values in native format.
+     *
+     * @param output non-null output stream
+     * @throws IOException when failed to write
+     */
+    abstract void writeNative(ClickHouseOutputStream output) throws IOException;
+
+    /**
+     * Reads one value in RowBinary format and appends it.
+     *
+     * @param input non-null input stream
+     * @throws IOException when failed to read
+     */
+    abstract void readRowBinary(ClickHouseInputStream input) throws IOException;
+
+    /**
+     * Writes value of the given row in RowBinary format.
+     *
+     * @param output non-null output stream
+     * @param row    zero-based row index
+     * @throws IOException when failed to write
+     */
+    abstract void writeRowBinary(ClickHouseOutputStream output, int row) throws IOException;
+
+    /**
+     * Appends default value, which is what server expects to see under a null
+     * flag in nullable column.
+     */
+    abstract void appendDefault();
+
+    int size() {
+        return count;
+    }
+
+    void clear() {
+        count = 0;
+    }
+}
@@ -0,0 +1,209 @@
+package com.clickhouse.client.tcp;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+
+import com.clickhouse.data.ClickHouseByteBuffer;
+import com.clickhouse.data.ClickHouseByteUtils;
+import com.clickhouse.data.ClickHouseCityHash;
+import com.clickhouse.data.ClickHouseCompression;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.ClickHouseUtils;
+import com.clickhouse.data.stream.AbstractByteArrayInputStream;
+import com.github.luben.zstd.Zstd;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Compressed frames used by native protocol. Each frame starts with 16 bytes
+ * of CityHash128 checksum, followed by 1 byte of compression method, 4 bytes of
+ * compressed size(including the 9 bytes header) and 4 bytes of uncompressed
+ * size. Only LZ4 and ZSTD are supported, same as the server.
+ */
+final class ClickHouseNativeCompression {
+    static final class Lz4 {
+        static final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+        private Lz4() {
+        }
+    }
+
+    /**
+     * Input stream of decompressed bytes. A frame is read from the underlying
+     * stream only when all bytes of the previous one have been consumed, and
+     * since server always ends a block at the end of a frame, the same stream
+     * can be used for all compressed blocks of a connection.
+     */
+    static final class DecompressedInputStream extends AbstractByteArrayInputStream {
+        private final InputStream input;
+        private final byte[] header;
+
+        private byte[] compressedBlock;
+
+        DecompressedInputStream(InputStream input) {
+            super(null, null, null);
+
+            this.input = input;
+            this.header = new byte[HEADER_LENGTH];
+            this.compressedBlock = ClickHouseByteBuffer.EMPTY_BYTES;
+        }
+
+        private void readFully(byte[] b, int off, int len) throws IOException {
+            int n = 0;
+            while (n < len) {
+                int count = input.read(b, off + n, len - n);
+                if (count < 0) {
+                    throw new EOFException(ClickHouseUtils.format(ERROR_INCOMPLETE_READ, n, len));
+                }
+                n += count;
+            }
+        }
+
+        @Override
+        protected boolean reusableBuffer() {
+            return true;
+        }
+
+        @Override
+        protected int updateBuffer() throws IOException {
+            position = 0;
+
+            readFully(header, 0, HEADER_LENGTH);
+            final byte method = header[CHECKSUM_LENGTH];
+            final int compressedSize = ClickHouseByteUtils.getInt32(header, CHECKSUM_LENGTH + 1);
+            final int uncompressedSize = ClickHouseByteUtils.getInt32(header, CHECKSUM_LENGTH + 5);
+            if (compressedSize < FRAME_HEADER_LENGTH || uncompressedSize < 0) {
+                throw new InvalidObjectException(ClickHouseUtils.format(
+                        "Invalid frame size: compressed=%d, uncompressed=%d", compressedSize, uncompressedSize));
+            }
+
+            final byte[] block = compressedBlock.length >= compressedSize ? compressedBlock
+                    : (compressedBlock = new byte[compressedSize]);
+            System.arraycopy(header, CHECKSUM_LENGTH, block, 0, FRAME_HEADER_LENGTH);
+            readFully(block, FRAME_HEADER_LENGTH, compressedSize - FRAME_HEADER_LENGTH);
+
+            long[] real = ClickHouseCityHash.cityHash128(block, 0, compressedSize);
+            if (real[0] != ClickHouseByteUtils.getInt64(header, 0)
+                    || real[1] != ClickHouseByteUtils.getInt64(header, 8)) {
+                throw new InvalidObjectException("Checksum doesn't match: corrupted data.");
+            }
+
+            final byte[] buf = buffer.length >= uncompressedSize ? buffer : (buffer = new byte[uncompressedSize]);
+            if (method == METHOD_LZ4) {
+                Lz4.factory.fastDecompressor().decompress(block, FRAME_HEADER_LENGTH, buf, 0, uncompressedSize);
+            } else if (method == METHOD_ZSTD) {
+                long size = Zstd.decompressByteArray(buf, 0, uncompressedSize, block, FRAME_HEADER_LENGTH,
+                        compressedSize - FRAME_HEADER_LENGTH);
+                if (Zstd.isError(size)) {
+                    throw new IOException("Failed to decompress: " + Zstd.getErrorName(size));
+                }
+            } else if (method == METHOD_NONE) {
+                System.arraycopy(block, FRAME_HEADER_LENGTH, buf, 0, uncompressedSize);
+            } else {
+                throw new IOException(ClickHouseUtils.format("Unsupported compression method [0x%02X]", method));
+            }
+            return limit = uncompressedSize;
+        }
+    }
+
+    static final byte METHOD_NONE = (byte) 0x02;
+    static final byte METHOD_LZ4 = (byte) 0x82;
+    static final byte METHOD_ZSTD = (byte) 0x90;
+
+    static final int CHECKSUM_LENGTH = 16;
+    static final int FRAME_HEADER_LENGTH = 9;
+    static final int HEADER_LENGTH = CHECKSUM_LENGTH + FRAME_HEADER_LENGTH;
+
+    /**
+     * Maximum number of uncompressed bytes in a frame, same as
+     * {@code DBMS_DEFAULT_BUFFER_SIZE} on server side.
+     */
+    static final int MAX_FRAME_SIZE = 1048576;
+
+    static final int DEFAULT_ZSTD_LEVEL = 3;
+
+    private final byte method;
+    private final int level;
+
+    private byte[] frame;
+
+    /**
+     * Default constructor.
+     *
+     * @param algorithm compression algorithm, ZSTD will be used as is and all
+     *                  others fall back to LZ4
+     * @param level     compression level, only used by ZSTD
+     * @throws UnsupportedOperationException when ZSTD is requested but zstd-jni
+     *                                       is not available
+     */
+    ClickHouseNativeCompression(ClickHouseCompression algorithm, int level) {
+        if (algorithm == ClickHouseCompression.ZSTD) {
+            try {
+                // zstd-jni is optional, so fail before talking to server
+                Zstd.compressBound(0L);
+            } catch (ExceptionInInitializerError | NoClassDefFoundError e) {
+                throw new UnsupportedOperationException(
+                        "ZSTD compression requires com.github.luben:zstd-jni on classpath", e);
+            }
+            this.method = METHOD_ZSTD;
+            this.level = level > 0 ? level : DEFAULT_ZSTD_LEVEL;
+        } else {
+            this.method = METHOD_LZ4;
+            this.level = 0;
+        }
+        this.frame = ClickHouseByteBuffer.EMPTY_BYTES;
+    }
+
+    byte getMethod() {
+        return method;
+    }
+
+    /**
+     * Compresses the given bytes and writes frames into output stream.
+     *
+     * @param output non-null output stream
+     * @param bytes  non-null bytes to compress
+     * @param offset offset of the bytes
+     * @param length length of the bytes
+     * @throws IOException when failed to compress or write
+     */
+    void write(ClickHouseOutputStream output, byte[] bytes, int offset, int length) throws IOException {
+        final int end = offset + length;
+        while (offset < end) {
+            final int len = Math.min(end - offset, MAX_FRAME_SIZE);
+            int compressed;
+            if (method == METHOD_ZSTD) {
+                final int bound = (int) Zstd.compressBound(len);
+                final byte[] b = ensureFrame(bound);
+                long size = Zstd.compressByteArray(b, HEADER_LENGTH, bound, bytes, offset, len, level);
+                if (Zstd.isError(size)) {
+                    throw new IOException("Failed to compress: " + Zstd.getErrorName(size));
+                }
+                compressed = (int) size;
+            } else {
+                final LZ4Compressor compressor = Lz4.factory.fastCompressor();
+                final byte[] b = ensureFrame(compressor.maxCompressedLength(len));
+                compressed = compressor.compress(bytes, offset, len, b, HEADER_LENGTH);
+            }
+
+            final byte[] b = frame;
+            final int compressedSize = compressed + FRAME_HEADER_LENGTH;
+            b[CHECKSUM_LENGTH] = method;
+            ClickHouseByteUtils.setInt32(b, CHECKSUM_LENGTH + 1, compressedSize);
+            ClickHouseByteUtils.setInt32(b, CHECKSUM_LENGTH + 5, len);
+            long[] hash = ClickHouseCityHash.cityHash128(b, CHECKSUM_LENGTH, compressedSize);
+            ClickHouseByteUtils.setInt64(b, 0, hash[0]);
+            ClickHouseByteUtils.setInt64(b, 8, hash[1]);
+            output.writeBytes(b, 0, CHECKSUM_LENGTH + compressedSize);
+            offset += len;
+        }
+    }
+
+    private byte[] ensureFrame(int maxCompressedLength) {
+        final int size = HEADER_LENGTH + maxCompressedLength;
+        return frame.length >= size ? frame : (frame = new byte[size]);
+    }
+}
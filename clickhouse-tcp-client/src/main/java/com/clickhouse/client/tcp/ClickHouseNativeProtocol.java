@@ -0,0 +1,60 @@
+package com.clickhouse.client.tcp;
+
+/**
+ * Constants of ClickHouse native protocol, see
+ * https://github.com/ClickHouse/ClickHouse/blob/master/src/Core/Protocol.h.
+ */
+final class ClickHouseNativeProtocol {
+    /**
+     * Protocol revision implemented by the client. Server will downgrade to its
+     * own revision when it's older.
+     */
+    static final int REVISION = 54441;
+
+    static final int MIN_REVISION_WITH_CLIENT_INFO = 54032;
+    static final int MIN_REVISION_WITH_SERVER_TIMEZONE = 54058;
+    static final int MIN_REVISION_WITH_QUOTA_KEY_IN_CLIENT_INFO = 54060;
+    static final int MIN_REVISION_WITH_SERVER_DISPLAY_NAME = 54372;
+    static final int MIN_REVISION_WITH_VERSION_PATCH = 54401;
+    static final int MIN_REVISION_WITH_CLIENT_WRITE_INFO = 54420;
+    static final int MIN_REVISION_WITH_SETTINGS_SERIALIZED_AS_STRINGS = 54429;
+    static final int MIN_REVISION_WITH_INTERSERVER_SECRET = 54441;
+
+    // client packets
+    static final int CLIENT_HELLO = 0;
+    static final int CLIENT_QUERY = 1;
+    static final int CLIENT_DATA = 2;
+    static final int CLIENT_CANCEL = 3;
+    static final int CLIENT_PING = 4;
+
+    // server packets
+    static final int SERVER_HELLO = 0;
+    static final int SERVER_DATA = 1;
+    static final int SERVER_EXCEPTION = 2;
+    static final int SERVER_PROGRESS = 3;
+    static final int SERVER_PONG = 4;
+    static final int SERVER_END_OF_STREAM = 5;
+    static final int SERVER_PROFILE_INFO = 6;
+    static final int SERVER_TOTALS = 7;
+    static final int SERVER_EXTREMES = 8;
+    static final int SERVER_TABLES_STATUS_RESPONSE = 9;
+    static final int SERVER_LOG = 10;
+    static final int SERVER_TABLE_COLUMNS = 11;
+
+    static final int QUERY_KIND_INITIAL = 1;
+    static final int INTERFACE_TCP = 1;
+    static final int STAGE_COMPLETE = 2;
+
+    static final int COMPRESSION_DISABLED = 0;
+    static final int COMPRESSION_ENABLED = 1;
+
+    static final int SETTING_FLAG_IMPORTANT = 1;
+
+    /**
+     * Maximum number of rows in a block sent to server.
+     */
+    static final int MAX_BLOCK_ROWS = 65536;
+
+    private ClickHouseNativeProtocol() {
+    }
+}
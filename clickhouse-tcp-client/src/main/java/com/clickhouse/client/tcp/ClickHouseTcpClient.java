@@ -0,0 +1,105 @@
+package com.clickhouse.client.tcp;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import com.clickhouse.client.AbstractClient;
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseProtocol;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.logging.Logger;
+import com.clickhouse.logging.LoggerFactory;
+
+/**
+ * Client using ClickHouse native protocol, which is usually exposed on port
+ * 9000. Data is exchanged in compressed native blocks, while requests and
+ * responses are in RowBinary format on client side.
+ */
+public class ClickHouseTcpClient extends AbstractClient<ClickHouseTcpConnection> {
+    private static final Logger log = LoggerFactory.getLogger(ClickHouseTcpClient.class);
+
+    static final List<ClickHouseProtocol> SUPPORTED = Collections.singletonList(ClickHouseProtocol.TCP);
+
+    @Override
+    protected boolean checkConnection(ClickHouseTcpConnection connection, ClickHouseNode requestServer,
+            ClickHouseNode currentServer, ClickHouseRequest<?> request) {
+        // return false to suggest creating a new connection
+        return connection != null && connection.isReusable() && requestServer.equals(currentServer);
+    }
+
+    @Override
+    protected boolean checkHealth(ClickHouseNode server, int timeout) {
+        ClickHouseTcpConnection conn = null;
+        try {
+            conn = getConnection(read(server));
+            if (!conn.acquire()) {
+                conn = new ClickHouseTcpConnection(getConfig(), server, true);
+                conn.acquire();
+            }
+            return conn.ping(timeout);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to connect to [%s]: %s", server, e.getMessage());
+            return false;
+        } finally {
+            if (conn != null) {
+                conn.release();
+            }
+        }
+    }
+
+    @Override
+    protected Collection<ClickHouseProtocol> getSupportedProtocols() {
+        return SUPPORTED;
+    }
+
+    @Override
+    protected ClickHouseTcpConnection newConnection(ClickHouseTcpConnection connection, ClickHouseNode server,
+            ClickHouseRequest<?> request) {
+        if (connection != null) {
+            closeConnection(connection, false);
+        }
+
+        try {
+            return new ClickHouseTcpConnection(request.getConfig(), server, false);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    protected void closeConnection(ClickHouseTcpConnection connection, boolean force) {
+        try {
+            connection.close();
+        } catch (Exception e) {
+            log.warn("Failed to close tcp connection due to: %s", e.getMessage());
+        }
+    }
+
+    @Override
+    protected ClickHouseResponse send(ClickHouseRequest<?> sealedRequest) throws ClickHouseException, IOException {
+        List<String> stmts = sealedRequest.getStatements(false);
+        int size = stmts.size();
+        String sql;
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one SQL statement is required for execution");
+        } else if (size > 1) {
+            throw new IllegalArgumentException("Expect one SQL statement to execute but we got " + size);
+        } else {
+            sql = stmts.get(0);
+        }
+
+        log.debug("Query: %s", sql);
+        ClickHouseTcpConnection conn = getConnection(sealedRequest);
+        if (!conn.acquire()) {
+            // previous response is still being consumed, or the connection is broken
+            conn = new ClickHouseTcpConnection(sealedRequest.getConfig(), sealedRequest.getServer(), true);
+            conn.acquire();
+        }
+        return conn.query(sealedRequest, sql);
+    }
+}
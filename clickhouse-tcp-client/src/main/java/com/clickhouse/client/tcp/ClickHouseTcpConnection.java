@@ -0,0 +1,995 @@
+package com.clickhouse.client.tcp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.clickhouse.client.AbstractSocketClient;
+import com.clickhouse.client.ClickHouseConfig;
+import com.clickhouse.client.ClickHouseCredentials;
+import com.clickhouse.client.ClickHouseDnsResolver;
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.client.ClickHouseResponseSummary;
+import com.clickhouse.client.ClickHouseSimpleResponse;
+import com.clickhouse.client.ClickHouseSslContextProvider;
+import com.clickhouse.client.ClickHouseStreamResponse;
+import com.clickhouse.client.config.ClickHouseClientOption;
+import com.clickhouse.client.config.ClickHouseSslMode;
+import com.clickhouse.config.ClickHouseOption;
+import com.clickhouse.data.ClickHouseByteBuffer;
+import com.clickhouse.data.ClickHouseChecker;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseDataConfig;
+import com.clickhouse.data.ClickHouseFormat;
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.ClickHouseUtils;
+import com.clickhouse.data.ClickHouseVersion;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import com.clickhouse.data.stream.AbstractByteArrayInputStream;
+import com.clickhouse.logging.Logger;
+import com.clickhouse.logging.LoggerFactory;
+
+/**
+ * Connection speaking ClickHouse native protocol over a plain or secured
+ * socket. Blocks are exchanged with server in native format, and converted
+ * from/to RowBinary, which is what data processors and users of the client
+ * work with.
+ *
+ * <p>
+ * A connection runs one query at a time. The connection is acquired when a
+ * query is sent and released once the last packet of the response has been
+ * read, so rows of a large result are streamed block by block instead of
+ * being buffered.
+ *
+ * <p>
+ * Plain connections are multiplexed on the event loop shared by
+ * {@link AbstractSocketClient} instances, so an idle connection in the pool
+ * does not hold a thread. Secured connections still use a blocking
+ * {@link SSLSocket}, because the event loop does not speak TLS.
+ */
+public class ClickHouseTcpConnection implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ClickHouseTcpConnection.class);
+
+    static final class LocalHost {
+        static final String name;
+
+        static {
+            String value;
+            try {
+                value = InetAddress.getLocalHost().getHostName();
+            } catch (IOException e) {
+                value = "";
+            }
+            name = value;
+        }
+
+        private LocalHost() {
+        }
+    }
+
+    static final class BlockBuffer extends ByteArrayOutputStream {
+        BlockBuffer(int size) {
+            super(size);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    /**
+     * Buffered input stream of socket. Unlike the one returned by
+     * {@link ClickHouseInputStream#of(InputStream, int)}, which keeps reading
+     * until the buffer is full, it returns whatever is available after one read,
+     * so that it won't block on a packet smaller than the buffer.
+     */
+    static final class SocketInputStream extends AbstractByteArrayInputStream {
+        private final InputStream in;
+
+        SocketInputStream(InputStream in, int bufferSize) {
+            super(null, null, null);
+
+            this.in = ClickHouseChecker.nonNull(in, "InputStream");
+            this.buffer = new byte[ClickHouseDataConfig.getBufferSize(bufferSize)];
+        }
+
+        @Override
+        protected int updateBuffer() throws IOException {
+            position = 0;
+
+            if (closed) {
+                return limit = 0;
+            }
+
+            int read = in.read(buffer, 0, buffer.length);
+            return limit = read > 0 ? read : 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            try {
+                in.close();
+            } finally {
+                super.close();
+            }
+        }
+    }
+
+    /**
+     * Native block consists of column definitions and column values.
+     */
+    static final class Block {
+        final String[] names;
+        final String[] types;
+        final List<ClickHouseColumn> columns;
+        final ClickHouseNativeColumn[] values;
+
+        int rows;
+
+        Block(int size) {
+            this.names = new String[size];
+            this.types = new String[size];
+            this.columns = new ArrayList<>(size);
+            this.values = new ClickHouseNativeColumn[size];
+        }
+
+        void set(int index, String name, String type) {
+            ClickHouseColumn column = ClickHouseColumn.of(name, type);
+            names[index] = name;
+            types[index] = type;
+            if (index < columns.size()) {
+                columns.set(index, column);
+            } else {
+                columns.add(column);
+            }
+            values[index] = ClickHouseNativeColumn.of(column);
+        }
+
+        void clear() {
+            for (ClickHouseNativeColumn v : values) {
+                v.clear();
+            }
+            rows = 0;
+        }
+
+        void writeRowBinary(ClickHouseOutputStream output) throws IOException {
+            for (int i = 0; i < rows; i++) {
+                for (ClickHouseNativeColumn v : values) {
+                    v.writeRowBinary(output, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Transcodes data blocks to RowBinary as they arrive. Connection is released
+     * once end of stream is reached, or closed when the stream is closed before
+     * that and the query could not be cancelled.
+     */
+    final class ResponseInputStream extends AbstractByteArrayInputStream {
+        private final ClickHouseResponseSummary summary;
+        private final BlockBuffer rowBuffer;
+        private final ClickHouseOutputStream rowOutput;
+
+        private Block block;
+        private boolean finished;
+
+        ResponseInputStream(Block header, ClickHouseResponseSummary summary) {
+            super(null, null, null);
+
+            this.summary = summary;
+            this.rowBuffer = new BlockBuffer(config.getReadBufferSize());
+            this.rowOutput = ClickHouseOutputStream.of(rowBuffer, config.getReadBufferSize());
+
+            this.block = header;
+            this.finished = false;
+        }
+
+        @Override
+        protected boolean reusableBuffer() {
+            return true;
+        }
+
+        @Override
+        protected int updateBuffer() throws IOException {
+            position = 0;
+            if (finished) {
+                buffer = ClickHouseByteBuffer.EMPTY_BYTES;
+                return limit = 0;
+            }
+
+            try {
+                while (true) {
+                    int packet = input.readVarInt();
+                    if (packet == ClickHouseNativeProtocol.SERVER_DATA) {
+                        input.readUnicodeString();
+                        block = readBlock(getBlockInput(), block);
+                        if (block.rows > 0) {
+                            rowBuffer.reset();
+                            block.writeRowBinary(rowOutput);
+                            rowOutput.flush();
+                            buffer = rowBuffer.array();
+                            return limit = rowBuffer.size();
+                        }
+                    } else if (packet == ClickHouseNativeProtocol.SERVER_END_OF_STREAM) {
+                        finished = true;
+                        release();
+                        buffer = ClickHouseByteBuffer.EMPTY_BYTES;
+                        return limit = 0;
+                    } else if (packet == ClickHouseNativeProtocol.SERVER_EXCEPTION) {
+                        finished = true;
+                        ClickHouseException e = readException();
+                        release();
+                        throw new IOException(e.getMessage(), e);
+                    } else {
+                        readPacket(packet, summary);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                if (!finished) {
+                    finished = true;
+                    invalidate();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            try {
+                if (!finished) {
+                    finished = true;
+                    cancel(summary);
+                }
+            } finally {
+                super.close();
+            }
+        }
+    }
+
+    static final String SETTING_LOW_CARDINALITY = "low_cardinality_allow_in_native_format";
+    static final String SETTING_COMPRESSION_METHOD = "network_compression_method";
+    static final String SETTING_EXTREMES = "extremes";
+
+    // settings processed by the client
+    private static final List<String> processedSettings = Arrays.asList("_set_roles_stmt",
+            ClickHouseClientOption.MAX_RESULT_ROWS.getKey());
+
+    static boolean isInsert(String sql) {
+        String str = sql.trim();
+        return str.regionMatches(true, 0, "insert", 0, 6);
+    }
+
+    /**
+     * Gets configuration of response, which is always in RowBinary format.
+     *
+     * @param config non-null request configuration
+     * @return non-null configuration
+     */
+    static ClickHouseConfig getResponseConfig(ClickHouseConfig config) {
+        if (config.getFormat() == ClickHouseFormat.RowBinary) {
+            return config;
+        }
+
+        Map<ClickHouseOption, Serializable> options = new HashMap<>();
+        options.putAll(config.getAllOptions());
+        options.put(ClickHouseClientOption.FORMAT, ClickHouseFormat.RowBinary);
+        return new ClickHouseConfig(options, config.getDefaultCredentials(), config.getNodeSelector(),
+                config.getMetricRegistry());
+    }
+
+    protected final ClickHouseNode server;
+
+    private final ClickHouseConfig config;
+    private final boolean temporary;
+    /**
+     * Socket channel on shared event loop, null for secured connection.
+     */
+    private final AbstractSocketClient channel;
+    /**
+     * Blocking socket of secured connection, null otherwise.
+     */
+    private final Socket socket;
+    private final ClickHouseInputStream input;
+    private final ClickHouseOutputStream output;
+    private final ClickHouseNativeCompression compression;
+    private final ClickHouseInputStream decompressedInput;
+    private final BlockBuffer blockBuffer;
+    private final ClickHouseOutputStream blockOutput;
+    private final AtomicBoolean busy;
+
+    private final String serverName;
+    private final String serverDisplayName;
+    private final ClickHouseVersion serverVersion;
+    private final TimeZone serverTimeZone;
+    private final int revision;
+
+    private volatile boolean broken;
+
+    /**
+     * Connects to the given server and performs handshake.
+     *
+     * @param config    non-null configuration
+     * @param server    non-null server
+     * @param temporary whether the connection should be closed after use
+     * @throws IOException when failed to connect or authenticate
+     */
+    protected ClickHouseTcpConnection(ClickHouseConfig config, ClickHouseNode server, boolean temporary)
+            throws IOException {
+        this.server = ClickHouseChecker.nonNull(server, "server");
+        this.config = ClickHouseChecker.nonNull(config, ClickHouseConfig.TYPE_NAME);
+        this.temporary = temporary;
+
+        ClickHouseCredentials credentials = server.getCredentials(config);
+        if (credentials.useAccessToken()) {
+            throw new IllegalArgumentException("Access token is not supported by native protocol");
+        }
+
+        if (config.isSsl()) {
+            this.channel = null;
+            this.socket = openSocket(config, server);
+        } else {
+            this.channel = openChannel(config, server);
+            this.socket = null;
+        }
+        boolean connected = false;
+        try {
+            if (channel != null) {
+                this.input = channel.getInputStream();
+                this.output = channel.getOutputStream();
+            } else {
+                this.input = new SocketInputStream(socket.getInputStream(), config.getReadBufferSize());
+                this.output = ClickHouseOutputStream.of(socket.getOutputStream(), config.getWriteBufferSize());
+            }
+            if (config.isResponseCompressed()) {
+                this.compression = new ClickHouseNativeCompression(config.getResponseCompressAlgorithm(),
+                        config.getResponseCompressLevel());
+                this.decompressedInput = new ClickHouseNativeCompression.DecompressedInputStream(input);
+            } else {
+                this.compression = null;
+                this.decompressedInput = null;
+            }
+            this.blockBuffer = new BlockBuffer(config.getWriteBufferSize());
+            this.blockOutput = ClickHouseOutputStream.of(blockBuffer, config.getWriteBufferSize());
+            this.busy = new AtomicBoolean(false);
+
+            // client hello
+            ClickHouseVersion clientVersion = ClickHouseVersion.of(ClickHouseClientOption.PRODUCT_VERSION);
+            output.writeVarInt(ClickHouseNativeProtocol.CLIENT_HELLO)
+                    .writeUnicodeString(config.getClientName())
+                    .writeVarInt(clientVersion.getMajorVersion())
+                    .writeVarInt(clientVersion.getMinorVersion())
+                    .writeVarInt(ClickHouseNativeProtocol.REVISION)
+                    .writeUnicodeString(server.getDatabase(config))
+                    .writeUnicodeString(credentials.getUserName())
+                    .writeUnicodeString(credentials.getPassword() == null ? "" : credentials.getPassword());
+            output.flush();
+
+            // server hello
+            int packet = input.readVarInt();
+            if (packet == ClickHouseNativeProtocol.SERVER_EXCEPTION) {
+                throw new IOException(readException(input, server));
+            } else if (packet != ClickHouseNativeProtocol.SERVER_HELLO) {
+                throw new IOException(ClickHouseUtils.format("Unexpected packet [%d] during handshake", packet));
+            }
+            this.serverName = input.readUnicodeString();
+            int major = input.readVarInt();
+            int minor = input.readVarInt();
+            this.revision = Math.min(input.readVarInt(), ClickHouseNativeProtocol.REVISION);
+            this.serverTimeZone = revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_SERVER_TIMEZONE
+                    ? TimeZone.getTimeZone(input.readUnicodeString())
+                    : null;
+            this.serverDisplayName = revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_SERVER_DISPLAY_NAME
+                    ? input.readUnicodeString()
+                    : server.getHost();
+            int patch = revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_VERSION_PATCH ? input.readVarInt()
+                    : 0;
+            this.serverVersion = ClickHouseVersion.of(major + "." + minor + "." + patch);
+            this.broken = false;
+            connected = true;
+            log.debug("Connected to [%s] %s (%s), revision %d", serverDisplayName, serverName, serverVersion,
+                    revision);
+        } finally {
+            if (!connected) {
+                close();
+            }
+        }
+    }
+
+    static AbstractSocketClient openChannel(ClickHouseConfig config, ClickHouseNode server) throws IOException {
+        AbstractSocketClient client = new AbstractSocketClient(config);
+        try {
+            // connect timeout is enforced by the event loop
+            client.connect(server).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            client.close();
+            throw new InterruptedIOException("Interrupted while connecting to " + server.getBaseUri());
+        } catch (ExecutionException e) {
+            client.close();
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause
+                    : new IOException("Failed to connect to " + server.getBaseUri(), cause);
+        } catch (IOException | RuntimeException e) {
+            client.close();
+            throw e;
+        }
+        return client;
+    }
+
+    static Socket openSocket(ClickHouseConfig config, ClickHouseNode server) throws IOException {
+        ClickHouseDnsResolver resolver = ClickHouseDnsResolver.getInstance();
+        InetSocketAddress address = resolver != null
+                ? resolver.resolve(server.getProtocol(), server.getHost(), server.getPort())
+                : new InetSocketAddress(server.getHost(), server.getPort());
+
+        Socket socket = AbstractSocketClient.setSocketOptions(config, new Socket());
+        try {
+            socket.connect(address, config.getConnectionTimeout());
+            if (config.isSsl()) {
+                SSLContext sslContext = ClickHouseSslContextProvider.getProvider()
+                        .getSslContext(SSLContext.class, config).orElse(null);
+                SSLSocketFactory factory = sslContext != null ? sslContext.getSocketFactory()
+                        : (SSLSocketFactory) SSLSocketFactory.getDefault();
+                SSLSocket sslSocket = (SSLSocket) factory.createSocket(socket, server.getHost(), server.getPort(),
+                        true);
+                if (config.getSslMode() == ClickHouseSslMode.STRICT) {
+                    SSLParameters params = sslSocket.getSSLParameters();
+                    params.setEndpointIdentificationAlgorithm("HTTPS");
+                    sslSocket.setSSLParameters(params);
+                }
+                sslSocket.startHandshake();
+                socket = sslSocket;
+            }
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+        return socket;
+    }
+
+    static ClickHouseException readException(ClickHouseInputStream in, ClickHouseNode server) throws IOException {
+        int code = BinaryStreamUtils.readInt32(in);
+        String name = in.readUnicodeString();
+        String message = in.readUnicodeString();
+        in.readUnicodeString(); // stack trace
+        if (in.readBoolean()) {
+            // only the top-level exception is kept
+            readException(in, server);
+        }
+        return new ClickHouseException(code, ClickHouseUtils.format("Code: %d. %s: %s", code, name, message),
+                server);
+    }
+
+    static Block readBlock(ClickHouseInputStream in, Block reuse) throws IOException {
+        // block info
+        int field;
+        while ((field = in.readVarInt()) != 0) {
+            if (field == 1) {
+                in.readBoolean(); // is_overflows
+            } else if (field == 2) {
+                BinaryStreamUtils.readInt32(in); // bucket_num
+            } else {
+                throw new IOException(ClickHouseUtils.format("Unknown field [%d] in block info", field));
+            }
+        }
+
+        int size = in.readVarInt();
+        int rows = in.readVarInt();
+        Block block = reuse != null && reuse.values.length == size ? reuse : new Block(size);
+        for (int i = 0; i < size; i++) {
+            String name = in.readUnicodeString();
+            String type = in.readUnicodeString();
+            if (block.values[i] != null && name.equals(block.names[i]) && type.equals(block.types[i])) {
+                block.values[i].clear();
+            } else {
+                block.set(i, name, type);
+            }
+            block.values[i].readNative(in, rows);
+        }
+        block.rows = rows;
+        return block;
+    }
+
+    static void writeBlock(ClickHouseOutputStream out, Block block) throws IOException {
+        // block info: is_overflows = false, bucket_num = -1
+        out.writeVarInt(1).writeBoolean(false).writeVarInt(2);
+        BinaryStreamUtils.writeInt32(out, -1);
+        out.writeVarInt(0);
+
+        if (block == null) {
+            out.writeVarInt(0).writeVarInt(0);
+            return;
+        }
+
+        out.writeVarInt(block.values.length).writeVarInt(block.rows);
+        for (int i = 0; i < block.values.length; i++) {
+            out.writeUnicodeString(block.names[i]).writeUnicodeString(block.types[i]);
+            block.values[i].writeNative(out);
+        }
+    }
+
+    protected ClickHouseInputStream getBlockInput() {
+        return decompressedInput != null ? decompressedInput : input;
+    }
+
+    protected ClickHouseException readException() throws IOException {
+        return readException(input, server);
+    }
+
+    /**
+     * Reads packets which may show up at any time during the query.
+     *
+     * @param packet  packet type
+     * @param summary non-null summary to update
+     * @throws IOException when failed to read the packet or it's unexpected
+     */
+    protected void readPacket(int packet, ClickHouseResponseSummary summary) throws IOException {
+        switch (packet) {
+            case ClickHouseNativeProtocol.SERVER_PROGRESS:
+                long readRows = input.readVarLong();
+                long readBytes = input.readVarLong();
+                long totalRows = input.readVarLong();
+                long writtenRows = 0L;
+                long writtenBytes = 0L;
+                if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_CLIENT_WRITE_INFO) {
+                    writtenRows = input.readVarLong();
+                    writtenBytes = input.readVarLong();
+                }
+                summary.add(new ClickHouseResponseSummary.Progress(readRows, readBytes, totalRows, writtenRows,
+                        writtenBytes, 0L, 0L));
+                break;
+            case ClickHouseNativeProtocol.SERVER_PROFILE_INFO:
+                long rows = input.readVarLong();
+                long blocks = input.readVarLong();
+                long bytes = input.readVarLong();
+                boolean appliedLimit = input.readBoolean();
+                long rowsBeforeLimit = input.readVarLong();
+                input.readBoolean(); // calculated_rows_before_limit
+                summary.update(new ClickHouseResponseSummary.Statistics(rows, blocks, bytes, appliedLimit,
+                        rowsBeforeLimit));
+                break;
+            case ClickHouseNativeProtocol.SERVER_TOTALS:
+            case ClickHouseNativeProtocol.SERVER_EXTREMES:
+                // not part of RowBinary output
+                input.readUnicodeString();
+                readBlock(getBlockInput(), null);
+                break;
+            case ClickHouseNativeProtocol.SERVER_LOG:
+                // log blocks are never compressed
+                input.readUnicodeString();
+                readBlock(input, null);
+                break;
+            case ClickHouseNativeProtocol.SERVER_TABLE_COLUMNS:
+                input.readUnicodeString();
+                input.readUnicodeString();
+                break;
+            default:
+                throw new IOException(ClickHouseUtils.format("Unexpected packet [%d] from server", packet));
+        }
+    }
+
+    protected void sendData(Block block) throws IOException {
+        output.writeVarInt(ClickHouseNativeProtocol.CLIENT_DATA).writeUnicodeString("");
+        if (compression != null) {
+            blockBuffer.reset();
+            writeBlock(blockOutput, block);
+            blockOutput.flush();
+            compression.write(output, blockBuffer.array(), 0, blockBuffer.size());
+        } else {
+            writeBlock(output, block);
+        }
+    }
+
+    protected void sendQuery(ClickHouseRequest<?> request, String sql) throws IOException {
+        final ClickHouseConfig c = request.getConfig();
+        output.writeVarInt(ClickHouseNativeProtocol.CLIENT_QUERY)
+                .writeUnicodeString(request.getQueryId().orElse(""));
+
+        if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_CLIENT_INFO) {
+            ClickHouseVersion clientVersion = ClickHouseVersion.of(ClickHouseClientOption.PRODUCT_VERSION);
+            output.writeByte((byte) ClickHouseNativeProtocol.QUERY_KIND_INITIAL)
+                    .writeUnicodeString("") // initial_user
+                    .writeUnicodeString("") // initial_query_id
+                    .writeUnicodeString("0.0.0.0:0") // initial_address
+                    .writeByte((byte) ClickHouseNativeProtocol.INTERFACE_TCP)
+                    .writeUnicodeString(System.getProperty("user.name", ""))
+                    .writeUnicodeString(LocalHost.name)
+                    .writeUnicodeString(c.getClientName())
+                    .writeVarInt(clientVersion.getMajorVersion())
+                    .writeVarInt(clientVersion.getMinorVersion())
+                    .writeVarInt(ClickHouseNativeProtocol.REVISION);
+            if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_QUOTA_KEY_IN_CLIENT_INFO) {
+                output.writeUnicodeString(""); // quota_key
+            }
+            if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_VERSION_PATCH) {
+                output.writeVarInt(clientVersion.getPatch());
+            }
+        }
+
+        if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_SETTINGS_SERIALIZED_AS_STRINGS) {
+            for (Entry<String, String> entry : getSettings(request).entrySet()) {
+                output.writeUnicodeString(entry.getKey())
+                        .writeVarInt(ClickHouseNativeProtocol.SETTING_FLAG_IMPORTANT)
+                        .writeUnicodeString(entry.getValue());
+            }
+        }
+        output.writeUnicodeString(""); // end of settings
+
+        if (revision >= ClickHouseNativeProtocol.MIN_REVISION_WITH_INTERSERVER_SECRET) {
+            output.writeUnicodeString("");
+        }
+        output.writeVarInt(ClickHouseNativeProtocol.STAGE_COMPLETE)
+                .writeVarInt(compression != null ? ClickHouseNativeProtocol.COMPRESSION_ENABLED
+                        : ClickHouseNativeProtocol.COMPRESSION_DISABLED)
+                .writeUnicodeString(sql);
+
+        // no external table
+        sendData(null);
+        output.flush();
+    }
+
+    protected Map<String, String> getSettings(ClickHouseRequest<?> request) {
+        final ClickHouseConfig c = request.getConfig();
+        final Map<String, Serializable> settings = request.getSettings();
+        final Map<String, String> map = new LinkedHashMap<>();
+
+        if (c.getMaxExecutionTime() > 0) {
+            map.put(ClickHouseClientOption.MAX_EXECUTION_TIME.getKey(), String.valueOf(c.getMaxExecutionTime()));
+        }
+        String settingKey = ClickHouseClientOption.MAX_RESULT_ROWS.getKey();
+        Object value = settings.get(settingKey);
+        if (value == null && c.getMaxResultRows() > 0L) {
+            map.put(settingKey, String.valueOf(c.getMaxResultRows()));
+        } else if (value instanceof Number && ((Number) value).longValue() > 0L) {
+            map.put(settingKey, String.valueOf(value));
+        } else if (value instanceof String && !(((String) value).isEmpty() || "0".equals(value))) {
+            map.put(settingKey, (String) value);
+        }
+        if (c.hasOption(ClickHouseClientOption.RESULT_OVERFLOW_MODE)) {
+            map.put(ClickHouseClientOption.RESULT_OVERFLOW_MODE.getKey(),
+                    c.getStrOption(ClickHouseClientOption.RESULT_OVERFLOW_MODE));
+        }
+        map.put(SETTING_EXTREMES, "0");
+        // LowCardinality columns are received and sent as ordinary ones
+        map.put(SETTING_LOW_CARDINALITY, "0");
+        if (compression != null && compression.getMethod() == ClickHouseNativeCompression.METHOD_ZSTD) {
+            map.put(SETTING_COMPRESSION_METHOD, "ZSTD");
+        }
+
+        for (Entry<String, Serializable> entry : settings.entrySet()) {
+            if (!processedSettings.contains(entry.getKey())) {
+                map.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Sends rows in RowBinary format to server as native blocks.
+     *
+     * @param header  non-null header block from server
+     * @param in      non-null input stream
+     * @param format  non-null input format
+     * @param summary non-null summary to update
+     * @throws ClickHouseException when server failed to insert the rows
+     * @throws IOException         when failed to read input or send data
+     */
+    protected void sendRows(Block header, ClickHouseInputStream in, ClickHouseFormat format,
+            ClickHouseResponseSummary summary) throws ClickHouseException, IOException {
+        final int size = header.values.length;
+        final ClickHouseNativeColumn[] values = new ClickHouseNativeColumn[size];
+        System.arraycopy(header.values, 0, values, 0, size);
+        if (format == ClickHouseFormat.RowBinaryWithNames || format == ClickHouseFormat.RowBinaryWithNamesAndTypes) {
+            int count = in.readVarInt();
+            if (count != size) {
+                throw new IllegalArgumentException(ClickHouseUtils.format(
+                        "Expect %d columns as required by server but got %d", size, count));
+            }
+            List<String> names = Arrays.asList(header.names);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUnicodeString();
+                int index = names.indexOf(name);
+                if (index < 0) {
+                    throw new IllegalArgumentException(
+                            ClickHouseUtils.format("Column [%s] is not in %s", name, names));
+                }
+                values[i] = header.values[index];
+            }
+            if (format == ClickHouseFormat.RowBinaryWithNamesAndTypes) {
+                for (int i = 0; i < count; i++) {
+                    in.readUnicodeString();
+                }
+            }
+        }
+
+        try {
+            while (in.peek() >= 0) {
+                for (ClickHouseNativeColumn v : values) {
+                    v.readRowBinary(in);
+                }
+                if (++header.rows >= ClickHouseNativeProtocol.MAX_BLOCK_ROWS) {
+                    sendData(header);
+                    header.clear();
+                }
+            }
+            if (header.rows > 0) {
+                sendData(header);
+                header.clear();
+            }
+        } finally {
+            in.close();
+        }
+        // end of data
+        sendData(null);
+        output.flush();
+
+        readUntilEnd(summary);
+    }
+
+    /**
+     * Reads packets until end of stream.
+     *
+     * @param summary non-null summary to update
+     * @throws ClickHouseException when server failed to execute the query
+     * @throws IOException         when failed to read packets
+     */
+    protected void readUntilEnd(ClickHouseResponseSummary summary) throws ClickHouseException, IOException {
+        while (true) {
+            int packet = input.readVarInt();
+            if (packet == ClickHouseNativeProtocol.SERVER_END_OF_STREAM) {
+                return;
+            } else if (packet == ClickHouseNativeProtocol.SERVER_EXCEPTION) {
+                throw readException();
+            } else if (packet == ClickHouseNativeProtocol.SERVER_DATA) {
+                input.readUnicodeString();
+                readBlock(getBlockInput(), null);
+            } else {
+                readPacket(packet, summary);
+            }
+        }
+    }
+
+    /**
+     * Cancels running query and skips remaining packets. The connection will be
+     * closed when it failed to do so.
+     *
+     * @param summary non-null summary to update
+     */
+    protected void cancel(ClickHouseResponseSummary summary) {
+        try {
+            output.writeVarInt(ClickHouseNativeProtocol.CLIENT_CANCEL);
+            output.flush();
+            readUntilEnd(summary);
+            release();
+        } catch (ClickHouseException e) {
+            // usually the query was cancelled
+            log.debug("Query cancelled: %s", e.getMessage());
+            release();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to cancel query", e);
+            invalidate();
+        }
+    }
+
+    /**
+     * Executes query and gets response. Rows are read from the connection while
+     * consuming the response, so the connection is not released until then.
+     *
+     * @param request non-null sealed request
+     * @param sql     non-null SQL statement
+     * @return non-null response
+     * @throws ClickHouseException when server failed to execute the query
+     * @throws IOException         when failed to communicate with server
+     */
+    public ClickHouseResponse query(ClickHouseRequest<?> request, String sql) throws ClickHouseException, IOException {
+        final ClickHouseConfig c = request.getConfig();
+        final ClickHouseFormat format = c.getFormat();
+        final Optional<ClickHouseInputStream> data = request.getInputStream();
+        if (data.isPresent() && format != ClickHouseFormat.RowBinary
+                && format != ClickHouseFormat.RowBinaryWithNames
+                && format != ClickHouseFormat.RowBinaryWithNamesAndTypes) {
+            throw new IllegalArgumentException("Only RowBinary, RowBinaryWithNames and RowBinaryWithNamesAndTypes "
+                    + "are supported for inserting data but we got " + format);
+        } else if (!request.getExternalTables().isEmpty()) {
+            throw new IllegalArgumentException("External tables are not supported by native protocol");
+        }
+
+        final ClickHouseResponseSummary summary = new ClickHouseResponseSummary(null, null);
+        boolean released = false;
+        try {
+            sendQuery(request, sql);
+
+            while (true) {
+                int packet = input.readVarInt();
+                if (packet == ClickHouseNativeProtocol.SERVER_EXCEPTION) {
+                    throw readException();
+                } else if (packet == ClickHouseNativeProtocol.SERVER_END_OF_STREAM) {
+                    return ClickHouseSimpleResponse.of(c, Collections.emptyList(), new Object[0][], summary,
+                            serverTimeZone);
+                } else if (packet != ClickHouseNativeProtocol.SERVER_DATA) {
+                    readPacket(packet, summary);
+                    continue;
+                }
+
+                input.readUnicodeString();
+                final Block header = readBlock(getBlockInput(), null);
+                if (data.isPresent()) {
+                    sendRows(header, data.get(), format, summary);
+                    return ClickHouseSimpleResponse.of(c, Collections.emptyList(), new Object[0][], summary,
+                            serverTimeZone);
+                } else if (isInsert(sql)) {
+                    // data is in the query, or there's no data at all
+                    sendData(null);
+                    output.flush();
+                    readUntilEnd(summary);
+                    return ClickHouseSimpleResponse.of(c, Collections.emptyList(), new Object[0][], summary,
+                            serverTimeZone);
+                }
+
+                released = true;
+                final ResponseInputStream stream = new ResponseInputStream(header, summary);
+                final Optional<ClickHouseOutputStream> out = request.getOutputStream();
+                if (out.isPresent()) {
+                    try (ClickHouseInputStream in = stream) {
+                        in.pipe(out.get());
+                    }
+                    out.get().flush();
+                    return ClickHouseSimpleResponse.of(c, header.columns, new Object[0][], summary,
+                            serverTimeZone);
+                }
+                return ClickHouseStreamResponse.of(getResponseConfig(c), stream, request.getSettings(),
+                        header.columns, summary, serverTimeZone);
+            }
+        } catch (ClickHouseException e) {
+            // server is ready for next query
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            released = true;
+            invalidate();
+            throw e;
+        } finally {
+            if (!released) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Sends ping to server.
+     *
+     * @param timeout timeout in milliseconds
+     * @return true if server responded pong in time; false otherwise
+     */
+    public boolean ping(int timeout) {
+        try {
+            int originalTimeout = getTimeout();
+            setTimeout(timeout);
+            try {
+                output.writeVarInt(ClickHouseNativeProtocol.CLIENT_PING);
+                output.flush();
+                int packet;
+                while ((packet = input.readVarInt()) == ClickHouseNativeProtocol.SERVER_PROGRESS) {
+                    readPacket(packet, new ClickHouseResponseSummary(null, null));
+                }
+                return packet == ClickHouseNativeProtocol.SERVER_PONG;
+            } finally {
+                setTimeout(originalTimeout);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to ping server: %s", e.getMessage());
+            invalidate();
+        }
+        return false;
+    }
+
+    private int getTimeout() throws IOException {
+        return channel != null ? channel.getStreamTimeout() : socket.getSoTimeout();
+    }
+
+    private void setTimeout(int timeout) throws IOException {
+        if (channel != null) {
+            channel.setStreamTimeout(timeout);
+        } else {
+            socket.setSoTimeout(timeout);
+        }
+    }
+
+    /**
+     * Marks the connection as busy.
+     *
+     * @return true if the connection was idle and now acquired by current
+     *         caller; false otherwise
+     */
+    public boolean acquire() {
+        return !broken && busy.compareAndSet(false, true);
+    }
+
+    /**
+     * Marks the connection as idle. Temporary connection will be closed.
+     */
+    public void release() {
+        if (temporary) {
+            invalidate();
+        }
+        busy.set(false);
+    }
+
+    /**
+     * Closes the connection because it's no longer in a consistent state.
+     */
+    protected void invalidate() {
+        broken = true;
+        try {
+            close();
+        } catch (IOException e) {
+            log.debug("Failed to close connection", e);
+        }
+    }
+
+    public String getServerDisplayName() {
+        return serverDisplayName;
+    }
+
+    public ClickHouseVersion getServerVersion() {
+        return serverVersion;
+    }
+
+    public TimeZone getServerTimeZone() {
+        return serverTimeZone;
+    }
+
+    public boolean isReusable() {
+        return !broken && (channel != null ? channel.isActive() : !socket.isClosed());
+    }
+
+    @Override
+    public void close() throws IOException {
+        broken = true;
+        if (channel != null) {
+            channel.close();
+        } else {
+            socket.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(getClass().getSimpleName()).append('(').append(server.getBaseUri())
+                .append(", revision=").append(revision).append(')').toString();
+    }
+}
@@ -0,0 +1,348 @@
+package com.clickhouse.client.tcp;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.clickhouse.client.ClickHouseClient;
+import com.clickhouse.client.ClickHouseException;
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.ClickHouseProtocol;
+import com.clickhouse.client.ClickHouseResponse;
+import com.clickhouse.client.tcp.ClickHouseTcpConnection.Block;
+import com.clickhouse.client.tcp.ClickHouseTcpConnection.BlockBuffer;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseCompression;
+import com.clickhouse.data.ClickHouseFormat;
+import com.clickhouse.data.ClickHouseInputStream;
+import com.clickhouse.data.ClickHouseOutputStream;
+import com.clickhouse.data.ClickHouseRecord;
+import com.clickhouse.data.format.BinaryStreamUtils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class ClickHouseTcpClientTest {
+    interface Handler {
+        void handle(MockServer server) throws IOException;
+    }
+
+    /**
+     * Mock server accepting one connection and speaking just enough native
+     * protocol for the tests.
+     */
+    static final class MockServer implements AutoCloseable {
+        final ServerSocket serverSocket;
+        final CompletableFuture<Void> future;
+        final ClickHouseNativeCompression compression;
+
+        ClickHouseInputStream in;
+        ClickHouseInputStream blockIn;
+        ClickHouseOutputStream out;
+        String query;
+
+        MockServer(Handler handler) throws IOException {
+            this.serverSocket = new ServerSocket(0);
+            this.compression = new ClickHouseNativeCompression(ClickHouseCompression.LZ4, 0);
+            this.future = CompletableFuture.runAsync(() -> {
+                try (Socket socket = serverSocket.accept()) {
+                    in = new ClickHouseTcpConnection.SocketInputStream(socket.getInputStream(), 0);
+                    blockIn = new ClickHouseNativeCompression.DecompressedInputStream(in);
+                    out = ClickHouseOutputStream.of(socket.getOutputStream());
+                    handshake();
+                    handler.handle(this);
+                    out.flush();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        ClickHouseNode getNode() {
+            return ClickHouseNode.builder().host("localhost").port(ClickHouseProtocol.TCP, serverSocket.getLocalPort())
+                    .build();
+        }
+
+        void handshake() throws IOException {
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.CLIENT_HELLO);
+            in.readUnicodeString(); // client name
+            in.readVarInt();
+            in.readVarInt();
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.REVISION);
+            in.readUnicodeString(); // database
+            Assert.assertEquals(in.readUnicodeString(), "default");
+            in.readUnicodeString(); // password
+
+            out.writeVarInt(ClickHouseNativeProtocol.SERVER_HELLO).writeUnicodeString("ClickHouse").writeVarInt(23)
+                    .writeVarInt(8).writeVarInt(ClickHouseNativeProtocol.REVISION).writeUnicodeString("UTC")
+                    .writeUnicodeString("mock").writeVarInt(1);
+            out.flush();
+        }
+
+        String readQuery() throws IOException {
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.CLIENT_QUERY);
+            in.readUnicodeString(); // query id
+            Assert.assertEquals(in.readByte(), ClickHouseNativeProtocol.QUERY_KIND_INITIAL);
+            in.readUnicodeString();
+            in.readUnicodeString();
+            in.readUnicodeString();
+            Assert.assertEquals(in.readByte(), ClickHouseNativeProtocol.INTERFACE_TCP);
+            in.readUnicodeString();
+            in.readUnicodeString();
+            in.readUnicodeString();
+            in.readVarInt();
+            in.readVarInt();
+            in.readVarInt();
+            in.readUnicodeString(); // quota key
+            in.readVarInt(); // patch
+            List<String> settings = new ArrayList<>();
+            String name;
+            while (!(name = in.readUnicodeString()).isEmpty()) {
+                in.readVarInt();
+                settings.add(name + "=" + in.readUnicodeString());
+            }
+            Assert.assertTrue(settings.contains("low_cardinality_allow_in_native_format=0"), settings.toString());
+            in.readUnicodeString(); // interserver secret
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.STAGE_COMPLETE);
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.COMPRESSION_ENABLED);
+            query = in.readUnicodeString();
+            // external tables
+            Assert.assertEquals(readData().values.length, 0);
+            return query;
+        }
+
+        Block readData() throws IOException {
+            Assert.assertEquals(in.readVarInt(), ClickHouseNativeProtocol.CLIENT_DATA);
+            in.readUnicodeString();
+            return ClickHouseTcpConnection.readBlock(blockIn, null);
+        }
+
+        void writeData(Block block) throws IOException {
+            out.writeVarInt(ClickHouseNativeProtocol.SERVER_DATA).writeUnicodeString("");
+            BlockBuffer buffer = new BlockBuffer(1024);
+            try (ClickHouseOutputStream o = ClickHouseOutputStream.of(buffer)) {
+                ClickHouseTcpConnection.writeBlock(o, block);
+            }
+            compression.write(out, buffer.array(), 0, buffer.size());
+        }
+
+        void writeProgress(long readRows, long writtenRows) throws IOException {
+            out.writeVarInt(ClickHouseNativeProtocol.SERVER_PROGRESS).writeUnsignedVarInt(readRows)
+                    .writeUnsignedVarInt(readRows * 10L).writeUnsignedVarInt(readRows)
+                    .writeUnsignedVarInt(writtenRows).writeUnsignedVarInt(writtenRows * 10L);
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            try {
+                future.get(10L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    static Block newBlock(byte[] rowBinary, String... nameAndTypes) throws IOException {
+        Block block = new Block(nameAndTypes.length / 2);
+        for (int i = 0; i < nameAndTypes.length; i += 2) {
+            block.set(i / 2, nameAndTypes[i], nameAndTypes[i + 1]);
+        }
+        try (ClickHouseInputStream input = ClickHouseInputStream.of(rowBinary)) {
+            while (input.peek() >= 0) {
+                for (ClickHouseNativeColumn v : block.values) {
+                    v.readRowBinary(input);
+                }
+                block.rows++;
+            }
+        }
+        return block;
+    }
+
+    static byte[] toRowBinary(Object[][] rows) throws IOException {
+        BlockBuffer buffer = new BlockBuffer(1024);
+        try (ClickHouseOutputStream out = ClickHouseOutputStream.of(buffer)) {
+            for (Object[] row : rows) {
+                BinaryStreamUtils.writeInt32(out, (int) row[0]);
+                if (row[1] == null) {
+                    out.writeByte((byte) 1);
+                } else {
+                    out.writeByte((byte) 0).writeUnicodeString((String) row[1]);
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @DataProvider(name = "types")
+    private Object[][] getTypes() {
+        return new Object[][] {
+                { "Array(Nullable(String))", new byte[] { 2, 0, 1, 'a', 1, 0, 1, 0, 0 } },
+                { "Map(String, UInt8)", new byte[] { 1, 1, 'k', 9, 0, 2, 0, 1, 1, 'x', 3 } },
+                { "Tuple(Int16, Nullable(FixedString(2)))", new byte[] { 1, 0, 1, 2, 0, 0, 'a', 'b' } },
+                { "Array(Array(LowCardinality(String)))", new byte[] { 1, 2, 0, 1, 'z', 0 } },
+                { "Ring", new byte[] { 1, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 } },
+        };
+    }
+
+    @Test(dataProvider = "types", groups = { "unit" })
+    public void testNativeColumn(String type, byte[] rowBinary) throws IOException {
+        ClickHouseNativeColumn column = ClickHouseNativeColumn.of(ClickHouseColumn.of("c", type));
+        int rows = 0;
+        try (ClickHouseInputStream input = ClickHouseInputStream.of(rowBinary)) {
+            while (input.peek() >= 0) {
+                column.readRowBinary(input);
+                rows++;
+            }
+        }
+        Assert.assertEquals(column.size(), rows);
+
+        BlockBuffer buffer = new BlockBuffer(64);
+        try (ClickHouseOutputStream out = ClickHouseOutputStream.of(buffer)) {
+            column.writeNative(out);
+        }
+        ClickHouseNativeColumn copy = ClickHouseNativeColumn.of(ClickHouseColumn.of("c", type));
+        copy.appendDefault();
+        copy.clear();
+        try (ClickHouseInputStream input = ClickHouseInputStream.of(buffer.toByteArray())) {
+            copy.readNative(input, rows);
+            Assert.assertEquals(input.peek(), -1);
+        }
+
+        buffer.reset();
+        try (ClickHouseOutputStream out = ClickHouseOutputStream.of(buffer)) {
+            for (int i = 0; i < rows; i++) {
+                copy.writeRowBinary(out, i);
+            }
+        }
+        Assert.assertEquals(buffer.toByteArray(), rowBinary);
+    }
+
+    @Test(groups = { "unit" })
+    public void testUnsupportedType() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> ClickHouseNativeColumn.of(ClickHouseColumn.of("c", "AggregateFunction(uniq, String)")));
+    }
+
+    @Test(groups = { "unit" })
+    public void testCompression() throws IOException {
+        byte[] bytes = new byte[ClickHouseNativeCompression.MAX_FRAME_SIZE + 100];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 7);
+        }
+        for (ClickHouseCompression algorithm : new ClickHouseCompression[] { ClickHouseCompression.LZ4,
+                ClickHouseCompression.ZSTD }) {
+            ClickHouseNativeCompression compression = new ClickHouseNativeCompression(algorithm, 0);
+            BlockBuffer buffer = new BlockBuffer(1024);
+            try (ClickHouseOutputStream out = ClickHouseOutputStream.of(buffer)) {
+                compression.write(out, bytes, 0, bytes.length);
+            }
+            Assert.assertTrue(buffer.size() < bytes.length);
+            Assert.assertEquals(buffer.array()[ClickHouseNativeCompression.CHECKSUM_LENGTH],
+                    compression.getMethod());
+
+            try (ClickHouseInputStream in = new ClickHouseNativeCompression.DecompressedInputStream(
+                    ClickHouseInputStream.of(buffer.toByteArray()))) {
+                Assert.assertEquals(in.readBytes(bytes.length), bytes);
+            }
+
+            // corrupted data
+            byte[] corrupted = buffer.toByteArray();
+            corrupted[ClickHouseNativeCompression.HEADER_LENGTH + 1]++;
+            try (ClickHouseInputStream in = new ClickHouseNativeCompression.DecompressedInputStream(
+                    ClickHouseInputStream.of(corrupted))) {
+                Assert.assertThrows(IOException.class, () -> in.readByte());
+            }
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testQuery() throws Exception {
+        Object[][] rows = new Object[][] { { 1, "one" }, { 2, null }, { 3, "three" } };
+        try (MockServer server = new MockServer(s -> {
+            Assert.assertEquals(s.readQuery(), "select a, s from t");
+            s.writeData(newBlock(new byte[0], "a", "Int32", "s", "Nullable(String)"));
+            s.writeProgress(2L, 0L);
+            s.writeData(newBlock(toRowBinary(Arrays.copyOf(rows, 2)), "a", "Int32", "s", "Nullable(String)"));
+            s.writeProgress(1L, 0L);
+            s.writeData(newBlock(toRowBinary(Arrays.copyOfRange(rows, 2, 3)), "a", "Int32", "s",
+                    "Nullable(String)"));
+            s.out.writeVarInt(ClickHouseNativeProtocol.SERVER_PROFILE_INFO).writeVarInt(3).writeVarInt(2)
+                    .writeVarInt(100).writeBoolean(false).writeVarInt(0).writeBoolean(false);
+            s.out.writeVarInt(ClickHouseNativeProtocol.SERVER_END_OF_STREAM);
+            s.out.flush();
+
+            // connection is reused for the second query
+            Assert.assertEquals(s.readQuery(), "select 1");
+            s.out.writeVarInt(ClickHouseNativeProtocol.SERVER_EXCEPTION);
+            BinaryStreamUtils.writeInt32(s.out, 60);
+            s.out.writeUnicodeString("DB::Exception").writeUnicodeString("Table t doesn't exist")
+                    .writeUnicodeString("").writeBoolean(false);
+        });
+                ClickHouseClient client = ClickHouseClient.newInstance(ClickHouseProtocol.TCP)) {
+            Assert.assertTrue(client.accept(ClickHouseProtocol.TCP));
+            ClickHouseNode node = server.getNode();
+            try (ClickHouseResponse response = client.read(node).query("select a, s from t").executeAndWait()) {
+                Assert.assertEquals(response.getColumns().size(), 2);
+                int i = 0;
+                for (ClickHouseRecord r : response.records()) {
+                    Assert.assertEquals(r.getValue(0).asInteger(), rows[i][0]);
+                    Assert.assertEquals(r.getValue(1).asString(), rows[i][1]);
+                    i++;
+                }
+                Assert.assertEquals(i, rows.length);
+                Assert.assertEquals(response.getSummary().getReadRows(), 3L);
+                Assert.assertEquals(response.getSummary().getStatistics().getRows(), 3L);
+            }
+
+            ClickHouseException e = Assert.expectThrows(ClickHouseException.class,
+                    () -> client.read(node).query("select 1").executeAndWait());
+            Assert.assertEquals(e.getErrorCode(), 60);
+            Assert.assertEquals(e.getMessage(), "Code: 60. DB::Exception: Table t doesn't exist");
+        }
+    }
+
+    @Test(groups = { "unit" })
+    public void testInsert() throws Exception {
+        Object[][] rows = new Object[][] { { 1, "one" }, { 2, null } };
+        final byte[] rowBinary = toRowBinary(rows);
+        try (MockServer server = new MockServer(s -> {
+            Assert.assertTrue(s.readQuery().startsWith("insert into t"), s.query);
+            s.out.writeVarInt(ClickHouseNativeProtocol.SERVER_TABLE_COLUMNS).writeUnicodeString("")
+                    .writeUnicodeString("columns format version: 1");
+            s.writeData(newBlock(new byte[0], "a", "Int32", "s", "Nullable(String)"));
+            s.out.flush();
+
+            Block block = s.readData();
+            Assert.assertEquals(block.rows, rows.length);
+            Assert.assertEquals(block.names, new String[] { "a", "s" });
+            BlockBuffer buffer = new BlockBuffer(64);
+            try (ClickHouseOutputStream out = ClickHouseOutputStream.of(buffer)) {
+                block.writeRowBinary(out);
+            }
+            Assert.assertEquals(buffer.toByteArray(), rowBinary);
+            Assert.assertEquals(s.readData().values.length, 0);
+
+            s.writeProgress(0L, rows.length);
+            s.out.writeVarInt(ClickHouseNativeProtocol.SERVER_END_OF_STREAM);
+        });
+                ClickHouseClient client = ClickHouseClient.newInstance(ClickHouseProtocol.TCP)) {
+            try (ClickHouseResponse response = client.read(server.getNode()).write().query("insert into t")
+                    .format(ClickHouseFormat.RowBinary).data(ClickHouseInputStream.of(rowBinary))
+                    .executeAndWait()) {
+                Assert.assertEquals(response.getSummary().getWrittenRows(), rows.length);
+            }
+        }
+    }
+}
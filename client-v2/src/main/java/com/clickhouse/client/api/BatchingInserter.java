@@ -0,0 +1,510 @@
+package com.clickhouse.client.api;
+
+import com.clickhouse.client.api.insert.DataSerializationException;
+import com.clickhouse.client.api.insert.InsertResponse;
+import com.clickhouse.client.api.insert.InsertSettings;
+import com.clickhouse.client.api.insert.POJOSerializer;
+import com.clickhouse.data.ClickHouseFormat;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>Accumulates objects of registered classes from many threads and inserts them into a table in batches.
+ * Objects are serialized into RowBinary right away into one of several buffers (a buffer is selected by thread so
+ * concurrent writers rarely wait for each other). Accumulated rows are sent when number of rows, number of bytes or
+ * age of the oldest row reaches a limit. When the maximum number of flushes is in progress, writers are blocked
+ * until one of them completes. Buffers are reused once their rows are sent.</p>
+ *
+ * <pre>{@code
+ * client.register(Event.class, client.getTableSchema("events"));
+ * try (BatchingInserter inserter = client.newBatchingInserter("events")
+ *         .setMaxRows(100_000)
+ *         .setLinger(1, ChronoUnit.SECONDS)
+ *         .setFlushListener((response, error) -> ...)
+ *         .build()) {
+ *     inserter.add(event);
+ * }
+ * }</pre>
+ */
+public class BatchingInserter implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingInserter.class);
+
+    private final Client client;
+
+    private final String tableName;
+
+    private final ClickHouseFormat format;
+
+    private final InsertSettings settings;
+
+    private final int maxRows;
+
+    private final long maxBytes;
+
+    private final long lingerNanos;
+
+    private final BiConsumer<InsertResponse, Throwable> flushListener;
+
+    private final AtomicReferenceArray<RowBuffer> stripes;
+
+    // sent buffers waiting to replace stripes taken by the next flush
+    private final Queue<RowBuffer> freeBuffers;
+
+    private final Map<Class<?>, List<POJOSerializer>> serializers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingRows = new AtomicInteger();
+
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    // System.nanoTime() when the first row after the last flush was added, 0 if there are no rows
+    private final AtomicLong firstRowNanos = new AtomicLong();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Semaphore flushPermits;
+
+    private final int maxInFlightFlushes;
+
+    private final ExecutorService flushExecutor;
+
+    private final ScheduledExecutorService lingerTimer;
+
+    private volatile boolean closed = false;
+
+    BatchingInserter(Client client, String tableName, ClickHouseFormat format, InsertSettings settings, int maxRows,
+                     long maxBytes, long lingerMs, int maxInFlightFlushes, int stripes,
+                     BiConsumer<InsertResponse, Throwable> flushListener) {
+        this.client = client;
+        this.tableName = tableName;
+        this.format = format;
+        this.settings = settings;
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.flushListener = flushListener;
+        this.stripes = new AtomicReferenceArray<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes.set(i, new RowBuffer());
+        }
+        this.freeBuffers = new ArrayBlockingQueue<>(stripes);
+        this.maxInFlightFlushes = maxInFlightFlushes;
+        this.flushPermits = new Semaphore(maxInFlightFlushes);
+        this.flushExecutor = Executors.newFixedThreadPool(maxInFlightFlushes,
+                new DefaultThreadFactory("chc-batch-insert", true));
+
+        if (lingerMs > 0) {
+            long checkInterval = Math.max(1L, lingerMs / 4);
+            this.lingerTimer = Executors.newSingleThreadScheduledExecutor(
+                    new DefaultThreadFactory("chc-batch-insert-linger", true));
+            this.lingerTimer.scheduleWithFixedDelay(this::flushIfLingered, checkInterval, checkInterval,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.lingerTimer = null;
+        }
+    }
+
+    /**
+     * Serializes an object and adds it to the next batch. Object class should be registered with
+     * {@link Client#register(Class, com.clickhouse.client.api.metadata.TableSchema)} for the table.
+     * Blocks if this call triggers a flush and maximum number of flushes is in progress.
+     *
+     * @param obj - object to insert
+     * @throws IllegalStateException if the inserter is closed
+     */
+    public void add(Object obj) {
+        if (closed) {
+            throw new IllegalStateException("Batching inserter is closed");
+        }
+
+        List<POJOSerializer> rowSerializers = serializers.computeIfAbsent(obj.getClass(),
+                clazz -> client.getSerializersForTable(clazz, tableName));
+
+        int index = (int) (Thread.currentThread().getId() % stripes.length());
+        while (!append(stripes.get(index), obj, rowSerializers)) {
+            // stripe was taken by a flush after we got it - retry with a new one unless it was the final flush
+            if (closed) {
+                throw new IllegalStateException("Batching inserter is closed");
+            }
+        }
+
+        if (pendingRows.get() >= maxRows || pendingBytes.get() >= maxBytes) {
+            flush();
+        }
+    }
+
+    private boolean append(RowBuffer stripe, Object obj, List<POJOSerializer> rowSerializers) {
+        // Size of a row is not known until it is serialized, so space can't be claimed in advance. The lock is
+        // rarely contended because a stripe is selected by thread.
+        synchronized (stripe) {
+            if (stripe.sealed) {
+                return false;
+            }
+            int start = stripe.size();
+            try {
+                for (POJOSerializer serializer : rowSerializers) {
+                    serializer.serialize(obj, stripe);
+                }
+            } catch (Exception e) {
+                stripe.truncate(start);
+                throw new DataSerializationException("Failed to serialize " + obj, e);
+            }
+            stripe.rows++;
+            // counters are updated while holding the stripe so they always match the rows taken by a flush
+            firstRowNanos.compareAndSet(0L, System.nanoTime() | 1L);
+            pendingRows.incrementAndGet();
+            pendingBytes.addAndGet(stripe.size() - start);
+        }
+        return true;
+    }
+
+    /**
+     * Sends all accumulated rows. Blocks while maximum number of flushes is in progress.
+     *
+     * @return future of the insert response. Completed with {@code null} if there was nothing to send
+     */
+    public CompletableFuture<InsertResponse> flush() {
+        return flush(false);
+    }
+
+    /**
+     * Sends all accumulated rows.
+     *
+     * @param last - whether this is the final flush. All stripes are sealed and not replaced, so rows can't be
+     *             appended after it
+     * @return future of the insert response. Completed with {@code null} if there was nothing to send
+     */
+    private CompletableFuture<InsertResponse> flush(boolean last) {
+        flushLock.lock();
+        try {
+            if (pendingRows.get() == 0 && !last) {
+                return CompletableFuture.completedFuture(null);
+            }
+            flushPermits.acquireUninterruptibly();
+            // reset before taking rows so a row added concurrently keeps its timestamp
+            firstRowNanos.set(0L);
+
+            List<RowBuffer> batch = new ArrayList<>(stripes.length());
+            int rows = 0;
+            long bytes = 0;
+            for (int i = 0; i < stripes.length(); i++) {
+                RowBuffer stripe = stripes.get(i);
+                synchronized (stripe) {
+                    if (stripe.rows > 0 || last) {
+                        stripe.sealed = true;
+                        batch.add(stripe);
+                        rows += stripe.rows;
+                        bytes += stripe.size();
+                        if (!last) {
+                            stripes.set(i, nextBuffer());
+                        }
+                    }
+                }
+            }
+            pendingRows.addAndGet(-rows);
+            pendingBytes.addAndGet(-bytes);
+            if (rows == 0) {
+                flushPermits.release();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<InsertResponse> future = new CompletableFuture<>();
+            flushExecutor.execute(() -> send(batch, future));
+            return future;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void send(List<RowBuffer> batch, CompletableFuture<InsertResponse> future) {
+        InsertResponse response = null;
+        Throwable error = null;
+        try {
+            DataStreamWriter writer = out -> {
+                for (RowBuffer buffer : batch) {
+                    buffer.writeTo(out);
+                }
+            };
+            response = client.insert(tableName, writer, format, new InsertSettings(settings.getAllSettings())).get();
+            recycle(batch);
+        } catch (ExecutionException e) {
+            error = e.getCause();
+            recycle(batch);
+        } catch (InterruptedException e) {
+            // request may still be writing the buffers
+            Thread.currentThread().interrupt();
+            error = e;
+        } catch (Throwable e) {
+            error = e;
+        } finally {
+            flushPermits.release();
+        }
+
+        if (flushListener != null) {
+            try {
+                flushListener.accept(response, error);
+            } catch (Exception e) {
+                LOG.warn("Flush listener failed", e);
+            }
+        } else if (error != null) {
+            LOG.error("Failed to insert batch into {}", tableName, error);
+        }
+
+        if (error == null) {
+            future.complete(response);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Returns a buffer to replace a stripe taken by a flush. Should be called by the flushing thread.
+     */
+    private RowBuffer nextBuffer() {
+        RowBuffer buffer = freeBuffers.poll();
+        if (buffer == null) {
+            return new RowBuffer();
+        }
+        synchronized (buffer) {
+            // a writer that got the buffer before it was flushed may append to it from now on
+            buffer.sealed = false;
+        }
+        return buffer;
+    }
+
+    /**
+     * Clears sent buffers and keeps them for reuse. Buffers stay sealed until reused, so writers still holding them
+     * move on to the current stripes.
+     */
+    private void recycle(List<RowBuffer> batch) {
+        for (RowBuffer buffer : batch) {
+            synchronized (buffer) {
+                buffer.reset();
+                buffer.rows = 0;
+            }
+            if (!freeBuffers.offer(buffer)) {
+                break;
+            }
+        }
+    }
+
+    private void flushIfLingered() {
+        long first = firstRowNanos.get();
+        if (first != 0L && System.nanoTime() - first >= lingerNanos) {
+            try {
+                flush();
+            } catch (Exception e) {
+                LOG.warn("Failed to flush batch into {}", tableName, e);
+            }
+        }
+    }
+
+    /**
+     * Returns number of rows waiting for the next flush.
+     *
+     * @return number of rows
+     */
+    public int getPendingRows() {
+        return pendingRows.get();
+    }
+
+    /**
+     * Returns number of bytes waiting for the next flush.
+     *
+     * @return number of bytes
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    /**
+     * Returns number of flushes that are being sent.
+     *
+     * @return number of flushes in progress
+     */
+    public int getInFlightFlushes() {
+        return maxInFlightFlushes - flushPermits.availablePermits();
+    }
+
+    /**
+     * Flushes remaining rows and waits for all flushes to complete. Rows added concurrently are either sent by the
+     * final flush or rejected with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        // set before sealing stripes, so writers that find a sealed stripe know it will not be replaced
+        closed = true;
+        if (lingerTimer != null) {
+            lingerTimer.shutdownNow();
+        }
+        flush(true);
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Batching inserter for {} is closed with flushes in progress", tableName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Growable buffer with rows of a single stripe.
+     */
+    private static final class RowBuffer extends ByteArrayOutputStream {
+
+        int rows;
+
+        boolean sealed;
+
+        RowBuffer() {
+            super(8192);
+        }
+
+        void truncate(int size) {
+            count = size;
+        }
+    }
+
+    public static class Builder {
+
+        private final Client client;
+
+        private final String tableName;
+
+        private InsertSettings settings = new InsertSettings();
+
+        private int maxRows = 100_000;
+
+        private long maxBytes = 64L * 1024 * 1024;
+
+        private long lingerMs = 1000L;
+
+        private int maxInFlightFlushes = 2;
+
+        private int stripes = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+        private BiConsumer<InsertResponse, Throwable> flushListener;
+
+        Builder(Client client, String tableName) {
+            this.client = client;
+            this.tableName = tableName;
+        }
+
+        /**
+         * Sets number of rows that triggers a flush. Default is 100000.
+         *
+         * @param maxRows - number of rows
+         * @return this builder
+         */
+        public Builder setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+            return this;
+        }
+
+        /**
+         * Sets size of serialized rows that triggers a flush. Default is 64MB.
+         *
+         * @param maxBytes - size in bytes
+         * @return this builder
+         */
+        public Builder setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets maximum time a row waits for a flush. Default is 1 second. Zero disables time based flushes.
+         *
+         * @param time - time value
+         * @param unit - time unit
+         * @return this builder
+         */
+        public Builder setLinger(long time, ChronoUnit unit) {
+            this.lingerMs = Duration.of(time, unit).toMillis();
+            return this;
+        }
+
+        /**
+         * Sets maximum number of flushes that are sent concurrently. Writers are blocked when a flush is needed and
+         * this number is reached. Default is 2.
+         *
+         * @param maxInFlightFlushes - number of flushes
+         * @return this builder
+         */
+        public Builder setMaxInFlightFlushes(int maxInFlightFlushes) {
+            this.maxInFlightFlushes = maxInFlightFlushes;
+            return this;
+        }
+
+        /**
+         * Sets number of buffers that writers are distributed across. Default is number of available processors.
+         *
+         * @param stripes - number of buffers
+         * @return this builder
+         */
+        public Builder setStripes(int stripes) {
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Sets settings used for every insert.
+         *
+         * @param settings - insert settings
+         * @return this builder
+         */
+        public Builder setInsertSettings(InsertSettings settings) {
+            this.settings = settings;
+            return this;
+        }
+
+        /**
+         * Sets listener called after every flush with insert response or error.
+         *
+         * @param flushListener - listener
+         * @return this builder
+         */
+        public Builder setFlushListener(BiConsumer<InsertResponse, Throwable> flushListener) {
+            this.flushListener = flushListener;
+            return this;
+        }
+
+        public BatchingInserter build() {
+            if (maxRows <= 0 || maxBytes <= 0) {
+                throw new ClientMisconfigurationException("Maximum number of rows and bytes should be positive");
+            }
+            if (maxInFlightFlushes <= 0 || stripes <= 0 || lingerMs < 0) {
+                throw new ClientMisconfigurationException("Invalid batching inserter configuration");
+            }
+            return new BatchingInserter(client, tableName, client.getInsertFormat(tableName), settings, maxRows,
+                    maxBytes, lingerMs, maxInFlightFlushes, stripes, flushListener);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import com.clickhouse.client.api.command.CommandSettings;
 import com.clickhouse.client.api.data_formats.ClickHouseBinaryFormatReader;
 import com.clickhouse.client.api.data_formats.NativeFormatReader;
 import com.clickhouse.client.api.data_formats.RowBinaryFormatReader;
-import com.clickhouse.client.api.data_formats.RowBinaryFormatSerializer;
 import com.clickhouse.client.api.data_formats.RowBinaryWithNamesAndTypesFormatReader;
 import com.clickhouse.client.api.data_formats.RowBinaryWithNamesFormatReader;
 import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
@@ -29,14 +28,26 @@ import com.clickhouse.client.api.internal.ClientStatisticsHolder;
 import com.clickhouse.client.api.internal.ClientV1AdaptorHelper;
 import com.clickhouse.client.api.internal.HttpAPIClientHelper;
 import com.clickhouse.client.api.internal.MapUtils;
+import com.clickhouse.client.api.internal.NodeState;
+import com.clickhouse.client.api.internal.PipelinedDataStreamWriter;
+import com.clickhouse.client.api.internal.PublisherIterator;
+import com.clickhouse.client.api.internal.RecordsPublisher;
+import com.clickhouse.client.api.internal.ServerNodeManager;
+import com.clickhouse.client.api.internal.ServerSettings;
 import com.clickhouse.client.api.internal.SettingsConverter;
+import com.clickhouse.client.api.internal.StopWatch;
 import com.clickhouse.client.api.internal.TableSchemaParser;
 import com.clickhouse.client.api.internal.ValidationUtils;
 import com.clickhouse.client.api.metadata.ColumnToMethodMatchingStrategy;
 import com.clickhouse.client.api.metadata.DefaultColumnToMethodMatchingStrategy;
 import com.clickhouse.client.api.metadata.TableSchema;
 import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.ClientMetricsRegistry;
+import com.clickhouse.client.api.metrics.Metric;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
 import com.clickhouse.client.api.metrics.OperationMetrics;
+import com.clickhouse.client.api.metrics.ProgressListener;
+import com.clickhouse.client.api.metrics.QueryProgress;
 import com.clickhouse.client.api.query.GenericRecord;
 import com.clickhouse.client.api.query.POJOSetter;
 import com.clickhouse.client.api.query.QueryResponse;
@@ -45,13 +56,15 @@ import com.clickhouse.client.api.query.Records;
 import com.clickhouse.client.config.ClickHouseClientOption;
 import com.clickhouse.data.ClickHouseColumn;
 import com.clickhouse.data.ClickHouseFormat;
-import org.apache.hc.client5.http.ConnectTimeoutException;
+import com.clickhouse.data.ClickHouseValues;
 import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.reactivestreams.Publisher;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.NoHttpResponseException;
+import org.apache.hc.core5.io.IOCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,7 +75,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.ConnectException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -73,6 +85,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,11 +98,19 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
@@ -135,17 +156,32 @@ public class Client implements AutoCloseable {
 
     private final List<ClickHouseNode> serverNodes = new ArrayList<>();
 
+    private final ServerNodeManager nodeManager;
+
     // POJO serializer mapping (class -> (schema -> (format -> serializer)))
     private final Map<Class<?>, Map<String, Map<String, POJOSerializer>>> serializers;
 
+    // Compiled POJO row serializers (class -> (schema -> serializer))
+    private final Map<Class<?>, Map<String, POJOSerializer>> rowSerializers;
+
     // POJO deserializer mapping (class -> (schema -> (format -> deserializer)))
     private final Map<Class<?>, Map<String, Map<String, POJOSetter>>> deserializers;
 
     private static final Logger LOG = LoggerFactory.getLogger(Client.class);
+
+    private static final ThreadFactory INSERT_SERIALIZER_THREAD_FACTORY =
+            new DefaultThreadFactory("chc-insert-serializer", true);
     private final ExecutorService sharedOperationExecutor;
 
+    // used by publishers when shared operation executor is not set
+    private ExecutorService publisherExecutor;
+
     private final Map<String, ClientStatisticsHolder> globalClientStats = new ConcurrentHashMap<>();
 
+    private final AtomicLong operationIdSequence = new AtomicLong();
+
+    private final MetricsRecorder metricsRecorder;
+
     private boolean useNewImplementation = false;
 
     private ClickHouseClient oldClient = null;
@@ -159,7 +195,8 @@ public class Client implements AutoCloseable {
     private String serverVersion;
 
     private Client(Set<String> endpoints, Map<String,String> configuration, boolean useNewImplementation,
-                   ExecutorService sharedOperationExecutor, ColumnToMethodMatchingStrategy columnToMethodMatchingStrategy) {
+                   ExecutorService sharedOperationExecutor, ColumnToMethodMatchingStrategy columnToMethodMatchingStrategy,
+                   LoadBalancingPolicy loadBalancingPolicy, MetricsRecorder metricsRecorder) {
         this.endpoints = endpoints;
         this.configuration = configuration;
         this.readOnlyConfig = Collections.unmodifiableMap(this.configuration);
@@ -167,6 +204,7 @@ public class Client implements AutoCloseable {
             this.serverNodes.add(ClickHouseNode.of(endpoint, this.configuration));
         });
         this.serializers = new ConcurrentHashMap<>();
+        this.rowSerializers = new ConcurrentHashMap<>();
         this.deserializers = new ConcurrentHashMap<>();
 
         boolean isAsyncEnabled = MapUtils.getFlag(this.configuration, ClientConfigProperties.ASYNC_OPERATIONS.getKey(), false);
@@ -175,16 +213,21 @@ public class Client implements AutoCloseable {
         } else {
             this.sharedOperationExecutor = sharedOperationExecutor;
         }
+        this.metricsRecorder = metricsRecorder;
         this.useNewImplementation = useNewImplementation;
         if (useNewImplementation) {
-            this.httpClientHelper = new HttpAPIClientHelper(configuration);
+            this.httpClientHelper = new HttpAPIClientHelper(configuration, metricsRecorder);
             LOG.info("Using new http client implementation");
         } else {
             this.oldClient = ClientV1AdaptorHelper.createClient(configuration);
             LOG.info("Using old http client implementation");
         }
         this.columnToMethodMatchingStrategy = columnToMethodMatchingStrategy;
-
+        this.nodeManager = new ServerNodeManager(serverNodes, loadBalancingPolicy,
+                MapUtils.getInt(configuration, ClientConfigProperties.NODE_FAILURES_BEFORE_EJECTION.getKey()),
+                MapUtils.getLong(configuration, ClientConfigProperties.NODE_EJECTION_TIME.getKey()),
+                MapUtils.getLong(configuration, ClientConfigProperties.HEALTH_CHECK_INTERVAL.getKey()),
+                this::pingNode);
 
         updateServerContext();
     }
@@ -232,6 +275,12 @@ public class Client implements AutoCloseable {
             LOG.error("Failed to close shared operation executor", e);
         }
 
+        synchronized (this) {
+            if (publisherExecutor != null) {
+                publisherExecutor.shutdownNow();
+            }
+        }
+
         if (oldClient != null) {
             oldClient.close();
         }
@@ -239,6 +288,8 @@ public class Client implements AutoCloseable {
         if (httpClientHelper != null) {
             httpClientHelper.close();
         }
+
+        nodeManager.close();
     }
 
 
@@ -251,6 +302,9 @@ public class Client implements AutoCloseable {
 
         private ExecutorService sharedOperationExecutor = null;
         private ColumnToMethodMatchingStrategy columnToMethodMatchingStrategy;
+        private LoadBalancingPolicy loadBalancingPolicy = null;
+
+        private MetricsRecorder metricsRecorder = null;
 
         public Builder() {
             this.endpoints = new HashSet<>();
@@ -506,6 +560,59 @@ public class Client implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets policy to select a server node for each request when there are multiple endpoints.
+         * Default is {@link LoadBalancingPolicy#roundRobin()}.
+         *
+         * @param policy - load balancing policy. Instance should not be shared between clients
+         * @return
+         */
+        public Builder setLoadBalancingPolicy(LoadBalancingPolicy policy) {
+            this.loadBalancingPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Sets recorder of client metrics like request timings, retries and transferred bytes.
+         * By default, client keeps metrics in its own {@link ClientMetricsRegistry} available
+         * thru {@link Client#getMetricsRecorder()}. Use {@link MetricsRecorder#NOOP} to disable recording.
+         *
+         * @param recorder - metrics recorder. Should be thread-safe
+         * @return
+         */
+        public Builder setMetricsRecorder(MetricsRecorder recorder) {
+            this.metricsRecorder = recorder;
+            return this;
+        }
+
+        /**
+         * Sets interval of background health checks for server nodes. Failed nodes are excluded from load
+         * balancing until a check succeeds. Checks are disabled by default and are never done for a single endpoint.
+         *
+         * @param interval - interval between checks
+         * @param unit - time unit
+         * @return
+         */
+        public Builder setHealthCheckInterval(long interval, ChronoUnit unit) {
+            this.configuration.put(ClientConfigProperties.HEALTH_CHECK_INTERVAL.getKey(), String.valueOf(Duration.of(interval, unit).toMillis()));
+            return this;
+        }
+
+        /**
+         * Configures when a server node is excluded from load balancing. Node is excluded after given number of
+         * consecutive failed requests and stays excluded for given time or until a health check succeeds.
+         *
+         * @param failures - number of consecutive failures. Default is 3
+         * @param time - ejection time. Default is 30 seconds
+         * @param unit - time unit
+         * @return
+         */
+        public Builder setNodeEjection(int failures, long time, ChronoUnit unit) {
+            this.configuration.put(ClientConfigProperties.NODE_FAILURES_BEFORE_EJECTION.getKey(), String.valueOf(failures));
+            this.configuration.put(ClientConfigProperties.NODE_EJECTION_TIME.getKey(), String.valueOf(Duration.of(time, unit).toMillis()));
+            return this;
+        }
+
         // SOCKET SETTINGS
 
         /**
@@ -642,6 +749,43 @@ public class Client implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Enables parallel decompression of LZ4 compressed responses. Blocks of a response are read ahead and
+         * decompressed on a shared pool of threads while the application consumes previous ones. It helps when
+         * response is large and decompression competes with data parsing on the reading thread.
+         *
+         * @param threads - number of decompression threads shared by all responses. Zero disables the feature
+         * @param readAheadBlocks - maximum number of blocks decompressed ahead per response. Default is 4
+         * @return
+         */
+        public Builder setLZ4DecompressionReadAhead(int threads, int readAheadBlocks) {
+            if (threads < 0 || readAheadBlocks < 1) {
+                throw new IllegalArgumentException("Number of threads should not be negative and number of read ahead blocks should be positive");
+            }
+            this.configuration.put(ClientConfigProperties.COMPRESSION_LZ4_DECOMPRESSION_THREADS.getKey(), String.valueOf(threads));
+            this.configuration.put(ClientConfigProperties.COMPRESSION_LZ4_READ_AHEAD_BLOCKS.getKey(), String.valueOf(readAheadBlocks));
+            return this;
+        }
+
+        /**
+         * Enables parallel compression of LZ4 compressed requests. Filled blocks are compressed on a shared pool of
+         * threads while the application writes next ones, and are sent in the original order. Up to twice as many
+         * blocks as threads are compressed at once per request. Larger blocks reduce per-block overhead for big
+         * inserts.
+         *
+         * @param threads - number of compression threads shared by all requests. Zero disables the feature
+         * @param blockSize - size of uncompressed block in bytes
+         * @return
+         */
+        public Builder setLZ4ParallelCompression(int threads, int blockSize) {
+            if (threads < 0 || blockSize < 1) {
+                throw new IllegalArgumentException("Number of threads should not be negative and block size should be positive");
+            }
+            this.configuration.put(ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_THREADS.getKey(), String.valueOf(threads));
+            this.configuration.put(ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_BLOCK_SIZE.getKey(), String.valueOf(blockSize));
+            return this;
+        }
+
         /**
          * Sets the default database name that will be used by operations if not specified.
          * @param database - actual default database name.
@@ -877,6 +1021,40 @@ public class Client implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Configures binary format readers to decode values of strings, dates, arrays, maps, tuples and other
+         * non-primitive columns only when they are requested. Values of such columns are kept as raw bytes of the row
+         * and columns that are not read are only skipped. It reduces CPU and allocations when only a few columns of
+         * a wide result are read. Numbers are always decoded eagerly.
+         * Applies to row based access of RowBinary formats.
+         *
+         * Default is false.
+         * @param enable - if to decode values on demand
+         * @return
+         */
+        public Builder useLazyColumnDecoding(boolean enable) {
+            this.configuration.put(ClientConfigProperties.BINARY_READER_LAZY_DECODING.getKey(), String.valueOf(enable));
+            return this;
+        }
+
+        /**
+         * Configures binary format readers to read and decode up to {@code rows} rows in a background thread
+         * while application processes current row. Reading from network and decompression overlap with processing
+         * and memory used by read ahead rows is bounded. Row slots are reused so no objects are created per row.
+         * Applies to row based access ({@code next()}) of binary format readers.
+         *
+         * Default is 0 - rows are read when requested.
+         * @param rows - number of rows to read ahead
+         * @return same instance of the builder
+         */
+        public Builder setReaderPrefetchRows(int rows) {
+            if (rows < 0) {
+                throw new IllegalArgumentException("Number of prefetch rows should be non-negative");
+            }
+            this.configuration.put(ClientConfigProperties.BINARY_READER_PREFETCH_ROWS.getKey(), String.valueOf(rows));
+            return this;
+        }
+
         /**
          * Defines list of headers that should be sent with each request. The Client will use a header value
          * defined in {@code headers} instead of any other.
@@ -1066,7 +1244,7 @@ public class Client implements AutoCloseable {
             }
 
             return new Client(this.endpoints, this.configuration, this.useNewImplementation, this.sharedOperationExecutor,
-                this.columnToMethodMatchingStrategy);
+                this.columnToMethodMatchingStrategy, this.loadBalancingPolicy, this.metricsRecorder);
         }
 
 
@@ -1097,6 +1275,21 @@ public class Client implements AutoCloseable {
                 setLZ4UncompressedBufferSize(ClickHouseLZ4OutputStream.UNCOMPRESSED_BUFF_SIZE);
             }
 
+            if (!configuration.containsKey(ClientConfigProperties.COMPRESSION_LZ4_DECOMPRESSION_THREADS.getKey())) {
+                configuration.put(ClientConfigProperties.COMPRESSION_LZ4_DECOMPRESSION_THREADS.getKey(),
+                        ClientConfigProperties.COMPRESSION_LZ4_DECOMPRESSION_THREADS.getDefaultValue());
+            }
+
+            if (!configuration.containsKey(ClientConfigProperties.COMPRESSION_LZ4_READ_AHEAD_BLOCKS.getKey())) {
+                configuration.put(ClientConfigProperties.COMPRESSION_LZ4_READ_AHEAD_BLOCKS.getKey(),
+                        ClientConfigProperties.COMPRESSION_LZ4_READ_AHEAD_BLOCKS.getDefaultValue());
+            }
+
+            if (!configuration.containsKey(ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_THREADS.getKey())) {
+                configuration.put(ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_THREADS.getKey(),
+                        ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_THREADS.getDefaultValue());
+            }
+
             if (!configuration.containsKey(ClientConfigProperties.USE_SERVER_TIMEZONE.getKey())) {
                 useServerTimeZone(true);
             }
@@ -1150,6 +1343,29 @@ public class Client implements AutoCloseable {
                 columnToMethodMatchingStrategy = DefaultColumnToMethodMatchingStrategy.INSTANCE;
             }
 
+            if (metricsRecorder == null) {
+                metricsRecorder = new ClientMetricsRegistry();
+            }
+
+            if (loadBalancingPolicy == null) {
+                loadBalancingPolicy = LoadBalancingPolicy.of(
+                        configuration.get(ClientConfigProperties.LOAD_BALANCING_POLICY.getKey()));
+            }
+
+            if (!configuration.containsKey(ClientConfigProperties.HEALTH_CHECK_INTERVAL.getKey())) {
+                setHealthCheckInterval(0, MILLIS);
+            }
+
+            if (!configuration.containsKey(ClientConfigProperties.NODE_FAILURES_BEFORE_EJECTION.getKey())) {
+                configuration.put(ClientConfigProperties.NODE_FAILURES_BEFORE_EJECTION.getKey(),
+                        ClientConfigProperties.NODE_FAILURES_BEFORE_EJECTION.getDefaultValue());
+            }
+
+            if (!configuration.containsKey(ClientConfigProperties.NODE_EJECTION_TIME.getKey())) {
+                configuration.put(ClientConfigProperties.NODE_EJECTION_TIME.getKey(),
+                        ClientConfigProperties.NODE_EJECTION_TIME.getDefaultValue());
+            }
+
             if (!configuration.containsKey(ClientConfigProperties.HTTP_USE_BASIC_AUTH.getKey())) {
                 useHTTPBasicAuth(true);
             }
@@ -1173,8 +1389,138 @@ public class Client implements AutoCloseable {
     }
 
     private ClickHouseNode getServerNode() {
-        // TODO: implement load balancing using existing logic
-        return this.serverNodes.get(0);
+        return nodeManager.select(null).getNode();
+    }
+
+    /**
+     * Sends a request to the selected node and reports the outcome to the node manager.
+     * Connection failures, missing responses and {@code 503 Service Unavailable} responses are counted as node
+     * failures.
+     */
+    private ClassicHttpResponse executeRequest(NodeState node, Map<String, Object> requestConfig,
+                                               IOCallback<OutputStream> writeCallback) throws IOException {
+        long startNanos = System.nanoTime();
+        Consumer<String> progressHandler = null;
+        ProgressListener listener = (ProgressListener) requestConfig.get(ClientConfigProperties.PROGRESS_LISTENER.getKey());
+        if (listener != null) {
+            // settings of the operation belong to the caller and may be shared by concurrent operations
+            requestConfig = new HashMap<>(requestConfig);
+            progressHandler = createProgressHandler(node.getNode(), requestConfig, listener);
+        }
+        nodeManager.onRequestStart(node);
+        try {
+            ClassicHttpResponse response = httpClientHelper.executeRequest(node.getNode(), requestConfig, writeCallback,
+                    progressHandler);
+            nodeManager.onRequestComplete(node, startNanos);
+            return response;
+        } catch (IOException e) {
+            if (isNodeFailure(e)) {
+                nodeManager.onRequestFailure(node);
+            } else {
+                // e.g. timed out waiting for a connection from the local pool, which says nothing about the node
+                nodeManager.onRequestAborted(node);
+            }
+            throw e;
+        } catch (ConnectionInitiationException e) {
+            nodeManager.onRequestFailure(node);
+            throw e;
+        } catch (ServerException e) {
+            if (e.getTransportProtocolCode() == HttpStatus.SC_SERVICE_UNAVAILABLE) {
+                nodeManager.onRequestFailure(node);
+            } else {
+                // server is alive and has responded
+                nodeManager.onRequestComplete(node, startNanos);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            nodeManager.onRequestAborted(node);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the exception means that the node has dropped the connection. Connect failures come wrapped into
+     * {@link ConnectionInitiationException}.
+     */
+    private static boolean isNodeFailure(IOException e) {
+        return e instanceof NoHttpResponseException;
+    }
+
+    /**
+     * Creates a handler of progress headers for the given listener. Makes sure the server sends progress and the query
+     * has an id, so it can be killed on the node running it. Settings are updated in place, so the given map should be
+     * a copy owned by the request.
+     */
+    private Consumer<String> createProgressHandler(ClickHouseNode node, Map<String, Object> requestConfig,
+                                                   ProgressListener listener) {
+        Object id = requestConfig.get(ClientConfigProperties.QUERY_ID.getKey());
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+            requestConfig.put(ClientConfigProperties.QUERY_ID.getKey(), id);
+        }
+        requestConfig.putIfAbsent(ClientConfigProperties.serverSetting(ServerSettings.SEND_PROGRESS_IN_HTTP_HEADERS), "1");
+
+        final String queryId = id.toString();
+        final AtomicReference<CompletableFuture<Boolean>> cancellation = new AtomicReference<>();
+        final Supplier<CompletableFuture<Boolean>> canceller = () -> {
+            CompletableFuture<Boolean> kill = new CompletableFuture<>();
+            if (cancellation.compareAndSet(null, kill)) {
+                // never block the thread reading the response
+                Executor executor = sharedOperationExecutor == null ? ForkJoinPool.commonPool() : sharedOperationExecutor;
+                executor.execute(() -> kill.complete(killQuery(node, queryId)));
+            }
+            return cancellation.get();
+        };
+        return value -> {
+            QueryProgress progress = new QueryProgress(queryId, canceller);
+            try {
+                ProcessParser.parseProgress(value, progress);
+                listener.onProgress(progress);
+            } catch (Exception e) {
+                LOG.warn("Failed to handle progress of query {}", queryId, e);
+            }
+        };
+    }
+
+    /**
+     * Kills a query on a particular node bypassing load balancing, as queries are only known to the node running them.
+     */
+    private boolean killQuery(ClickHouseNode node, String queryId) {
+        Map<String, Object> requestConfig = new HashMap<>();
+        requestConfig.put(ClientConfigProperties.INPUT_OUTPUT_FORMAT.getKey(), ClickHouseFormat.TabSeparated.name());
+        byte[] sql = ("KILL QUERY WHERE query_id = " + ClickHouseValues.convertToQuotedString(queryId) + " ASYNC")
+                .getBytes(StandardCharsets.UTF_8);
+        try (ClassicHttpResponse response = httpClientHelper.executeRequest(node, requestConfig, out -> {
+            out.write(sql);
+            out.close();
+        })) {
+            return response.getCode() == HttpStatus.SC_OK;
+        } catch (Exception e) {
+            LOG.warn("Failed to kill query {} on {}", queryId, node.getBaseUri(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks a particular node bypassing load balancing. Used by background health checks.
+     */
+    private boolean pingNode(ClickHouseNode node) {
+        int timeout = getOperationTimeout();
+        if (useNewImplementation) {
+            Map<String, Object> requestConfig = new HashMap<>();
+            requestConfig.put(ClientConfigProperties.INPUT_OUTPUT_FORMAT.getKey(), ClickHouseFormat.TabSeparated.name());
+            try (ClassicHttpResponse response = httpClientHelper.executeRequest(node, requestConfig, out -> {
+                out.write("SELECT 1".getBytes(StandardCharsets.US_ASCII));
+                out.close();
+            })) {
+                return response.getCode() == HttpStatus.SC_OK;
+            } catch (Exception e) {
+                LOG.debug("Failed to ping {}", node.getBaseUri(), e);
+                return false;
+            }
+        } else {
+            return oldClient.ping(node, timeout > 0 ? timeout : 10000);
+        }
     }
 
     /**
@@ -1242,6 +1588,7 @@ public class Client implements AutoCloseable {
 
         Map<String, POJOSerializer> schemaSerializers = new HashMap<>();
         Map<String, POJOSetter> schemaDeserializers = new ConcurrentHashMap<>();
+        List<Method> rowGetters = new ArrayList<>();
         boolean defaultsSupport = schema.hasDefaults();
         tableSchemaHasDefaults.put(schemaKey, defaultsSupport);
         for (ClickHouseColumn column : schema.getColumns()) {
@@ -1250,11 +1597,9 @@ public class Client implements AutoCloseable {
             if (getterMethod != null) {
                 schemaSerializers.put(column.getColumnName(), (obj, stream) -> {
                     Object value = getterMethod.invoke(obj);
-
-                    if (RowBinaryFormatSerializer.writeValuePreamble(stream, defaultsSupport, column, value)) {
-                        SerializerUtils.serializeData(stream, value, column);
-                    }
+                    SerializerUtils.serializeValue(stream, defaultsSupport, column, value);
                 });
+                rowGetters.add(getterMethod);
             } else {
                 LOG.warn("No getter method found for column: {}", propertyName);
             }
@@ -1273,6 +1618,18 @@ public class Client implements AutoCloseable {
 
         classSerializers.put(schemaKey, schemaSerializers);
         classDeserializers.put(schemaKey, schemaDeserializers);
+
+        // Whole row serializer is possible only when every column has a getter
+        Map<String, POJOSerializer> classRowSerializers = rowSerializers.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        classRowSerializers.remove(schemaKey);
+        if (rowGetters.size() == schema.getColumns().size()) {
+            try {
+                classRowSerializers.put(schemaKey,
+                        SerializerUtils.compilePOJOSerializer(clazz, schema.getColumns(), rowGetters, defaultsSupport));
+            } catch (ClientException e) {
+                LOG.warn("Failed to compile serializer for {}, falling back to reflection", clazz.getName(), e);
+            }
+        }
     }
 
     /**
@@ -1322,12 +1679,8 @@ public class Client implements AutoCloseable {
         }
 
 
-        String operationId = registerOperationMetrics();
-        settings.setOperationId(operationId);
-        if (useNewImplementation) {
-            globalClientStats.get(operationId).start(ClientMetrics.OP_DURATION);
-        }
-        globalClientStats.get(operationId).start(ClientMetrics.OP_SERIALIZATION);
+        final StopWatch duration = new StopWatch(System.nanoTime());
+        final StopWatch serialization = new StopWatch(System.nanoTime());
 
         //Add format to the settings
         if (settings == null) {
@@ -1341,16 +1694,7 @@ public class Client implements AutoCloseable {
             throw new IllegalArgumentException("Table schema not found for table: " + tableName + ". Did you forget to register it?");
         }
         //Lookup the Serializer for the POJO
-        Map<String, POJOSerializer> classSerializers = serializers.getOrDefault(data.get(0).getClass(), Collections.emptyMap())
-                .getOrDefault(tableName, Collections.emptyMap());
-        List<POJOSerializer> serializersForTable = new ArrayList<>();
-        for (ClickHouseColumn column : tableSchema.getColumns()) {
-            POJOSerializer serializer = classSerializers.get(column.getColumnName());
-            if (serializer == null) {
-                throw new IllegalArgumentException("No serializer found for column '" + column.getColumnName() + "'. Did you forget to register it?");
-            }
-            serializersForTable.add(serializer);
-        }
+        List<POJOSerializer> serializersForTable = getSerializersForTable(data.get(0).getClass(), tableName, tableSchema);
 
 
         if (useNewImplementation) {
@@ -1361,13 +1705,13 @@ public class Client implements AutoCloseable {
             final InsertSettings finalSettings = settings;
             Supplier<InsertResponse> supplier = () -> {
                 // Selecting some node
-                ClickHouseNode selectedNode = getNextAliveNode();
+                NodeState selectedNode = nodeManager.select(null);
 
                 ClientException lastException = null;
                 for (int i = 0; i <= maxRetries; i++) {
                     // Execute request
                     try (ClassicHttpResponse httpResponse =
-                            httpClientHelper.executeRequest(selectedNode, finalSettings.getAllSettings(),
+                            executeRequest(selectedNode, finalSettings.getAllSettings(),
                                     out -> {
                                         out.write("INSERT INTO ".getBytes());
                                         out.write(tableName.getBytes());
@@ -1384,30 +1728,40 @@ public class Client implements AutoCloseable {
                                                 }
                                             }
                                         }
+                                        serialization.stop();
                                         out.close();
                                     })) {
 
 
-                        // Check response
-                        if (httpResponse.getCode() == HttpStatus.SC_SERVICE_UNAVAILABLE) {
-                            LOG.warn("Failed to get response. Server returned {}. Retrying.", httpResponse.getCode());
-                            selectedNode = getNextAliveNode();
-                            continue;
-                        }
-
-                        ClientStatisticsHolder clientStats = globalClientStats.remove(operationId);
-                        OperationMetrics metrics = new OperationMetrics(clientStats);
+                        OperationMetrics metrics = completeOperation(duration, serialization);
                         String summary = HttpAPIClientHelper.getHeaderVal(httpResponse.getFirstHeader(ClickHouseHttpProto.HEADER_SRV_SUMMARY), "{}");
                         ProcessParser.parseSummary(summary, metrics);
                         String queryId =  HttpAPIClientHelper.getHeaderVal(httpResponse.getFirstHeader(ClickHouseHttpProto.HEADER_QUERY_ID), finalSettings.getQueryId(), String::valueOf);
-                        metrics.operationComplete();
                         metrics.setQueryId(queryId);
                         return new InsertResponse(metrics);
-                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException | ConnectTimeoutException | ConnectException e) {
+                    } catch (ServerException e) {
+                        if (e.getTransportProtocolCode() != HttpStatus.SC_SERVICE_UNAVAILABLE || i == maxRetries) {
+                            throw e;
+                        }
+                        LOG.warn("Failed to get response. Server returned {}. Retrying.", e.getTransportProtocolCode());
+                        metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                        selectedNode = nodeManager.select(selectedNode);
+                    } catch (ConnectionInitiationException e) {
+                        // failed to connect, the cause tells whether to try another node
+                        lastException = e;
+                        if (httpClientHelper.shouldRetry(e.getCause(), finalSettings.getAllSettings())) {
+                            LOG.warn("Retrying", e);
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
+                        } else {
+                            throw e;
+                        }
+                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException e) {
                         lastException = httpClientHelper.wrapException("Insert request initiation failed", e);
                         if (httpClientHelper.shouldRetry(e, finalSettings.getAllSettings())) {
                             LOG.warn("Retrying", e);
-                            selectedNode = getNextAliveNode();
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
                         } else {
                             throw lastException;
                         }
@@ -1434,11 +1788,158 @@ public class Client implements AutoCloseable {
                 }
             }
 
-            globalClientStats.get(operationId).stop(ClientMetrics.OP_SERIALIZATION);
+            serialization.stop();
+            // legacy response takes client side timings from statistics registered for the operation
+            String operationId = registerOperationMetrics();
+            globalClientStats.get(operationId).getStopWatches().put(ClientMetrics.OP_SERIALIZATION.getKey(), serialization);
+            settings.setOperationId(operationId);
             return insert(tableName, new ByteArrayInputStream(stream.toByteArray()), format, settings);
         }
     }
 
+    /**
+     * Returns builder of a {@link BatchingInserter} that accumulates objects and inserts them into the table in
+     * batches. Classes of the objects should be registered for the table with {@link #register(Class, TableSchema)}.
+     *
+     * @param tableName - destination table name
+     * @return batching inserter builder
+     */
+    public BatchingInserter.Builder newBatchingInserter(String tableName) {
+        if (!tableSchemaCache.containsKey(tableName)) {
+            throw new IllegalArgumentException("Table schema not found for table: " + tableName + ". Did you forget to register it?");
+        }
+        return new BatchingInserter.Builder(this, tableName);
+    }
+
+    ClickHouseFormat getInsertFormat(String tableName) {
+        return Boolean.TRUE.equals(tableSchemaHasDefaults.get(tableName)) ? ClickHouseFormat.RowBinaryWithDefaults
+                : ClickHouseFormat.RowBinary;
+    }
+
+    List<POJOSerializer> getSerializersForTable(Class<?> clazz, String tableName) {
+        TableSchema tableSchema = tableSchemaCache.get(tableName);
+        if (tableSchema == null) {
+            throw new IllegalArgumentException("Table schema not found for table: " + tableName + ". Did you forget to register it?");
+        }
+        return getSerializersForTable(clazz, tableName, tableSchema);
+    }
+
+    /**
+     * Returns serializers to call for each object of the class to write a row of the table.
+     */
+    private List<POJOSerializer> getSerializersForTable(Class<?> clazz, String tableName, TableSchema tableSchema) {
+        POJOSerializer rowSerializer = rowSerializers.getOrDefault(clazz, Collections.emptyMap()).get(tableName);
+        if (rowSerializer != null) {
+            return Collections.singletonList(rowSerializer);
+        }
+
+        Map<String, POJOSerializer> classSerializers = serializers.getOrDefault(clazz, Collections.emptyMap())
+                .getOrDefault(tableName, Collections.emptyMap());
+        List<POJOSerializer> serializersForTable = new ArrayList<>();
+        for (ClickHouseColumn column : tableSchema.getColumns()) {
+            POJOSerializer serializer = classSerializers.get(column.getColumnName());
+            if (serializer == null) {
+                throw new IllegalArgumentException("No serializer found for column '" + column.getColumnName() + "'. Did you forget to register it?");
+            }
+            serializersForTable.add(serializer);
+        }
+        return serializersForTable;
+    }
+
+    /**
+     * <p>Sends write request to database. Objects are taken from the stream while the request is being sent,
+     * so the whole data set is never kept in memory. See {@link #insert(String, Iterator, InsertSettings)}.</p>
+     *
+     * @param tableName - destination table name
+     * @param data - stream of objects of a registered class
+     * @param settings - insert operation settings
+     * @return {@code CompletableFuture<InsertResponse>} - a promise to insert response
+     */
+    public CompletableFuture<InsertResponse> insert(String tableName, Stream<?> data, InsertSettings settings) {
+        return insert(tableName, data.iterator(), settings);
+    }
+
+    /**
+     * <p>Sends write request to database. Objects are taken from the iterator while the request is being sent.
+     * They are serialized on a separate thread into a fixed number of reusable buffers of
+     * {@link InsertSettings#getInputStreamCopyBufferSize()} bytes (or {@link ClientConfigProperties#CLIENT_NETWORK_BUFFER_SIZE})
+     * so memory use doesn't depend on number of objects and serialization overlaps with sending data.
+     * All objects should be of the same class registered with {@link #register(Class, TableSchema)}.</p>
+     *
+     * <p>Iterator is consumed only once so request is not retried after data was sent.</p>
+     *
+     * @param tableName - destination table name
+     * @param data - iterator over objects of a registered class
+     * @param settings - insert operation settings
+     * @return {@code CompletableFuture<InsertResponse>} - a promise to insert response
+     */
+    public CompletableFuture<InsertResponse> insert(String tableName, Iterator<?> data, InsertSettings settings) {
+        if (data == null || !data.hasNext()) {
+            throw new IllegalArgumentException("Data cannot be empty");
+        }
+
+        TableSchema tableSchema = tableSchemaCache.get(tableName);
+        if (tableSchema == null) {
+            throw new IllegalArgumentException("Table schema not found for table: " + tableName + ". Did you forget to register it?");
+        }
+
+        Object first = data.next();
+        List<POJOSerializer> serializersForTable = getSerializersForTable(first.getClass(), tableName, tableSchema);
+        ClickHouseFormat format = getInsertFormat(tableName);
+
+        if (settings == null) {
+            settings = new InsertSettings();
+        }
+        final int bufferSize = settings.getInputStreamCopyBufferSize() <= 0 ?
+                Integer.parseInt(configuration.getOrDefault(ClientConfigProperties.CLIENT_NETWORK_BUFFER_SIZE.getKey(),
+                        ClientConfigProperties.CLIENT_NETWORK_BUFFER_SIZE.getDefaultValue())) :
+                settings.getInputStreamCopyBufferSize();
+
+        Iterator<?> rows = new Iterator<Object>() {
+            private boolean firstTaken = false;
+
+            @Override
+            public boolean hasNext() {
+                return !firstTaken || data.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                if (!firstTaken) {
+                    firstTaken = true;
+                    return first;
+                }
+                return data.next();
+            }
+        };
+
+        return insert(tableName, new PipelinedDataStreamWriter(rows, serializersForTable, bufferSize,
+                PipelinedDataStreamWriter.DEFAULT_BUFFER_COUNT, INSERT_SERIALIZER_THREAD_FACTORY), format, settings);
+    }
+
+    /**
+     * <p>Sends write request to database. Objects are requested from the publisher while the request is being sent,
+     * no more than {@link PublisherIterator#DEFAULT_PREFETCH} ahead of serialization, so a fast publisher is held
+     * back by the network. See {@link #insert(String, Iterator, InsertSettings)}.</p>
+     *
+     * <p>The request is started on the shared operation executor or, if it is not set, on an internal pool of daemon
+     * threads, because the first object is needed to find serializers. Subscription is cancelled when the insert
+     * fails. With Java 9+ a {@code java.util.concurrent.Flow.Publisher} can be converted with
+     * {@code org.reactivestreams.FlowAdapters}.</p>
+     *
+     * @param tableName - destination table name
+     * @param data - publisher of objects of a registered class
+     * @param settings - insert operation settings
+     * @return {@code CompletableFuture<InsertResponse>} - a promise to insert response
+     */
+    public CompletableFuture<InsertResponse> insert(String tableName, Publisher<?> data, InsertSettings settings) {
+        PublisherIterator<Object> rows = new PublisherIterator<>(PublisherIterator.DEFAULT_PREFETCH);
+        data.subscribe(rows);
+        return CompletableFuture.supplyAsync(() -> insert(tableName, rows, settings), getPublisherExecutor())
+                .thenCompose(Function.identity())
+                .whenComplete((response, error) -> rows.close());
+    }
+
     /**
      * <p>Sends write request to database. Input data is read from the input stream.</p>
      *
@@ -1507,17 +2008,7 @@ public class Client implements AutoCloseable {
                                      ClickHouseFormat format,
                                      InsertSettings settings) {
 
-        String operationId = (String) settings.getOperationId();
-        ClientStatisticsHolder clientStats = null;
-        if (operationId != null) {
-            clientStats = globalClientStats.remove(operationId);
-        }
-
-        if (clientStats == null) {
-            clientStats = new ClientStatisticsHolder();
-        }
-        clientStats.start(ClientMetrics.OP_DURATION);
-        final ClientStatisticsHolder finalClientStats = clientStats;
+        final StopWatch duration = new StopWatch(System.nanoTime());
 
         Supplier<InsertResponse> responseSupplier;
         if (useNewImplementation) {
@@ -1538,38 +2029,48 @@ public class Client implements AutoCloseable {
             finalSettings.serverSetting(ClickHouseHttpProto.QPARAM_QUERY_STMT, sqlStmt);
             responseSupplier = () -> {
                 // Selecting some node
-                ClickHouseNode selectedNode = getNextAliveNode();
+                NodeState selectedNode = nodeManager.select(null);
 
                 ClientException lastException = null;
                 for (int i = 0; i <= maxRetries; i++) {
                     // Execute request
                     try (ClassicHttpResponse httpResponse =
-                                 httpClientHelper.executeRequest(selectedNode, finalSettings.getAllSettings(),
+                                 executeRequest(selectedNode, finalSettings.getAllSettings(),
                                          out -> {
                                              writer.onOutput(out);
                                              out.close();
                                          })) {
 
 
-                        // Check response
-                        if (httpResponse.getCode() == HttpStatus.SC_SERVICE_UNAVAILABLE) {
-                            LOG.warn("Failed to get response. Server returned {}. Retrying.", httpResponse.getCode());
-                            selectedNode = getNextAliveNode();
-                            continue;
-                        }
-
-                        OperationMetrics metrics = new OperationMetrics(finalClientStats);
+                        OperationMetrics metrics = completeOperation(duration, null);
                         String summary = HttpAPIClientHelper.getHeaderVal(httpResponse.getFirstHeader(ClickHouseHttpProto.HEADER_SRV_SUMMARY), "{}");
                         ProcessParser.parseSummary(summary, metrics);
                         String queryId =  HttpAPIClientHelper.getHeaderVal(httpResponse.getFirstHeader(ClickHouseHttpProto.HEADER_QUERY_ID), finalSettings.getQueryId(), String::valueOf);
-                        metrics.operationComplete();
                         metrics.setQueryId(queryId);
                         return new InsertResponse(metrics);
-                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException | ConnectTimeoutException | ConnectException e) {
+                    } catch (ServerException e) {
+                        if (e.getTransportProtocolCode() != HttpStatus.SC_SERVICE_UNAVAILABLE || i == maxRetries) {
+                            throw e;
+                        }
+                        LOG.warn("Failed to get response. Server returned {}. Retrying.", e.getTransportProtocolCode());
+                        metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                        selectedNode = nodeManager.select(selectedNode);
+                    } catch (ConnectionInitiationException e) {
+                        // failed to connect, the cause tells whether to try another node
+                        lastException = e;
+                        if (httpClientHelper.shouldRetry(e.getCause(), finalSettings.getAllSettings())) {
+                            LOG.warn("Retrying", e);
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
+                        } else {
+                            throw e;
+                        }
+                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException e) {
                         lastException = httpClientHelper.wrapException("Insert request initiation failed", e);
                         if (httpClientHelper.shouldRetry(e, finalSettings.getAllSettings())) {
                             LOG.warn("Retrying", e);
-                            selectedNode = getNextAliveNode();
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
                         } else {
                             throw lastException;
                         }
@@ -1588,6 +2089,14 @@ public class Client implements AutoCloseable {
                 throw new ClientException("Insert request failed after retries", lastException);
             };
         } else {
+            // legacy response takes client side timings from statistics registered for the operation
+            String operationId = (String) settings.getOperationId();
+            ClientStatisticsHolder clientStats = operationId == null ? null : globalClientStats.remove(operationId);
+            if (clientStats == null) {
+                clientStats = new ClientStatisticsHolder();
+            }
+            clientStats.getStopWatches().put(ClientMetrics.OP_DURATION.getKey(), duration);
+            final ClientStatisticsHolder finalClientStats = clientStats;
             responseSupplier = () -> {
                 ClickHouseRequest.Mutation request = ClientV1AdaptorHelper
                         .createMutationRequest(oldClient.write(getServerNode()), tableName, settings, configuration).format(format);
@@ -1606,7 +2115,9 @@ public class Client implements AutoCloseable {
                     } else {
                         clickHouseResponse = future.get();
                     }
-                    return new InsertResponse(clickHouseResponse, finalClientStats);
+                    InsertResponse response = new InsertResponse(clickHouseResponse, finalClientStats);
+                    recordOperationMetrics(response.getMetrics());
+                    return response;
                 } catch (ExecutionException e) {
                     throw  new ClientException("Failed to get insert response", e.getCause());
                 } catch (CompletionException e) {
@@ -1682,8 +2193,7 @@ public class Client implements AutoCloseable {
         if (settings.getFormat() == null) {
             settings.setFormat(ClickHouseFormat.RowBinaryWithNamesAndTypes);
         }
-        ClientStatisticsHolder clientStats = new ClientStatisticsHolder();
-        clientStats.start(ClientMetrics.OP_DURATION);
+        final StopWatch duration = new StopWatch(System.nanoTime());
         applyDefaults(settings);
 
         Supplier<QueryResponse> responseSupplier;
@@ -1698,43 +2208,53 @@ public class Client implements AutoCloseable {
             final QuerySettings finalSettings = settings;
             responseSupplier = () -> {
                 // Selecting some node
-                ClickHouseNode selectedNode = getNextAliveNode();
+                NodeState selectedNode = nodeManager.select(null);
                 ClientException lastException = null;
                 for (int i = 0; i <= maxRetries; i++) {
                     try {
                         ClassicHttpResponse httpResponse =
-                                httpClientHelper.executeRequest(selectedNode, finalSettings.getAllSettings(), output -> {
+                                executeRequest(selectedNode, finalSettings.getAllSettings(), output -> {
                                     output.write(sqlQuery.getBytes(StandardCharsets.UTF_8));
                                     output.close();
                                 });
 
-                        // Check response
-                        if (httpResponse.getCode() == HttpStatus.SC_SERVICE_UNAVAILABLE) {
-                            LOG.warn("Failed to get response. Server returned {}. Retrying.", httpResponse.getCode());
-                            selectedNode = getNextAliveNode();
-                            continue;
-                        }
-
-                        OperationMetrics metrics = new OperationMetrics(clientStats);
+                        OperationMetrics metrics = completeOperation(duration, null);
                         String summary = HttpAPIClientHelper.getHeaderVal(httpResponse
                                 .getFirstHeader(ClickHouseHttpProto.HEADER_SRV_SUMMARY), "{}");
                         ProcessParser.parseSummary(summary, metrics);
                         String queryId = HttpAPIClientHelper.getHeaderVal(httpResponse
                                 .getFirstHeader(ClickHouseHttpProto.HEADER_QUERY_ID), finalSettings.getQueryId());
                         metrics.setQueryId(queryId);
-                        metrics.operationComplete();
 
                         return new QueryResponse(httpResponse, finalSettings.getFormat(), finalSettings, metrics);
 
-                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException | ConnectTimeoutException | ConnectException e) {
+                    } catch (ServerException e) {
+                        if (e.getTransportProtocolCode() != HttpStatus.SC_SERVICE_UNAVAILABLE || i == maxRetries) {
+                            throw e;
+                        }
+                        LOG.warn("Failed to get response. Server returned {}. Retrying.", e.getTransportProtocolCode());
+                        metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                        selectedNode = nodeManager.select(selectedNode);
+                    } catch (ConnectionInitiationException e) {
+                        // failed to connect, the cause tells whether to try another node
+                        lastException = e;
+                        if (httpClientHelper.shouldRetry(e.getCause(), finalSettings.getAllSettings())) {
+                            LOG.warn("Retrying.", e);
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
+                        } else {
+                            throw e;
+                        }
+                    } catch (NoHttpResponseException | ConnectionRequestTimeoutException e) {
                         lastException = httpClientHelper.wrapException("Query request initiation failed", e);
                         if (httpClientHelper.shouldRetry(e, finalSettings.getAllSettings())) {
                             LOG.warn("Retrying.", e);
-                            selectedNode = getNextAliveNode();
+                            metricsRecorder.recordCount(ClientMetrics.RETRIES, 1);
+                            selectedNode = nodeManager.select(selectedNode);
                         } else {
                             throw lastException;
                         }
-                    } catch (ClientException | ServerException e) {
+                    } catch (ClientException e) {
                         throw e;
                     } catch (Exception e) {
                         throw new ClientException("Query request failed", e);
@@ -1744,6 +2264,9 @@ public class Client implements AutoCloseable {
                 throw new ClientException("Query request failed after retries", lastException);
             };
         } else {
+            // legacy response takes client side timings from statistics holder
+            final ClientStatisticsHolder clientStats = new ClientStatisticsHolder();
+            clientStats.getStopWatches().put(ClientMetrics.OP_DURATION.getKey(), duration);
             ClickHouseRequest<?> request = oldClient.read(getServerNode());
             request.options(SettingsConverter.toRequestOptions(settings.getAllSettings()));
             request.settings(SettingsConverter.toRequestSettings(settings.getAllSettings(), queryParams));
@@ -1765,7 +2288,9 @@ public class Client implements AutoCloseable {
                         clickHouseResponse = request.execute().get();
                     }
 
-                    return new QueryResponse(clickHouseResponse, format, clientStats, finalSettings);
+                    QueryResponse response = new QueryResponse(clickHouseResponse, format, clientStats, finalSettings);
+                    recordOperationMetrics(response.getMetrics());
+                    return response;
                 } catch (ClientException e) {
                     throw e;
                 } catch (CompletionException e) {
@@ -1841,6 +2366,63 @@ public class Client implements AutoCloseable {
         return queryRecords(sqlQuery, params, null);
     }
 
+    /**
+     * <p>Creates a publisher of query records for reactive consumers. Query is sent when the subscriber requests
+     * first records and the response is read only while there is demand, so result is not buffered in memory and
+     * a thread is not held by a subscriber that does not request data.</p>
+     * <p>Records are read and signals are delivered on the shared operation executor or, if it is not set, on
+     * an internal pool of daemon threads. The same record object shows every row and is valid only until
+     * {@code onNext} returns; use {@link GenericRecord#getValues()} to keep a copy of a row.</p>
+     * <p>With Java 9+ the publisher can be converted to {@code java.util.concurrent.Flow.Publisher} with
+     * {@code org.reactivestreams.FlowAdapters}.</p>
+     *
+     * See {@link #query(String, Map, QuerySettings)} for parametrized queries.
+     * @param sqlQuery - SQL statement
+     * @param params - query parameters
+     * @param settings - operation settings
+     * @return - single-use publisher of records
+     */
+    public Publisher<GenericRecord> queryPublisher(String sqlQuery, Map<String, Object> params, QuerySettings settings) {
+        return queryPublisher(sqlQuery, params, settings, getPublisherExecutor());
+    }
+
+    /**
+     * Creates a publisher of query records that reads data and delivers signals on the given executor.
+     * See {@link #queryPublisher(String, Map, QuerySettings)}.
+     *
+     * @param sqlQuery - SQL statement
+     * @param params - query parameters
+     * @param settings - operation settings
+     * @param executor - executor to read records and deliver signals
+     * @return - single-use publisher of records
+     */
+    public Publisher<GenericRecord> queryPublisher(String sqlQuery, Map<String, Object> params, QuerySettings settings,
+                                                   Executor executor) {
+        // caller may reuse settings for other operations
+        QuerySettings finalSettings = QuerySettings.merge(settings, null);
+        finalSettings.setFormat(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+        return new RecordsPublisher(() -> query(sqlQuery, params, finalSettings), this::newBinaryFormatReader,
+                executor);
+    }
+
+    public Publisher<GenericRecord> queryPublisher(String sqlQuery, QuerySettings settings) {
+        return queryPublisher(sqlQuery, null, settings);
+    }
+
+    public Publisher<GenericRecord> queryPublisher(String sqlQuery) {
+        return queryPublisher(sqlQuery, null, null);
+    }
+
+    private synchronized Executor getPublisherExecutor() {
+        if (sharedOperationExecutor != null) {
+            return sharedOperationExecutor;
+        }
+        if (publisherExecutor == null) {
+            publisherExecutor = Executors.newCachedThreadPool(new DefaultThreadFactory("chc-query-publisher", true));
+        }
+        return publisherExecutor;
+    }
+
     /**
      * <p>Queries data in descriptive format and reads result to a collection.</p>
      * <p>Use this method for queries that would return only a few records only because client
@@ -2086,8 +2668,49 @@ public class Client implements AutoCloseable {
         return  newBinaryFormatReader(response, null);
     }
 
+    /**
+     * Returns recorder of client metrics. Unless another recorder is set by
+     * {@link Builder#setMetricsRecorder(MetricsRecorder)} it is a {@link ClientMetricsRegistry}.
+     *
+     * @return metrics recorder
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Stops timing of an operation, records its client side timings and returns them as metrics of the operation.
+     */
+    private OperationMetrics completeOperation(StopWatch duration, StopWatch serialization) {
+        duration.stop();
+        OperationMetrics metrics = new OperationMetrics();
+        metrics.setStopWatch(ClientMetrics.OP_DURATION, duration);
+        metricsRecorder.recordTime(ClientMetrics.OP_DURATION, duration.getElapsedNanoTime());
+        if (serialization != null) {
+            metrics.setStopWatch(ClientMetrics.OP_SERIALIZATION, serialization);
+            metricsRecorder.recordTime(ClientMetrics.OP_SERIALIZATION, serialization.getElapsedNanoTime());
+        }
+        return metrics;
+    }
+
+    /**
+     * Records client side timings of an operation done by the legacy implementation.
+     */
+    private void recordOperationMetrics(OperationMetrics metrics) {
+        recordStopWatch(metrics, ClientMetrics.OP_DURATION);
+        recordStopWatch(metrics, ClientMetrics.OP_SERIALIZATION);
+    }
+
+    private void recordStopWatch(OperationMetrics metrics, ClientMetrics metric) {
+        Metric value = metrics.getMetric(metric);
+        // a step that did not run for the operation is left out
+        if (value instanceof StopWatch && ((StopWatch) value).getElapsedNanoTime() > 0) {
+            metricsRecorder.recordTime(metric, ((StopWatch) value).getElapsedNanoTime());
+        }
+    }
+
     private String registerOperationMetrics() {
-        String operationId = UUID.randomUUID().toString();
+        String operationId = String.valueOf(operationIdSequence.incrementAndGet());
         globalClientStats.put(operationId, new ClientStatisticsHolder());
         return operationId;
     }
@@ -2109,6 +2732,16 @@ public class Client implements AutoCloseable {
         if (!settingsMap.containsKey(key) && configuration.containsKey(key)) {
             settings.setOption(key, TimeZone.getTimeZone(configuration.get(key)));
         }
+
+        key = ClientConfigProperties.BINARY_READER_LAZY_DECODING.getKey();
+        if (!settingsMap.containsKey(key) && configuration.containsKey(key)) {
+            settings.setOption(key, MapUtils.getFlag(configuration, key));
+        }
+
+        key = ClientConfigProperties.BINARY_READER_PREFETCH_ROWS.getKey();
+        if (!settingsMap.containsKey(key) && configuration.containsKey(key)) {
+            settings.setOption(key, MapUtils.getInt(configuration, key));
+        }
     }
 
     private <T> CompletableFuture<T> runAsyncOperation(Supplier<T> resultSupplier, Map<String, Object> requestSettings) {
@@ -2190,9 +2823,5 @@ public class Client implements AutoCloseable {
         this.configuration.put(ClientConfigProperties.httpHeader(HttpHeaders.AUTHORIZATION), "Bearer " + bearer);
     }
 
-    private ClickHouseNode getNextAliveNode() {
-        return serverNodes.get(0);
-    }
-
     public static final String VALUES_LIST_DELIMITER = ",";
 }
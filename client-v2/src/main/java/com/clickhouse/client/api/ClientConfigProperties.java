@@ -128,6 +128,67 @@ public enum ClientConfigProperties {
      */
     APP_COMPRESSED_DATA("app_compressed_data"),
 
+    /**
+     * Name of a built-in load balancing policy. See {@link LoadBalancingPolicy#of(String)}.
+     */
+    LOAD_BALANCING_POLICY("load_balancing_policy", "round_robin",
+            Arrays.asList("round_robin", "least_inflight", "latency_ewma")),
+
+    /**
+     * Interval in milliseconds between background health checks of server nodes. Zero disables checks.
+     */
+    HEALTH_CHECK_INTERVAL("health_check_interval", "0"),
+
+    /**
+     * Number of consecutive failures after which a server node is excluded from load balancing.
+     */
+    NODE_FAILURES_BEFORE_EJECTION("node_failures_before_ejection", "3"),
+
+    /**
+     * Time in milliseconds a failed server node stays excluded from load balancing.
+     */
+    NODE_EJECTION_TIME("node_ejection_time", "30000"),
+
+    /**
+     * Number of threads decompressing LZ4 blocks of server responses ahead of the reader. Zero means blocks are
+     * decompressed on the reading thread.
+     */
+    COMPRESSION_LZ4_DECOMPRESSION_THREADS("compression.lz4.decompression_threads", "0"),
+
+    /**
+     * Maximum number of LZ4 blocks read and decompressed ahead of the reader of a response.
+     */
+    COMPRESSION_LZ4_READ_AHEAD_BLOCKS("compression.lz4.read_ahead_blocks", "4"),
+
+    /**
+     * Number of threads compressing LZ4 blocks of requests while the application writes next ones. Zero means blocks
+     * are compressed on the writing thread.
+     */
+    COMPRESSION_LZ4_COMPRESSION_THREADS("compression.lz4.compression_threads", "0"),
+
+    /**
+     * Size of uncompressed LZ4 block of requests when compression threads are used. Falls back to
+     * {@link #COMPRESSION_LZ4_UNCOMPRESSED_BUF_SIZE} when not set.
+     */
+    COMPRESSION_LZ4_COMPRESSION_BLOCK_SIZE("compression.lz4.compression_block_size"),
+
+    /**
+     * If binary format readers should keep values of non-primitive columns as raw bytes and decode them only when
+     * they are requested.
+     */
+    BINARY_READER_LAZY_DECODING("binary_reader_lazy_decoding", "false"),
+
+    /**
+     * Number of rows binary format readers decode ahead in a background thread. Zero disables reading ahead.
+     */
+    BINARY_READER_PREFETCH_ROWS("binary_reader_prefetch_rows", "0"),
+
+    /**
+     * Operation level listener of query progress. Value is an instance of
+     * {@link com.clickhouse.client.api.metrics.ProgressListener}.
+     */
+    PROGRESS_LISTENER("progress_listener"),
+
     ;
 
     private String key;
@@ -0,0 +1,66 @@
+package com.clickhouse.client.api;
+
+import com.clickhouse.client.api.internal.LoadBalancingPolicies;
+
+import java.util.List;
+
+/**
+ * Policy to select a server node for the next request. A single instance is used by one client and is called
+ * concurrently from different threads.
+ */
+public interface LoadBalancingPolicy {
+
+    /**
+     * Selects a node from the list of candidates.
+     *
+     * @param candidates - non-empty list of nodes that are considered alive
+     * @param <T> - type of the nodes
+     * @return one of the candidates
+     */
+    <T extends ServerNode> T select(List<T> candidates);
+
+    /**
+     * Returns a policy that picks nodes one by one in a circular order.
+     *
+     * @return new policy instance
+     */
+    static LoadBalancingPolicy roundRobin() {
+        return new LoadBalancingPolicies.RoundRobin();
+    }
+
+    /**
+     * Returns a policy that picks a node with the least number of requests in progress.
+     *
+     * @return new policy instance
+     */
+    static LoadBalancingPolicy leastInFlight() {
+        return new LoadBalancingPolicies.LeastInFlight();
+    }
+
+    /**
+     * Returns a policy that picks a node with the lowest exponentially weighted moving average of response time
+     * multiplied by number of requests in progress.
+     *
+     * @return new policy instance
+     */
+    static LoadBalancingPolicy latencyEwma() {
+        return new LoadBalancingPolicies.LatencyEwma();
+    }
+
+    /**
+     * Returns built-in policy by its name.
+     *
+     * @param name - one of {@code round_robin}, {@code least_inflight}, {@code latency_ewma}
+     * @return new policy instance
+     */
+    static LoadBalancingPolicy of(String name) {
+        if (name == null || name.isEmpty() || LoadBalancingPolicies.ROUND_ROBIN.equalsIgnoreCase(name)) {
+            return roundRobin();
+        } else if (LoadBalancingPolicies.LEAST_INFLIGHT.equalsIgnoreCase(name)) {
+            return leastInFlight();
+        } else if (LoadBalancingPolicies.LATENCY_EWMA.equalsIgnoreCase(name)) {
+            return latencyEwma();
+        }
+        throw new ClientMisconfigurationException("Unknown load balancing policy: " + name);
+    }
+}
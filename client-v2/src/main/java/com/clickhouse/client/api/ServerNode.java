@@ -0,0 +1,43 @@
+package com.clickhouse.client.api;
+
+/**
+ * Read-only view of a server node and its runtime state as seen by a client. It is passed to
+ * {@link LoadBalancingPolicy} and changes while requests are in progress.
+ */
+public interface ServerNode {
+
+    /**
+     * Returns endpoint of the node.
+     *
+     * @return base URI of the node, for example {@code http://localhost:8123/}
+     */
+    String getEndpoint();
+
+    /**
+     * Returns number of requests sent to the node that have not received a response yet.
+     *
+     * @return number of requests in progress
+     */
+    int getInFlightRequests();
+
+    /**
+     * Returns exponentially weighted moving average of response time.
+     *
+     * @return average response time in nanoseconds or {@code 0} when there were no requests yet
+     */
+    double getLatencyEwma();
+
+    /**
+     * Returns number of failed requests and health checks since the last successful one.
+     *
+     * @return number of consecutive failures
+     */
+    int getConsecutiveFailures();
+
+    /**
+     * Returns whether the node is temporarily taken out of rotation after failures.
+     *
+     * @return {@code true} if the node is ejected
+     */
+    boolean isEjected();
+}
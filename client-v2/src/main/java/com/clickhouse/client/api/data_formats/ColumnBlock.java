@@ -0,0 +1,369 @@
+package com.clickhouse.client.api.data_formats;
+
+import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
+import com.clickhouse.data.ClickHouseColumn;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Single block of the Native format decoded column by column. Numeric, date/time and string columns are kept in
+ * primitive vectors so a whole block can be scanned without creating an object per value.
+ * Column indexes in this class are 0-based.
+ *
+ * <p>Instances are not thread safe.</p>
+ */
+public class ColumnBlock {
+
+    private final List<ClickHouseColumn> columns;
+
+    private final ColumnVector[] vectors;
+
+    private final int rowCount;
+
+    ColumnBlock(List<ClickHouseColumn> columns, ColumnVector[] vectors, int rowCount) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.vectors = vectors;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Returns number of rows in the block.
+     *
+     * @return number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns number of columns in the block.
+     *
+     * @return number of columns
+     */
+    public int getColumnCount() {
+        return vectors.length;
+    }
+
+    /**
+     * Returns unmodifiable list of columns in order they are sent by the server.
+     *
+     * @return list of columns
+     */
+    public List<ClickHouseColumn> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns a vector of values for the column.
+     *
+     * @param index - 0-based column index
+     * @return column vector
+     */
+    public ColumnVector getVector(int index) {
+        if (index < 0 || index >= vectors.length) {
+            throw new ClientException("Column index out of bounds: " + index);
+        }
+        return vectors[index];
+    }
+
+    /**
+     * Returns a vector of values for the column.
+     *
+     * @param colName - name of the column
+     * @return column vector
+     */
+    public ColumnVector getVector(String colName) {
+        for (int i = 0; i < vectors.length; i++) {
+            if (columns.get(i).getColumnName().equals(colName)) {
+                return vectors[i];
+            }
+        }
+        throw new ClientException("Column '" + colName + "' not found in the block");
+    }
+
+    /**
+     * Base class for all column vectors. Keeps null map of the column if the column is nullable.
+     */
+    public abstract static class ColumnVector {
+
+        protected final ClickHouseColumn column;
+
+        protected final int size;
+
+        protected final byte[] nulls;
+
+        ColumnVector(ClickHouseColumn column, int size, byte[] nulls) {
+            this.column = column;
+            this.size = size;
+            this.nulls = nulls;
+        }
+
+        public ClickHouseColumn getColumn() {
+            return column;
+        }
+
+        /**
+         * Returns number of values in the vector.
+         *
+         * @return number of values
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Checks if the column has null map.
+         *
+         * @return true if the column is nullable
+         */
+        public boolean hasNulls() {
+            return nulls != null;
+        }
+
+        /**
+         * Checks if a value is null.
+         *
+         * @param row - 0-based row index
+         * @return true if a value is null
+         */
+        public boolean isNull(int row) {
+            return nulls != null && nulls[row] != 0;
+        }
+
+        /**
+         * Returns a value as an object of the same class as returned by the row based readers.
+         * This method boxes primitive values and should be avoided on hot paths.
+         *
+         * @param row - 0-based row index
+         * @return value or null
+         */
+        public Object getObject(int row) {
+            return isNull(row) ? null : getNotNullObject(row);
+        }
+
+        protected abstract Object getNotNullObject(int row);
+    }
+
+    /**
+     * Vector for columns those values fit into an {@code int}: Int8, UInt8, Int16, UInt16, Int32, Bool, Enum8, Enum16,
+     * Date (days since epoch), Date32 (days since epoch) and Decimal32 (unscaled value).
+     */
+    public static class IntVector extends ColumnVector {
+
+        private final int[] values;
+
+        private final ZoneId zoneId;
+
+        IntVector(ClickHouseColumn column, int size, byte[] nulls, int[] values, TimeZone timeZone) {
+            super(column, size, nulls);
+            this.values = values;
+            this.zoneId = timeZone.toZoneId();
+        }
+
+        public int getInt(int row) {
+            return values[row];
+        }
+
+        /**
+         * Returns backing array of the vector. Its length is equal to the number of rows in the block.
+         *
+         * @return array of values
+         */
+        public int[] values() {
+            return values;
+        }
+
+        @Override
+        protected Object getNotNullObject(int row) {
+            int v = values[row];
+            switch (column.getDataType()) {
+                case Int8:
+                case Enum8:
+                    return (byte) v;
+                case UInt8:
+                case Int16:
+                case Enum16:
+                    return (short) v;
+                case Bool:
+                    return v == 1;
+                case Date:
+                case Date32:
+                    return LocalDate.ofEpochDay(v).atStartOfDay(zoneId);
+                case Decimal:
+                case Decimal32:
+                    return BigDecimal.valueOf(v, column.getScale());
+                default:
+                    return v;
+            }
+        }
+    }
+
+    /**
+     * Vector for columns those values fit into a {@code long}: UInt32, Int64, UInt64 (raw bits), DateTime
+     * (seconds since epoch), DateTime64 (ticks of the column scale since epoch) and Decimal64 (unscaled value).
+     */
+    public static class LongVector extends ColumnVector {
+
+        private static final BigInteger UNSIGNED_LONG_BASE = BigInteger.ONE.shiftLeft(64);
+
+        private final long[] values;
+
+        private final ZoneId zoneId;
+
+        LongVector(ClickHouseColumn column, int size, byte[] nulls, long[] values, TimeZone timeZone) {
+            super(column, size, nulls);
+            this.values = values;
+            this.zoneId = timeZone.toZoneId();
+        }
+
+        public long getLong(int row) {
+            return values[row];
+        }
+
+        /**
+         * Returns backing array of the vector. Its length is equal to the number of rows in the block.
+         *
+         * @return array of values
+         */
+        public long[] values() {
+            return values;
+        }
+
+        @Override
+        protected Object getNotNullObject(int row) {
+            long v = values[row];
+            switch (column.getDataType()) {
+                case UInt64:
+                    BigInteger value = BigInteger.valueOf(v);
+                    return v < 0 ? value.add(UNSIGNED_LONG_BASE) : value;
+                case DateTime:
+                case DateTime32:
+                    return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.max(v, 0L)), zoneId).atZone(zoneId);
+                case DateTime64:
+                    int scale = column.getScale();
+                    int factor = BinaryStreamReader.BASES[scale];
+                    long seconds = Math.floorDiv(v, factor);
+                    long nanos = Math.floorMod(v, factor) * (long) BinaryStreamReader.BASES[9 - scale];
+                    return LocalDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), zoneId).atZone(zoneId);
+                case Decimal:
+                case Decimal64:
+                    return BigDecimal.valueOf(v, column.getScale());
+                default:
+                    return v;
+            }
+        }
+    }
+
+    /**
+     * Vector for Float32 and Float64 columns. Float32 values are widened to {@code double} without loss of precision.
+     */
+    public static class DoubleVector extends ColumnVector {
+
+        private final double[] values;
+
+        DoubleVector(ClickHouseColumn column, int size, byte[] nulls, double[] values) {
+            super(column, size, nulls);
+            this.values = values;
+        }
+
+        public double getDouble(int row) {
+            return values[row];
+        }
+
+        /**
+         * Returns backing array of the vector. Its length is equal to the number of rows in the block.
+         *
+         * @return array of values
+         */
+        public double[] values() {
+            return values;
+        }
+
+        @Override
+        protected Object getNotNullObject(int row) {
+            switch (column.getDataType()) {
+                case Float32:
+                    return (float) values[row];
+                default:
+                    return values[row];
+            }
+        }
+    }
+
+    /**
+     * Vector for String and FixedString columns. All values are stored in a single byte array and are addressed by
+     * offsets: value {@code i} occupies bytes {@code [offsets[i], offsets[i + 1])}.
+     */
+    public static class StringVector extends ColumnVector {
+
+        private final int[] offsets;
+
+        private final byte[] bytes;
+
+        StringVector(ClickHouseColumn column, int size, byte[] nulls, int[] offsets, byte[] bytes) {
+            super(column, size, nulls);
+            this.offsets = offsets;
+            this.bytes = bytes;
+        }
+
+        public int getOffset(int row) {
+            return offsets[row];
+        }
+
+        public int getLength(int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+
+        /**
+         * Returns array with bytes of all values in the vector.
+         *
+         * @return array of bytes
+         */
+        public byte[] bytes() {
+            return bytes;
+        }
+
+        /**
+         * Decodes a value as UTF-8 string.
+         *
+         * @param row - 0-based row index
+         * @return string value or null
+         */
+        public String getString(int row) {
+            return isNull(row) ? null : new String(bytes, offsets[row], getLength(row), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected Object getNotNullObject(int row) {
+            return new String(bytes, offsets[row], getLength(row), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Vector for all other column types. Values are decoded the same way as by the row based readers.
+     */
+    public static class ObjectVector extends ColumnVector {
+
+        private final Object[] values;
+
+        ObjectVector(ClickHouseColumn column, int size, byte[] nulls, Object[] values) {
+            super(column, size, nulls);
+            this.values = values;
+        }
+
+        @Override
+        protected Object getNotNullObject(int row) {
+            return values[row];
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.clickhouse.client.api.data_formats;
 
+import com.clickhouse.client.api.ClientException;
 import com.clickhouse.client.api.data_formats.internal.AbstractBinaryFormatReader;
 import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
+import com.clickhouse.client.api.data_formats.internal.RecordSlots;
+import com.clickhouse.client.api.metadata.TableSchema;
 import com.clickhouse.client.api.query.QuerySettings;
 import com.clickhouse.data.ClickHouseColumn;
 import com.clickhouse.data.ClickHouseDataType;
@@ -9,21 +12,34 @@ import com.clickhouse.data.ClickHouseDataType;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
 
 /**
  * For the backward compatibility server will not send TZ id in column type. Client should send version to a server
  * to get the correct column type.
  * (see: https://github.com/ClickHouse/ClickHouse/issues/38209)
+ *
+ * <p>Besides row based access this reader supports reading a whole block at a time with {@link #nextBlock()}.
+ * Both ways should not be mixed on the same reader.</p>
  */
 public class NativeFormatReader extends AbstractBinaryFormatReader {
 
-    private Block currentBlock;
+    private static final String NULLABLE_PREFIX = "Nullable(";
+
+    private ColumnBlock currentBlock;
 
     private int blockRowIndex;
 
+    private boolean blockReturned;
+
+    private byte[] scratch = new byte[0];
+
     public NativeFormatReader(InputStream inputStream, QuerySettings settings,
                               BinaryStreamReader.ByteBufferAllocator byteBufferAllocator) {
         super(inputStream, settings, null, byteBufferAllocator);
@@ -32,95 +48,282 @@ public class NativeFormatReader extends AbstractBinaryFormatReader {
 
     @Override
     public boolean readRecord(Map<String, Object> record) throws IOException {
-        if (currentBlock == null || blockRowIndex >= currentBlock.getnRows()) {
+        while (currentBlock == null || blockRowIndex >= currentBlock.getRowCount()) {
             if (!readBlock()) {
                 return false;
             }
         }
 
-        currentBlock.fillRecord(blockRowIndex, record);
+        List<ClickHouseColumn> columns = currentBlock.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = currentBlock.getVector(i).getObject(blockRowIndex);
+            if (value != null) {
+                record.put(columns.get(i).getColumnName(), value);
+            } else {
+                record.remove(columns.get(i).getColumnName());
+            }
+        }
         blockRowIndex++;
         return true;
     }
 
+    @Override
+    protected boolean readRecord(RecordSlots record) throws IOException {
+        while (currentBlock == null || blockRowIndex >= currentBlock.getRowCount()) {
+            if (!readBlock()) {
+                return false;
+            }
+        }
+
+        int row = blockRowIndex;
+        for (int i = 0; i < currentBlock.getColumnCount(); i++) {
+            ColumnBlock.ColumnVector vector = currentBlock.getVector(i);
+            byte kind = record.getKind(i);
+            if (vector.isNull(row)) {
+                record.setNull(i);
+            } else if (kind == RecordSlots.LONG && vector instanceof ColumnBlock.IntVector) {
+                record.setLong(i, ((ColumnBlock.IntVector) vector).getInt(row));
+            } else if (kind == RecordSlots.LONG && vector instanceof ColumnBlock.LongVector) {
+                record.setLong(i, ((ColumnBlock.LongVector) vector).getLong(row));
+            } else if (kind == RecordSlots.DOUBLE && vector instanceof ColumnBlock.DoubleVector) {
+                record.setDouble(i, ((ColumnBlock.DoubleVector) vector).getDouble(row));
+            } else {
+                record.setValue(i, vector.getObject(row));
+            }
+        }
+        blockRowIndex++;
+        return true;
+    }
+
+    /**
+     * Reads next block of data. Values of numeric, date/time and string columns are stored in primitive arrays
+     * without creating an object per value. Once this method is called, {@link #hasNext()} returns {@code false}
+     * and rows should not be read with {@link #next()}.
+     *
+     * @return next block or {@code null} when there are no more blocks
+     */
+    public ColumnBlock nextBlock() {
+        endReached();
+        try {
+            // first block is already read to initialize the reader
+            if (currentBlock != null && !blockReturned) {
+                blockReturned = true;
+                return currentBlock;
+            }
+            if (readBlock()) {
+                blockReturned = true;
+                return currentBlock;
+            }
+            return null;
+        } catch (IOException e) {
+            throw new ClientException("Failed to read next block", e);
+        }
+    }
+
     private boolean readBlock() throws IOException {
         int nColumns;
         try {
             nColumns = BinaryStreamReader.readVarInt(input);
         } catch (EOFException e) {
             endReached();
+            currentBlock = null;
             return false;
         }
         int nRows = BinaryStreamReader.readVarInt(input);
 
-        List<String> names = new ArrayList<>(nColumns);
-        List<String> types = new ArrayList<>(nColumns);
-        currentBlock = new Block(names, types, nRows);
+        List<ClickHouseColumn> columns = new ArrayList<>(nColumns);
+        ColumnBlock.ColumnVector[] vectors = new ColumnBlock.ColumnVector[nColumns];
         for (int i = 0; i < nColumns; i++) {
             ClickHouseColumn column = ClickHouseColumn.of(BinaryStreamReader.readString(input),
                     BinaryStreamReader.readString(input));
+            columns.add(column);
+            vectors[i] = readColumn(column, nRows);
+        }
+
+        if (getSchema() == null) {
+            TableSchema schema = new TableSchema();
+            for (ClickHouseColumn column : columns) {
+                schema.addColumn(column.getColumnName(), column.getOriginalTypeName());
+            }
+            setSchema(schema);
+        }
 
-            names.add(column.getColumnName());
-            types.add(column.getDataType().name());
+        currentBlock = new ColumnBlock(columns, vectors, nRows);
+        blockRowIndex = 0;
+        blockReturned = false;
+        return true;
+    }
 
-            List<Object> values = new ArrayList<>(nRows);
-            if (column.isArray()) {
-                int[] sizes = new int[nRows];
-                for (int j = 0; j < nRows; j++) {
-                    sizes[j] = Math.toIntExact(binaryStreamReader.readLongLE());
+    private ColumnBlock.ColumnVector readColumn(ClickHouseColumn column, int nRows) throws IOException {
+        if (column.isLowCardinality()) {
+            return readObjectColumn(column, column, nRows, null);
+        }
+
+        byte[] nulls = null;
+        if (column.isNullable()) {
+            nulls = BinaryStreamReader.readNBytes(input, nRows);
+        }
+
+        TimeZone tz = column.getTimeZone() == null ? timeZone : column.getTimeZone();
+        ClickHouseDataType dataType = column.getDataType();
+        switch (dataType) {
+            case Int8:
+            case Enum8: {
+                ByteBuffer buffer = readBuffer(nRows);
+                int[] values = new int[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.get(i);
+                }
+                return new ColumnBlock.IntVector(column, nRows, nulls, values, tz);
+            }
+            case UInt8:
+            case Bool: {
+                ByteBuffer buffer = readBuffer(nRows);
+                int[] values = new int[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.get(i) & 0xFF;
                 }
-                for (int j = 0; j < nRows; j++) {
-                    values.add(binaryStreamReader.readArrayItem(column.getNestedColumns().get(0), sizes[0]));
+                return new ColumnBlock.IntVector(column, nRows, nulls, values, tz);
+            }
+            case Int16:
+            case Enum16: {
+                ByteBuffer buffer = readBuffer(nRows * BinaryStreamReader.INT16_SIZE);
+                int[] values = new int[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.getShort(i * BinaryStreamReader.INT16_SIZE);
                 }
-            } else {
-                for (int j = 0; j < nRows; j++) {
-                    Object value = binaryStreamReader.readValue(column);
-                    values.add(value);
+                return new ColumnBlock.IntVector(column, nRows, nulls, values, tz);
+            }
+            case UInt16:
+            case Date: {
+                ByteBuffer buffer = readBuffer(nRows * BinaryStreamReader.INT16_SIZE);
+                int[] values = new int[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.getShort(i * BinaryStreamReader.INT16_SIZE) & 0xFFFF;
+                }
+                return new ColumnBlock.IntVector(column, nRows, nulls, values, tz);
+            }
+            case Int32:
+            case Date32:
+            case Decimal32:
+                return readIntColumn(column, nRows, nulls, tz);
+            case UInt32:
+            case DateTime:
+            case DateTime32: {
+                ByteBuffer buffer = readBuffer(nRows * BinaryStreamReader.INT32_SIZE);
+                long[] values = new long[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.getInt(i * BinaryStreamReader.INT32_SIZE) & 0xFFFFFFFFL;
+                }
+                return new ColumnBlock.LongVector(column, nRows, nulls, values, tz);
+            }
+            case Int64:
+            case UInt64:
+            case DateTime64:
+            case Decimal64:
+                return readLongColumn(column, nRows, nulls, tz);
+            case Decimal:
+                if (column.getPrecision() <= ClickHouseDataType.Decimal32.getMaxPrecision()) {
+                    return readIntColumn(column, nRows, nulls, tz);
+                } else if (column.getPrecision() <= ClickHouseDataType.Decimal64.getMaxPrecision()) {
+                    return readLongColumn(column, nRows, nulls, tz);
+                }
+                break;
+            case Float32: {
+                ByteBuffer buffer = readBuffer(nRows * BinaryStreamReader.INT32_SIZE);
+                double[] values = new double[nRows];
+                for (int i = 0; i < nRows; i++) {
+                    values[i] = buffer.getFloat(i * BinaryStreamReader.INT32_SIZE);
+                }
+                return new ColumnBlock.DoubleVector(column, nRows, nulls, values);
+            }
+            case Float64: {
+                double[] values = new double[nRows];
+                readBuffer(nRows * BinaryStreamReader.INT64_SIZE).asDoubleBuffer().get(values);
+                return new ColumnBlock.DoubleVector(column, nRows, nulls, values);
+            }
+            case String: {
+                int[] offsets = new int[nRows + 1];
+                byte[] bytes = new byte[nRows * 8];
+                int length = 0;
+                for (int i = 0; i < nRows; i++) {
+                    int len = BinaryStreamReader.readVarInt(input);
+                    if (length + len > bytes.length) {
+                        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + len));
+                    }
+                    BinaryStreamReader.readNBytes(input, bytes, length, len);
+                    length += len;
+                    offsets[i + 1] = length;
                 }
+                return new ColumnBlock.StringVector(column, nRows, nulls, offsets, bytes);
             }
-            currentBlock.add(values);
+            case FixedString: {
+                int len = column.getEstimatedLength();
+                int[] offsets = new int[nRows + 1];
+                for (int i = 1; i <= nRows; i++) {
+                    offsets[i] = i * len;
+                }
+                byte[] bytes = BinaryStreamReader.readNBytes(input, nRows * len);
+                return new ColumnBlock.StringVector(column, nRows, nulls, offsets, bytes);
+            }
+            default:
+                break;
         }
-        blockRowIndex = 0;
-        return true;
-    }
 
-    @Override
-    public <T> T readValue(int colIndex) {
-        return (T) currentRecord.get(getSchema().columnIndexToName(colIndex));
+        return readObjectColumn(column, nulls == null ? column : notNullable(column), nRows, nulls);
     }
 
-    @Override
-    public <T> T readValue(String colName) {
-        return (T) currentRecord.get(colName);
+    private ColumnBlock.ColumnVector readIntColumn(ClickHouseColumn column, int nRows, byte[] nulls, TimeZone tz)
+            throws IOException {
+        int[] values = new int[nRows];
+        readBuffer(nRows * BinaryStreamReader.INT32_SIZE).asIntBuffer().get(values);
+        return new ColumnBlock.IntVector(column, nRows, nulls, values, tz);
     }
 
-    private static class Block {
-        final List<String> names;
-        final List<String> types;
-
-        final List<List<Object>> values = new ArrayList<>();
-        final int nRows;
-
-        Block(List<String> names, List<String> types, int nRows) {
-            this.names = names;
-            this.types = types;
-            this.nRows = nRows;
-        }
+    private ColumnBlock.ColumnVector readLongColumn(ClickHouseColumn column, int nRows, byte[] nulls, TimeZone tz)
+            throws IOException {
+        long[] values = new long[nRows];
+        readBuffer(nRows * BinaryStreamReader.INT64_SIZE).asLongBuffer().get(values);
+        return new ColumnBlock.LongVector(column, nRows, nulls, values, tz);
+    }
 
-        public void add(List<Object> values) {
-            this.values.add(values);
+    private ColumnBlock.ColumnVector readObjectColumn(ClickHouseColumn column, ClickHouseColumn valueColumn,
+                                                      int nRows, byte[] nulls) throws IOException {
+        Object[] values = new Object[nRows];
+        if (valueColumn.isArray()) {
+            // array sizes are sent as cumulative offsets followed by all items of the column
+            long[] offsets = new long[nRows];
+            readBuffer(nRows * BinaryStreamReader.INT64_SIZE).asLongBuffer().get(offsets);
+            long prev = 0;
+            for (int j = 0; j < nRows; j++) {
+                values[j] = binaryStreamReader.readArrayItem(valueColumn.getNestedColumns().get(0),
+                        Math.toIntExact(offsets[j] - prev));
+                prev = offsets[j];
+            }
+        } else {
+            for (int j = 0; j < nRows; j++) {
+                values[j] = binaryStreamReader.readValue(valueColumn);
+            }
         }
+        return new ColumnBlock.ObjectVector(column, nRows, nulls, values);
+    }
 
-        public int getnRows() {
-            return nRows;
+    /**
+     * Reads {@code len} bytes into the internal buffer and returns it as little-endian view.
+     */
+    private ByteBuffer readBuffer(int len) throws IOException {
+        if (scratch.length < len) {
+            scratch = new byte[len];
         }
+        BinaryStreamReader.readNBytes(input, scratch, 0, len);
+        return ByteBuffer.wrap(scratch, 0, len).order(ByteOrder.LITTLE_ENDIAN);
+    }
 
-        private void fillRecord(int index, Map<String, Object> record) {
-            int colIndex = 0;
-            for (String name : names) {
-                record.put(name, values.get(colIndex).get(index));
-                colIndex++;
-            }
+    private static ClickHouseColumn notNullable(ClickHouseColumn column) {
+        String type = column.getOriginalTypeName();
+        if (type.startsWith(NULLABLE_PREFIX) && type.endsWith(")")) {
+            type = type.substring(NULLABLE_PREFIX.length(), type.length() - 1);
         }
+        return ClickHouseColumn.of(column.getColumnName(), type);
     }
 }
@@ -5,6 +5,7 @@ import com.clickhouse.client.api.ClientException;
 import com.clickhouse.client.api.data_formats.ClickHouseBinaryFormatReader;
 import com.clickhouse.client.api.internal.MapUtils;
 import com.clickhouse.client.api.internal.ServerSettings;
+import com.clickhouse.client.api.metadata.NoSuchColumnException;
 import com.clickhouse.client.api.metadata.TableSchema;
 import com.clickhouse.client.api.query.NullValueException;
 import com.clickhouse.client.api.query.POJOSetter;
@@ -20,6 +21,7 @@ import com.clickhouse.data.value.ClickHouseGeoRingValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,7 +37,6 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -49,6 +50,8 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
 
     protected BinaryStreamReader binaryStreamReader;
 
+    protected TimeZone timeZone;
+
     private TableSchema schema;
 
     private ClickHouseColumn[] columns;
@@ -60,26 +63,44 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
 
     private volatile boolean initialState = true; // reader is in initial state, no records have been read yet
 
+    private final boolean lazyDecoding;
+
+    private final int prefetchRows;
+
+    private RecordPrefetcher prefetcher;
+
+    private RecordSlots.ValueDecoder rawValueDecoder;
+
     protected AbstractBinaryFormatReader(InputStream inputStream, QuerySettings querySettings, TableSchema schema,
                                          BinaryStreamReader.ByteBufferAllocator byteBufferAllocator) {
-        this.input = inputStream;
+        // all reads go thru the same buffer so fixed size values can be read without copying
+        this.input = inputStream instanceof ByteBufferInputStream ? inputStream : new ByteBufferInputStream(inputStream);
         this.settings = querySettings == null ? Collections.emptyMap() : new HashMap<>(querySettings.getAllSettings());
         Boolean useServerTimeZone = (Boolean) this.settings.get(ClientConfigProperties.USE_SERVER_TIMEZONE.getKey());
-        TimeZone timeZone = useServerTimeZone == Boolean.TRUE && querySettings != null ? querySettings.getServerTimeZone() :
+        this.timeZone = useServerTimeZone == Boolean.TRUE && querySettings != null ? querySettings.getServerTimeZone() :
                 (TimeZone) this.settings.get(ClientConfigProperties.USE_TIMEZONE.getKey());
         if (timeZone == null) {
             throw new ClientException("Time zone is not set. (useServerTimezone:" + useServerTimeZone + ")");
         }
         boolean jsonAsString = MapUtils.getFlag(this.settings,
                 ClientConfigProperties.serverSetting(ServerSettings.OUTPUT_FORMAT_BINARY_WRITE_JSON_AS_STRING), false);
-        this.binaryStreamReader = new BinaryStreamReader(inputStream, timeZone, LOG, byteBufferAllocator, jsonAsString);
+        this.binaryStreamReader = new BinaryStreamReader(input, timeZone, LOG, byteBufferAllocator, jsonAsString);
+        this.lazyDecoding = MapUtils.getFlag(this.settings,
+                ClientConfigProperties.BINARY_READER_LAZY_DECODING.getKey(), false);
+        if (lazyDecoding) {
+            rawValueDecoder = new RawValueDecoder(timeZone, byteBufferAllocator, jsonAsString);
+            currentRecord.setDecoder(rawValueDecoder);
+            nextRecord.setDecoder(rawValueDecoder);
+        }
+        Object prefetch = this.settings.get(ClientConfigProperties.BINARY_READER_PREFETCH_ROWS.getKey());
+        this.prefetchRows = prefetch == null ? 0 : Integer.parseInt(String.valueOf(prefetch));
         if (schema != null) {
             setSchema(schema);
         }
     }
 
-    protected Map<String, Object> currentRecord = new ConcurrentHashMap<>();
-    protected Map<String, Object> nextRecord = new ConcurrentHashMap<>();
+    protected RecordSlots currentRecord = new RecordSlots();
+    protected RecordSlots nextRecord = new RecordSlots();
 
     protected AtomicBoolean nextRecordEmpty = new AtomicBoolean(true);
 
@@ -152,17 +173,111 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
         return true;
     }
 
+    /**
+     * Reads next record into column slots. Values of primitive types are read without boxing.
+     * When lazy decoding is enabled, other values are kept as raw bytes and decoded only if requested.
+     * Used by {@link #next()} and {@link #hasNext()}.
+     *
+     * @param record - slots of the record
+     * @return false if the end of stream is reached
+     * @throws IOException
+     */
+    protected boolean readRecord(RecordSlots record) throws IOException {
+        boolean firstColumn = true;
+        if (lazyDecoding) {
+            record.clear();
+        }
+        for (int i = 0; i < columns.length; i++) {
+            ClickHouseColumn column = columns[i];
+            try {
+                byte kind = record.getKind(i);
+                if (kind == RecordSlots.OBJECT) {
+                    if (lazyDecoding) {
+                        readRawValue(record, i, column);
+                    } else {
+                        record.setValue(i, binaryStreamReader.readValue(column));
+                    }
+                } else if (column.isNullable() && BinaryStreamReader.readByteOrEOF(input) == 1) {
+                    record.setNull(i);
+                } else if (kind == RecordSlots.LONG) {
+                    record.setLong(i, binaryStreamReader.readLongValue(column.getDataType()));
+                } else {
+                    record.setDouble(i, binaryStreamReader.readDoubleValue(column.getDataType()));
+                }
+                firstColumn = false;
+            } catch (EOFException e) {
+                if (firstColumn) {
+                    endReached();
+                    return false;
+                }
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private void readRawValue(RecordSlots record, int index, ClickHouseColumn column) throws IOException {
+        if (column.isNullable() && BinaryStreamReader.readByteOrEOF(input) == 1) {
+            record.setNull(index);
+            return;
+        }
+        ByteBufferInputStream bufferedInput = (ByteBufferInputStream) input;
+        bufferedInput.startRecording(record.startRawValue(index, column.isNullable()));
+        try {
+            binaryStreamReader.skipNotNullValue(column);
+        } finally {
+            bufferedInput.stopRecording();
+        }
+        record.endRawValue(index);
+    }
+
+    /**
+     * Decodes values kept as raw bytes with the same settings as the main stream reader.
+     */
+    private static final class RawValueDecoder implements RecordSlots.ValueDecoder {
+
+        private final RawValueInputStream input = new RawValueInputStream();
+
+        private final BinaryStreamReader reader;
+
+        RawValueDecoder(TimeZone timeZone, BinaryStreamReader.ByteBufferAllocator byteBufferAllocator,
+                        boolean jsonAsString) {
+            this.reader = new BinaryStreamReader(input, timeZone, LOG, byteBufferAllocator, jsonAsString);
+        }
+
+        @Override
+        public Object decode(ClickHouseColumn column, byte[] data, int offset, int length) throws IOException {
+            input.reset(data, offset, length);
+            return reader.readValue(column);
+        }
+    }
+
+    private static final class RawValueInputStream extends ByteArrayInputStream {
+
+        RawValueInputStream() {
+            super(new byte[0]);
+        }
+
+        void reset(byte[] data, int offset, int length) {
+            this.buf = data;
+            this.pos = offset;
+            this.count = offset + length;
+            this.mark = offset;
+        }
+    }
+
     @Override
     public <T> T readValue(int colIndex) {
         if (colIndex < 1 || colIndex > getSchema().getColumns().size()) {
             throw new ClientException("Column index out of bounds: " + colIndex);
         }
-        return (T) currentRecord.get(getSchema().columnIndexToName(colIndex));
+        return (T) currentRecord.getValue(colIndex - 1);
     }
 
     @Override
     public <T> T readValue(String colName) {
-        return (T) currentRecord.get(colName);
+        int index = currentRecord.indexOf(colName);
+        return index < 0 ? null : (T) currentRecord.getValue(index);
     }
 
     @Override
@@ -179,7 +294,15 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
         initialState = false;
         try {
             nextRecordEmpty.set(true);
-            if (!readRecord(nextRecord)) {
+            if (prefetcher != null) {
+                RecordSlots record = prefetcher.take();
+                if (record == null) {
+                    endReached();
+                } else {
+                    nextRecord = record;
+                    nextRecordEmpty.set(false);
+                }
+            } else if (!readRecord(nextRecord)) {
                 endReached();
             } else {
                 nextRecordEmpty.compareAndSet(true, false);
@@ -196,29 +319,46 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
             return null;
         }
 
-        if (!nextRecordEmpty.get()) {
-            Map<String, Object> tmp = currentRecord;
-            currentRecord = nextRecord;
-            nextRecord = tmp;
+        if (nextRecordEmpty.get()) {
             readNextRecord();
-            return currentRecord;
-        } else {
-            try {
-                if (readRecord(currentRecord)) {
-                    readNextRecord();
-                    return currentRecord;
-                } else {
-                    currentRecord = null;
-                    return null;
-                }
-            } catch (IOException e) {
-                endReached();
-                throw new ClientException("Failed to read row", e);
+            if (nextRecordEmpty.get()) {
+                currentRecord.clear();
+                return null;
             }
         }
+
+        RecordSlots tmp = currentRecord;
+        currentRecord = nextRecord;
+        nextRecord = tmp;
+        if (prefetchRows > 0) {
+            if (prefetcher == null) {
+                startPrefetch();
+            }
+            prefetcher.release(tmp);
+        }
+        readNextRecord();
+        return currentRecord.asMap();
+    }
+
+    /**
+     * Starts reading rows in background. It is done after the first row is read because some readers
+     * get schema from the first block of data.
+     */
+    private void startPrefetch() {
+        RecordSlots[] slots = new RecordSlots[prefetchRows];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new RecordSlots();
+            slots[i].setColumns(schema.getColumns());
+            slots[i].setDecoder(rawValueDecoder); // values are decoded only by the consumer
+        }
+        // current and next records are returned to the pool too
+        prefetcher = new RecordPrefetcher(this::readRecord, slots, 2);
     }
 
     protected void endReached() {
+        if (prefetcher != null && prefetcher.isPrefetchThread()) {
+            return; // consumer gets the end of stream from the prefetcher after all read records
+        }
         initialState = false;
         hasNext = false;
     }
@@ -227,6 +367,8 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
         this.schema = schema;
         this.columns = schema.getColumns().toArray(new ClickHouseColumn[0]);
         this.convertions = new Map[columns.length];
+        this.currentRecord.setColumns(schema.getColumns());
+        this.nextRecord.setColumns(schema.getColumns());
 
         for (int i = 0; i < columns.length; i++) {
             ClickHouseColumn column = columns[i];
@@ -274,85 +416,113 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
 
     @Override
     public String getString(String colName) {
-        Object value = readValue(colName);
+        return getString(schema.nameToColumnIndex(colName));
+    }
+
+    @Override
+    public String getString(int index) {
+        Object value = currentRecord.getValue(slotIndex(index));
         if (value == null) {
             return null;
         } else if (value instanceof String) {
             return (String) value;
         } else {
-            ClickHouseDataType dataType = schema.getColumnByName(colName).getDataType();
+            ClickHouseColumn column = columns[index - 1];
+            ClickHouseDataType dataType = column.getDataType();
             if (dataType == ClickHouseDataType.Enum8 || dataType == ClickHouseDataType.Enum16) {
-                ClickHouseEnum clickHouseEnum = schema.getColumnByName(colName).getEnumConstants();
+                ClickHouseEnum clickHouseEnum = column.getEnumConstants();
                 return clickHouseEnum.name(Integer.parseInt(value.toString()));
             }
         }
         return value.toString();
     }
 
-    @Override
-    public String getString(int index) {
-        return getString(schema.columnIndexToName(index));
-    }
-
-    private <T> T readNumberValue(String colName, NumberConverter.NumberType targetType) {
-        int colIndex = schema.nameToIndex(colName);
+    /**
+     * Converts a value of the current record thru {@link NumberConverter}.
+     *
+     * @param colIndex - column index starting from 0
+     * @param targetType - target number type
+     */
+    private <T> T readNumberValue(int colIndex, NumberConverter.NumberType targetType) {
         Function<Object, Object> converter = (Function<Object, Object>) convertions[colIndex].get(targetType);
         if (converter != null) {
-            Object value = readValue(colName);
+            Object value = currentRecord.getValue(colIndex);
             if (value == null) {
-                throw new NullValueException("Column " + colName + " has null value and it cannot be cast to " +
-                        targetType.getTypeName());
+                throw new NullValueException("Column " + columns[colIndex].getColumnName() +
+                        " has null value and it cannot be cast to " + targetType.getTypeName());
             }
             return (T) converter.apply(value);
         } else {
-            throw new ClientException("Column " + colName + " " + columns[colIndex].getDataType().name() +
-                    " cannot be converted to " + targetType.getTypeName());
+            throw new ClientException("Column " + columns[colIndex].getColumnName() + " " +
+                    columns[colIndex].getDataType().name() + " cannot be converted to " + targetType.getTypeName());
         }
     }
 
+    /**
+     * Converts column index starting from 1 to slot index.
+     */
+    private int slotIndex(int index) {
+        if (index < 1 || index > columns.length) {
+            throw new NoSuchColumnException("Result has no column with index = " + (index - 1));
+        }
+        return index - 1;
+    }
+
+    /**
+     * Returns true if the column value of the current record is in a long slot. Such values are
+     * converted to smaller integer types without boxing when they fit.
+     */
+    private boolean isLongSlot(int colIndex) {
+        return currentRecord.getKind(colIndex) == RecordSlots.LONG && !currentRecord.isNull(colIndex);
+    }
+
+    private boolean isDoubleSlot(int colIndex) {
+        return currentRecord.getKind(colIndex) == RecordSlots.DOUBLE && !currentRecord.isNull(colIndex);
+    }
+
     @Override
     public byte getByte(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Byte);
+        return getByte(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public short getShort(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Short);
+        return getShort(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public int getInteger(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Int);
+        return getInteger(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public long getLong(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Long);
+        return getLong(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public float getFloat(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Float);
+        return getFloat(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public double getDouble(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Double);
+        return getDouble(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public boolean getBoolean(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.Boolean);
+        return getBoolean(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public BigInteger getBigInteger(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.BigInteger);
+        return getBigInteger(schema.nameToColumnIndex(colName));
     }
 
     @Override
     public BigDecimal getBigDecimal(String colName) {
-        return readNumberValue(colName, NumberConverter.NumberType.BigDecimal);
+        return getBigDecimal(schema.nameToColumnIndex(colName));
     }
 
     @Override
@@ -516,58 +686,94 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
 
     @Override
     public boolean hasValue(int colIndex) {
-        return currentRecord.containsKey(getSchema().columnIndexToName(colIndex));
+        return !currentRecord.isNull(slotIndex(colIndex));
     }
 
     @Override
     public boolean hasValue(String colName) {
-        getSchema().getColumnByName(colName);
-        return currentRecord.containsKey(colName);
+        return !currentRecord.isNull(getSchema().nameToIndex(colName));
     }
 
     @Override
     public byte getByte(int index) {
-        return getByte(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isLongSlot(i)) {
+            long value = currentRecord.getLong(i);
+            if (value == (byte) value) {
+                return (byte) value;
+            }
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Byte);
     }
 
     @Override
     public short getShort(int index) {
-        return getShort(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isLongSlot(i)) {
+            long value = currentRecord.getLong(i);
+            if (value == (short) value) {
+                return (short) value;
+            }
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Short);
     }
 
     @Override
     public int getInteger(int index) {
-        return getInteger(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isLongSlot(i)) {
+            long value = currentRecord.getLong(i);
+            if (value == (int) value) {
+                return (int) value;
+            }
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Int);
     }
 
     @Override
     public long getLong(int index) {
-        return getLong(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isLongSlot(i)) {
+            return currentRecord.getLong(i);
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Long);
     }
 
     @Override
     public float getFloat(int index) {
-        return getFloat(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isDoubleSlot(i)) {
+            return (float) currentRecord.getDouble(i);
+        } else if (isLongSlot(i)) {
+            return (float) currentRecord.getLong(i);
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Float);
     }
 
     @Override
     public double getDouble(int index) {
-        return getDouble(schema.columnIndexToName(index));
+        int i = slotIndex(index);
+        if (isDoubleSlot(i)) {
+            return currentRecord.getDouble(i);
+        } else if (isLongSlot(i)) {
+            return (double) currentRecord.getLong(i);
+        }
+        return readNumberValue(i, NumberConverter.NumberType.Double);
     }
 
     @Override
     public boolean getBoolean(int index) {
-        return getBoolean(schema.columnIndexToName(index));
+        return readNumberValue(slotIndex(index), NumberConverter.NumberType.Boolean);
     }
 
     @Override
     public BigInteger getBigInteger(int index) {
-        return getBigInteger(schema.columnIndexToName(index));
+        return readNumberValue(slotIndex(index), NumberConverter.NumberType.BigInteger);
     }
 
     @Override
     public BigDecimal getBigDecimal(int index) {
-        return getBigDecimal(schema.columnIndexToName(index));
+        return readNumberValue(slotIndex(index), NumberConverter.NumberType.BigDecimal);
     }
 
     @Override
@@ -734,6 +940,10 @@ public abstract class AbstractBinaryFormatReader implements ClickHouseBinaryForm
 
     @Override
     public void close() throws Exception {
+        if (prefetcher != null) {
+            // input is not thread-safe, so it is closed only after the prefetch thread exits
+            prefetcher.close();
+        }
         input.close();
     }
 }
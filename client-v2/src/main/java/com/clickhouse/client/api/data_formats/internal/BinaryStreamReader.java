@@ -15,6 +15,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -37,6 +38,9 @@ public class BinaryStreamReader {
 
     private final InputStream input;
 
+    // not null when input exposes its buffer
+    private final ByteBufferInputStream bufferedInput;
+
     private final Logger log;
 
     private final TimeZone timeZone;
@@ -57,6 +61,7 @@ public class BinaryStreamReader {
         this.log = log == null ? NOPLogger.NOP_LOGGER : log;
         this.timeZone = timeZone;
         this.input = input;
+        this.bufferedInput = input instanceof ByteBufferInputStream ? (ByteBufferInputStream) input : null;
         this.bufferAllocator = bufferAllocator;
         this.jsonAsString = jsonAsString;
     }
@@ -95,6 +100,9 @@ public class BinaryStreamReader {
             switch (column.getDataType()) {
                 // Primitives
                 case FixedString: {
+                    if (bufferedInput != null) {
+                        return (T) bufferedInput.readString(column.getEstimatedLength());
+                    }
                     byte[] bytes = readNBytes(input, column.getEstimatedLength());
                     return (T) new String(bytes, 0, column.getEstimatedLength(), StandardCharsets.UTF_8);
                 }
@@ -102,6 +110,8 @@ public class BinaryStreamReader {
                     int len = readVarInt(input);
                     if (len == 0) {
                         return (T) "";
+                    } else if (bufferedInput != null) {
+                        return (T) bufferedInput.readString(len);
                     }
                     return (T) new String(readNBytes(input, len), StandardCharsets.UTF_8);
                 }
@@ -144,7 +154,7 @@ public class BinaryStreamReader {
                 case Float64:
                     return (T) Double.valueOf(readDoubleLE());
                 case Bool:
-                    return (T) Boolean.valueOf(readByteOrEOF(input) == 1);
+                    return (T) Boolean.valueOf(readByte() == 1);
                 case Enum8:
                     return (T) Byte.valueOf((byte) readUnsignedByte());
                 case Enum16:
@@ -256,6 +266,9 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public short readShortLE() throws IOException {
+        if (bufferedInput != null) {
+            return bufferedInput.readShortLE();
+        }
         return readShortLE(input, bufferAllocator.allocate(INT16_SIZE));
     }
 
@@ -278,6 +291,9 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public int readIntLE() throws IOException {
+        if (bufferedInput != null) {
+            return bufferedInput.readIntLE();
+        }
         return readIntLE(input, bufferAllocator.allocate(INT32_SIZE));
     }
 
@@ -301,6 +317,9 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public long readLongLE() throws IOException {
+        if (bufferedInput != null) {
+            return bufferedInput.readLongLE();
+        }
         return readLongLE(input, bufferAllocator.allocate(INT64_SIZE));
     }
 
@@ -325,6 +344,9 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public byte readByte() throws IOException {
+        if (bufferedInput != null) {
+            return bufferedInput.readByte();
+        }
         return (byte) readByteOrEOF(input);
     }
 
@@ -334,6 +356,9 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public short readUnsignedByte() throws IOException {
+        if (bufferedInput != null) {
+            return (short) (bufferedInput.readByte() & 0xFF);
+        }
         return (short) (readByteOrEOF(input) & 0xFF);
     }
 
@@ -343,7 +368,7 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public int readUnsignedShortLE() throws IOException {
-        return readUnsignedShortLE(input, bufferAllocator.allocate(INT16_SIZE));
+        return readShortLE() & 0xFFFF;
     }
 
     /**
@@ -542,7 +567,9 @@ public class BinaryStreamReader {
 
     public ArrayValue readArrayItem(ClickHouseColumn itemTypeColumn, int len) throws IOException {
         ArrayValue array;
-        if (itemTypeColumn.isNullable()) {
+        if (len == 0) {
+            array = new ArrayValue(Object.class, 0);
+        } else if (itemTypeColumn.isNullable()) {
             array = new ArrayValue(Object.class, len);
             for (int i = 0; i < len; i++) {
                 array.set(i, readValue(itemTypeColumn));
@@ -573,8 +600,201 @@ public class BinaryStreamReader {
         return array;
     }
 
+    /**
+     * Skips a value without decoding it. Fixed size values and strings are skipped by their length. Arrays, maps,
+     * tuples and geo types are walked thru their structure. Values of other types are read and dropped.
+     *
+     * @param column - column information
+     * @throws IOException when IO error occurs
+     */
     public void skipValue(ClickHouseColumn column) throws IOException {
-        readValue(column, null);
+        if (column.isNullable()) {
+            int isNull = readByteOrEOF(input);
+            if (isNull == 1) {
+                return;
+            }
+        }
+        skipNotNullValue(column);
+    }
+
+    /**
+     * Skips a value which null flag is already read.
+     */
+    void skipNotNullValue(ClickHouseColumn column) throws IOException {
+        int size = fixedSize(column);
+        if (size >= 0) {
+            skipBytes(size);
+            return;
+        }
+
+        switch (column.getDataType()) {
+            case String:
+                skipBytes(readVarInt(input));
+                break;
+            case JSON:
+                if (jsonAsString) {
+                    skipBytes(readVarInt(input));
+                } else {
+                    readValue(column);
+                }
+                break;
+            case Array:
+                skipArray(column);
+                break;
+            case Map: {
+                int len = readVarInt(input);
+                ClickHouseColumn keyType = column.getKeyInfo();
+                ClickHouseColumn valueType = column.getValueInfo();
+                for (int i = 0; i < len; i++) {
+                    skipValue(keyType);
+                    skipValue(valueType);
+                }
+                break;
+            }
+            case Tuple:
+                for (ClickHouseColumn nested : column.getNestedColumns()) {
+                    skipValue(nested);
+                }
+                break;
+            case Ring:
+                skipBytes((long) readVarInt(input) * 2 * INT64_SIZE);
+                break;
+            case Polygon:
+                skipGeo(1);
+                break;
+            case MultiPolygon:
+                skipGeo(2);
+                break;
+            case SimpleAggregateFunction:
+                skipValue(column.getNestedColumns().get(0));
+                break;
+            default:
+                readValue(column);
+        }
+    }
+
+    private void skipArray(ClickHouseColumn column) throws IOException {
+        int len = readVarInt(input);
+        if (len == 0) {
+            return;
+        }
+        ClickHouseColumn itemTypeColumn = column.getNestedColumns().get(0);
+        if (column.getArrayNestedLevel() > 1) {
+            for (int i = 0; i < len; i++) {
+                skipArray(itemTypeColumn);
+            }
+            return;
+        }
+
+        int itemSize = itemTypeColumn.isNullable() ? -1 : fixedSize(itemTypeColumn);
+        if (itemSize >= 0) {
+            skipBytes((long) len * itemSize);
+        } else {
+            for (int i = 0; i < len; i++) {
+                skipValue(itemTypeColumn);
+            }
+        }
+    }
+
+    /**
+     * Skips array of rings ({@code depth} 1) or array of polygons ({@code depth} 2).
+     */
+    private void skipGeo(int depth) throws IOException {
+        int len = readVarInt(input);
+        for (int i = 0; i < len; i++) {
+            if (depth > 1) {
+                skipGeo(depth - 1);
+            } else {
+                skipBytes((long) readVarInt(input) * 2 * INT64_SIZE);
+            }
+        }
+    }
+
+    private void skipBytes(long n) throws IOException {
+        while (n > 0) {
+            long skipped = input.skip(n);
+            if (skipped <= 0) {
+                // some streams do not skip at all, so a byte is read to detect the end of stream
+                readByteOrEOF(input);
+                skipped = 1;
+            }
+            n -= skipped;
+        }
+    }
+
+    /**
+     * Returns size in bytes of a not null value of the column, or -1 if values have variable size.
+     *
+     * @param column - column information
+     * @return size in bytes or -1
+     */
+    static int fixedSize(ClickHouseColumn column) {
+        switch (column.getDataType()) {
+            case Nothing:
+                return 0;
+            case Int8:
+            case UInt8:
+            case Bool:
+            case Enum8:
+                return 1;
+            case Int16:
+            case UInt16:
+            case Enum16:
+            case Date:
+                return INT16_SIZE;
+            case Int32:
+            case UInt32:
+            case Float32:
+            case Date32:
+            case DateTime:
+            case DateTime32:
+            case Decimal32:
+            case IPv4:
+                return INT32_SIZE;
+            case Int64:
+            case UInt64:
+            case Float64:
+            case DateTime64:
+            case Decimal64:
+            case IntervalYear:
+            case IntervalQuarter:
+            case IntervalMonth:
+            case IntervalWeek:
+            case IntervalDay:
+            case IntervalHour:
+            case IntervalMinute:
+            case IntervalSecond:
+            case IntervalMicrosecond:
+            case IntervalMillisecond:
+            case IntervalNanosecond:
+                return INT64_SIZE;
+            case Int128:
+            case UInt128:
+            case Decimal128:
+            case IPv6:
+            case UUID:
+            case Point:
+                return INT128_SIZE;
+            case Int256:
+            case UInt256:
+            case Decimal256:
+                return INT256_SIZE;
+            case Decimal: {
+                int precision = column.getPrecision();
+                if (precision <= ClickHouseDataType.Decimal32.getMaxScale()) {
+                    return INT32_SIZE;
+                } else if (precision <= ClickHouseDataType.Decimal64.getMaxScale()) {
+                    return INT64_SIZE;
+                } else if (precision <= ClickHouseDataType.Decimal128.getMaxScale()) {
+                    return INT128_SIZE;
+                }
+                return INT256_SIZE;
+            }
+            case FixedString:
+                return column.getEstimatedLength();
+            default:
+                return -1;
+        }
     }
 
     public static class ArrayValue {
@@ -756,7 +976,7 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     private ZonedDateTime readDate(TimeZone tz) throws IOException {
-        return readDate(input, bufferAllocator.allocate(INT16_SIZE), tz);
+        return toDate(readUnsignedShortLE(), tz);
     }
 
     /**
@@ -768,8 +988,7 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public static ZonedDateTime readDate(InputStream input, byte[] buff, TimeZone tz) throws IOException {
-        LocalDate d = LocalDate.ofEpochDay(readUnsignedShortLE(input, buff));
-        return d.atStartOfDay(tz.toZoneId()).withZoneSameInstant(tz.toZoneId());
+        return toDate(readUnsignedShortLE(input, buff), tz);
     }
 
     /**
@@ -780,7 +999,7 @@ public class BinaryStreamReader {
      */
     public ZonedDateTime readDate32(TimeZone tz)
             throws IOException {
-        return readDate32(input, bufferAllocator.allocate(INT32_SIZE), tz);
+        return toDate(readIntLE(), tz);
     }
 
     /**
@@ -794,12 +1013,16 @@ public class BinaryStreamReader {
      */
     public static ZonedDateTime readDate32(InputStream input, byte[] buff, TimeZone tz)
             throws IOException {
-        LocalDate d = LocalDate.ofEpochDay(readIntLE(input, buff));
+        return toDate(readIntLE(input, buff), tz);
+    }
+
+    private static ZonedDateTime toDate(long epochDay, TimeZone tz) {
+        LocalDate d = LocalDate.ofEpochDay(epochDay);
         return d.atStartOfDay(tz.toZoneId()).withZoneSameInstant(tz.toZoneId());
     }
 
     private ZonedDateTime readDateTime32(TimeZone tz) throws IOException {
-        return readDateTime32(input, bufferAllocator.allocate(INT32_SIZE), tz);
+        return toDateTime32(readUnsignedIntLE(), tz);
     }
 
     /**
@@ -811,7 +1034,10 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public static ZonedDateTime readDateTime32(InputStream input, byte[] buff, TimeZone tz) throws IOException {
-        long time = readUnsignedIntLE(input, buff);
+        return toDateTime32(readUnsignedIntLE(input, buff), tz);
+    }
+
+    private static ZonedDateTime toDateTime32(long time, TimeZone tz) {
         return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.max(time, 0L)), tz.toZoneId()).atZone(tz.toZoneId());
     }
 
@@ -823,7 +1049,7 @@ public class BinaryStreamReader {
      * @throws IOException when IO error occurs
      */
     public ZonedDateTime readDateTime64(int scale, TimeZone tz) throws IOException {
-        return readDateTime64(input, bufferAllocator.allocate(INT64_SIZE), scale, tz);
+        return toDateTime64(readLongLE(), scale, tz);
     }
 
 
@@ -844,7 +1070,10 @@ public class BinaryStreamReader {
      * @throws IOException
      */
     public static ZonedDateTime readDateTime64(InputStream input, byte[] buff, int scale, TimeZone tz) throws IOException {
-        long value = readLongLE(input, buff);
+        return toDateTime64(readLongLE(input, buff), scale, tz);
+    }
+
+    private static ZonedDateTime toDateTime64(long value, int scale, TimeZone tz) {
         int nanoSeconds = 0;
         if (scale > 0) {
             int factor = BASES[scale];
@@ -873,10 +1102,27 @@ public class BinaryStreamReader {
         int len = readVarInt(input);
         if (len == 0) {
             return "";
+        } else if (input instanceof ByteBufferInputStream) {
+            return ((ByteBufferInputStream) input).readString(len);
         }
         return new String(readNBytes(input, len), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Reads a String value without decoding it. When input is {@link ByteBufferInputStream} then bytes are
+     * not copied and returned buffer is valid only until the next read.
+     *
+     * @return buffer positioned at the first byte of the string and limited to the last one
+     * @throws IOException when IO error occurs
+     */
+    public ByteBuffer readStringBytes() throws IOException {
+        int len = readVarInt(input);
+        if (bufferedInput != null) {
+            return bufferedInput.readSlice(len);
+        }
+        return ByteBuffer.wrap(readNBytes(input, len));
+    }
+
     public static int readByteOrEOF(InputStream input) throws IOException {
         int b = input.read();
         if (b < 0) {
@@ -919,6 +1165,59 @@ public class BinaryStreamReader {
         }
     }
 
+    /**
+     * Reads a value of a type for which {@link #isReadToPrimitive(ClickHouseDataType)} is true, except floating point
+     * types, as a long. Null flag of nullable column should be read before.
+     *
+     * @param dataType - column data type
+     * @return value widened to long. Boolean is 1 or 0
+     * @throws IOException when IO error occurs
+     */
+    public long readLongValue(ClickHouseDataType dataType) throws IOException {
+        switch (dataType) {
+            case Int8:
+                return readByte();
+            case UInt8:
+                return readUnsignedByte();
+            case Int16:
+                return readShortLE();
+            case UInt16:
+                return readUnsignedShortLE();
+            case Int32:
+                return readIntLE();
+            case UInt32:
+                return readUnsignedIntLE();
+            case Int64:
+                return readLongLE();
+            case Bool:
+                return readByte() == 1 ? 1 : 0;
+            case Enum8:
+                return (byte) readUnsignedByte();
+            case Enum16:
+                return (short) readUnsignedShortLE();
+            default:
+                throw new IllegalArgumentException("Type " + dataType + " cannot be read as long");
+        }
+    }
+
+    /**
+     * Reads a Float32 or Float64 value as a double. Null flag of nullable column should be read before.
+     *
+     * @param dataType - column data type
+     * @return value widened to double
+     * @throws IOException when IO error occurs
+     */
+    public double readDoubleValue(ClickHouseDataType dataType) throws IOException {
+        switch (dataType) {
+            case Float32:
+                return readFloatLE();
+            case Float64:
+                return readDoubleLE();
+            default:
+                throw new IllegalArgumentException("Type " + dataType + " cannot be read as double");
+        }
+    }
+
     private ClickHouseBitmap readBitmap(ClickHouseColumn column) throws IOException {
         return ClickHouseBitmap.deserialize(input, column.getNestedColumns().get(0).getDataType());
     }
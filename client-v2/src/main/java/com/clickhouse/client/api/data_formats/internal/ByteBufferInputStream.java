@@ -0,0 +1,258 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered input stream that exposes its buffer to readers. Fixed size values are read directly from the buffer thru
+ * a little-endian {@link ByteBuffer} view, and byte sequences can be accessed in place as slices of the buffer.
+ * Nothing is allocated per value except for sequences longer than the buffer.
+ * <p>
+ * Not thread safe. Once wrapped, the source stream should be read only thru this one.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final InputStream source;
+
+    private byte[] buffer;
+
+    private ByteBuffer view;
+
+    private ByteBuffer slice;
+
+    private int position;
+
+    private int limit;
+
+    private OutputStream recorder;
+
+    private int recordFrom;
+
+    public ByteBufferInputStream(InputStream source) {
+        this(source, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ByteBufferInputStream(InputStream source, int bufferSize) {
+        if (bufferSize < BinaryStreamReader.INT256_SIZE) {
+            throw new IllegalArgumentException("Buffer size should be at least " + BinaryStreamReader.INT256_SIZE);
+        }
+        this.source = source;
+        setBuffer(new byte[bufferSize]);
+    }
+
+    private void setBuffer(byte[] buffer) {
+        this.buffer = buffer;
+        this.view = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+        this.slice = view.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Makes sure that at least {@code n} bytes are in the buffer. Grows the buffer if needed.
+     *
+     * @param n - number of bytes
+     * @throws EOFException when stream ends before
+     */
+    private void ensure(int n) throws IOException {
+        int remaining = limit - position;
+        if (remaining >= n) {
+            return;
+        }
+
+        flushRecorded();
+        if (n > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(n, buffer.length * 2)];
+            System.arraycopy(buffer, position, newBuffer, 0, remaining);
+            setBuffer(newBuffer);
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+        position = 0;
+        recordFrom = 0;
+        limit = remaining;
+
+        while (limit < n) {
+            int r = source.read(buffer, limit, buffer.length - limit);
+            if (r < 0) {
+                throw new EOFException("End of stream reached before reading all data");
+            }
+            limit += r;
+        }
+    }
+
+    /**
+     * Refills empty buffer from the source.
+     *
+     * @return false when the source has no more data
+     */
+    private boolean fill() throws IOException {
+        flushRecorded();
+        int r = source.read(buffer, 0, buffer.length);
+        if (r <= 0) {
+            return false;
+        }
+        position = 0;
+        recordFrom = 0;
+        limit = r;
+        return true;
+    }
+
+    /**
+     * Starts copying every byte consumed from this stream to the output. Used to keep raw bytes of values
+     * which are decoded later.
+     *
+     * @param out - output for consumed bytes
+     */
+    public void startRecording(OutputStream out) {
+        this.recorder = out;
+        this.recordFrom = position;
+    }
+
+    /**
+     * Writes bytes consumed since {@link #startRecording(OutputStream)} and stops recording.
+     *
+     * @throws IOException when the output fails
+     */
+    public void stopRecording() throws IOException {
+        flushRecorded();
+        recorder = null;
+    }
+
+    private void flushRecorded() throws IOException {
+        if (recorder != null && position > recordFrom) {
+            recorder.write(buffer, recordFrom, position - recordFrom);
+        }
+        recordFrom = position;
+    }
+
+    public byte readByte() throws IOException {
+        ensure(1);
+        return buffer[position++];
+    }
+
+    public short readShortLE() throws IOException {
+        ensure(BinaryStreamReader.INT16_SIZE);
+        short v = view.getShort(position);
+        position += BinaryStreamReader.INT16_SIZE;
+        return v;
+    }
+
+    public int readIntLE() throws IOException {
+        ensure(BinaryStreamReader.INT32_SIZE);
+        int v = view.getInt(position);
+        position += BinaryStreamReader.INT32_SIZE;
+        return v;
+    }
+
+    public long readLongLE() throws IOException {
+        ensure(BinaryStreamReader.INT64_SIZE);
+        long v = view.getLong(position);
+        position += BinaryStreamReader.INT64_SIZE;
+        return v;
+    }
+
+    /**
+     * Reads UTF-8 string of given length without an intermediate copy of bytes.
+     *
+     * @param len - length in bytes
+     * @return string value
+     * @throws IOException when IO error occurs
+     */
+    public String readString(int len) throws IOException {
+        if (len > buffer.length) {
+            return new String(BinaryStreamReader.readNBytes(this, len), StandardCharsets.UTF_8);
+        }
+        ensure(len);
+        String v = new String(buffer, position, len, StandardCharsets.UTF_8);
+        position += len;
+        return v;
+    }
+
+    /**
+     * Reads next {@code len} bytes in place. Returned buffer is a read-only view of the internal buffer positioned at
+     * the first byte and limited to the last one. The same object is returned by every call and its content is valid
+     * only until the next read from this stream.
+     *
+     * @param len - number of bytes
+     * @return slice of internal buffer
+     * @throws IOException when IO error occurs
+     */
+    public ByteBuffer readSlice(int len) throws IOException {
+        ensure(len);
+        slice.limit(position + len).position(position);
+        position += len;
+        return slice;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int remaining = limit - position;
+        if (remaining == 0) {
+            if (len >= buffer.length) {
+                // large reads bypass the buffer
+                flushRecorded();
+                int r = source.read(b, off, len);
+                if (recorder != null && r > 0) {
+                    recorder.write(b, off, r);
+                }
+                return r;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            remaining = limit - position;
+        }
+        int n = Math.min(len, remaining);
+        System.arraycopy(buffer, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        int remaining = limit - position;
+        if (remaining == 0 && recorder != null) {
+            // skipped bytes should be recorded, so they go thru the buffer
+            if (!fill()) {
+                return 0;
+            }
+            remaining = limit - position;
+        }
+        if (remaining > 0) {
+            int skipped = (int) Math.min(n, remaining);
+            position += skipped;
+            return skipped;
+        }
+        return source.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (limit - position) + source.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
@@ -2,51 +2,70 @@ package com.clickhouse.client.api.data_formats.internal;
 
 import com.clickhouse.client.api.ClientException;
 import com.clickhouse.client.api.metrics.OperationMetrics;
+import com.clickhouse.client.api.metrics.QueryProgress;
 import com.clickhouse.client.api.metrics.ServerMetrics;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.IOException;
+import java.util.function.ObjLongConsumer;
 
 public class ProcessParser {
 
     private static JsonFactory parserFactory = new JsonFactory();
 
     public static void parseSummary(String text, OperationMetrics metrics) {
+        for (ServerMetrics m : ServerMetrics.values()) {
+            metrics.updateMetric(m, -1);
+        }
+        try {
+            parse(text, metrics::updateMetric);
+        } catch (IOException e) {
+            throw new ClientException("Failed to parse summary", e);
+        }
+    }
+
+    /**
+     * Parses value of {@code X-ClickHouse-Progress} header. Has the same fields as summary.
+     */
+    public static void parseProgress(String text, QueryProgress progress) {
+        try {
+            parse(text, progress::updateMetric);
+        } catch (IOException e) {
+            throw new ClientException("Failed to parse progress", e);
+        }
+    }
+
+    private static void parse(String text, ObjLongConsumer<ServerMetrics> metrics) throws IOException {
         try (JsonParser parser = parserFactory.createParser(text)) {
             parser.nextToken(); // skip START_OBJECT
             JsonToken t = parser.nextToken();
 
-            for (ServerMetrics m : ServerMetrics.values()) {
-                metrics.updateMetric(m, -1);
-            }
             while (t != null) {
                 if (t == JsonToken.FIELD_NAME) {
                     String fieldName = parser.currentName();
                     parser.nextValue();
                     if ("read_rows".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.NUM_ROWS_READ, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.NUM_ROWS_READ, parser.getValueAsLong());
                     } else if ("read_bytes".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.NUM_BYTES_READ, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.NUM_BYTES_READ, parser.getValueAsLong());
                     } else if ("written_rows".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.NUM_ROWS_WRITTEN, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.NUM_ROWS_WRITTEN, parser.getValueAsLong());
                     } else if ("written_bytes".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.NUM_BYTES_WRITTEN, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.NUM_BYTES_WRITTEN, parser.getValueAsLong());
                     } else if ("total_rows_to_read".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.TOTAL_ROWS_TO_READ, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.TOTAL_ROWS_TO_READ, parser.getValueAsLong());
                     } else if ("elapsed_ns".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.ELAPSED_TIME, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.ELAPSED_TIME, parser.getValueAsLong());
                     } else if ("result_rows".equals(fieldName)) {
-                        metrics.updateMetric(ServerMetrics.RESULT_ROWS, parser.getValueAsLong());
+                        metrics.accept(ServerMetrics.RESULT_ROWS, parser.getValueAsLong());
                     } else {
                         // ignore unknown fields for forward compatibility
                     }
                 }
                 t = parser.nextToken();
             }
-        } catch (IOException e) {
-            throw new ClientException("Failed to parse summary", e);
         }
     }
 }
@@ -0,0 +1,158 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import com.clickhouse.client.api.ClientException;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reads records in a background thread ahead of the consumer. Records are read into a fixed set of
+ * {@link RecordSlots} which are passed to the consumer and returned back when consumed. So the number of rows
+ * kept in memory is bounded and no objects are created per row.
+ * <p>
+ * Note: internal API. Only one consumer thread is expected.
+ */
+final class RecordPrefetcher implements Runnable {
+
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory("chc-reader-prefetch", true);
+
+    /**
+     * Marks the end of the stream in the queue of read records.
+     */
+    private static final RecordSlots END = new RecordSlots();
+
+    interface RecordSource {
+
+        /**
+         * Reads next record from the stream.
+         *
+         * @param record - slots to read the record into
+         * @return false if the end of stream is reached
+         */
+        boolean readRecord(RecordSlots record) throws IOException;
+    }
+
+    private final RecordSource source;
+
+    private final BlockingQueue<RecordSlots> free;
+
+    private final BlockingQueue<RecordSlots> read;
+
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    private volatile Throwable error;
+
+    /**
+     * Creates and starts prefetcher.
+     *
+     * @param source - reads records from the stream. Called only from the prefetch thread
+     * @param slots - slots to read records into
+     * @param capacity - maximum number of slots that may be passed with {@link #release(RecordSlots)}
+     *                 in addition to {@code slots}
+     */
+    RecordPrefetcher(RecordSource source, RecordSlots[] slots, int capacity) {
+        this.source = source;
+        this.free = new ArrayBlockingQueue<>(slots.length + capacity);
+        this.read = new ArrayBlockingQueue<>(slots.length + capacity + 1);
+        for (RecordSlots slot : slots) {
+            free.add(slot);
+        }
+        this.thread = THREAD_FACTORY.newThread(this);
+        this.thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!closed) {
+                RecordSlots record = free.take();
+                if (!source.readRecord(record)) {
+                    break;
+                }
+                read.put(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            if (!closed) {
+                error = e;
+            }
+        } finally {
+            // there is always space because number of slots is less than capacity
+            read.offer(END);
+        }
+    }
+
+    /**
+     * Returns next record. Blocks until the record is read.
+     *
+     * @return record or null if there are no more records
+     * @throws IOException if reading failed
+     */
+    RecordSlots take() throws IOException {
+        RecordSlots record;
+        try {
+            record = read.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Interrupted while waiting for next row", e);
+        }
+
+        if (record == END) {
+            read.offer(END); // so the following calls do not block
+            Throwable e = error;
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e != null) {
+                throw new ClientException("Failed to read next row", e);
+            }
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * Returns consumed record so the slots are used for reading again.
+     */
+    void release(RecordSlots record) {
+        free.offer(record);
+    }
+
+    boolean isPrefetchThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Stops reading and waits until the prefetch thread exits, so the stream is not used by it anymore and can be
+     * closed. Thread blocked in waiting for free slots exits immediately, while one reading from the stream exits
+     * after the record being read is complete.
+     */
+    void close() {
+        closed = true;
+        thread.interrupt();
+        if (isPrefetchThread()) {
+            return;
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                // keep waiting - closing the stream while it is being read is not safe
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import com.clickhouse.client.api.ClientException;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseDataType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Values of a single row addressed by column index (starting from 0). Integer, boolean and enum values are kept
+ * in a {@code long[]} and floating point values in a {@code double[]} so they are read and written without boxing.
+ * All other values are kept as objects. A null mask tells which columns have no value.
+ * <p>
+ * Object values may be kept as raw bytes and decoded by a {@link ValueDecoder} when they are requested first time.
+ * This way columns which are never read are never decoded.
+ * <p>
+ * Note: internal API. Instance is reused for many rows and is not thread-safe.
+ */
+public final class RecordSlots {
+
+    public static final byte OBJECT = 0;
+
+    public static final byte LONG = 1;
+
+    public static final byte DOUBLE = 2;
+
+    private ClickHouseColumn[] columns = new ClickHouseColumn[0];
+
+    private byte[] kinds = new byte[0];
+
+    private Map<String, Integer> nameToIndex = new HashMap<>();
+
+    private long[] longs = new long[0];
+
+    private double[] doubles = new double[0];
+
+    private Object[] objects = new Object[0];
+
+    private boolean[] nulls = new boolean[0];
+
+    private Map<String, Object> map;
+
+    private boolean[] encoded = new boolean[0];
+
+    private int[] rawOffsets = new int[0];
+
+    private int[] rawLengths = new int[0];
+
+    private final RawValues rawValues = new RawValues();
+
+    private ValueDecoder decoder;
+
+    /**
+     * Decodes an object value from its raw bytes.
+     */
+    public interface ValueDecoder {
+
+        /**
+         * Decodes a value of the column.
+         *
+         * @param column - column information
+         * @param data - array with raw bytes
+         * @param offset - offset of the first byte
+         * @param length - number of bytes
+         * @return decoded value
+         * @throws IOException when data cannot be read
+         */
+        Object decode(ClickHouseColumn column, byte[] data, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Returns kind of slot where values of the type are kept.
+     *
+     * @param dataType - column data type
+     * @return one of {@link #OBJECT}, {@link #LONG} or {@link #DOUBLE}
+     */
+    public static byte slotKind(ClickHouseDataType dataType) {
+        if (dataType == ClickHouseDataType.Float32 || dataType == ClickHouseDataType.Float64) {
+            return DOUBLE;
+        }
+        return BinaryStreamReader.isReadToPrimitive(dataType) ? LONG : OBJECT;
+    }
+
+    /**
+     * Allocates slots for the columns. All values are null after this call.
+     *
+     * @param columns - columns of the row
+     */
+    public void setColumns(List<ClickHouseColumn> columns) {
+        int n = columns.size();
+        this.columns = columns.toArray(new ClickHouseColumn[0]);
+        this.kinds = new byte[n];
+        this.nameToIndex = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            kinds[i] = slotKind(this.columns[i].getDataType());
+            nameToIndex.put(this.columns[i].getColumnName(), i);
+        }
+        this.longs = new long[n];
+        this.doubles = new double[n];
+        this.objects = new Object[n];
+        this.nulls = new boolean[n];
+        this.encoded = new boolean[n];
+        this.rawOffsets = new int[n];
+        this.rawLengths = new int[n];
+        clear();
+    }
+
+    /**
+     * Sets all values to null.
+     */
+    public void clear() {
+        Arrays.fill(objects, null);
+        Arrays.fill(nulls, true);
+        Arrays.fill(encoded, false);
+        rawValues.reset();
+    }
+
+    /**
+     * Sets decoder of values stored with {@link #startRawValue(int, boolean)}.
+     *
+     * @param decoder - value decoder
+     */
+    public void setDecoder(ValueDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Starts storing raw bytes of a not null object value. Bytes should be written to the returned stream
+     * and then {@link #endRawValue(int)} should be called. Raw bytes of a previous row are discarded
+     * by {@link #clear()}.
+     *
+     * @param index - column index
+     * @param nullable - if the column is nullable. Then a not-null flag is stored before the value so
+     *                 it is decoded the same way as it was read from the stream
+     * @return stream for raw bytes
+     */
+    public OutputStream startRawValue(int index, boolean nullable) {
+        objects[index] = null;
+        nulls[index] = false;
+        encoded[index] = true;
+        rawOffsets[index] = rawValues.size();
+        if (nullable) {
+            rawValues.write(0);
+        }
+        return rawValues;
+    }
+
+    public void endRawValue(int index) {
+        rawLengths[index] = rawValues.size() - rawOffsets[index];
+    }
+
+    public int size() {
+        return columns.length;
+    }
+
+    public byte getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Returns index of the column or -1 if there is no such column.
+     */
+    public int indexOf(String colName) {
+        Integer index = nameToIndex.get(colName);
+        return index == null ? -1 : index;
+    }
+
+    public boolean isNull(int index) {
+        return nulls[index];
+    }
+
+    public void setNull(int index) {
+        nulls[index] = true;
+        encoded[index] = false;
+        objects[index] = null;
+    }
+
+    public long getLong(int index) {
+        return longs[index];
+    }
+
+    public void setLong(int index, long value) {
+        longs[index] = value;
+        nulls[index] = false;
+    }
+
+    public double getDouble(int index) {
+        return doubles[index];
+    }
+
+    public void setDouble(int index, double value) {
+        doubles[index] = value;
+        nulls[index] = false;
+    }
+
+    /**
+     * Stores a value of any type. Values of primitive slots are unboxed.
+     *
+     * @param index - column index
+     * @param value - value or null
+     */
+    public void setValue(int index, Object value) {
+        if (value == null) {
+            setNull(index);
+            return;
+        }
+        switch (kinds[index]) {
+            case LONG:
+                longs[index] = value instanceof Boolean ? ((Boolean) value ? 1 : 0) : ((Number) value).longValue();
+                break;
+            case DOUBLE:
+                doubles[index] = ((Number) value).doubleValue();
+                break;
+            default:
+                objects[index] = value;
+                encoded[index] = false;
+        }
+        nulls[index] = false;
+    }
+
+    /**
+     * Returns a value as an object of the same class as {@link BinaryStreamReader#readValue(ClickHouseColumn)} does.
+     * Values of primitive slots are boxed on each call.
+     *
+     * @param index - column index
+     * @return value or null
+     */
+    public Object getValue(int index) {
+        if (nulls[index]) {
+            return null;
+        }
+        switch (kinds[index]) {
+            case LONG:
+                return box(columns[index].getDataType(), longs[index]);
+            case DOUBLE:
+                return columns[index].getDataType() == ClickHouseDataType.Float32 ?
+                        (Object) (float) doubles[index] : (Object) doubles[index];
+            default:
+                if (encoded[index]) {
+                    objects[index] = decode(index);
+                    encoded[index] = false;
+                }
+                return objects[index];
+        }
+    }
+
+    private Object decode(int index) {
+        try {
+            return decoder.decode(columns[index], rawValues.array(), rawOffsets[index], rawLengths[index]);
+        } catch (IOException e) {
+            throw new ClientException("Failed to read value for column " + columns[index].getColumnName(), e);
+        }
+    }
+
+    private static Object box(ClickHouseDataType dataType, long value) {
+        switch (dataType) {
+            case Int8:
+            case Enum8:
+                return (byte) value;
+            case UInt8:
+            case Int16:
+            case Enum16:
+                return (short) value;
+            case UInt16:
+            case Int32:
+                return (int) value;
+            case Bool:
+                return value != 0;
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Returns a live map view of the row. Columns with null values are not in the map.
+     *
+     * @return map of column names to values
+     */
+    public Map<String, Object> asMap() {
+        if (map == null) {
+            map = new MapView();
+        }
+        return map;
+    }
+
+    /**
+     * Growing byte array that gives access to its content without copying.
+     */
+    private static final class RawValues extends ByteArrayOutputStream {
+
+        RawValues() {
+            super(256);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    private final class MapView extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entries = new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next = nextNonNull(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < columns.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= columns.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry =
+                                new SimpleImmutableEntry<>(columns[next].getColumnName(), getValue(next));
+                        next = nextNonNull(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (boolean isNull : nulls) {
+                    if (!isNull) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+
+        private int nextNonNull(int from) {
+            while (from < columns.length && nulls[from]) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            Integer index = nameToIndex.get(key);
+            return index != null && !nulls[index];
+        }
+
+        @Override
+        public Object get(Object key) {
+            Integer index = nameToIndex.get(key);
+            return index == null ? null : getValue(index);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.clickhouse.client.api.data_formats.internal;
 
 import com.clickhouse.client.api.Client;
 import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.data_formats.RowBinaryFormatSerializer;
+import com.clickhouse.client.api.insert.POJOSerializer;
 import com.clickhouse.client.api.query.POJOSetter;
 import com.clickhouse.data.ClickHouseAggregateFunction;
 import com.clickhouse.data.ClickHouseColumn;
@@ -18,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.Inet4Address;
@@ -40,18 +43,39 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 
 public class SerializerUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerializerUtils.class);
 
+    /**
+     * Writes RowBinary value preamble (default and null markers) and then the value itself if it is not null.
+     *
+     * @param stream - output stream
+     * @param defaultsSupport - if format is RowBinaryWithDefaults
+     * @param column - target column
+     * @param value - value to write. Can be null
+     * @throws IOException when failed to write to the stream
+     */
+    public static void serializeValue(OutputStream stream, boolean defaultsSupport, ClickHouseColumn column, Object value) throws IOException {
+        if (RowBinaryFormatSerializer.writeValuePreamble(stream, defaultsSupport, column, value)) {
+            serializeData(stream, value, column);
+        }
+    }
+
     public static void serializeData(OutputStream stream, Object value, ClickHouseColumn column) throws IOException {
         //Serialize the value to the stream based on the data type
         switch (column.getDataType()) {
@@ -445,6 +469,212 @@ public class SerializerUtils {
         }
     }
 
+    /**
+     * Generates a class that writes a whole row from a POJO in RowBinary format. Getters are called directly and
+     * primitive values of fixed size types are written without boxing. Other values are passed
+     * to {@link #serializeValue(OutputStream, boolean, ClickHouseColumn, Object)}.
+     *
+     * @param dtoClass - POJO class
+     * @param columns - table columns in the order of insert
+     * @param getters - getter method for each column
+     * @param defaultsSupport - if format is RowBinaryWithDefaults
+     * @return serializer of a row
+     */
+    public static POJOSerializer compilePOJOSerializer(Class<?> dtoClass, List<ClickHouseColumn> columns,
+                                                       List<Method> getters, boolean defaultsSupport) {
+        if (!Modifier.isPublic(dtoClass.getModifiers())) {
+            throw new ClientException("Cannot compile serializer for non-public class " + dtoClass.getName());
+        }
+        for (Method getter : getters) {
+            if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                throw new ClientException("Cannot compile serializer for getter " + getter + " of non-public class");
+            }
+        }
+
+        final String serializerClassName = (dtoClass.getName() + "POJOSerializer").replace('.', '/');
+        final String columnsDesc = Type.getDescriptor(ClickHouseColumn[].class);
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V1_8, ACC_PUBLIC, serializerClassName
+                , null, "java/lang/Object",
+                new String[]{Type.getInternalName(POJOSerializer.class)});
+        writer.visitField(ACC_PRIVATE | ACC_FINAL, "columns", columnsDesc, null, null).visitEnd();
+
+        // constructor method
+        {
+            MethodVisitor mv = writer.visitMethod(ACC_PUBLIC, "<init>", "(" + columnsDesc + ")V", null, null);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL,
+                    "java/lang/Object",
+                    "<init>",
+                    "()V",
+                    false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitFieldInsn(PUTFIELD, serializerClassName, "columns", columnsDesc);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // serialize(Object obj, OutputStream out) impl
+        {
+            MethodVisitor mv = writer.visitMethod(ACC_PUBLIC, "serialize",
+                    Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class), Type.getType(OutputStream.class)),
+                    null, new String[]{"java/io/IOException"});
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(dtoClass));
+            mv.visitVarInsn(ASTORE, 3);
+
+            for (int i = 0; i < columns.size(); i++) {
+                ClickHouseColumn column = columns.get(i);
+                Method getter = getters.get(i);
+                Class<?> valueType = getter.getReturnType();
+                String writerMethod = valueType.isPrimitive() ? primitiveWriterMethod(valueType, column) : null;
+
+                if (writerMethod != null) {
+                    // primitive value is never null so preamble is known in advance
+                    if (defaultsSupport) {
+                        writeNonNullMarker(mv);
+                    }
+                    if (column.isNullable()) {
+                        writeNonNullMarker(mv);
+                    }
+                    mv.visitVarInsn(ALOAD, 2);
+                    invokeGetter(mv, getter);
+                    Class<?> writerArgType = primitiveWriterArgType(column.getDataType());
+                    // byte, short and int are all int values on the stack, so only int <-> long needs conversion
+                    if (valueType == long.class && writerArgType == int.class) {
+                        mv.visitInsn(Opcodes.L2I);
+                    } else if (valueType != long.class && writerArgType == long.class) {
+                        mv.visitInsn(Opcodes.I2L);
+                    }
+                    mv.visitMethodInsn(INVOKESTATIC,
+                            Type.getInternalName(BinaryStreamUtils.class),
+                            writerMethod,
+                            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(OutputStream.class),
+                                    Type.getType(writerArgType)),
+                            false);
+                } else {
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitInsn(defaultsSupport ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, serializerClassName, "columns", columnsDesc);
+                    mv.visitLdcInsn(i);
+                    mv.visitInsn(Opcodes.AALOAD);
+                    invokeGetter(mv, getter);
+                    if (valueType.isPrimitive()) {
+                        Class<?> boxedType = ClickHouseDataType.toObjectType(valueType);
+                        mv.visitMethodInsn(INVOKESTATIC,
+                                Type.getInternalName(boxedType),
+                                "valueOf",
+                                Type.getMethodDescriptor(Type.getType(boxedType), Type.getType(valueType)),
+                                false);
+                    }
+                    mv.visitMethodInsn(INVOKESTATIC,
+                            Type.getInternalName(SerializerUtils.class),
+                            "serializeValue",
+                            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(OutputStream.class),
+                                    Type.BOOLEAN_TYPE, Type.getType(ClickHouseColumn.class), Type.getType(Object.class)),
+                            false);
+                }
+            }
+
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        try {
+            SerializerUtils.DynamicClassLoader loader = new SerializerUtils.DynamicClassLoader(dtoClass.getClassLoader());
+            Class<?> clazz = loader.defineClass(serializerClassName.replace('/', '.'), writer.toByteArray());
+            return (POJOSerializer) clazz.getDeclaredConstructor(ClickHouseColumn[].class)
+                    .newInstance((Object) columns.toArray(new ClickHouseColumn[0]));
+        } catch (Exception e) {
+            throw new ClientException("Failed to compile serializer for " + dtoClass.getName(), e);
+        }
+    }
+
+    private static void writeNonNullMarker(MethodVisitor mv) {
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitMethodInsn(INVOKESTATIC,
+                Type.getInternalName(SerializerUtils.class),
+                "writeBoolean",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(OutputStream.class), Type.BOOLEAN_TYPE),
+                false);
+    }
+
+    private static void invokeGetter(MethodVisitor mv, Method getter) {
+        Class<?> owner = getter.getDeclaringClass();
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                Type.getInternalName(owner),
+                getter.getName(),
+                Type.getMethodDescriptor(getter),
+                owner.isInterface());
+    }
+
+    /**
+     * Returns name of {@link BinaryStreamUtils} method that writes primitive value of the given type into the column
+     * the same way as {@link #serializeData(OutputStream, Object, ClickHouseColumn)} does for a boxed value.
+     *
+     * @return method name or null if value should be boxed
+     */
+    private static String primitiveWriterMethod(Class<?> valueType, ClickHouseColumn column) {
+        boolean integral = valueType == byte.class || valueType == short.class || valueType == int.class
+                || valueType == long.class;
+        switch (column.getDataType()) {
+            case Int8:
+                return integral ? "writeInt8" : null;
+            case Int16:
+                return integral ? "writeInt16" : null;
+            case Int32:
+                return integral ? "writeInt32" : null;
+            case Int64:
+                return integral ? "writeInt64" : null;
+            case UInt8:
+                return integral ? "writeUnsignedInt8" : null;
+            case UInt16:
+                return integral ? "writeUnsignedInt16" : null;
+            case UInt32:
+                return integral ? "writeUnsignedInt32" : null;
+            case UInt64:
+                return integral ? "writeUnsignedInt64" : null;
+            case Enum16:
+                return integral ? "writeEnum16" : null;
+            case Enum8:
+                return valueType == byte.class ? "writeEnum8" : null;
+            case Float32:
+                return valueType == float.class ? "writeFloat32" : null;
+            case Float64:
+                return valueType == double.class ? "writeFloat64" : null;
+            case Bool:
+                return valueType == boolean.class ? "writeBoolean" : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Class<?> primitiveWriterArgType(ClickHouseDataType dataType) {
+        switch (dataType) {
+            case Int64:
+            case UInt32:
+            case UInt64:
+                return long.class;
+            case Enum8:
+                return byte.class;
+            case Float32:
+                return float.class;
+            case Float64:
+                return double.class;
+            case Bool:
+                return boolean.class;
+            default:
+                return int.class;
+        }
+    }
+
     private static void binaryReaderMethodForType(MethodVisitor mv, Class<?> targetType, ClickHouseDataType dataType) {
         String readerMethod = null;
         String readerMethodReturnType = null;
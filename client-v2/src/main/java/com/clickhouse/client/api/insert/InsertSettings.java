@@ -4,6 +4,8 @@ import com.clickhouse.client.api.Client;
 import com.clickhouse.client.api.ClientConfigProperties;
 import com.clickhouse.client.api.internal.ServerSettings;
 import com.clickhouse.client.api.internal.ValidationUtils;
+import com.clickhouse.client.api.metrics.ProgressListener;
+import com.clickhouse.client.api.metrics.QueryProgress;
 import com.clickhouse.client.config.ClickHouseClientOption;
 import org.apache.hc.core5.http.HttpHeaders;
 
@@ -264,4 +266,21 @@ public class InsertSettings {
     public String getLogComment() {
         return logComment;
     }
+
+    /**
+     * Sets a listener receiving progress of the query while it's running. Enables
+     * {@code send_progress_in_http_headers} for the operation. A query id is generated if not set, so that
+     * {@link QueryProgress#cancel()} is able to kill the query.
+     *
+     * @param listener - progress listener
+     * @return same instance of the builder
+     */
+    public InsertSettings setProgressListener(ProgressListener listener) {
+        rawSettings.put(ClientConfigProperties.PROGRESS_LISTENER.getKey(), listener);
+        return this;
+    }
+
+    public ProgressListener getProgressListener() {
+        return (ProgressListener) rawSettings.get(ClientConfigProperties.PROGRESS_LISTENER.getKey());
+    }
 }
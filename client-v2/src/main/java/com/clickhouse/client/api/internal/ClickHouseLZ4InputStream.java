@@ -1,6 +1,8 @@
 package com.clickhouse.client.api.internal;
 
 import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
 import com.clickhouse.data.ClickHouseByteUtils;
 import com.clickhouse.data.ClickHouseCityHash;
 import com.clickhouse.data.ClickHouseUtils;
@@ -11,8 +13,22 @@ import org.slf4j.LoggerFactory;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
+/**
+ * Reads ClickHouse native LZ4 compressed stream. Each compressed block is checked and decompressed as a whole.
+ * <p>
+ * When an executor is given, the stream works in read-ahead mode: it decompresses several blocks concurrently on
+ * the executor and returns data in the original order. Only the next block is awaited from the network, other blocks
+ * are read ahead only when their bytes are already available, so the reader never waits for more than one block.
+ * Buffers of consumed blocks are reused.
+ */
 public class ClickHouseLZ4InputStream extends InputStream {
 
     private static Logger LOG = LoggerFactory.getLogger(ClickHouseLZ4InputStream.class);
@@ -24,13 +40,54 @@ public class ClickHouseLZ4InputStream extends InputStream {
 
     private byte[] tmpBuffer = new byte[1];
 
+    private final Executor executor;
+
+    private final int readAheadBlocks;
+
+    private final int bufferSize;
+
+    // blocks being decompressed in order of the stream
+    private final ArrayDeque<Future<Block>> pendingBlocks;
+
+    private final ArrayDeque<Block> freeBlocks;
+
+    // block which data is being read
+    private Block currentBlock;
+
+    // block which header is read but data is not yet available
+    private Block partialBlock;
+
+    private boolean endOfStream = false;
+
+    private final MetricsRecorder metricsRecorder;
 
     public ClickHouseLZ4InputStream(InputStream in, LZ4FastDecompressor decompressor, int bufferSize) {
+        this(in, decompressor, bufferSize, null, 0, MetricsRecorder.NOOP);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param in - compressed stream
+     * @param decompressor - LZ4 decompressor. Should be thread-safe when executor is set
+     * @param bufferSize - initial size of decompression buffer
+     * @param executor - executor to decompress blocks in read-ahead mode. Null to decompress on the reading thread
+     * @param readAheadBlocks - maximum number of blocks read and decompressed ahead
+     * @param metricsRecorder - receives decompression time of each block
+     */
+    public ClickHouseLZ4InputStream(InputStream in, LZ4FastDecompressor decompressor, int bufferSize,
+                                    Executor executor, int readAheadBlocks, MetricsRecorder metricsRecorder) {
         super();
         this.decompressor = decompressor;
         this.in = in;
-        this.buffer = ByteBuffer.allocate(bufferSize);
-        this.buffer.limit(0);
+        this.buffer = ByteBuffer.allocate(0);
+        this.executor = readAheadBlocks > 0 ? executor : null;
+        this.readAheadBlocks = readAheadBlocks;
+        this.bufferSize = bufferSize;
+        this.pendingBlocks = new ArrayDeque<>(Math.max(1, readAheadBlocks));
+        this.freeBlocks = new ArrayDeque<>(readAheadBlocks + 1);
+        this.currentBlock = new Block(bufferSize);
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
@@ -67,8 +124,6 @@ public class ClickHouseLZ4InputStream extends InputStream {
     static final byte MAGIC = (byte) 0x82;
     static final int HEADER_LENGTH = 25;
 
-    final byte[] headerBuff = new byte[HEADER_LENGTH];
-
     /**
      * Method ensures to read all bytes from the input stream.
      * In case of network connection it may be a case when not all bytes are read at once.
@@ -91,49 +146,186 @@ public class ClickHouseLZ4InputStream extends InputStream {
     }
 
     private int refill() throws IOException {
+        if (executor == null) {
+            // decompress on the current thread reusing the same block
+            if (!readBlock(currentBlock)) {
+                return -1;
+            }
+            decompress(currentBlock);
+        } else {
+            if (currentBlock != null) {
+                freeBlocks.add(currentBlock);
+                currentBlock = null;
+            }
+
+            if (pendingBlocks.isEmpty()) {
+                readAhead(true);
+            }
+            while (pendingBlocks.size() < readAheadBlocks && readAhead(false)) {
+                // top up with blocks already received while the next one is being decompressed
+            }
+
+            Future<Block> next = pendingBlocks.poll();
+            if (next == null) {
+                return -1;
+            }
+            currentBlock = awaitBlock(next);
+        }
+
+        buffer = currentBlock.data;
+        return currentBlock.uncompressedSize;
+    }
+
+    /**
+     * Reads next compressed block and submits it for decompression.
+     *
+     * @param wait - whether to wait for the block. Otherwise the block is read only if its bytes are already
+     *             available in the input stream
+     * @return true if a block was submitted
+     */
+    private boolean readAhead(boolean wait) throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+
+        Block block = partialBlock;
+        if (block == null) {
+            if (!wait && in.available() < HEADER_LENGTH) {
+                return false;
+            }
+            block = freeBlocks.isEmpty() ? new Block(bufferSize) : freeBlocks.poll();
+            if (!readHeader(block)) {
+                freeBlocks.add(block);
+                endOfStream = true;
+                return false;
+            }
+            partialBlock = block;
+        }
+        if (!wait && in.available() < block.compressedSizeWithHeader - 9) {
+            return false;
+        }
+        readData(block);
+        partialBlock = null;
+
+        Block submitted = block;
+        FutureTask<Block> task = new FutureTask<>(() -> decompress(submitted));
+        executor.execute(task);
+        pendingBlocks.add(task);
+        return true;
+    }
 
-        // read header
-        boolean readFully = readFully(headerBuff, 0, HEADER_LENGTH);
+    private Block decompress(Block block) {
+        long start = System.nanoTime();
+        block.decompress(decompressor);
+        metricsRecorder.recordTime(ClientMetrics.OP_DECOMPRESSION, System.nanoTime() - start);
+        return block;
+    }
+
+    private static Block awaitBlock(Future<Block> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for decompressed block");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to decompress block", cause);
+        }
+    }
+
+    /**
+     * Reads next compressed block from the input stream.
+     *
+     * @return false if stream has ended
+     */
+    private boolean readBlock(Block block) throws IOException {
+        if (!readHeader(block)) {
+            return false;
+        }
+        readData(block);
+        return true;
+    }
+
+    /**
+     * Reads header of next compressed block.
+     *
+     * @return false if stream has ended
+     */
+    private boolean readHeader(Block block) throws IOException {
+        boolean readFully = readFully(block.header, 0, HEADER_LENGTH);
         if (!readFully) {
-            return -1;
+            return false;
         }
 
-        if (headerBuff[16] != MAGIC) {
+        if (block.header[16] != MAGIC) {
             // 1 byte - 0x82 (shows this is LZ4)
-            throw new ClientException("Invalid LZ4 magic byte: '" + headerBuff[16] + "'");
+            throw new ClientException("Invalid LZ4 magic byte: '" + block.header[16] + "'");
         }
 
         // 4 bytes - size of the compressed data including 9 bytes of the header
-        int compressedSizeWithHeader = getInt32(headerBuff, 17);
+        int compressedSizeWithHeader = getInt32(block.header, 17);
         // 4 bytes - size of uncompressed data
-        int uncompressedSize = getInt32(headerBuff, 21);
+        int uncompressedSize = getInt32(block.header, 21);
+        block.compressedSizeWithHeader = compressedSizeWithHeader;
+        block.uncompressedSize = uncompressedSize;
+        return true;
+    }
 
+    private void readData(Block block) throws IOException {
+        int compressedSizeWithHeader = block.compressedSizeWithHeader;
         int offset = 9;
-        final byte[] block =  new byte[compressedSizeWithHeader];
-        block[0] = MAGIC;
-        setInt32(block, 1, compressedSizeWithHeader);
-        setInt32(block, 5, uncompressedSize);
+        if (block.compressed.length < compressedSizeWithHeader) {
+            block.compressed = new byte[compressedSizeWithHeader];
+        }
+        byte[] compressed = block.compressed;
+        compressed[0] = MAGIC;
+        setInt32(compressed, 1, compressedSizeWithHeader);
+        setInt32(compressed, 5, block.uncompressedSize);
         // compressed data: compressed_size - 9 bytes
         int remaining = compressedSizeWithHeader - offset;
 
-        readFully = readFully(block, offset, remaining);
-        if (!readFully) {
+        if (!readFully(compressed, offset, remaining)) {
             throw new EOFException("Unexpected end of stream");
         }
+    }
+
+    /**
+     * Compressed block with its decompressed data. Buffers are kept to be reused for next blocks.
+     */
+    private static final class Block {
+
+        final byte[] header = new byte[HEADER_LENGTH];
 
-        long[] real = ClickHouseCityHash.cityHash128(block, 0, compressedSizeWithHeader);
-        if (real[0] != getInt64(headerBuff, 0) || real[1] != ClickHouseByteUtils.getInt64(headerBuff, 8)) {
-            throw new ClientException("Corrupted stream: checksum mismatch");
+        byte[] compressed = new byte[0];
+
+        int compressedSizeWithHeader;
+
+        int uncompressedSize;
+
+        ByteBuffer data;
+
+        Block(int bufferSize) {
+            this.data = ByteBuffer.allocate(bufferSize);
         }
 
-        if (buffer.capacity() < uncompressedSize) {
-            buffer = ByteBuffer.allocate(uncompressedSize);
-            LOG.warn("Buffer size is too small, reallocate buffer with size: " + uncompressedSize);
+        Block decompress(LZ4FastDecompressor decompressor) {
+            long[] real = ClickHouseCityHash.cityHash128(compressed, 0, compressedSizeWithHeader);
+            if (real[0] != getInt64(header, 0) || real[1] != ClickHouseByteUtils.getInt64(header, 8)) {
+                throw new ClientException("Corrupted stream: checksum mismatch");
+            }
+
+            if (data.capacity() < uncompressedSize) {
+                data = ByteBuffer.allocate(uncompressedSize);
+                LOG.warn("Buffer size is too small, reallocate buffer with size: " + uncompressedSize);
+            }
+            decompressor.decompress(ByteBuffer.wrap(compressed), 9, data, 0, uncompressedSize);
+            data.position(0);
+            data.limit(uncompressedSize);
+            return this;
         }
-        decompressor.decompress(ByteBuffer.wrap(block), offset,  buffer, 0, uncompressedSize);
-        buffer.position(0);
-        buffer.limit(uncompressedSize);
-        return uncompressedSize;
     }
 
     /**
@@ -169,6 +361,10 @@ public class ClickHouseLZ4InputStream extends InputStream {
 
     @Override
     public void close() throws IOException {
+        Future<Block> pending;
+        while ((pending = pendingBlocks.poll()) != null) {
+            pending.cancel(false);
+        }
         super.close();
     }
 }
@@ -4,32 +4,76 @@ import com.clickhouse.data.ClickHouseCityHash;
 import net.jpountz.lz4.LZ4Compressor;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Writes ClickHouse native LZ4 compressed stream. Data is split into blocks of buffer size and each block is
+ * compressed as a whole.
+ * <p>
+ * When an executor is given, the stream works in pipelined mode: filled blocks are compressed concurrently on the
+ * executor while the application writes next ones, and compressed blocks are written to the output in the original
+ * order. Buffers of written blocks are reused.
+ */
 public class ClickHouseLZ4OutputStream extends OutputStream {
 
     public static final int UNCOMPRESSED_BUFF_SIZE = 8192;
 
-    private final ByteBuffer buffer;
-
     private final OutputStream out;
 
     private final LZ4Compressor compressor;
 
     private byte tmpBuffer[] = new byte[1];
 
-    private final ByteBuffer compressedBuffer;
-
     private static int HEADER_LEN = 15; // 9 bytes for header, 6 bytes for checksum
 
+    private final int bufferSize;
+
+    private final Executor executor;
+
+    private final int maxBlocksInFlight;
+
+    // blocks being compressed in order of the stream
+    private final ArrayDeque<Future<Block>> pendingBlocks;
+
+    private final ArrayDeque<Block> freeBlocks;
+
+    // block being filled
+    private Block currentBlock;
 
     public ClickHouseLZ4OutputStream(OutputStream out, LZ4Compressor compressor, int bufferSize) {
+        this(out, compressor, bufferSize, null, 0);
+    }
+
+    /**
+     * Creates a stream.
+     *
+     * @param out - output stream for compressed data
+     * @param compressor - LZ4 compressor. Should be thread-safe when executor is set
+     * @param bufferSize - size of uncompressed block
+     * @param executor - executor to compress blocks in pipelined mode. Null to compress on the writing thread
+     * @param maxBlocksInFlight - maximum number of blocks being compressed at once. Writing is blocked when reached
+     */
+    public ClickHouseLZ4OutputStream(OutputStream out, LZ4Compressor compressor, int bufferSize,
+                                     Executor executor, int maxBlocksInFlight) {
         super();
-        this.buffer = ByteBuffer.allocate(bufferSize);
         this.out = out;
         this.compressor = compressor;
-        this.compressedBuffer = ByteBuffer.allocate(compressor.maxCompressedLength(buffer.capacity()) + HEADER_LEN);
+        this.bufferSize = bufferSize;
+        this.executor = maxBlocksInFlight > 0 ? executor : null;
+        this.maxBlocksInFlight = maxBlocksInFlight;
+        this.pendingBlocks = new ArrayDeque<>(Math.max(1, maxBlocksInFlight));
+        this.freeBlocks = new ArrayDeque<>(maxBlocksInFlight + 1);
+        this.currentBlock = newBlock();
+    }
+
+    private Block newBlock() {
+        return new Block(bufferSize, compressor.maxCompressedLength(bufferSize) + HEADER_LEN);
     }
 
     @Override
@@ -54,33 +98,68 @@ public class ClickHouseLZ4OutputStream extends OutputStream {
 
         int writtenBytes = 0;
         do {
-            int remaining = Math.min(len - writtenBytes, buffer.remaining());
-            buffer.put(b, off + writtenBytes, remaining);
+            int remaining = Math.min(len - writtenBytes, bufferSize - currentBlock.length);
+            System.arraycopy(b, off + writtenBytes, currentBlock.uncompressed, currentBlock.length, remaining);
+            currentBlock.length += remaining;
             writtenBytes += remaining;
-            if (buffer.remaining() == 0) {
-                flush();
+            if (currentBlock.length == bufferSize) {
+                compressBlock();
             }
         } while (writtenBytes < len);
     }
 
+    /**
+     * Compresses current block inline or passes it to the executor. In the last case waits for the oldest block
+     * when too many blocks are in flight.
+     */
+    private void compressBlock() throws IOException {
+        if (executor == null) {
+            currentBlock.compress(compressor);
+            out.write(currentBlock.compressed, 0, currentBlock.compressedLength);
+            currentBlock.length = 0;
+            return;
+        }
+
+        if (pendingBlocks.size() >= maxBlocksInFlight) {
+            writeBlock(pendingBlocks.poll());
+        }
+        Block block = currentBlock;
+        FutureTask<Block> task = new FutureTask<>(() -> block.compress(compressor));
+        executor.execute(task);
+        pendingBlocks.add(task);
+        currentBlock = freeBlocks.isEmpty() ? newBlock() : freeBlocks.poll();
+    }
+
+    private void writeBlock(Future<Block> future) throws IOException {
+        Block block;
+        try {
+            block = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for compressed block");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to compress block", cause);
+        }
+        out.write(block.compressed, 0, block.compressedLength);
+        block.length = 0;
+        freeBlocks.add(block);
+    }
+
+    /**
+     * Compresses buffered data and writes all compressed blocks to the output stream.
+     */
     @Override
     public void flush() throws IOException {
-        if (buffer.position() > 0) {
-            compressedBuffer.clear();
-            compressedBuffer.put(16, ClickHouseLZ4InputStream.MAGIC);
-            int uncompressedLen = buffer.position();
-            buffer.flip();
-            int compressed = compressor.compress(buffer, 0, uncompressedLen, compressedBuffer, 25,
-                    compressedBuffer.remaining() - 25);
-            int compressedSizeWithHeader = compressed + 9;
-            ClickHouseLZ4InputStream.setInt32(compressedBuffer.array(), 17, compressedSizeWithHeader); // compressed size with header
-            ClickHouseLZ4InputStream.setInt32(compressedBuffer.array(), 21, uncompressedLen); // uncompressed size
-            long[] hash = ClickHouseCityHash.cityHash128(compressedBuffer.array(), 16, compressedSizeWithHeader);
-            setInt64(compressedBuffer.array(), 0, hash[0]);
-            setInt64(compressedBuffer.array(), 8, hash[1]);
-            compressedBuffer.flip();
-            out.write(compressedBuffer.array(), 0, compressed + 25);
-            buffer.clear();
+        if (currentBlock.length > 0) {
+            compressBlock();
+        }
+        Future<Block> pending;
+        while ((pending = pendingBlocks.poll()) != null) {
+            writeBlock(pending);
         }
     }
 
@@ -100,4 +179,37 @@ public class ClickHouseLZ4OutputStream extends OutputStream {
         flush();
         out.close();
     }
+
+    /**
+     * Uncompressed block with its compressed form. Buffers are kept to be reused for next blocks.
+     */
+    private static final class Block {
+
+        final byte[] uncompressed;
+
+        int length;
+
+        final byte[] compressed;
+
+        int compressedLength;
+
+        Block(int bufferSize, int compressedBufferSize) {
+            this.uncompressed = new byte[bufferSize];
+            this.compressed = new byte[compressedBufferSize + 16];
+        }
+
+        Block compress(LZ4Compressor compressor) {
+            compressed[16] = ClickHouseLZ4InputStream.MAGIC;
+            int compressedSize = compressor.compress(uncompressed, 0, length, compressed, 25,
+                    compressed.length - 25);
+            int compressedSizeWithHeader = compressedSize + 9;
+            ClickHouseLZ4InputStream.setInt32(compressed, 17, compressedSizeWithHeader); // compressed size with header
+            ClickHouseLZ4InputStream.setInt32(compressed, 21, length); // uncompressed size
+            long[] hash = ClickHouseCityHash.cityHash128(compressed, 16, compressedSizeWithHeader);
+            setInt64(compressed, 0, hash[0]);
+            setInt64(compressed, 8, hash[1]);
+            compressedLength = compressedSize + 25;
+            return this;
+        }
+    }
 }
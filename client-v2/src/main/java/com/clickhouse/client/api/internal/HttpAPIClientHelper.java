@@ -13,11 +13,14 @@ import com.clickhouse.client.api.ServerException;
 import com.clickhouse.client.api.data_formats.internal.SerializerUtils;
 import com.clickhouse.client.api.enums.ProxyType;
 import com.clickhouse.client.api.http.ClickHouseHttpProto;
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
 import org.apache.hc.client5.http.ConnectTimeoutException;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.BasicHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
@@ -40,7 +43,6 @@ import org.apache.hc.core5.http.NoHttpResponseException;
 import org.apache.hc.core5.http.config.CharCodingConfig;
 import org.apache.hc.core5.http.config.Http1Config;
 import org.apache.hc.core5.http.config.RegistryBuilder;
-import org.apache.hc.core5.http.impl.io.DefaultHttpResponseParserFactory;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.EntityTemplate;
 import org.apache.hc.core5.io.CloseMode;
@@ -72,7 +74,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class HttpAPIClientHelper {
@@ -92,8 +97,23 @@ public class HttpAPIClientHelper {
 
     private String defaultUserAgent;
 
+    private final ExecutorService lz4DecompressionExecutor;
+
+    private final int lz4ReadAheadBlocks;
+
+    private final ExecutorService lz4CompressionExecutor;
+
+    private final int lz4CompressionBlocksInFlight;
+
+    private final MetricsRecorder metricsRecorder;
+
     public HttpAPIClientHelper(Map<String, String> configuration) {
+        this(configuration, MetricsRecorder.NOOP);
+    }
+
+    public HttpAPIClientHelper(Map<String, String> configuration, MetricsRecorder metricsRecorder) {
         this.chConfiguration = configuration;
+        this.metricsRecorder = metricsRecorder;
         this.httpClient = createHttpClient();
 
         RequestConfig.Builder reqConfBuilder = RequestConfig.custom();
@@ -114,6 +134,18 @@ public class HttpAPIClientHelper {
         }
 
         this.defaultUserAgent = buildDefaultUserAgent();
+
+        int decompressionThreads = MapUtils.getInt(chConfiguration, ClientConfigProperties.COMPRESSION_LZ4_DECOMPRESSION_THREADS.getKey());
+        this.lz4ReadAheadBlocks = MapUtils.getInt(chConfiguration, ClientConfigProperties.COMPRESSION_LZ4_READ_AHEAD_BLOCKS.getKey());
+        this.lz4DecompressionExecutor = decompressionThreads > 0
+                ? Executors.newFixedThreadPool(decompressionThreads, new DefaultThreadFactory("chc-lz4-decompress", true))
+                : null;
+
+        int compressionThreads = MapUtils.getInt(chConfiguration, ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_THREADS.getKey());
+        this.lz4CompressionBlocksInFlight = compressionThreads * 2;
+        this.lz4CompressionExecutor = compressionThreads > 0
+                ? Executors.newFixedThreadPool(compressionThreads, new DefaultThreadFactory("chc-lz4-compress", true))
+                : null;
     }
 
     /**
@@ -213,7 +245,7 @@ public class HttpAPIClientHelper {
                         .setBufferSize(networkBufferSize)
                         .build(),
                 CharCodingConfig.DEFAULT,
-                DefaultHttpResponseParserFactory.INSTANCE);
+                ProgressResponseParserFactory.INSTANCE);
 
         connMgrBuilder.setConnectionFactory(connectionFactory);
         connMgrBuilder.setSSLSocketFactory(new SSLConnectionSocketFactory(sslContext));
@@ -278,6 +310,8 @@ public class HttpAPIClientHelper {
         if (keepAliveTimeout > 0) {
             clientBuilder.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveTimeout));
         }
+        // retries are done by the client, so failed request can go to another node
+        clientBuilder.disableAutomaticRetries();
 
         return clientBuilder.build();
     }
@@ -346,6 +380,16 @@ public class HttpAPIClientHelper {
 
     public ClassicHttpResponse executeRequest(ClickHouseNode server, Map<String, Object> requestConfig,
                                              IOCallback<OutputStream> writeCallback) throws IOException {
+        return executeRequest(server, requestConfig, writeCallback, null);
+    }
+
+    /**
+     * Executes a request and reports values of {@code X-ClickHouse-Progress} headers to {@code progressHandler}
+     * as they arrive.
+     */
+    public ClassicHttpResponse executeRequest(ClickHouseNode server, Map<String, Object> requestConfig,
+                                             IOCallback<OutputStream> writeCallback,
+                                             Consumer<String> progressHandler) throws IOException {
         if (requestConfig == null) {
             requestConfig = Collections.emptyMap();
         }
@@ -368,15 +412,27 @@ public class HttpAPIClientHelper {
         RequestConfig httpReqConfig = RequestConfig.copy(baseRequestConfig).build();
         req.setConfig(httpReqConfig);
         // setting entity. wrapping if compression is enabled
-        req.setEntity(wrapRequestEntity(new EntityTemplate(-1, CONTENT_TYPE, null, writeCallback),
-                clientCompression, useHttpCompression, appCompressedData));
+        req.setEntity(new MeteredHttpEntity(wrapRequestEntity(new EntityTemplate(-1, CONTENT_TYPE, null, writeCallback),
+                clientCompression, useHttpCompression, appCompressedData), metricsRecorder));
 
         HttpClientContext context = HttpClientContext.create();
 
         try {
-            ClassicHttpResponse httpResponse = httpClient.executeOpen(null, req, context);
+            long startTime = System.nanoTime();
+            ClassicHttpResponse httpResponse;
+            ProgressResponseParserFactory.setProgressHandler(progressHandler);
+            try {
+                httpResponse = httpClient.executeOpen(null, req, context);
+            } finally {
+                ProgressResponseParserFactory.setProgressHandler(null);
+            }
+            metricsRecorder.recordTime(ClientMetrics.OP_TIME_TO_FIRST_BYTE, System.nanoTime() - startTime);
             boolean serverCompression = MapUtils.getFlag(requestConfig, chConfiguration, ClientConfigProperties.COMPRESS_SERVER_RESPONSE.getKey());
-            httpResponse.setEntity(wrapResponseEntity(httpResponse.getEntity(), httpResponse.getCode(), serverCompression, useHttpCompression));
+            HttpEntity responseEntity = httpResponse.getEntity();
+            if (responseEntity != null) {
+                responseEntity = new MeteredHttpEntity(responseEntity, metricsRecorder);
+            }
+            httpResponse.setEntity(wrapResponseEntity(responseEntity, httpResponse.getCode(), serverCompression, useHttpCompression));
 
             if (httpResponse.getCode() == HttpStatus.SC_PROXY_AUTHENTICATION_REQUIRED) {
                 throw new ClientMisconfigurationException("Proxy authentication required. Please check your proxy settings.");
@@ -394,10 +450,11 @@ public class HttpAPIClientHelper {
 
         } catch (UnknownHostException e) {
             LOG.warn("Host '{}' unknown", server.getHost());
-            throw new ClientException("Unknown host", e);
-        } catch (ConnectException | NoRouteToHostException e) {
+            // cause tells callers to retry on another node
+            throw new ConnectionInitiationException("Unknown host", e);
+        } catch (ConnectException | NoRouteToHostException | ConnectTimeoutException e) {
             LOG.warn("Failed to connect to '{}': {}", server.getHost(), e.getMessage());
-            throw new ClientException("Failed to connect", e);
+            throw new ConnectionInitiationException("Failed to connect", e);
         } catch (ConnectionRequestTimeoutException | ServerException | NoHttpResponseException | ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -529,6 +586,12 @@ public class HttpAPIClientHelper {
         LOG.debug("client compression: {}, http compression: {}", clientCompression, useHttpCompression);
 
         if (clientCompression && !appControlledCompression) {
+            if (lz4CompressionExecutor != null) {
+                String blockSize = chConfiguration.getOrDefault(ClientConfigProperties.COMPRESSION_LZ4_COMPRESSION_BLOCK_SIZE.getKey(),
+                        chConfiguration.get("compression.lz4.uncompressed_buffer_size"));
+                return new LZ4Entity(httpEntity, useHttpCompression, false, true, Integer.parseInt(blockSize), false,
+                        lz4CompressionExecutor, lz4CompressionBlocksInFlight, metricsRecorder);
+            }
             return new LZ4Entity(httpEntity, useHttpCompression, false, true,
                     MapUtils.getInt(chConfiguration, "compression.lz4.uncompressed_buffer_size"), false);
         } else  {
@@ -553,7 +616,8 @@ public class HttpAPIClientHelper {
                 case HttpStatus.SC_INTERNAL_SERVER_ERROR:
                 case HttpStatus.SC_NOT_FOUND:
                     return new LZ4Entity(httpEntity, useHttpCompression, true, false,
-                            MapUtils.getInt(chConfiguration, "compression.lz4.uncompressed_buffer_size"), true);
+                            MapUtils.getInt(chConfiguration, "compression.lz4.uncompressed_buffer_size"), true,
+                            lz4DecompressionExecutor, lz4ReadAheadBlocks, metricsRecorder);
             }
         }
 
@@ -576,7 +640,7 @@ public class HttpAPIClientHelper {
         return converter.apply(header.getValue());
     }
 
-    public boolean shouldRetry(Exception ex, Map<String, Object> requestSettings) {
+    public boolean shouldRetry(Throwable ex, Map<String, Object> requestSettings) {
         Set<ClientFaultCause> retryCauses = (Set<ClientFaultCause>)
                 requestSettings.getOrDefault("retry_on_failures", defaultRetryCauses);
 
@@ -588,7 +652,8 @@ public class HttpAPIClientHelper {
             return retryCauses.contains(ClientFaultCause.NoHttpResponse);
         }
 
-        if (ex instanceof ConnectException || ex instanceof ConnectTimeoutException) {
+        if (ex instanceof ConnectException || ex instanceof ConnectTimeoutException
+                || ex instanceof NoRouteToHostException || ex instanceof UnknownHostException) {
             return retryCauses.contains(ClientFaultCause.ConnectTimeout);
         }
 
@@ -605,7 +670,9 @@ public class HttpAPIClientHelper {
         if (cause instanceof ConnectionRequestTimeoutException ||
                 cause instanceof NoHttpResponseException ||
                 cause instanceof ConnectTimeoutException ||
-                cause instanceof ConnectException) {
+                cause instanceof ConnectException ||
+                cause instanceof NoRouteToHostException ||
+                cause instanceof UnknownHostException) {
             return new ConnectionInitiationException(message, cause);
         }
 
@@ -697,5 +764,11 @@ public class HttpAPIClientHelper {
 
     public void close() {
         httpClient.close(CloseMode.IMMEDIATE);
+        if (lz4DecompressionExecutor != null) {
+            lz4DecompressionExecutor.shutdownNow();
+        }
+        if (lz4CompressionExecutor != null) {
+            lz4CompressionExecutor.shutdownNow();
+        }
     }
 }
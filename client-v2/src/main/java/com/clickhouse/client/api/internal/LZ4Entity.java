@@ -1,5 +1,6 @@
 package com.clickhouse.client.api.internal;
 
+import com.clickhouse.client.api.metrics.MetricsRecorder;
 import net.jpountz.lz4.LZ4Factory;
 import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
 import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
@@ -12,6 +13,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 class LZ4Entity implements HttpEntity {
 
@@ -27,14 +29,32 @@ class LZ4Entity implements HttpEntity {
 
     private boolean clientCompression;
 
+    // executor for decompression of response or compression of request
+    private final Executor executor;
+
+    // number of blocks read ahead or compressed at once
+    private final int blocksInFlight;
+
+    private final MetricsRecorder metricsRecorder;
+
     LZ4Entity(HttpEntity httpEntity, boolean useHttpCompression, boolean serverCompression, boolean clientCompression,
               int bufferSize, boolean isResponse) {
+        this(httpEntity, useHttpCompression, serverCompression, clientCompression, bufferSize, isResponse, null, 0,
+                MetricsRecorder.NOOP);
+    }
+
+    LZ4Entity(HttpEntity httpEntity, boolean useHttpCompression, boolean serverCompression, boolean clientCompression,
+              int bufferSize, boolean isResponse, Executor executor, int blocksInFlight,
+              MetricsRecorder metricsRecorder) {
         this.httpEntity = httpEntity;
         this.useHttpCompression = useHttpCompression;
         this.bufferSize = bufferSize;
         this.serverCompression = serverCompression;
         this.clientCompression = clientCompression;
         this.isResponse = isResponse;
+        this.executor = executor;
+        this.blocksInFlight = blocksInFlight;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
@@ -60,7 +80,7 @@ class LZ4Entity implements HttpEntity {
                 }
             } else  {
                 return new ClickHouseLZ4InputStream(httpEntity.getContent(), LZ4Factory.fastestInstance().fastDecompressor(),
-                        bufferSize);
+                        bufferSize, executor, blocksInFlight, metricsRecorder);
             }
         } else {
             return httpEntity.getContent();
@@ -78,7 +98,7 @@ class LZ4Entity implements HttpEntity {
                 httpEntity.writeTo(new FramedLZ4CompressorOutputStream(outStream));
             } else {
                 httpEntity.writeTo(new ClickHouseLZ4OutputStream(outStream, LZ4Factory.fastestInstance().fastCompressor(),
-                        bufferSize));
+                        bufferSize, executor, blocksInFlight));
             }
         } else {
             httpEntity.writeTo(outStream);
@@ -0,0 +1,84 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.LoadBalancingPolicy;
+import com.clickhouse.client.api.ServerNode;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Built-in implementations of {@link LoadBalancingPolicy}.
+ */
+public final class LoadBalancingPolicies {
+
+    public static final String ROUND_ROBIN = "round_robin";
+
+    public static final String LEAST_INFLIGHT = "least_inflight";
+
+    public static final String LATENCY_EWMA = "latency_ewma";
+
+    private LoadBalancingPolicies() {
+    }
+
+    public static class RoundRobin implements LoadBalancingPolicy {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public <T extends ServerNode> T select(List<T> candidates) {
+            return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+        }
+    }
+
+    /**
+     * Picks a node with the least number of requests in progress. Search starts from a rotating position so
+     * equally loaded nodes get requests in turn.
+     */
+    public static class LeastInFlight implements LoadBalancingPolicy {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public <T extends ServerNode> T select(List<T> candidates) {
+            int size = candidates.size();
+            int start = Math.floorMod(counter.getAndIncrement(), size);
+            T selected = null;
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                T state = candidates.get((start + i) % size);
+                int inFlight = state.getInFlightRequests();
+                if (inFlight < min) {
+                    min = inFlight;
+                    selected = state;
+                }
+            }
+            return selected;
+        }
+    }
+
+    /**
+     * Picks a node with the lowest {@code latencyEwma * (inFlight + 1)}. Nodes without latency samples have zero
+     * score so each of them gets a request before the averages are compared.
+     */
+    public static class LatencyEwma implements LoadBalancingPolicy {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public <T extends ServerNode> T select(List<T> candidates) {
+            int size = candidates.size();
+            int start = Math.floorMod(counter.getAndIncrement(), size);
+            T selected = null;
+            double min = Double.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                T state = candidates.get((start + i) % size);
+                double score = state.getLatencyEwma() * (state.getInFlightRequests() + 1);
+                if (score < min) {
+                    min = score;
+                    selected = state;
+                }
+            }
+            return selected;
+        }
+    }
+}
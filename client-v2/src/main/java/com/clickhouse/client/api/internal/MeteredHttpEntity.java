@@ -0,0 +1,93 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Counts bytes of request or response body as they go thru the connection. For a request it also records time of
+ * writing the body.
+ */
+class MeteredHttpEntity extends HttpEntityWrapper {
+
+    private final MetricsRecorder recorder;
+
+    MeteredHttpEntity(HttpEntity entity, MetricsRecorder recorder) {
+        super(entity);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        long start = System.nanoTime();
+        CountingOutputStream out = new CountingOutputStream(outStream);
+        try {
+            super.writeTo(out);
+        } finally {
+            recorder.recordTime(ClientMetrics.OP_REQUEST_SEND, System.nanoTime() - start);
+            recorder.recordCount(ClientMetrics.BYTES_SENT, out.count);
+        }
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        InputStream content = super.getContent();
+        return content == null ? null : new CountingInputStream(content, recorder);
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final MetricsRecorder recorder;
+
+        CountingInputStream(InputStream in, MetricsRecorder recorder) {
+            super(in);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                recorder.recordCount(ClientMetrics.BYTES_RECEIVED, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                recorder.recordCount(ClientMetrics.BYTES_RECEIVED, n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.api.ServerNode;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime state of a server node as seen by a client: number of requests in progress, smoothed response time and
+ * consecutive failures. Instances are updated concurrently by request threads and by the health checker.
+ */
+public class NodeState implements ServerNode {
+
+    /**
+     * Weight of the latest sample in the moving average of response time.
+     */
+    static final double EWMA_ALPHA = 0.2;
+
+    private final ClickHouseNode node;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // raw bits of a double value in nanoseconds, NaN until the first sample
+    private final AtomicLong latencyEwma = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+
+    private volatile long ejectedUntil = 0L;
+
+    private volatile boolean ejected = false;
+
+    public NodeState(ClickHouseNode node) {
+        this.node = node;
+    }
+
+    public ClickHouseNode getNode() {
+        return node;
+    }
+
+    @Override
+    public String getEndpoint() {
+        return node.getBaseUri();
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public double getLatencyEwma() {
+        double v = Double.longBitsToDouble(latencyEwma.get());
+        return Double.isNaN(v) ? 0D : v;
+    }
+
+    @Override
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    long getEjectedUntil() {
+        return ejectedUntil;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestCompleted(long latencyNanos) {
+        inFlight.decrementAndGet();
+        consecutiveFailures.set(0);
+        updateLatency(latencyNanos);
+    }
+
+    /**
+     * Registers failed request.
+     *
+     * @return number of consecutive failures including this one
+     */
+    int requestFailed() {
+        inFlight.decrementAndGet();
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void requestAborted() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Registers failed health check. Unlike {@link #requestFailed()} it does not change number of requests in flight.
+     *
+     * @return number of consecutive failures including this one
+     */
+    int probeFailed() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void probeSucceeded() {
+        consecutiveFailures.set(0);
+    }
+
+    void updateLatency(long latencyNanos) {
+        long prev;
+        long next;
+        do {
+            prev = latencyEwma.get();
+            double avg = Double.longBitsToDouble(prev);
+            avg = Double.isNaN(avg) ? latencyNanos : avg + EWMA_ALPHA * (latencyNanos - avg);
+            next = Double.doubleToRawLongBits(avg);
+        } while (!latencyEwma.compareAndSet(prev, next));
+    }
+
+    void eject(long until) {
+        this.ejectedUntil = until;
+        this.ejected = true;
+    }
+
+    void reinstate() {
+        this.ejected = false;
+        this.ejectedUntil = 0L;
+        consecutiveFailures.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "NodeState{" +
+                "node=" + node.getBaseUri() +
+                ", inFlight=" + inFlight.get() +
+                ", latencyEwma=" + getLatencyEwma() +
+                ", failures=" + consecutiveFailures.get() +
+                ", ejected=" + ejected +
+                '}';
+    }
+}
@@ -0,0 +1,218 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.DataStreamWriter;
+import com.clickhouse.client.api.insert.DataSerializationException;
+import com.clickhouse.client.api.insert.POJOSerializer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes objects from an iterator to an insert request. Objects are serialized on a separate thread into a fixed
+ * number of reusable buffers while filled buffers are written to the request stream by the calling thread. Memory
+ * use does not depend on the number of objects, and serialization overlaps with network I/O.
+ * <p>
+ * Iterator is consumed once so retries are supported only while no data has been sent.
+ */
+public class PipelinedDataStreamWriter implements DataStreamWriter {
+
+    public static final int DEFAULT_BUFFER_COUNT = 4;
+
+    private static final long ABORT_CHECK_INTERVAL_MS = 100L;
+
+    private static final Chunk END_OF_DATA = new Chunk(0);
+
+    private final Iterator<?> data;
+
+    private final List<POJOSerializer> serializers;
+
+    private final ThreadFactory threadFactory;
+
+    private final BlockingQueue<Chunk> freeChunks;
+
+    private final BlockingQueue<Chunk> filledChunks;
+
+    private volatile boolean aborted = false;
+
+    private volatile Throwable serializationError = null;
+
+    private boolean started = false;
+
+    /**
+     * Creates a writer.
+     *
+     * @param data - objects to write
+     * @param serializers - serializers to call for every object in order
+     * @param bufferSize - size of a single buffer
+     * @param bufferCount - number of buffers. At least two are required to overlap serialization and I/O
+     * @param threadFactory - creates serialization thread
+     */
+    public PipelinedDataStreamWriter(Iterator<?> data, List<POJOSerializer> serializers, int bufferSize,
+                                     int bufferCount, ThreadFactory threadFactory) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
+        if (bufferCount < 2) {
+            throw new IllegalArgumentException("At least two buffers are required");
+        }
+        this.data = data;
+        this.serializers = serializers;
+        this.threadFactory = threadFactory;
+        this.freeChunks = new ArrayBlockingQueue<>(bufferCount);
+        // one extra slot for the end marker
+        this.filledChunks = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            freeChunks.add(new Chunk(bufferSize));
+        }
+    }
+
+    @Override
+    public void onOutput(OutputStream out) throws IOException {
+        if (started) {
+            throw new IOException("Data cannot be written twice because the iterator is already consumed");
+        }
+        started = true;
+
+        Thread serializer = threadFactory.newThread(this::serialize);
+        serializer.start();
+
+        boolean completed = false;
+        try {
+            Chunk chunk;
+            while ((chunk = filledChunks.take()) != END_OF_DATA) {
+                out.write(chunk.buffer, 0, chunk.length);
+                chunk.length = 0;
+                freeChunks.add(chunk);
+            }
+            completed = serializationError == null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for serialized data");
+        } finally {
+            if (!completed) {
+                abort();
+            }
+        }
+
+        Throwable error = serializationError;
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error != null) {
+            throw new DataSerializationException("Failed to serialize data", error);
+        }
+    }
+
+    @Override
+    public void onRetry() throws IOException {
+        if (started) {
+            throw new IOException("Insert cannot be retried because the iterator is already consumed");
+        }
+    }
+
+    private void abort() {
+        aborted = true;
+        // unblock serializer waiting for a free buffer
+        Chunk chunk;
+        while ((chunk = filledChunks.poll()) != null) {
+            if (chunk != END_OF_DATA) {
+                chunk.length = 0;
+                freeChunks.offer(chunk);
+            }
+        }
+    }
+
+    private void serialize() {
+        ChunkedOutputStream out = new ChunkedOutputStream();
+        try {
+            while (data.hasNext() && !aborted) {
+                Object obj = data.next();
+                for (POJOSerializer serializer : serializers) {
+                    try {
+                        serializer.serialize(obj, out);
+                    } catch (ReflectiveOperationException e) {
+                        throw new DataSerializationException(obj, serializer, e);
+                    }
+                }
+            }
+            out.flush();
+        } catch (Throwable e) {
+            serializationError = e;
+        } finally {
+            // filled queue has a slot for the end marker even when all buffers are in it
+            filledChunks.offer(END_OF_DATA);
+        }
+    }
+
+    private static final class Chunk {
+        final byte[] buffer;
+        int length;
+
+        Chunk(int size) {
+            this.buffer = new byte[size];
+        }
+    }
+
+    /**
+     * Output stream that passes filled buffers to the writing thread.
+     */
+    private final class ChunkedOutputStream extends OutputStream {
+
+        private Chunk current;
+
+        private Chunk current() throws IOException {
+            try {
+                while (current == null) {
+                    if (aborted) {
+                        throw new IOException("Insert is aborted");
+                    }
+                    current = freeChunks.poll(ABORT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+            }
+            return current;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            Chunk chunk = current();
+            chunk.buffer[chunk.length++] = (byte) b;
+            if (chunk.length == chunk.buffer.length) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                Chunk chunk = current();
+                int n = Math.min(len, chunk.buffer.length - chunk.length);
+                System.arraycopy(b, off, chunk.buffer, chunk.length, n);
+                chunk.length += n;
+                off += n;
+                len -= n;
+                if (chunk.length == chunk.buffer.length) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (current != null && current.length > 0) {
+                filledChunks.add(current);
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.http.ClickHouseHttpProto;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.config.Http1Config;
+import org.apache.hc.core5.http.impl.io.DefaultHttpResponseParser;
+import org.apache.hc.core5.http.io.HttpMessageParser;
+import org.apache.hc.core5.http.io.HttpMessageParserFactory;
+import org.apache.hc.core5.http.io.HttpTransportMetrics;
+import org.apache.hc.core5.http.io.SessionInputBuffer;
+import org.apache.hc.core5.util.CharArrayBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Response parser factory that reports {@code X-ClickHouse-Progress} headers one by one, as soon as each header
+ * line is received. Server keeps sending these headers while the query is running, so waiting for the complete
+ * response head would deliver all of them at once when the query is (almost) done.
+ * <p>
+ * Classic client parses response head on the thread executing the request, so the handler is bound to that thread
+ * with {@link #setProgressHandler(Consumer)} for the duration of the request.
+ */
+public class ProgressResponseParserFactory implements HttpMessageParserFactory<ClassicHttpResponse> {
+
+    public static final ProgressResponseParserFactory INSTANCE = new ProgressResponseParserFactory();
+
+    private static final ThreadLocal<Consumer<String>> PROGRESS_HANDLER = new ThreadLocal<>();
+
+    private static final String HEADER_PREFIX = ClickHouseHttpProto.HEADER_PROGRESS + ":";
+
+    /**
+     * Sets handler of progress header values for requests executed by current thread.
+     *
+     * @param handler - handler of header values, {@code null} to remove current one
+     */
+    public static void setProgressHandler(Consumer<String> handler) {
+        if (handler == null) {
+            PROGRESS_HANDLER.remove();
+        } else {
+            PROGRESS_HANDLER.set(handler);
+        }
+    }
+
+    @Override
+    public HttpMessageParser<ClassicHttpResponse> create(Http1Config http1Config) {
+        return new ProgressResponseParser(http1Config);
+    }
+
+    static class ProgressResponseParser extends DefaultHttpResponseParser {
+
+        ProgressResponseParser(Http1Config http1Config) {
+            super(http1Config);
+        }
+
+        @Override
+        public ClassicHttpResponse parse(SessionInputBuffer buffer, InputStream inputStream)
+                throws IOException, HttpException {
+            Consumer<String> handler = PROGRESS_HANDLER.get();
+            return super.parse(handler == null ? buffer : new ProgressInputBuffer(buffer, handler), inputStream);
+        }
+    }
+
+    static class ProgressInputBuffer implements SessionInputBuffer {
+
+        private final SessionInputBuffer buffer;
+
+        private final Consumer<String> handler;
+
+        ProgressInputBuffer(SessionInputBuffer buffer, Consumer<String> handler) {
+            this.buffer = buffer;
+            this.handler = handler;
+        }
+
+        @Override
+        public int readLine(CharArrayBuffer dst, InputStream inputStream) throws IOException {
+            int start = dst.length();
+            int len = buffer.readLine(dst, inputStream);
+            if (len > HEADER_PREFIX.length()
+                    && dst.subSequence(start, start + HEADER_PREFIX.length()).toString().equalsIgnoreCase(HEADER_PREFIX)) {
+                handler.accept(dst.substringTrimmed(start + HEADER_PREFIX.length(), dst.length()));
+            }
+            return len;
+        }
+
+        @Override
+        public int length() {
+            return buffer.length();
+        }
+
+        @Override
+        public int capacity() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public int available() {
+            return buffer.available();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len, InputStream inputStream) throws IOException {
+            return buffer.read(b, off, len, inputStream);
+        }
+
+        @Override
+        public int read(byte[] b, InputStream inputStream) throws IOException {
+            return buffer.read(b, inputStream);
+        }
+
+        @Override
+        public int read(InputStream inputStream) throws IOException {
+            return buffer.read(inputStream);
+        }
+
+        @Override
+        public HttpTransportMetrics getMetrics() {
+            return buffer.getMetrics();
+        }
+    }
+}
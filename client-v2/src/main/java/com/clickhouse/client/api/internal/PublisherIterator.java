@@ -0,0 +1,142 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.ClientException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Blocking iterator over objects of a publisher. Objects are requested in batches, so no more than
+ * {@code prefetch} objects are kept while the consumer is behind. Closing the iterator cancels the subscription
+ * and wakes up a consumer waiting for the next object.
+ *
+ * @param <T> - type of objects
+ */
+public class PublisherIterator<T> implements Iterator<T>, Subscriber<T>, AutoCloseable {
+
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private static final Object COMPLETE = new Object();
+
+    private final int prefetch;
+
+    private final int replenish;
+
+    // objects, COMPLETE or Failure of the publisher. Size is bounded by the requested number of objects
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+    private volatile Subscription subscription;
+
+    private volatile boolean closed = false;
+
+    // accessed only by the consumer
+    private Object next;
+
+    private int consumed;
+
+    /**
+     * Creates an iterator. It should be subscribed to a publisher before use.
+     *
+     * @param prefetch - maximum number of objects requested ahead of the consumer
+     */
+    public PublisherIterator(int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("Prefetch must be greater than 0");
+        }
+        this.prefetch = prefetch;
+        this.replenish = Math.max(1, prefetch / 2);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        if (closed) {
+            s.cancel();
+        } else {
+            s.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(T t) {
+        signals.offer(t);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        signals.offer(new Failure(t));
+    }
+
+    @Override
+    public void onComplete() {
+        signals.offer(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        } else if (next == null) {
+            try {
+                next = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClientException("Interrupted while waiting for data from publisher", e);
+            }
+        }
+
+        if (next == COMPLETE) {
+            return false;
+        } else if (next instanceof Failure) {
+            throw new ClientException("Publisher failed", ((Failure) next).error);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T value = (T) next;
+        next = null;
+        if (++consumed == replenish) {
+            consumed = 0;
+            subscription.request(replenish);
+        }
+        return value;
+    }
+
+    /**
+     * Cancels the subscription. Iterator has no more objects after that.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        signals.offer(COMPLETE);
+    }
+
+    private static final class Failure {
+        final Throwable error;
+
+        Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+}
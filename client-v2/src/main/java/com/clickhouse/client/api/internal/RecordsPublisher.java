@@ -0,0 +1,254 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.data_formats.ClickHouseBinaryFormatReader;
+import com.clickhouse.client.api.data_formats.internal.BinaryReaderBackedRecord;
+import com.clickhouse.client.api.query.GenericRecord;
+import com.clickhouse.client.api.query.QueryResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Publishes records of a query result with respect to subscriber demand. Query is sent when the first record is
+ * requested and records are read from the response stream only while there is outstanding demand, so a slow
+ * subscriber holds back the server thru the connection instead of buffering the result.
+ * <p>
+ * Signals are delivered from tasks submitted to the executor, one task at a time. A task runs only while there is
+ * demand and exits when demand is satisfied, so a thread is not occupied by an idle subscription. Reading still
+ * blocks the task thread when the server has not sent data yet.
+ * <p>
+ * Records are not copied: the same record object is passed to every {@code onNext} and shows the current row of the
+ * reader, so it is valid only until {@code onNext} returns. {@link GenericRecord#getValues()} returns a copy of the
+ * row to keep. The publisher is single-use and accepts only one subscriber.
+ */
+public class RecordsPublisher implements Publisher<GenericRecord> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecordsPublisher.class);
+
+    private final Supplier<CompletableFuture<QueryResponse>> query;
+
+    private final Function<QueryResponse, ClickHouseBinaryFormatReader> readerFactory;
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * Creates a publisher.
+     *
+     * @param query - sends query. Called once on the first request of records
+     * @param readerFactory - creates reader of a response
+     * @param executor - executor to read records and deliver signals
+     */
+    public RecordsPublisher(Supplier<CompletableFuture<QueryResponse>> query,
+                            Function<QueryResponse, ClickHouseBinaryFormatReader> readerFactory, Executor executor) {
+        this.query = query;
+        this.readerFactory = readerFactory;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super GenericRecord> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber is null");
+        }
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Publisher allows only one subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new RecordsSubscription(subscriber));
+    }
+
+    private final class RecordsSubscription implements Subscription {
+
+        private final Subscriber<? super GenericRecord> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled = false;
+
+        // set by the query future
+        private volatile QueryResponse response;
+
+        private volatile Throwable error;
+
+        // accessed only by the drain task
+        private boolean started = false;
+
+        private boolean done = false;
+
+        private ClickHouseBinaryFormatReader reader;
+
+        private GenericRecord record;
+
+        RecordsSubscription(Subscriber<? super GenericRecord> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Number of requested records should be positive but was " + n);
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                    next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!requested.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (Exception e) {
+                    // nothing can run the drain loop so the subscriber is notified from the current thread
+                    cancelled = true;
+                    closeResponse();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    try {
+                        drainOnce();
+                    } catch (Throwable e) {
+                        terminate(e);
+                    }
+                } else {
+                    // response may arrive after cancellation
+                    closeResponse();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() throws Exception {
+            if (cancelled) {
+                done = true;
+                closeResponse();
+                return;
+            }
+
+            if (error != null) {
+                terminate(error);
+                return;
+            }
+
+            long demand = requested.get();
+            if (!started) {
+                if (demand == 0) {
+                    return;
+                }
+                started = true;
+                query.get().whenComplete((r, e) -> {
+                    if (e != null) {
+                        error = e instanceof CompletionException || e instanceof ExecutionException
+                                ? e.getCause() : e;
+                    } else {
+                        response = r;
+                    }
+                    schedule();
+                });
+                return;
+            }
+
+            if (reader == null) {
+                if (response == null) {
+                    return;
+                }
+                reader = readerFactory.apply(response);
+                record = new BinaryReaderBackedRecord(reader);
+            }
+
+            long emitted = 0;
+            while (emitted != demand) {
+                if (cancelled) {
+                    done = true;
+                    closeResponse();
+                    return;
+                }
+                if (!reader.hasNext()) {
+                    done = true;
+                    closeResponse();
+                    subscriber.onComplete();
+                    return;
+                }
+                reader.next();
+                subscriber.onNext(record);
+                emitted++;
+            }
+
+            if (emitted > 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        private void terminate(Throwable e) {
+            if (done) {
+                return;
+            }
+            done = true;
+            closeResponse();
+            if (!cancelled) {
+                subscriber.onError(e);
+            }
+        }
+
+        private void closeResponse() {
+            QueryResponse r = response;
+            response = null;
+            if (r != null) {
+                try {
+                    r.close();
+                } catch (Exception e) {
+                    LOG.warn("Failed to close query response", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.api.LoadBalancingPolicy;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Keeps state of all server nodes known to a client and selects a node for each request using
+ * {@link LoadBalancingPolicy}. A node is ejected from selection after a number of consecutive failures and is
+ * reinstated either when ejection time is over or when background health check succeeds.
+ */
+public class ServerNodeManager implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServerNodeManager.class);
+
+    private final List<NodeState> nodes;
+
+    private final LoadBalancingPolicy policy;
+
+    private final int failuresBeforeEjection;
+
+    private final long ejectionTimeNanos;
+
+    private final Predicate<ClickHouseNode> healthCheck;
+
+    private final ScheduledExecutorService healthCheckExecutor;
+
+    /**
+     * Creates node manager.
+     *
+     * @param nodes - list of server nodes
+     * @param policy - load balancing policy
+     * @param failuresBeforeEjection - number of consecutive failures after which node is ejected
+     * @param ejectionTimeMs - how long node stays ejected if not reinstated by a health check
+     * @param healthCheckIntervalMs - interval between health checks. Zero or negative value disables them
+     * @param healthCheck - returns {@code true} if node is alive. May be null when health checks are disabled
+     */
+    public ServerNodeManager(List<ClickHouseNode> nodes, LoadBalancingPolicy policy, int failuresBeforeEjection,
+                             long ejectionTimeMs, long healthCheckIntervalMs, Predicate<ClickHouseNode> healthCheck) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one server node is required");
+        }
+        List<NodeState> states = new ArrayList<>(nodes.size());
+        for (ClickHouseNode node : nodes) {
+            states.add(new NodeState(node));
+        }
+        this.nodes = Collections.unmodifiableList(states);
+        this.policy = policy;
+        this.failuresBeforeEjection = Math.max(1, failuresBeforeEjection);
+        this.ejectionTimeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ejectionTimeMs));
+        this.healthCheck = healthCheck;
+
+        if (healthCheck != null && healthCheckIntervalMs > 0 && this.nodes.size() > 1) {
+            this.healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new DefaultThreadFactory("chc-health-check", true));
+            this.healthCheckExecutor.scheduleWithFixedDelay(this::checkHealth, healthCheckIntervalMs,
+                    healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.healthCheckExecutor = null;
+        }
+    }
+
+    public List<NodeState> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Selects a node for the next request.
+     *
+     * @param exclude - node to avoid (usually one that has just failed) if there are other alive nodes. Can be null
+     * @return selected node, never null
+     */
+    public NodeState select(NodeState exclude) {
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+
+        long now = System.nanoTime();
+        List<NodeState> candidates = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeState state = nodes.get(i);
+            if (state == exclude || (state.isEjected() && now - state.getEjectedUntil() < 0)) {
+                if (candidates == null) {
+                    candidates = new ArrayList<>(nodes.size());
+                    candidates.addAll(nodes.subList(0, i));
+                }
+            } else if (candidates != null) {
+                candidates.add(state);
+            }
+        }
+
+        if (candidates == null) {
+            return policy.select(nodes);
+        } else if (!candidates.isEmpty()) {
+            return policy.select(candidates);
+        } else if (exclude != null && !exclude.isEjected()) {
+            return exclude;
+        }
+
+        // all nodes are ejected - use one that will be back first
+        NodeState selected = nodes.get(0);
+        for (NodeState state : nodes) {
+            if (state.getEjectedUntil() - selected.getEjectedUntil() < 0) {
+                selected = state;
+            }
+        }
+        return selected;
+    }
+
+    public void onRequestStart(NodeState node) {
+        node.requestStarted();
+    }
+
+    /**
+     * Registers that server responded to a request.
+     *
+     * @param node - node that handled the request
+     * @param startNanos - value of {@link System#nanoTime()} when request was started
+     */
+    public void onRequestComplete(NodeState node, long startNanos) {
+        node.requestCompleted(System.nanoTime() - startNanos);
+        if (node.isEjected()) {
+            LOG.info("Server node {} is reinstated after successful request", node.getNode().getBaseUri());
+            node.reinstate();
+        }
+    }
+
+    /**
+     * Registers a request that has failed because of the node or network. Node is ejected when number of
+     * consecutive failures reaches the limit.
+     *
+     * @param node - node that failed to handle the request
+     */
+    public void onRequestFailure(NodeState node) {
+        onFailure(node, node.requestFailed());
+    }
+
+    /**
+     * Registers a request that was interrupted for a reason not related to the node.
+     *
+     * @param node - node that handled the request
+     */
+    public void onRequestAborted(NodeState node) {
+        node.requestAborted();
+    }
+
+    private void onFailure(NodeState node, int failures) {
+        if (failures >= failuresBeforeEjection && nodes.size() > 1) {
+            eject(node);
+        }
+    }
+
+    private void eject(NodeState node) {
+        if (!node.isEjected()) {
+            LOG.warn("Server node {} is ejected after {} consecutive failures", node.getNode().getBaseUri(),
+                    node.getConsecutiveFailures());
+        }
+        node.eject(System.nanoTime() + ejectionTimeNanos);
+    }
+
+    void checkHealth() {
+        for (NodeState node : nodes) {
+            boolean alive;
+            try {
+                alive = healthCheck.test(node.getNode());
+            } catch (Exception e) {
+                LOG.debug("Health check of {} failed", node.getNode().getBaseUri(), e);
+                alive = false;
+            }
+
+            if (alive) {
+                if (node.isEjected()) {
+                    LOG.info("Server node {} is reinstated after successful health check",
+                            node.getNode().getBaseUri());
+                    node.reinstate();
+                } else {
+                    node.probeSucceeded();
+                }
+            } else {
+                // same threshold as for requests, so a single lost probe does not take a node out of rotation
+                onFailure(node, node.probeFailed());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+    }
+}
@@ -10,6 +10,11 @@ public final class ServerSettings {
 
     public static final String WAIT_END_OF_QUERY = "wait_end_of_query";
 
+    /**
+     * Server will send query progress in {@code X-ClickHouse-Progress} headers until the response body starts.
+     */
+    public static final String SEND_PROGRESS_IN_HTTP_HEADERS = "send_progress_in_http_headers";
+
     // -- Experimental features --
 
     /**
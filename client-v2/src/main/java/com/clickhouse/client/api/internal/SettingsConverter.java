@@ -1,5 +1,6 @@
 package com.clickhouse.client.api.internal;
 
+import com.clickhouse.client.api.ClientConfigProperties;
 import com.clickhouse.client.config.ClickHouseDefaults;
 import com.clickhouse.client.config.ClickHouseHealthCheckMethod;
 import com.clickhouse.client.config.ClickHouseProxyType;
@@ -26,6 +27,10 @@ public class SettingsConverter {
 
         for (Map.Entry<String, Object> entry : settings.entrySet()) {
             String key = entry.getKey();
+            if (key.equals(ClientConfigProperties.PROGRESS_LISTENER.getKey())) {
+                // not supported by the old implementation
+                continue;
+            }
             boolean isServerSetting = key.startsWith("clickhouse_setting_");
             if (!isServerSetting && REQUEST_OPTIONS.get(key) != null) {
                 // This definitely is a request option
@@ -33,6 +33,14 @@ public class StopWatch implements Metric {
         return TimeUnit.NANOSECONDS.toMillis(elapsedNanoTime);
     }
 
+    /**
+     * Returns the elapsed time in nanoseconds.
+     * @return
+     */
+    public long getElapsedNanoTime() {
+        return elapsedNanoTime;
+    }
+
     @Override
     public String toString() {
         return "{" +
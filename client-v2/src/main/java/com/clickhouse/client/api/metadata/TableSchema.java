@@ -84,9 +84,22 @@ public class TableSchema {
 
         Map<String, Object> columnMetadata = metadata.computeIfAbsent(name, k -> new HashMap<>());
             columnMetadata.put("type", type);
+            columnMetadata.put("default_type", defaultType);
         colIndex.put(name, columns.size() - 1);
     }
 
+    /**
+     * Returns kind of column default expression as reported by {@code DESCRIBE TABLE}: {@code DEFAULT},
+     * {@code MATERIALIZED}, {@code ALIAS}, {@code EPHEMERAL} or empty string when column has no default.
+     *
+     * @param name - column name
+     * @return - default type of the column, never null
+     */
+    public String getColumnDefaultType(String name) {
+        Object defaultType = metadata.getOrDefault(name, Collections.emptyMap()).get("default_type");
+        return defaultType == null ? "" : defaultType.toString();
+    }
+
     public ClickHouseColumn getColumnByName(String name) {
         return columns.get(nameToIndex(name));
     }
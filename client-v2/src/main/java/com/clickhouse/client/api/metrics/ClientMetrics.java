@@ -10,7 +10,37 @@ public enum ClientMetrics {
     /**
      * Duration of the operation serialization step in nanoseconds.
      */
-    OP_SERIALIZATION("client.opSerialization");
+    OP_SERIALIZATION("client.opSerialization"),
+
+    /**
+     * Time of writing request body to the connection in nanoseconds.
+     */
+    OP_REQUEST_SEND("client.opRequestSend"),
+
+    /**
+     * Time from sending a request until response headers are received in nanoseconds.
+     */
+    OP_TIME_TO_FIRST_BYTE("client.opTimeToFirstByte"),
+
+    /**
+     * Time of decompressing a block of response in nanoseconds.
+     */
+    OP_DECOMPRESSION("client.opDecompression"),
+
+    /**
+     * Number of retried requests.
+     */
+    RETRIES("client.retries"),
+
+    /**
+     * Number of bytes sent in request bodies.
+     */
+    BYTES_SENT("client.bytesSent"),
+
+    /**
+     * Number of bytes received in response bodies.
+     */
+    BYTES_RECEIVED("client.bytesReceived");
 
     private final String key;
 
@@ -0,0 +1,73 @@
+package com.clickhouse.client.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Long-lived metrics of a client. Keeps a {@link LatencyHistogram} for each timer metric and a counter for each
+ * counter metric. Values are accumulated for the whole life of the client and can be read at any time.
+ */
+public class ClientMetricsRegistry implements MetricsRecorder {
+
+    private final LatencyHistogram[] histograms;
+
+    private final LongAdder[] counters;
+
+    public ClientMetricsRegistry() {
+        ClientMetrics[] metrics = ClientMetrics.values();
+        histograms = new LatencyHistogram[metrics.length];
+        counters = new LongAdder[metrics.length];
+        for (ClientMetrics metric : metrics) {
+            histograms[metric.ordinal()] = new LatencyHistogram();
+            counters[metric.ordinal()] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void recordTime(ClientMetrics metric, long nanos) {
+        histograms[metric.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void recordCount(ClientMetrics metric, long count) {
+        counters[metric.ordinal()].add(count);
+    }
+
+    /**
+     * Returns histogram of recorded times in nanoseconds.
+     *
+     * @param metric - timer metric
+     * @return live histogram
+     */
+    public LatencyHistogram getHistogram(ClientMetrics metric) {
+        return histograms[metric.ordinal()];
+    }
+
+    /**
+     * Returns current value of a counter.
+     *
+     * @param metric - counter metric
+     * @return sum of all increments
+     */
+    public long getCount(ClientMetrics metric) {
+        return counters[metric.ordinal()].sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ClientMetricsRegistry{");
+        for (ClientMetrics metric : ClientMetrics.values()) {
+            LatencyHistogram histogram = histograms[metric.ordinal()];
+            if (histogram.getCount() > 0) {
+                sb.append('"').append(metric.getKey()).append("\"=").append(histogram).append(", ");
+            }
+            long count = counters[metric.ordinal()].sum();
+            if (count > 0) {
+                sb.append('"').append(metric.getKey()).append("\"=").append(count).append(", ");
+            }
+        }
+        if (sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 2);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.clickhouse.client.api.metrics;
+
+/**
+ * Receives client metrics as operations run. Implementations are called from many threads on hot paths and
+ * should be thread-safe, non-blocking and should not allocate per call.
+ * <p>
+ * {@link ClientMetricsRegistry} is a built-in implementation. Other implementations may forward values to
+ * a monitoring library.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Recorder that ignores all values.
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        @Override
+        public void recordTime(ClientMetrics metric, long nanos) {
+        }
+
+        @Override
+        public void recordCount(ClientMetrics metric, long count) {
+        }
+    };
+
+    /**
+     * Records duration of a step.
+     *
+     * @param metric - timer metric
+     * @param nanos - duration in nanoseconds
+     */
+    void recordTime(ClientMetrics metric, long nanos);
+
+    /**
+     * Increments a counter.
+     *
+     * @param metric - counter metric
+     * @param count - increment
+     */
+    void recordCount(ClientMetrics metric, long count);
+}
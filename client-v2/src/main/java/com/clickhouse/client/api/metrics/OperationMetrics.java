@@ -23,6 +23,14 @@ public class OperationMetrics {
         this.clientStatistics = clientStatisticsHolder;
     }
 
+    /**
+     * Creates metrics of an operation timed by the client itself. Client side timings are set
+     * by {@link #setStopWatch(ClientMetrics, StopWatch)}.
+     */
+    public OperationMetrics() {
+        this(null);
+    }
+
     public Metric getMetric(ServerMetrics metric) {
         return metrics.get(metric.getKey());
     }
@@ -41,12 +49,25 @@ public class OperationMetrics {
      * Note: should not be called by user code, except when created by user code.
      */
     public void operationComplete() {
+        if (clientStatistics == null) {
+            return;
+        }
         for (Map.Entry<String, StopWatch> sw : clientStatistics.getStopWatches().entrySet()) {
             sw.getValue().stop();
             metrics.put(sw.getKey(), sw.getValue());
         }
     }
 
+    /**
+     * Sets timing of a client side step of the operation.
+     *
+     * @param metric - client metric
+     * @param stopWatch - stopped stop watch
+     */
+    public void setStopWatch(ClientMetrics metric, StopWatch stopWatch) {
+        metrics.put(metric.getKey(), stopWatch);
+    }
+
     public void updateMetric(ServerMetrics metric, long value) {
         metrics.put(metric.getKey(), new Gauge(value));
     }
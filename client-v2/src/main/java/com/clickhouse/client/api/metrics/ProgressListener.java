@@ -0,0 +1,20 @@
+package com.clickhouse.client.api.metrics;
+
+/**
+ * Receives progress of a running query reported by the server in {@code X-ClickHouse-Progress} headers.
+ * Progress is reported only until the server starts sending response body, which is when a long-running
+ * scan or aggregation usually spends most of its time.
+ * <p>
+ * Listener is called on the thread reading the response, so it should return quickly. Use
+ * {@link QueryProgress#cancel()} to stop a query that exceeds its budget.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Called every time the server reports progress of the query.
+     *
+     * @param progress - current progress of the query
+     */
+    void onProgress(QueryProgress progress);
+}
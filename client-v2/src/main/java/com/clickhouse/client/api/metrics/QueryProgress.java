@@ -0,0 +1,87 @@
+package com.clickhouse.client.api.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of query progress reported by the server. Values are cumulative since the start of the query.
+ * <p>
+ * `-1` means the value is not available.
+ */
+public class QueryProgress {
+
+    private final String queryId;
+
+    private final long[] values;
+
+    private final Supplier<CompletableFuture<Boolean>> canceller;
+
+    public QueryProgress(String queryId, Supplier<CompletableFuture<Boolean>> canceller) {
+        this.queryId = queryId;
+        this.values = new long[ServerMetrics.values().length];
+        this.canceller = canceller;
+        Arrays.fill(values, -1L);
+    }
+
+    public String getQueryId() {
+        return queryId;
+    }
+
+    public long getMetric(ServerMetrics metric) {
+        return values[metric.ordinal()];
+    }
+
+    public void updateMetric(ServerMetrics metric, long value) {
+        values[metric.ordinal()] = value;
+    }
+
+    public long getReadRows() {
+        return getMetric(ServerMetrics.NUM_ROWS_READ);
+    }
+
+    public long getReadBytes() {
+        return getMetric(ServerMetrics.NUM_BYTES_READ);
+    }
+
+    public long getWrittenRows() {
+        return getMetric(ServerMetrics.NUM_ROWS_WRITTEN);
+    }
+
+    public long getWrittenBytes() {
+        return getMetric(ServerMetrics.NUM_BYTES_WRITTEN);
+    }
+
+    /**
+     * Estimated total number of rows to read.
+     */
+    public long getTotalRowsToRead() {
+        return getMetric(ServerMetrics.TOTAL_ROWS_TO_READ);
+    }
+
+    /**
+     * Elapsed time in nanoseconds. Only reported by recent server versions.
+     */
+    public long getElapsedTime() {
+        return getMetric(ServerMetrics.ELAPSED_TIME);
+    }
+
+    /**
+     * Cancels the query by sending {@code KILL QUERY} to the server running it. Query fails with
+     * {@code QUERY_WAS_CANCELLED} error afterward. Calling it more than once has no effect.
+     *
+     * @return future completed with {@code true} when the server accepted the request
+     */
+    public CompletableFuture<Boolean> cancel() {
+        return canceller.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("QueryProgress{queryId='").append(queryId).append('\'');
+        for (ServerMetrics m : ServerMetrics.values()) {
+            sb.append(", ").append(m.getKey()).append('=').append(values[m.ordinal()]);
+        }
+        return sb.append('}').toString();
+    }
+}
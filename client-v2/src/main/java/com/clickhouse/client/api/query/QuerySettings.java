@@ -5,6 +5,8 @@ import com.clickhouse.client.api.Client;
 import com.clickhouse.client.api.ClientConfigProperties;
 import com.clickhouse.client.api.internal.ServerSettings;
 import com.clickhouse.client.api.internal.ValidationUtils;
+import com.clickhouse.client.api.metrics.ProgressListener;
+import com.clickhouse.client.api.metrics.QueryProgress;
 import com.clickhouse.data.ClickHouseFormat;
 
 import java.util.Collection;
@@ -160,6 +162,34 @@ public class QuerySettings {
         return (TimeZone) rawSettings.get(ClientConfigProperties.SERVER_TIMEZONE.getKey());
     }
 
+    /**
+     * Makes binary format reader decode values of non-primitive columns only when they are requested.
+     *
+     * @see Client.Builder#useLazyColumnDecoding(boolean)
+     */
+    public QuerySettings setLazyColumnDecoding(Boolean enable) {
+        rawSettings.put(ClientConfigProperties.BINARY_READER_LAZY_DECODING.getKey(), enable);
+        return this;
+    }
+
+    public Boolean getLazyColumnDecoding() {
+        return (Boolean) rawSettings.get(ClientConfigProperties.BINARY_READER_LAZY_DECODING.getKey());
+    }
+
+    /**
+     * Sets number of rows binary format reader decodes ahead in a background thread.
+     *
+     * @see Client.Builder#setReaderPrefetchRows(int)
+     */
+    public QuerySettings setReaderPrefetchRows(Integer rows) {
+        rawSettings.put(ClientConfigProperties.BINARY_READER_PREFETCH_ROWS.getKey(), rows);
+        return this;
+    }
+
+    public Integer getReaderPrefetchRows() {
+        return (Integer) rawSettings.get(ClientConfigProperties.BINARY_READER_PREFETCH_ROWS.getKey());
+    }
+
     /**
      * Defines list of headers that should be sent with current request. The Client will use a header value
      * defined in {@code headers} instead of any other.
@@ -259,6 +289,23 @@ public class QuerySettings {
         return logComment;
     }
 
+    /**
+     * Sets a listener receiving progress of the query while it's running. Enables
+     * {@code send_progress_in_http_headers} for the operation. A query id is generated if not set, so that
+     * {@link QueryProgress#cancel()} is able to kill the query.
+     *
+     * @param listener - progress listener
+     * @return same instance of the builder
+     */
+    public QuerySettings setProgressListener(ProgressListener listener) {
+        rawSettings.put(ClientConfigProperties.PROGRESS_LISTENER.getKey(), listener);
+        return this;
+    }
+
+    public ProgressListener getProgressListener() {
+        return (ProgressListener) rawSettings.get(ClientConfigProperties.PROGRESS_LISTENER.getKey());
+    }
+
     public static QuerySettings merge(QuerySettings source, QuerySettings override) {
         QuerySettings merged = new QuerySettings();
         if (source != null) {
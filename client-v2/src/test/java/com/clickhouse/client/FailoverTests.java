@@ -0,0 +1,152 @@
+package com.clickhouse.client;
+
+import com.clickhouse.client.api.Client;
+import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.ConnectionInitiationException;
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.ClientMetricsRegistry;
+import com.clickhouse.client.api.query.QueryResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.apache.hc.core5.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class FailoverTests {
+
+    private static final int REQUESTS = 6;
+
+    private static WireMockServer startServer(int status) {
+        WireMockServer server = new WireMockServer(WireMockConfiguration
+                .options().dynamicPort().notifier(new ConsoleNotifier(false)));
+        server.start();
+        server.addStubMapping(WireMock.post(WireMock.anyUrl())
+                .willReturn(WireMock.aResponse().withStatus(status)
+                        .withHeader("X-ClickHouse-Summary", "{ \"read_bytes\": \"10\", \"read_rows\": \"1\"}"))
+                .build());
+        return server;
+    }
+
+    private static int getClosedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Client newClient(String... endpoints) {
+        Client.Builder builder = new Client.Builder()
+                .setUsername("default")
+                .setPassword("")
+                .useNewImplementation(true)
+                .setMaxRetries(1)
+                .setNodeEjection(1, 60, ChronoUnit.SECONDS);
+        for (String endpoint : endpoints) {
+            builder.addEndpoint(endpoint);
+        }
+        return builder.build();
+    }
+
+    private static void runQueries(Client client) throws Exception {
+        for (int i = 0; i < REQUESTS; i++) {
+            try (QueryResponse response = client.query("SELECT 1").get(10, TimeUnit.SECONDS)) {
+                Assert.assertEquals(response.getReadBytes(), 10);
+            }
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testFailoverFromDeadEndpoint() throws Exception {
+        WireMockServer server = startServer(HttpStatus.SC_OK);
+        try (Client client = newClient("http://localhost:" + getClosedPort(), "http://localhost:" + server.port())) {
+            runQueries(client);
+
+            // dead endpoint fails once, then is ejected and never selected again
+            Assert.assertEquals(((ClientMetricsRegistry) client.getMetricsRecorder()).getCount(ClientMetrics.RETRIES), 1L);
+            Assert.assertEquals(server.getAllServeEvents().size(), REQUESTS + 1); // including server info query
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testConnectFailureIsWrapped() throws Exception {
+        try (Client client = newClient("http://localhost:" + getClosedPort())) {
+            client.query("SELECT 1").get(10, TimeUnit.SECONDS).close();
+            Assert.fail("Should fail to connect");
+        } catch (ClientException e) {
+            Assert.assertEquals(e.getClass(), ClientException.class);
+            // retried once and then gave up
+            Throwable lastAttempt = e.getCause();
+            Assert.assertEquals(lastAttempt.getClass(), ConnectionInitiationException.class);
+            Assert.assertTrue(lastAttempt.getCause() instanceof ConnectException, String.valueOf(lastAttempt.getCause()));
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testFailoverFromUnavailableEndpoint() throws Exception {
+        WireMockServer unavailable = startServer(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        WireMockServer server = startServer(HttpStatus.SC_OK);
+        try (Client client = newClient("http://localhost:" + unavailable.port(), "http://localhost:" + server.port())) {
+            runQueries(client);
+
+            // node responding with 503 is ejected as well
+            Assert.assertEquals(((ClientMetricsRegistry) client.getMetricsRecorder()).getCount(ClientMetrics.RETRIES), 1L);
+            Assert.assertEquals(unavailable.getAllServeEvents().size(), 1);
+            Assert.assertEquals(server.getAllServeEvents().size(), REQUESTS + 1); // including server info query
+        } finally {
+            unavailable.stop();
+            server.stop();
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testPoolTimeoutDoesNotEjectNode() throws Exception {
+        WireMockServer server1 = startServer(HttpStatus.SC_OK);
+        WireMockServer server2 = startServer(HttpStatus.SC_OK);
+        try (Client client = new Client.Builder()
+                .setUsername("default")
+                .setPassword("")
+                .useNewImplementation(true)
+                .setMaxRetries(0)
+                .setMaxConnections(1)
+                .setConnectionRequestTimeout(100, ChronoUnit.MILLIS)
+                .setNodeEjection(1, 60, ChronoUnit.SECONDS)
+                .addEndpoint("http://localhost:" + server1.port())
+                .addEndpoint("http://localhost:" + server2.port())
+                .build()) {
+            // hold the only connection to each node, so next request times out waiting for the local pool
+            List<QueryResponse> responses = new ArrayList<>();
+            while (responses.size() < 2) {
+                responses.add(client.query("SELECT 1").get(10, TimeUnit.SECONDS));
+            }
+            try {
+                client.query("SELECT 1").get(10, TimeUnit.SECONDS).close();
+                Assert.fail("Should fail to lease a connection");
+            } catch (Exception e) {
+                // expected
+            }
+            for (QueryResponse response : responses) {
+                response.close();
+            }
+
+            int served1 = server1.getAllServeEvents().size();
+            int served2 = server2.getAllServeEvents().size();
+            runQueries(client);
+            Assert.assertTrue(server1.getAllServeEvents().size() > served1, "Node 1 should not be ejected");
+            Assert.assertTrue(server2.getAllServeEvents().size() > served2, "Node 2 should not be ejected");
+        } finally {
+            server1.stop();
+            server2.stop();
+        }
+    }
+}
@@ -27,6 +27,8 @@ import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
@@ -46,8 +48,10 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -1008,6 +1012,52 @@ public class HttpTransportTests extends BaseIntegrationTest {
         }
     }
 
+    @Test(groups = { "unit" })
+    public void testProgressListenerWithSharedSettings() throws Exception {
+        WireMockServer mockServer = new WireMockServer(WireMockConfiguration
+                .options().dynamicPort().notifier(new ConsoleNotifier(false)));
+        mockServer.start();
+        mockServer.addStubMapping(WireMock.post(WireMock.anyUrl())
+                .willReturn(WireMock.aResponse()
+                        .withHeader("X-ClickHouse-Progress", "{\"read_rows\":\"1\",\"read_bytes\":\"10\"}")
+                        .withHeader("X-ClickHouse-Summary", "{ \"read_bytes\": \"10\", \"read_rows\": \"1\"}"))
+                .build());
+
+        AtomicInteger progressCount = new AtomicInteger();
+        QuerySettings settings = new QuerySettings().setProgressListener(progress -> progressCount.incrementAndGet());
+        try (Client client = new Client.Builder()
+                .addEndpoint(Protocol.HTTP, "localhost", mockServer.port(), false)
+                .setUsername("default")
+                .setPassword("")
+                .useNewImplementation(true)
+                .build()) {
+            for (int i = 0; i < 2; i++) {
+                try (QueryResponse response = client.query("SELECT 1", settings).get(10, TimeUnit.SECONDS)) {
+                    Assert.assertEquals(response.getReadBytes(), 10);
+                }
+            }
+        } finally {
+            mockServer.stop();
+        }
+
+        // settings of the caller are left untouched
+        Assert.assertNull(settings.getQueryId());
+        Assert.assertFalse(settings.getAllSettings().containsKey(
+                ClientConfigProperties.serverSetting(ServerSettings.SEND_PROGRESS_IN_HTTP_HEADERS)));
+        Assert.assertEquals(progressCount.get(), 2);
+
+        // but each request has its own query id
+        Set<String> queryIds = new HashSet<>();
+        for (ServeEvent event : mockServer.getAllServeEvents()) {
+            LoggedRequest request = event.getRequest();
+            if (request.queryParameter("query_id").isPresent()) {
+                Assert.assertEquals(request.queryParameter("send_progress_in_http_headers").firstValue(), "1");
+                queryIds.add(request.queryParameter("query_id").firstValue());
+            }
+        }
+        Assert.assertEquals(queryIds.size(), 2);
+    }
+
     @Test(groups = { "integration" })
     public void testJWTWithCloud() throws Exception {
         if (!isCloud()) {
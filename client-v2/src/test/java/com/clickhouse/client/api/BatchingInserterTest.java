@@ -0,0 +1,223 @@
+package com.clickhouse.client.api;
+
+import com.clickhouse.client.api.enums.Protocol;
+import com.clickhouse.client.api.insert.InsertResponse;
+import com.clickhouse.client.api.metadata.TableSchema;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BatchingInserterTest {
+
+    private static final String TABLE = "batching_inserter_test";
+
+    // each row is Int32 + UInt8
+    private static final int ROW_SIZE = 5;
+
+    private WireMockServer mockServer;
+
+    @BeforeClass(groups = {"unit"})
+    public void setUp() {
+        mockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort()
+                .notifier(new ConsoleNotifier(false)));
+        mockServer.start();
+        mockServer.addStubMapping(WireMock.post(WireMock.anyUrl())
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withHeader("X-ClickHouse-Summary", "{ \"written_rows\": \"1\"}"))
+                .build());
+    }
+
+    @AfterClass(groups = {"unit"})
+    public void tearDown() {
+        mockServer.stop();
+    }
+
+    private Client newClient() {
+        Client client = new Client.Builder().addEndpoint(Protocol.HTTP, "localhost", mockServer.port(), false)
+                .setUsername("default")
+                .setPassword("")
+                .compressClientRequest(false)
+                .useNewImplementation(true)
+                .build();
+        TableSchema schema = new TableSchema();
+        schema.setTableName(TABLE);
+        schema.setQuery(null);
+        schema.addColumn("id", "Int32");
+        schema.addColumn("flag", "UInt8");
+        client.register(SampleRow.class, schema);
+        return client;
+    }
+
+    private List<LoggedRequest> insertRequests() {
+        return mockServer.findAll(WireMock.postRequestedFor(WireMock.urlMatching(".*INSERT.*")));
+    }
+
+    private long sentRows() {
+        long bytes = 0;
+        for (LoggedRequest request : insertRequests()) {
+            bytes += request.getBody().length;
+        }
+        return bytes / ROW_SIZE;
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testFlushByRowsFromManyThreads() throws Exception {
+        mockServer.resetRequests();
+        List<InsertResponse> responses = new CopyOnWriteArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        int threads = 4;
+        int rowsPerThread = 2_500;
+
+        try (Client client = newClient();
+             BatchingInserter inserter = client.newBatchingInserter(TABLE)
+                     .setMaxRows(1_000)
+                     .setLinger(0, ChronoUnit.MILLIS)
+                     .setMaxInFlightFlushes(2)
+                     .setStripes(3)
+                     .setFlushListener((response, error) -> {
+                         if (error == null) {
+                             responses.add(response);
+                         } else {
+                             errors.incrementAndGet();
+                         }
+                     })
+                     .build()) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread writer = new Thread(() -> {
+                    for (int i = 0; i < rowsPerThread; i++) {
+                        inserter.add(new SampleRow(i, i % 2 == 0));
+                    }
+                });
+                writers.add(writer);
+                writer.start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            Assert.assertTrue(inserter.getPendingRows() < 1_000 + threads);
+        }
+
+        Assert.assertEquals(errors.get(), 0);
+        Assert.assertEquals(sentRows(), (long) threads * rowsPerThread);
+        Assert.assertTrue(responses.size() >= 10, "Expected at least 10 flushes but was " + responses.size());
+        for (InsertResponse response : responses) {
+            Assert.assertEquals(response.getWrittenRows(), 1);
+        }
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testFlushByLinger() throws Exception {
+        mockServer.resetRequests();
+        try (Client client = newClient();
+             BatchingInserter inserter = client.newBatchingInserter(TABLE)
+                     .setMaxRows(1_000_000)
+                     .setLinger(100, ChronoUnit.MILLIS)
+                     .build()) {
+            inserter.add(new SampleRow(1, true));
+            inserter.add(new SampleRow(2, false));
+            Assert.assertEquals(inserter.getPendingRows(), 2);
+            Assert.assertEquals(inserter.getPendingBytes(), 2 * ROW_SIZE);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (sentRows() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            Assert.assertEquals(sentRows(), 2);
+            Assert.assertEquals(inserter.getPendingRows(), 0);
+        }
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testFlushByBytesAndClose() throws Exception {
+        mockServer.resetRequests();
+        try (Client client = newClient()) {
+            BatchingInserter inserter = client.newBatchingInserter(TABLE)
+                    .setMaxBytes(10L * ROW_SIZE)
+                    .setLinger(0, ChronoUnit.MILLIS)
+                    .setStripes(1)
+                    .build();
+            for (int i = 0; i < 25; i++) {
+                inserter.add(new SampleRow(i, true));
+            }
+            Assert.assertEquals(inserter.getPendingRows(), 5);
+            Assert.assertNull(new BatchingInserter.Builder(client, TABLE).build().flush().get());
+
+            inserter.close();
+            Assert.assertEquals(sentRows(), 25);
+            Assert.assertEquals(insertRequests().size(), 3);
+            Assert.assertThrows(IllegalStateException.class, () -> inserter.add(new SampleRow(0, false)));
+        }
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testAddConcurrentlyWithClose() throws Exception {
+        mockServer.resetRequests();
+        AtomicLong accepted = new AtomicLong();
+        try (Client client = newClient()) {
+            BatchingInserter inserter = client.newBatchingInserter(TABLE)
+                    .setMaxRows(1_000_000)
+                    .setLinger(0, ChronoUnit.MILLIS)
+                    .setStripes(2)
+                    .build();
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread writer = new Thread(() -> {
+                    try {
+                        for (int i = 0; ; i++) {
+                            inserter.add(new SampleRow(i, true));
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // closed
+                    }
+                });
+                writers.add(writer);
+                writer.start();
+            }
+            while (accepted.get() < 1_000) {
+                Thread.sleep(1);
+            }
+            inserter.close();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        // every row accepted by add() is sent
+        Assert.assertEquals(sentRows(), accepted.get());
+    }
+
+    public static class SampleRow {
+        private final int id;
+        private final boolean flag;
+
+        public SampleRow(int id, boolean flag) {
+            this.id = id;
+            this.flag = flag;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public boolean getFlag() {
+            return flag;
+        }
+    }
+}
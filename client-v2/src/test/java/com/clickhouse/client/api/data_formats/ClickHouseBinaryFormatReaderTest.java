@@ -1,6 +1,9 @@
 package com.clickhouse.client.api.data_formats;
 
+import com.clickhouse.client.api.ClientException;
 import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
+import com.clickhouse.client.api.metadata.NoSuchColumnException;
+import com.clickhouse.client.api.query.NullValueException;
 import com.clickhouse.client.api.query.QuerySettings;
 import com.clickhouse.data.format.BinaryStreamUtils;
 import org.testng.Assert;
@@ -12,7 +15,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -196,4 +203,212 @@ public class ClickHouseBinaryFormatReaderTest {
         Assert.assertEquals(reader.getString("a"),  "true");
         Assert.assertEquals(reader.getString("b"),  "false");
     }
+
+    @Test(groups = {"unit"})
+    public void testReadingToRecordSlots() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        String[] names = new String[]{"a", "b", "c", "d", "e"};
+        String[] types = new String[]{"Nullable(Int32)", "UInt32", "Float32", "String", "Enum8('x' = 1, 'y' = 2)"};
+
+        BinaryStreamUtils.writeVarInt(out, names.length);
+        for (String name : names) {
+            BinaryStreamUtils.writeString(out, name);
+        }
+        for (String type : types) {
+            BinaryStreamUtils.writeString(out, type);
+        }
+
+        BinaryStreamUtils.writeNonNull(out);
+        BinaryStreamUtils.writeInt32(out, -7);
+        BinaryStreamUtils.writeUnsignedInt32(out, 4_000_000_000L);
+        BinaryStreamUtils.writeFloat32(out, 1.5f);
+        BinaryStreamUtils.writeString(out, "first");
+        BinaryStreamUtils.writeInt8(out, 2);
+
+        BinaryStreamUtils.writeNull(out);
+        BinaryStreamUtils.writeUnsignedInt32(out, 1);
+        BinaryStreamUtils.writeFloat32(out, -2.25f);
+        BinaryStreamUtils.writeString(out, "second");
+        BinaryStreamUtils.writeInt8(out, 1);
+
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+        QuerySettings querySettings = new QuerySettings().setUseTimeZone(TimeZone.getTimeZone("UTC").toZoneId().getId());
+        RowBinaryWithNamesAndTypesFormatReader reader =
+                new RowBinaryWithNamesAndTypesFormatReader(in, querySettings, new BinaryStreamReader.CachingByteBufferAllocator());
+
+        Map<String, Object> row = reader.next();
+        Assert.assertEquals(reader.getInteger(1), -7);
+        Assert.assertEquals(reader.getLong("a"), -7L);
+        Assert.assertEquals(reader.getLong(2), 4_000_000_000L);
+        Assert.assertThrows(ArithmeticException.class, () -> reader.getInteger(2));
+        Assert.assertEquals(reader.getFloat(3), 1.5f);
+        Assert.assertEquals(reader.getDouble(3), 1.5d);
+        Assert.assertEquals(reader.getString(4), "first");
+        Assert.assertEquals(reader.getString(5), "y");
+        Assert.assertEquals(reader.readValue(1), Integer.valueOf(-7));
+        Assert.assertEquals(reader.readValue(2), Long.valueOf(4_000_000_000L));
+        Assert.assertEquals(reader.readValue(3), Float.valueOf(1.5f));
+        Assert.assertEquals(reader.readValue(5), Byte.valueOf((byte) 2));
+        Assert.assertEquals(row.get("a"), -7);
+        Assert.assertEquals(row.size(), 5);
+
+        row = reader.next();
+        Assert.assertFalse(reader.hasValue(1));
+        Assert.assertFalse(reader.hasValue("a"));
+        Assert.assertTrue(reader.hasValue(2));
+        Assert.assertNull(reader.readValue("a"));
+        Assert.assertThrows(NullValueException.class, () -> reader.getLong(1));
+        Assert.assertEquals(reader.getLong(2), 1L);
+        Assert.assertEquals(reader.getByte(2), (byte) 1);
+        Assert.assertEquals(reader.getFloat(3), -2.25f);
+        Assert.assertEquals(reader.getString("e"), "x");
+        Assert.assertFalse(row.containsKey("a"));
+        Assert.assertEquals(row.keySet(), new HashSet<>(Arrays.asList("b", "c", "d", "e")));
+        Assert.assertThrows(NoSuchColumnException.class, () -> reader.getLong(6));
+
+        Assert.assertNull(reader.next());
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test(groups = {"unit"})
+    public void testLazyColumnDecoding() throws Exception {
+        String[] names = new String[]{"s", "arr", "narr", "m", "t", "dt", "ns", "u", "big", "i"};
+        String[] types = new String[]{"String", "Array(Int32)", "Array(Nullable(String))", "Map(String, Int64)",
+                "Tuple(Int8, String)", "DateTime64(3)", "Nullable(String)", "UUID", "String", "Int32"};
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryStreamUtils.writeVarInt(out, names.length);
+        for (String name : names) {
+            BinaryStreamUtils.writeString(out, name);
+        }
+        for (String type : types) {
+            BinaryStreamUtils.writeString(out, type);
+        }
+        char[] big = new char[20_000];
+        for (int row = 0; row < 3; row++) {
+            BinaryStreamUtils.writeString(out, "row" + row);
+            BinaryStreamUtils.writeVarInt(out, row + 1);
+            for (int i = 0; i <= row; i++) {
+                BinaryStreamUtils.writeInt32(out, i * 10);
+            }
+            BinaryStreamUtils.writeVarInt(out, 2);
+            BinaryStreamUtils.writeNull(out);
+            BinaryStreamUtils.writeNonNull(out);
+            BinaryStreamUtils.writeString(out, "v" + row);
+            BinaryStreamUtils.writeVarInt(out, 1);
+            BinaryStreamUtils.writeString(out, "k" + row);
+            BinaryStreamUtils.writeInt64(out, row * 100L);
+            BinaryStreamUtils.writeInt8(out, row);
+            BinaryStreamUtils.writeString(out, "t" + row);
+            BinaryStreamUtils.writeInt64(out, 1_700_000_000_000L + row);
+            if (row == 1) {
+                BinaryStreamUtils.writeNull(out);
+            } else {
+                BinaryStreamUtils.writeNonNull(out);
+                BinaryStreamUtils.writeString(out, "n" + row);
+            }
+            BinaryStreamUtils.writeInt64(out, row);
+            BinaryStreamUtils.writeInt64(out, -row);
+            Arrays.fill(big, (char) ('a' + row));
+            BinaryStreamUtils.writeString(out, new String(big));
+            BinaryStreamUtils.writeInt32(out, row * 7);
+        }
+        byte[] data = out.toByteArray();
+
+        RowBinaryWithNamesAndTypesFormatReader eager = new RowBinaryWithNamesAndTypesFormatReader(
+                new ByteArrayInputStream(data), new QuerySettings().setUseTimeZone("UTC"),
+                new BinaryStreamReader.DefaultByteBufferAllocator());
+        RowBinaryWithNamesAndTypesFormatReader lazy = new RowBinaryWithNamesAndTypesFormatReader(
+                new ByteArrayInputStream(data), new QuerySettings().setUseTimeZone("UTC").setLazyColumnDecoding(true),
+                new BinaryStreamReader.DefaultByteBufferAllocator());
+
+        for (int row = 0; row < 3; row++) {
+            Assert.assertNotNull(eager.next());
+            Assert.assertNotNull(lazy.next());
+            // next row is already read ahead, values of current one are decoded from its own bytes
+            Assert.assertEquals(lazy.getInteger("i"), row * 7);
+            Assert.assertEquals(lazy.getString("s"), "row" + row);
+            Assert.assertEquals(lazy.hasValue("ns"), row != 1);
+            for (int i = 1; i <= names.length; i++) {
+                Assert.assertEquals(normalize(lazy.readValue(i)), normalize(eager.readValue(i)),
+                        "row " + row + ", column " + names[i - 1]);
+            }
+            Assert.assertEquals(lazy.getList("arr").size(), row + 1);
+        }
+        Assert.assertNull(lazy.next());
+        Assert.assertNull(eager.next());
+    }
+
+    @Test(groups = {"unit"})
+    public void testPrefetchRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryStreamUtils.writeVarInt(out, 3);
+        BinaryStreamUtils.writeString(out, "id");
+        BinaryStreamUtils.writeString(out, "name");
+        BinaryStreamUtils.writeString(out, "score");
+        BinaryStreamUtils.writeString(out, "Int64");
+        BinaryStreamUtils.writeString(out, "String");
+        BinaryStreamUtils.writeString(out, "Nullable(Float64)");
+        int rows = 10_000;
+        for (int row = 0; row < rows; row++) {
+            BinaryStreamUtils.writeInt64(out, row);
+            BinaryStreamUtils.writeString(out, "name" + row);
+            if (row % 3 == 0) {
+                BinaryStreamUtils.writeNull(out);
+            } else {
+                BinaryStreamUtils.writeNonNull(out);
+                BinaryStreamUtils.writeFloat64(out, row * 0.5);
+            }
+        }
+        byte[] data = out.toByteArray();
+
+        for (boolean lazyDecoding : new boolean[] {false, true}) {
+            RowBinaryWithNamesAndTypesFormatReader reader = new RowBinaryWithNamesAndTypesFormatReader(
+                    new ByteArrayInputStream(data), new QuerySettings().setUseTimeZone("UTC")
+                    .setLazyColumnDecoding(lazyDecoding).setReaderPrefetchRows(16),
+                    new BinaryStreamReader.DefaultByteBufferAllocator());
+            int count = 0;
+            while (reader.hasNext()) {
+                Assert.assertNotNull(reader.next());
+                Assert.assertEquals(reader.getLong("id"), count);
+                Assert.assertEquals(reader.getString("name"), "name" + count);
+                if (count % 3 == 0) {
+                    Assert.assertFalse(reader.hasValue("score"));
+                } else {
+                    Assert.assertEquals(reader.getDouble("score"), count * 0.5);
+                }
+                count++;
+            }
+            Assert.assertEquals(count, rows);
+            Assert.assertNull(reader.next());
+            reader.close();
+        }
+
+        // error in the middle of the stream is thrown to the consumer
+        byte[] truncated = Arrays.copyOf(data, data.length - 3); // inside the name of the last row
+        RowBinaryWithNamesAndTypesFormatReader reader = new RowBinaryWithNamesAndTypesFormatReader(
+                new ByteArrayInputStream(truncated), new QuerySettings().setUseTimeZone("UTC").setReaderPrefetchRows(4),
+                new BinaryStreamReader.DefaultByteBufferAllocator());
+        Assert.assertThrows(ClientException.class, () -> {
+            while (reader.next() != null) {
+                reader.getLong("id");
+            }
+        });
+        reader.close();
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof BinaryStreamReader.ArrayValue) {
+            List<Object> list = ((BinaryStreamReader.ArrayValue) value).asList();
+            List<Object> result = new ArrayList<>();
+            for (Object item : list) {
+                result.add(normalize(item));
+            }
+            return result;
+        } else if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        }
+        return value;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.clickhouse.client.api.data_formats;
+
+import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
+import com.clickhouse.client.api.query.QuerySettings;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+public class NativeFormatReaderTest {
+
+    private static byte[] twoBlocks() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBlock(out, 0, 3);
+        writeBlock(out, 3, 2);
+        return out.toByteArray();
+    }
+
+    private static void writeBlock(ByteArrayOutputStream out, int start, int rows) throws IOException {
+        BinaryStreamUtils.writeVarInt(out, 6);
+        BinaryStreamUtils.writeVarInt(out, rows);
+
+        BinaryStreamUtils.writeString(out, "id");
+        BinaryStreamUtils.writeString(out, "Int32");
+        for (int i = start; i < start + rows; i++) {
+            BinaryStreamUtils.writeInt32(out, i);
+        }
+
+        BinaryStreamUtils.writeString(out, "amount");
+        BinaryStreamUtils.writeString(out, "Nullable(Int64)");
+        for (int i = start; i < start + rows; i++) {
+            out.write(i % 2 == 0 ? 0 : 1);
+        }
+        for (int i = start; i < start + rows; i++) {
+            BinaryStreamUtils.writeInt64(out, i % 2 == 0 ? i * 1000L : 0L);
+        }
+
+        BinaryStreamUtils.writeString(out, "name");
+        BinaryStreamUtils.writeString(out, "String");
+        for (int i = start; i < start + rows; i++) {
+            BinaryStreamUtils.writeString(out, "name_" + i);
+        }
+
+        BinaryStreamUtils.writeString(out, "score");
+        BinaryStreamUtils.writeString(out, "Float64");
+        for (int i = start; i < start + rows; i++) {
+            BinaryStreamUtils.writeFloat64(out, i + 0.5);
+        }
+
+        BinaryStreamUtils.writeString(out, "ts");
+        BinaryStreamUtils.writeString(out, "DateTime");
+        for (int i = start; i < start + rows; i++) {
+            BinaryStreamUtils.writeUnsignedInt32(out, 1700000000L + i);
+        }
+
+        BinaryStreamUtils.writeString(out, "tags");
+        BinaryStreamUtils.writeString(out, "Array(Int32)");
+        long offset = 0;
+        for (int i = start; i < start + rows; i++) {
+            offset += i % 3;
+            BinaryStreamUtils.writeInt64(out, offset);
+        }
+        for (int i = start; i < start + rows; i++) {
+            for (int j = 0; j < i % 3; j++) {
+                BinaryStreamUtils.writeInt32(out, j);
+            }
+        }
+    }
+
+    private static NativeFormatReader newReader(byte[] data) {
+        QuerySettings querySettings = new QuerySettings().setUseTimeZone(TimeZone.getTimeZone("UTC").toZoneId().getId());
+        return new NativeFormatReader(new ByteArrayInputStream(data), querySettings,
+                new BinaryStreamReader.DefaultByteBufferAllocator());
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadingBlocks() throws Exception {
+        NativeFormatReader reader = newReader(twoBlocks());
+
+        int total = 0;
+        ColumnBlock block;
+        while ((block = reader.nextBlock()) != null) {
+            Assert.assertEquals(block.getColumnCount(), 6);
+            ColumnBlock.IntVector ids = (ColumnBlock.IntVector) block.getVector(0);
+            ColumnBlock.LongVector amounts = (ColumnBlock.LongVector) block.getVector("amount");
+            ColumnBlock.StringVector names = (ColumnBlock.StringVector) block.getVector("name");
+            ColumnBlock.DoubleVector scores = (ColumnBlock.DoubleVector) block.getVector("score");
+            ColumnBlock.LongVector timestamps = (ColumnBlock.LongVector) block.getVector("ts");
+            ColumnBlock.ColumnVector tags = block.getVector("tags");
+
+            for (int row = 0; row < block.getRowCount(); row++) {
+                int id = ids.getInt(row);
+                Assert.assertEquals(id, total);
+                Assert.assertFalse(ids.isNull(row));
+                Assert.assertEquals(amounts.isNull(row), id % 2 != 0);
+                if (!amounts.isNull(row)) {
+                    Assert.assertEquals(amounts.getLong(row), id * 1000L);
+                }
+                Assert.assertEquals(names.getString(row), "name_" + id);
+                Assert.assertEquals(names.getLength(row), ("name_" + id).length());
+                Assert.assertEquals(scores.getDouble(row), id + 0.5);
+                Assert.assertEquals(timestamps.getLong(row), 1700000000L + id);
+                Assert.assertEquals(((BinaryStreamReader.ArrayValue) tags.getObject(row)).length(), id % 3);
+                total++;
+            }
+        }
+        Assert.assertEquals(total, 5);
+        Assert.assertNull(reader.nextBlock());
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadingRows() throws Exception {
+        NativeFormatReader reader = newReader(twoBlocks());
+
+        int total = 0;
+        while (reader.hasNext()) {
+            reader.next();
+            Assert.assertEquals(reader.getInteger("id"), total);
+            Assert.assertEquals(reader.getInteger(1), total);
+            Assert.assertEquals(reader.hasValue("amount"), total % 2 == 0);
+            if (total % 2 == 0) {
+                Assert.assertEquals(reader.getLong("amount"), total * 1000L);
+            }
+            Assert.assertEquals(reader.getString("name"), "name_" + total);
+            Assert.assertEquals(reader.getDouble("score"), total + 0.5);
+            Assert.assertEquals(reader.getZonedDateTime("ts").toInstant(), Instant.ofEpochSecond(1700000000L + total));
+            int[] expectedTags = new int[total % 3];
+            for (int j = 0; j < expectedTags.length; j++) {
+                expectedTags[j] = j;
+            }
+            Assert.assertEquals(reader.getList("tags").size(), expectedTags.length);
+            if (expectedTags.length > 0) {
+                Assert.assertTrue(Arrays.equals(reader.getIntArray("tags"), expectedTags));
+            }
+            total++;
+        }
+        Assert.assertEquals(total, 5);
+    }
+}
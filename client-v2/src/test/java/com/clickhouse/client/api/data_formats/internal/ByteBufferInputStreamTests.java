@@ -0,0 +1,189 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+public class ByteBufferInputStreamTests {
+
+    /**
+     * Returns at most 3 bytes per read to make values cross buffer boundaries.
+     */
+    private static InputStream slowStream(byte[] data) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+    }
+
+    private static byte[] sampleData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++) {
+            BinaryStreamUtils.writeInt8(out, (byte) -i);
+            BinaryStreamUtils.writeInt16(out, (short) (-300 * i));
+            BinaryStreamUtils.writeUnsignedInt16(out, 60000 + i);
+            BinaryStreamUtils.writeInt32(out, -100_000 * i);
+            BinaryStreamUtils.writeUnsignedInt32(out, 4_000_000_000L + i);
+            BinaryStreamUtils.writeInt64(out, Long.MIN_VALUE + i);
+            BinaryStreamUtils.writeFloat64(out, i / 3.0);
+            BinaryStreamUtils.writeString(out, "value-" + i + "-ж");
+            BinaryStreamUtils.writeInt64(out, 1_700_000_000_123L + i);
+        }
+        return out.toByteArray();
+    }
+
+    private static String readAll(BinaryStreamReader reader) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        ClickHouseColumn string = ClickHouseColumn.of("s", "String");
+        for (int i = 0; i < 100; i++) {
+            sb.append(reader.readByte()).append(',')
+                    .append(reader.readShortLE()).append(',')
+                    .append(reader.readUnsignedShortLE()).append(',')
+                    .append(reader.readIntLE()).append(',')
+                    .append(reader.readUnsignedIntLE()).append(',')
+                    .append(reader.readLongLE()).append(',')
+                    .append(reader.readDoubleLE()).append(',')
+                    .append((String) reader.readValue(string)).append(',')
+                    .append(reader.readDateTime64(3, TimeZone.getTimeZone("UTC")).toInstant()).append(';');
+        }
+        return sb.toString();
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadValues() throws Exception {
+        byte[] data = sampleData();
+        BinaryStreamReader plain = new BinaryStreamReader(new ByteArrayInputStream(data), TimeZone.getTimeZone("UTC"),
+                null, new BinaryStreamReader.DefaultByteBufferAllocator(), false);
+        String expected = readAll(plain);
+
+        for (int bufferSize : new int[]{32, 33, 100, 8192}) {
+            ByteBufferInputStream input = new ByteBufferInputStream(slowStream(data), bufferSize);
+            BinaryStreamReader buffered = new BinaryStreamReader(input, TimeZone.getTimeZone("UTC"), null,
+                    new BinaryStreamReader.DefaultByteBufferAllocator(), false);
+            Assert.assertEquals(readAll(buffered), expected, "buffer size " + bufferSize);
+            Assert.assertEquals(input.read(), -1);
+            Assert.assertThrows(EOFException.class, input::readLongLE);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadStringBytes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String longString = new String(new char[100]).replace('\0', 'x');
+        BinaryStreamUtils.writeString(out, "abc");
+        BinaryStreamUtils.writeString(out, longString);
+        BinaryStreamUtils.writeString(out, "");
+
+        ByteBufferInputStream input = new ByteBufferInputStream(slowStream(out.toByteArray()), 32);
+        BinaryStreamReader reader = new BinaryStreamReader(input, TimeZone.getTimeZone("UTC"), null,
+                new BinaryStreamReader.DefaultByteBufferAllocator(), false);
+
+        ByteBuffer slice = reader.readStringBytes();
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(slice).toString(), "abc");
+        slice = reader.readStringBytes();
+        Assert.assertTrue(slice.isReadOnly());
+        Assert.assertEquals(slice.remaining(), 100);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(slice).toString(), longString);
+        Assert.assertEquals(reader.readStringBytes().remaining(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void testStreamMethods() throws Exception {
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        ByteBufferInputStream input = new ByteBufferInputStream(slowStream(data), 64);
+        Assert.assertEquals(input.read(), 0);
+        Assert.assertEquals(input.skip(2), 2);
+        byte[] chunk = new byte[500];
+        BinaryStreamReader.readNBytes(input, chunk, 0, chunk.length);
+        for (int i = 0; i < chunk.length; i++) {
+            Assert.assertEquals(chunk[i], (byte) (i + 3));
+        }
+        Assert.assertEquals(input.readByte(), (byte) 503);
+        Assert.assertEquals(BinaryStreamReader.readNBytes(input, 496).length, 496);
+        Assert.assertEquals(input.read(new byte[10], 0, 10), -1);
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadDate() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryStreamUtils.writeUnsignedInt16(out, 19000);
+        BinaryStreamUtils.writeUnsignedInt32(out, 1_700_000_000L);
+        ByteBufferInputStream input = new ByteBufferInputStream(new ByteArrayInputStream(out.toByteArray()));
+        BinaryStreamReader reader = new BinaryStreamReader(input, TimeZone.getTimeZone("UTC"), null,
+                new BinaryStreamReader.DefaultByteBufferAllocator(), false);
+        ZonedDateTime date = reader.readValue(ClickHouseColumn.of("d", "Date"));
+        Assert.assertEquals(date.toLocalDate().toEpochDay(), 19000);
+        ZonedDateTime dateTime = reader.readValue(ClickHouseColumn.of("dt", "DateTime('UTC')"));
+        Assert.assertEquals(dateTime.toEpochSecond(), 1_700_000_000L);
+    }
+
+    @Test(groups = {"unit"})
+    public void testSkipValue() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryStreamUtils.writeVarInt(out, 2);
+        BinaryStreamUtils.writeVarInt(out, 2);
+        BinaryStreamUtils.writeInt32(out, 1);
+        BinaryStreamUtils.writeInt32(out, 2);
+        BinaryStreamUtils.writeVarInt(out, 0);
+        BinaryStreamUtils.writeNonNull(out);
+        BinaryStreamUtils.writeString(out, "abc");
+        BinaryStreamUtils.writeNull(out);
+        BinaryStreamUtils.writeVarInt(out, 1);
+        BinaryStreamUtils.writeString(out, "key");
+        BinaryStreamUtils.writeNonNull(out);
+        BinaryStreamUtils.writeInt64(out, 7);
+        BinaryStreamUtils.writeString(out, "fixed");
+        BinaryStreamUtils.writeInt64(out, 42);
+
+        ByteBufferInputStream input = new ByteBufferInputStream(slowStream(out.toByteArray()), 32);
+        BinaryStreamReader reader = new BinaryStreamReader(input, TimeZone.getTimeZone("UTC"), null,
+                new BinaryStreamReader.DefaultByteBufferAllocator(), false);
+        reader.skipValue(ClickHouseColumn.of("a", "Array(Array(Int32))"));
+        reader.skipValue(ClickHouseColumn.of("b", "Nullable(String)"));
+        reader.skipValue(ClickHouseColumn.of("c", "Nullable(String)"));
+        reader.skipValue(ClickHouseColumn.of("d", "Map(String, Nullable(Int64))"));
+        reader.skipValue(ClickHouseColumn.of("e", "FixedString(6)"));
+        Assert.assertEquals(reader.readLongLE(), 42L);
+    }
+
+    @Test(groups = {"unit"})
+    public void testRecording() throws Exception {
+        byte[] data = sampleData();
+        for (int bufferSize : new int[]{32, 1000, 100_000}) {
+            ByteBufferInputStream input = new ByteBufferInputStream(slowStream(data), bufferSize);
+            ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+            Assert.assertEquals(input.readByte(), data[0]);
+            input.startRecording(recorded);
+            Assert.assertEquals(input.readIntLE(), ByteBuffer.wrap(data, 1, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+            byte[] chunk = new byte[bufferSize * 2];
+            int n = input.read(chunk, 0, chunk.length);
+            long skipped = input.skip(50);
+            input.readSlice(10);
+            input.stopRecording();
+            input.readByte();
+
+            int recordedLength = 4 + n + (int) skipped + 10;
+            Assert.assertEquals(recorded.toByteArray(), Arrays.copyOfRange(data, 1, 1 + recordedLength),
+                    "buffer size " + bufferSize);
+        }
+    }
+}
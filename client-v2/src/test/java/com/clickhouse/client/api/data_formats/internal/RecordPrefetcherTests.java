@@ -0,0 +1,78 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RecordPrefetcherTests {
+
+    private static RecordSlots[] slots(int count) {
+        RecordSlots[] slots = new RecordSlots[count];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new RecordSlots();
+        }
+        return slots;
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadAll() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        RecordPrefetcher prefetcher = new RecordPrefetcher(record -> reads.incrementAndGet() <= 10, slots(3), 2);
+        int count = 0;
+        RecordSlots record;
+        while ((record = prefetcher.take()) != null) {
+            prefetcher.release(record);
+            count++;
+        }
+        Assert.assertEquals(count, 10);
+        Assert.assertNull(prefetcher.take());
+        prefetcher.close();
+    }
+
+    @Test(groups = {"unit"})
+    public void testCloseWaitsForRead() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicBoolean inRead = new AtomicBoolean();
+        AtomicInteger readsAfterClose = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        RecordPrefetcher prefetcher = new RecordPrefetcher(record -> {
+            if (closed.get()) {
+                readsAfterClose.incrementAndGet();
+            }
+            inRead.set(true);
+            reading.countDown();
+            // blocking read which is not interruptible, like one from a socket
+            while (true) {
+                try {
+                    proceed.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }
+            inRead.set(false);
+            return true;
+        }, slots(2), 2);
+
+        Assert.assertTrue(reading.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> close = CompletableFuture.runAsync(() -> {
+            closed.set(true);
+            prefetcher.close();
+        });
+        Assert.assertThrows(TimeoutException.class, () -> close.get(200, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(inRead.get());
+
+        proceed.countDown();
+        close.get(10, TimeUnit.SECONDS);
+        // stream is not touched after close returns
+        Assert.assertFalse(inRead.get());
+        Assert.assertEquals(readsAfterClose.get(), 0);
+    }
+}
@@ -0,0 +1,184 @@
+package com.clickhouse.client.api.data_formats.internal;
+
+import com.clickhouse.client.api.insert.POJOSerializer;
+import com.clickhouse.data.ClickHouseColumn;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SerializerUtilsTests {
+
+    private static List<ClickHouseColumn> columns() {
+        List<ClickHouseColumn> columns = new ArrayList<>();
+        columns.add(ClickHouseColumn.of("int8", "Int8"));
+        columns.add(ClickHouseColumn.of("uint8", "UInt8"));
+        columns.add(ClickHouseColumn.of("int16", "Int16"));
+        columns.add(ClickHouseColumn.of("uint16", "UInt16"));
+        columns.add(ClickHouseColumn.of("int32", "Int32"));
+        columns.add(ClickHouseColumn.of("uint32", "UInt32"));
+        columns.add(ClickHouseColumn.of("int64", "Int64"));
+        columns.add(ClickHouseColumn.of("uint64", "UInt64"));
+        columns.add(ClickHouseColumn.of("float32", "Float32"));
+        columns.add(ClickHouseColumn.of("float64", "Float64"));
+        columns.add(ClickHouseColumn.of("bool", "Bool"));
+        columns.add(ClickHouseColumn.of("enum8", "Enum8('a' = 1, 'b' = 2)"));
+        columns.add(ClickHouseColumn.of("nullable_int32", "Nullable(Int32)"));
+        columns.add(ClickHouseColumn.of("boxed_int32", "Nullable(Int32)"));
+        columns.add(ClickHouseColumn.of("int_as_string", "String"));
+        columns.add(ClickHouseColumn.of("decimal", "Decimal(10, 2)"));
+        columns.add(ClickHouseColumn.of("str", "Nullable(String)"));
+        columns.add(ClickHouseColumn.of("dt", "DateTime64(3, 'UTC')"));
+        columns.add(ClickHouseColumn.of("arr", "Array(Int32)"));
+        ClickHouseColumn withDefault = ClickHouseColumn.of("defaulted", "String");
+        withDefault.setHasDefault(true);
+        columns.add(withDefault);
+        return columns;
+    }
+
+    private static List<Method> getters(List<ClickHouseColumn> columns) throws Exception {
+        List<Method> getters = new ArrayList<>();
+        for (ClickHouseColumn column : columns) {
+            StringBuilder name = new StringBuilder("get");
+            for (String part : column.getColumnName().split("_")) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+            getters.add(SamplePOJO.class.getMethod(name.toString()));
+        }
+        return getters;
+    }
+
+    @DataProvider(name = "testCompilePOJOSerializer_dp")
+    public static Object[][] testCompilePOJOSerializer_dp() {
+        return new Object[][] {{false}, {true}};
+    }
+
+    @Test(groups = {"unit"}, dataProvider = "testCompilePOJOSerializer_dp")
+    public void testCompilePOJOSerializer(boolean defaultsSupport) throws Exception {
+        List<ClickHouseColumn> columns = columns();
+        List<Method> getters = getters(columns);
+        POJOSerializer serializer = SerializerUtils.compilePOJOSerializer(SamplePOJO.class, columns, getters,
+                defaultsSupport);
+
+        List<SamplePOJO> rows = Arrays.asList(new SamplePOJO(), new SamplePOJO());
+        rows.get(1).str = "test";
+        rows.get(1).boxedInt32 = null;
+        if (defaultsSupport) {
+            rows.get(1).defaulted = null;
+        }
+
+        for (SamplePOJO row : rows) {
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            for (int i = 0; i < columns.size(); i++) {
+                SerializerUtils.serializeValue(expected, defaultsSupport, columns.get(i), getters.get(i).invoke(row));
+            }
+
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            serializer.serialize(row, actual);
+            Assert.assertEquals(actual.toByteArray(), expected.toByteArray());
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testCompilePOJOSerializerChecksRange() throws Exception {
+        List<ClickHouseColumn> columns = Arrays.asList(ClickHouseColumn.of("int8", "Int8"));
+        POJOSerializer serializer = SerializerUtils.compilePOJOSerializer(SamplePOJO.class, columns,
+                Arrays.asList(SamplePOJO.class.getMethod("getInt32")), false);
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> serializer.serialize(new SamplePOJO(), new ByteArrayOutputStream()));
+    }
+
+    public static class SamplePOJO {
+        private String str = null;
+        private Integer boxedInt32 = 42;
+        private String defaulted = "default";
+
+        public byte getInt8() {
+            return -5;
+        }
+
+        public int getUint8() {
+            return 200;
+        }
+
+        public short getInt16() {
+            return -300;
+        }
+
+        public long getUint16() {
+            return 60000L;
+        }
+
+        public int getInt32() {
+            return 1_000_000;
+        }
+
+        public int getUint32() {
+            return Integer.MAX_VALUE;
+        }
+
+        public int getInt64() {
+            return -7;
+        }
+
+        public long getUint64() {
+            return 1234567890123L;
+        }
+
+        public float getFloat32() {
+            return 1.5f;
+        }
+
+        public double getFloat64() {
+            return -2.25;
+        }
+
+        public boolean getBool() {
+            return true;
+        }
+
+        public byte getEnum8() {
+            return 2;
+        }
+
+        public int getNullableInt32() {
+            return 17;
+        }
+
+        public Integer getBoxedInt32() {
+            return boxedInt32;
+        }
+
+        public int getIntAsString() {
+            return 5;
+        }
+
+        public BigDecimal getDecimal() {
+            return new BigDecimal("12.34");
+        }
+
+        public String getStr() {
+            return str;
+        }
+
+        public LocalDateTime getDt() {
+            return LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000);
+        }
+
+        public List<Integer> getArr() {
+            return Arrays.asList(1, 2, 3);
+        }
+
+        public String getDefaulted() {
+            return defaulted;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.ClientMetricsRegistry;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ClickHouseLZ4InputStreamTest {
+
+    private ExecutorService executor;
+
+    @BeforeClass(groups = {"unit"})
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3, new DefaultThreadFactory("test-lz4-decompress", true));
+    }
+
+    @AfterClass(groups = {"unit"})
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] sampleData(int size) {
+        byte[] data = new byte[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            // compressible but not trivial content
+            data[i] = (byte) (random.nextInt(16) + (i / 1000));
+        }
+        return data;
+    }
+
+    private static byte[] compress(byte[] data, int blockSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ClickHouseLZ4OutputStream lz4 = new ClickHouseLZ4OutputStream(out,
+                LZ4Factory.fastestInstance().fastCompressor(), blockSize)) {
+            lz4.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in, int chunk) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[chunk];
+        int n;
+        while ((n = in.read(buf, 0, buf.length)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test(groups = {"unit"})
+    public void testReadSequentialAndReadAhead() throws Exception {
+        byte[] data = sampleData(1_000_000);
+        byte[] compressed = compress(data, 8192);
+        ClientMetricsRegistry registry = new ClientMetricsRegistry();
+
+        for (int readAhead : new int[]{0, 1, 4}) {
+            for (int chunk : new int[]{1, 1000, 100_000}) {
+                ClickHouseLZ4InputStream in = new ClickHouseLZ4InputStream(new ByteArrayInputStream(compressed),
+                        LZ4Factory.fastestInstance().fastDecompressor(), 1024, executor, readAhead, registry);
+                Assert.assertEquals(readAll(in, chunk), data, "read ahead " + readAhead + ", chunk " + chunk);
+                Assert.assertEquals(in.read(), -1);
+                in.close();
+            }
+        }
+        int blocks = (data.length + 8191) / 8192;
+        Assert.assertEquals(registry.getHistogram(ClientMetrics.OP_DECOMPRESSION).getCount(), 9L * blocks);
+    }
+
+    @Test(groups = {"unit"})
+    public void testCorruptedBlock() throws Exception {
+        byte[] compressed = compress(sampleData(100_000), 8192);
+        // damage payload of the third block
+        int offset = 0;
+        for (int i = 0; i < 2; i++) {
+            offset += 16 + ClickHouseLZ4InputStream.getInt32(compressed, offset + 17);
+        }
+        compressed[offset + 30] ^= 0x5A;
+
+        for (int readAhead : new int[]{0, 4}) {
+            ClickHouseLZ4InputStream in = new ClickHouseLZ4InputStream(new ByteArrayInputStream(compressed),
+                    LZ4Factory.fastestInstance().fastDecompressor(), 8192, executor, readAhead,
+                    MetricsRecorder.NOOP);
+            byte[] firstBlocks = new byte[2 * 8192];
+            Assert.assertEquals(readAll(new LimitedStream(in, firstBlocks.length), 1024).length, firstBlocks.length);
+            Assert.assertThrows(ClientException.class, () -> in.read(new byte[10], 0, 10));
+            in.close();
+        }
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testFirstBlockDoesNotWaitForReadAhead() throws Exception {
+        byte[] data = sampleData(10 * 8192);
+        byte[] compressed = compress(data, 8192);
+        int firstBlockLength = 16 + ClickHouseLZ4InputStream.getInt32(compressed, 17);
+        TricklingStream source = new TricklingStream(compressed, firstBlockLength);
+
+        ClickHouseLZ4InputStream in = new ClickHouseLZ4InputStream(source,
+                LZ4Factory.fastestInstance().fastDecompressor(), 8192, executor, 4, MetricsRecorder.NOOP);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            byte[] block = new byte[8192];
+            // only the first block has arrived
+            Future<Integer> read = reader.submit(() -> in.read(block, 0, block.length));
+            Assert.assertEquals(read.get(5, TimeUnit.SECONDS).intValue(), block.length);
+            Assert.assertEquals(block, Arrays.copyOf(data, block.length));
+
+            // part of the second block has arrived
+            source.release(firstBlockLength + 100);
+            read = reader.submit(() -> in.read(block, 0, block.length));
+            Thread.sleep(100);
+            Assert.assertFalse(read.isDone());
+            source.release(compressed.length);
+            Assert.assertEquals(read.get(5, TimeUnit.SECONDS).intValue(), block.length);
+            Assert.assertEquals(block, Arrays.copyOfRange(data, block.length, 2 * block.length));
+
+            Assert.assertEquals(readAll(in, 1000), Arrays.copyOfRange(data, 2 * block.length, data.length));
+        } finally {
+            reader.shutdownNow();
+            in.close();
+        }
+    }
+
+    /**
+     * Returns bytes only up to a limit, which is raised by the test.
+     */
+    private static class TricklingStream extends InputStream {
+        private final byte[] data;
+        private int position;
+        private int available;
+
+        TricklingStream(byte[] data, int available) {
+            this.data = data;
+            this.available = available;
+        }
+
+        synchronized void release(int limit) {
+            available = limit;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized int available() {
+            return available - position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            if (position == data.length) {
+                return -1;
+            }
+            while (position == available) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            int n = Math.min(len, available - position);
+            System.arraycopy(data, position, b, off, n);
+            position += n;
+            return n;
+        }
+    }
+
+    private static class LimitedStream extends InputStream {
+        private final InputStream in;
+        private int remaining;
+
+        LimitedStream(InputStream in, int limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = in.read(b, off, Math.min(len, remaining));
+            remaining -= n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.clickhouse.client.api.internal;
+
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ClickHouseLZ4OutputStreamTest {
+
+    private ExecutorService executor;
+
+    @BeforeClass(groups = {"unit"})
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(3, new DefaultThreadFactory("test-lz4-compress", true));
+    }
+
+    @AfterClass(groups = {"unit"})
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static byte[] sampleData(int size) {
+        byte[] data = new byte[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (random.nextInt(16) + (i / 1000));
+        }
+        return data;
+    }
+
+    private byte[] compress(byte[] data, int blockSize, int blocksInFlight, int chunk) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ClickHouseLZ4OutputStream lz4 = new ClickHouseLZ4OutputStream(out,
+                LZ4Factory.fastestInstance().fastCompressor(), blockSize, executor, blocksInFlight)) {
+            for (int i = 0; i < data.length; i += chunk) {
+                lz4.write(data, i, Math.min(chunk, data.length - i));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[4096];
+        int n;
+        while ((n = in.read(buf, 0, buf.length)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test(groups = {"unit"})
+    public void testPipelinedOutputMatchesSequential() throws Exception {
+        byte[] data = sampleData(1_000_000);
+        for (int blockSize : new int[]{8192, 100_000}) {
+            byte[] expected = compress(data, blockSize, 0, 1000);
+            for (int blocksInFlight : new int[]{1, 6}) {
+                for (int chunk : new int[]{1, 1000, 300_000}) {
+                    Assert.assertEquals(compress(data, blockSize, blocksInFlight, chunk), expected,
+                            "block size " + blockSize + ", in flight " + blocksInFlight + ", chunk " + chunk);
+                }
+            }
+
+            ClickHouseLZ4InputStream in = new ClickHouseLZ4InputStream(new ByteArrayInputStream(expected),
+                    LZ4Factory.fastestInstance().fastDecompressor(), blockSize);
+            Assert.assertEquals(readAll(in), data);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testFlushWritesPendingBlocks() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ClickHouseLZ4OutputStream lz4 = new ClickHouseLZ4OutputStream(out,
+                LZ4Factory.fastestInstance().fastCompressor(), 1024, executor, 4);
+        byte[] data = sampleData(5000);
+        lz4.write(data);
+        lz4.flush();
+        Assert.assertEquals(readAll(new ClickHouseLZ4InputStream(
+                new ByteArrayInputStream(out.toByteArray()), LZ4Factory.fastestInstance().fastDecompressor(), 1024)), data);
+    }
+
+    @Test(groups = {"unit"})
+    public void testOutputError() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        ClickHouseLZ4OutputStream lz4 = new ClickHouseLZ4OutputStream(failing,
+                LZ4Factory.fastestInstance().fastCompressor(), 1024, executor, 2);
+        Assert.assertThrows(IOException.class, () -> lz4.write(sampleData(10_000)));
+    }
+}
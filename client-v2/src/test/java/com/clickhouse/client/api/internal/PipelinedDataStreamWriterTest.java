@@ -0,0 +1,108 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.insert.POJOSerializer;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+public class PipelinedDataStreamWriterTest {
+
+    private static final POJOSerializer INT_SERIALIZER =
+            (obj, out) -> BinaryStreamUtils.writeInt32(out, (Integer) obj);
+
+    private static final POJOSerializer STRING_SERIALIZER =
+            (obj, out) -> BinaryStreamUtils.writeString(out, "row-" + obj);
+
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory("test-serializer", true);
+
+    @Test(groups = {"unit"})
+    public void testWriteAll() throws Exception {
+        List<POJOSerializer> serializers = Arrays.asList(INT_SERIALIZER, STRING_SERIALIZER);
+        int rows = 100_000;
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < rows; i++) {
+            for (POJOSerializer serializer : serializers) {
+                serializer.serialize(i, expected);
+            }
+        }
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        PipelinedDataStreamWriter writer = new PipelinedDataStreamWriter(IntStream.range(0, rows).iterator(),
+                serializers, 1000, 3, THREAD_FACTORY);
+        writer.onOutput(actual);
+        Assert.assertEquals(actual.toByteArray(), expected.toByteArray());
+
+        Assert.assertThrows(IOException.class, writer::onRetry);
+        Assert.assertThrows(IOException.class, () -> writer.onOutput(new ByteArrayOutputStream()));
+    }
+
+    @Test(groups = {"unit"})
+    public void testRetryBeforeOutput() throws Exception {
+        PipelinedDataStreamWriter writer = new PipelinedDataStreamWriter(Collections.singletonList(1).iterator(),
+                Collections.singletonList(INT_SERIALIZER), 16, 2, THREAD_FACTORY);
+        writer.onRetry();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.onOutput(out);
+        Assert.assertEquals(out.size(), 4);
+    }
+
+    @Test(groups = {"unit"})
+    public void testSerializationError() {
+        Iterator<Integer> data = IntStream.range(0, 10_000).iterator();
+        POJOSerializer failing = (obj, out) -> {
+            if ((Integer) obj == 5_000) {
+                throw new IllegalStateException("test");
+            }
+            INT_SERIALIZER.serialize(obj, out);
+        };
+        PipelinedDataStreamWriter writer = new PipelinedDataStreamWriter(data, Collections.singletonList(failing),
+                64, 2, THREAD_FACTORY);
+        Assert.assertThrows(IllegalStateException.class, () -> writer.onOutput(new ByteArrayOutputStream()));
+    }
+
+    @Test(groups = {"unit"}, timeOut = 10_000)
+    public void testOutputError() throws Exception {
+        AtomicReference<Thread> serializerThread = new AtomicReference<>();
+        ThreadFactory threadFactory = r -> {
+            Thread t = THREAD_FACTORY.newThread(r);
+            serializerThread.set(t);
+            return t;
+        };
+        // infinite source must not keep serializer running after output failed
+        Iterator<Integer> data = IntStream.iterate(0, i -> i + 1).iterator();
+        PipelinedDataStreamWriter writer = new PipelinedDataStreamWriter(data, Collections.singletonList(INT_SERIALIZER),
+                64, 2, threadFactory);
+        OutputStream out = new OutputStream() {
+            private int written = 0;
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                written += len;
+                if (written > 1024) {
+                    throw new IOException("connection reset");
+                }
+            }
+        };
+
+        Assert.assertThrows(IOException.class, () -> writer.onOutput(out));
+        serializerThread.get().join();
+    }
+}
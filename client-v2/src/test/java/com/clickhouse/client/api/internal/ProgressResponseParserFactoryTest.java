@@ -0,0 +1,64 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.data_formats.internal.ProcessParser;
+import com.clickhouse.client.api.metrics.QueryProgress;
+import com.clickhouse.client.api.metrics.ServerMetrics;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.config.Http1Config;
+import org.apache.hc.core5.http.impl.io.SessionInputBufferImpl;
+import org.apache.hc.core5.http.io.HttpMessageParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProgressResponseParserFactoryTest {
+
+    private static final String RESPONSE = "HTTP/1.1 200 OK\r\n"
+            + "X-ClickHouse-Query-Id: q1\r\n"
+            + "X-ClickHouse-Progress: {\"read_rows\":\"10\",\"read_bytes\":\"80\",\"total_rows_to_read\":\"100\"}\r\n"
+            + "x-clickhouse-progress: {\"read_rows\":\"50\",\"read_bytes\":\"400\",\"total_rows_to_read\":\"100\"}\r\n"
+            + "X-ClickHouse-Summary: {\"read_rows\":\"100\"}\r\n"
+            + "Content-Length: 0\r\n"
+            + "\r\n";
+
+    private static ClassicHttpResponse parse(String response) throws Exception {
+        HttpMessageParser<ClassicHttpResponse> parser = ProgressResponseParserFactory.INSTANCE.create(Http1Config.DEFAULT);
+        InputStream in = new ByteArrayInputStream(response.getBytes(StandardCharsets.US_ASCII));
+        return parser.parse(new SessionInputBufferImpl(64), in);
+    }
+
+    @Test(groups = {"unit"})
+    public void testProgressHeaders() throws Exception {
+        List<String> values = new ArrayList<>();
+        ProgressResponseParserFactory.setProgressHandler(values::add);
+        ClassicHttpResponse response;
+        try {
+            response = parse(RESPONSE);
+        } finally {
+            ProgressResponseParserFactory.setProgressHandler(null);
+        }
+
+        Assert.assertEquals(response.getCode(), 200);
+        Assert.assertEquals(response.getHeaders().length, 5);
+        Assert.assertEquals(values.size(), 2);
+
+        QueryProgress progress = new QueryProgress("q1", null);
+        ProcessParser.parseProgress(values.get(1), progress);
+        Assert.assertEquals(progress.getReadRows(), 50L);
+        Assert.assertEquals(progress.getReadBytes(), 400L);
+        Assert.assertEquals(progress.getTotalRowsToRead(), 100L);
+        Assert.assertEquals(progress.getMetric(ServerMetrics.NUM_ROWS_WRITTEN), -1L);
+    }
+
+    @Test(groups = {"unit"})
+    public void testWithoutHandler() throws Exception {
+        ClassicHttpResponse response = parse(RESPONSE);
+        Assert.assertEquals(response.getCode(), 200);
+        Assert.assertEquals(response.getHeaders("X-ClickHouse-Progress").length, 2);
+    }
+}
@@ -0,0 +1,139 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.ClientException;
+import com.clickhouse.client.api.insert.POJOSerializer;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class PublisherIteratorTest {
+
+    @Test(groups = {"unit"})
+    public void testRequestInBatches() {
+        RangePublisher publisher = new RangePublisher(1000, null);
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(16);
+        publisher.subscribe(iterator);
+        Assert.assertEquals(publisher.requested, 16L);
+
+        int consumed = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next().intValue(), consumed++);
+            Assert.assertTrue(publisher.requested <= consumed + 16L, "requested " + publisher.requested);
+        }
+        Assert.assertEquals(consumed, 1000);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(groups = {"unit"})
+    public void testPublisherError() {
+        RangePublisher publisher = new RangePublisher(3, new IllegalStateException("broken"));
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(16);
+        publisher.subscribe(iterator);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(iterator.next().intValue(), i);
+        }
+        ClientException e = Assert.expectThrows(ClientException.class, iterator::hasNext);
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test(groups = {"unit"}, timeOut = 10_000)
+    public void testCloseWakesUpConsumer() throws Exception {
+        // publisher that never sends anything
+        RangePublisher publisher = new RangePublisher(0, null) {
+            @Override
+            void emit() {
+            }
+        };
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(16);
+        publisher.subscribe(iterator);
+
+        ExecutorService consumer = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> hasNext = consumer.submit(iterator::hasNext);
+            Thread.sleep(100);
+            Assert.assertFalse(hasNext.isDone());
+
+            iterator.close();
+            Assert.assertFalse(hasNext.get(5, TimeUnit.SECONDS));
+            Assert.assertTrue(publisher.cancelled);
+        } finally {
+            consumer.shutdownNow();
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testWriteFromPublisher() throws Exception {
+        POJOSerializer serializer = (obj, out) -> BinaryStreamUtils.writeInt32(out, (Integer) obj);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 10_000; i++) {
+            BinaryStreamUtils.writeInt32(expected, i);
+        }
+
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(PublisherIterator.DEFAULT_PREFETCH);
+        new RangePublisher(10_000, null).subscribe(iterator);
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        new PipelinedDataStreamWriter(iterator, Collections.singletonList(serializer), 1000, 2,
+                new DefaultThreadFactory("test-serializer", true)).onOutput(actual);
+        Assert.assertEquals(actual.toByteArray(), expected.toByteArray());
+    }
+
+    /**
+     * Synchronously publishes integers from zero, then completes or fails.
+     */
+    private static class RangePublisher implements Publisher<Integer> {
+        private final int count;
+        private final Throwable error;
+        private Subscriber<? super Integer> subscriber;
+        private int next;
+        volatile long requested;
+        volatile boolean cancelled;
+
+        RangePublisher(int count, Throwable error) {
+            this.count = count;
+            this.error = error;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> s) {
+            subscriber = s;
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    emit();
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        void emit() {
+            while (next < count && next < requested && !cancelled) {
+                subscriber.onNext(next++);
+            }
+            if (next == count && !cancelled) {
+                next++;
+                if (error == null) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.api.Client;
+import com.clickhouse.client.api.enums.Protocol;
+import com.clickhouse.client.api.query.GenericRecord;
+import com.clickhouse.client.api.query.QuerySettings;
+import com.clickhouse.data.ClickHouseFormat;
+import com.clickhouse.data.format.BinaryStreamUtils;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.apache.hc.core5.http.HttpStatus;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RecordsPublisherTest {
+
+    private static final int ROWS = 1000;
+
+    private WireMockServer mockServer;
+
+    private Client client;
+
+    @BeforeClass(groups = {"unit"})
+    public void setUp() throws IOException {
+        mockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort()
+                .notifier(new ConsoleNotifier(false)));
+        mockServer.start();
+
+        // RowBinaryWithNamesAndTypes with single Int32 column
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryStreamUtils.writeVarInt(body, 1);
+        BinaryStreamUtils.writeString(body, "n");
+        BinaryStreamUtils.writeString(body, "Int32");
+        for (int i = 0; i < ROWS; i++) {
+            BinaryStreamUtils.writeInt32(body, i);
+        }
+        mockServer.addStubMapping(WireMock.post(WireMock.anyUrl())
+                .withRequestBody(WireMock.containing("publisher_test"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SC_OK)
+                        .withBody(body.toByteArray()))
+                .build());
+
+        client = new Client.Builder().addEndpoint(Protocol.HTTP, "localhost", mockServer.port(), false)
+                .setUsername("default")
+                .setPassword("")
+                .compressServerResponse(false)
+                .useNewImplementation(true)
+                .build();
+    }
+
+    @AfterClass(groups = {"unit"})
+    public void tearDown() {
+        client.close();
+        mockServer.stop();
+    }
+
+    private int queryCount() {
+        return mockServer.findAll(WireMock.postRequestedFor(WireMock.anyUrl())
+                .withRequestBody(WireMock.containing("publisher_test"))).size();
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testRequestInBatches() throws Exception {
+        mockServer.resetRequests();
+        Publisher<GenericRecord> publisher = client.queryPublisher("SELECT n FROM publisher_test");
+        TestSubscriber subscriber = new TestSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        // nothing is sent before demand
+        Thread.sleep(100);
+        Assert.assertEquals(queryCount(), 0);
+
+        subscriber.subscription.request(10);
+        subscriber.awaitRecords(10);
+        Thread.sleep(100);
+        Assert.assertEquals(subscriber.records.size(), 10);
+        Assert.assertEquals(queryCount(), 1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        Assert.assertNull(subscriber.error);
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertEquals(subscriber.records.size(), ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Assert.assertEquals(subscriber.records.get(i).get("n"), i);
+        }
+        // record object is reused for all rows
+        Assert.assertEquals(subscriber.instances.size(), 1);
+
+        // publisher is single-use
+        TestSubscriber second = new TestSubscriber(1);
+        publisher.subscribe(second);
+        Assert.assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testCancel() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(0) {
+            @Override
+            public void onNext(GenericRecord record) {
+                super.onNext(record);
+                if (records.size() == 5) {
+                    subscription.cancel();
+                    terminated.countDown();
+                }
+            }
+        };
+        client.queryPublisher("SELECT n FROM publisher_test").subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.awaitRecords(1);
+        subscriber.subscription.request(100);
+        Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        Assert.assertEquals(subscriber.records.size(), 5);
+        Assert.assertFalse(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testInvalidRequest() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber(0);
+        client.queryPublisher("SELECT n FROM publisher_test").subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test(groups = {"unit"}, timeOut = 30_000)
+    public void testCallerSettingsNotChanged() throws Exception {
+        QuerySettings settings = new QuerySettings().setFormat(ClickHouseFormat.CSV);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        client.queryPublisher("SELECT n FROM publisher_test", settings).subscribe(subscriber);
+        Assert.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        Assert.assertNull(subscriber.error);
+        Assert.assertEquals(subscriber.records.size(), ROWS);
+        Assert.assertEquals(settings.getFormat(), ClickHouseFormat.CSV);
+    }
+
+    private static class TestSubscriber implements Subscriber<GenericRecord> {
+        final long initialRequest;
+        final List<Map<String, Object>> records = new CopyOnWriteArrayList<>();
+        final Set<GenericRecord> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        void awaitRecords(int n) throws InterruptedException {
+            while (records.size() < n && terminated.getCount() > 0) {
+                Thread.sleep(10);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            if (initialRequest > 0) {
+                s.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(GenericRecord record) {
+            // record is valid only during the call
+            records.add(record.getValues());
+            instances.add(record);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.clickhouse.client.api.internal;
+
+import com.clickhouse.client.ClickHouseNode;
+import com.clickhouse.client.api.LoadBalancingPolicy;
+import com.clickhouse.client.api.ServerNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ServerNodeManagerTest {
+
+    private static List<ClickHouseNode> nodes() {
+        return Arrays.asList(ClickHouseNode.of("http://node1:8123"), ClickHouseNode.of("http://node2:8123"),
+                ClickHouseNode.of("http://node3:8123"));
+    }
+
+    @Test(groups = {"unit"})
+    public void testRoundRobin() {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.roundRobin(), 1, 60000, 0, null);
+        Map<NodeState, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            counts.merge(manager.select(null), 1, Integer::sum);
+        }
+        Assert.assertEquals(counts.size(), 3);
+        counts.values().forEach(c -> Assert.assertEquals(c.intValue(), 10));
+    }
+
+    @Test(groups = {"unit"})
+    public void testCustomPolicy() {
+        LoadBalancingPolicy lastEndpoint = new LoadBalancingPolicy() {
+            @Override
+            public <T extends ServerNode> T select(List<T> candidates) {
+                T selected = candidates.get(0);
+                for (T node : candidates) {
+                    if (node.getEndpoint().compareTo(selected.getEndpoint()) > 0) {
+                        selected = node;
+                    }
+                }
+                return selected;
+            }
+        };
+        ServerNodeManager manager = new ServerNodeManager(nodes(), lastEndpoint, 1, 60000, 0, null);
+        NodeState node3 = manager.getNodes().get(2);
+        Assert.assertEquals(node3.getEndpoint(), "http://node3:8123/");
+        Assert.assertSame(manager.select(null), node3);
+        Assert.assertSame(manager.select(node3), manager.getNodes().get(1));
+    }
+
+    @Test(groups = {"unit"})
+    public void testLeastInFlight() {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.leastInFlight(), 1, 60000, 0, null);
+        NodeState busy = manager.getNodes().get(0);
+        manager.onRequestStart(busy);
+        manager.onRequestStart(busy);
+        NodeState other = manager.getNodes().get(1);
+        manager.onRequestStart(other);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertSame(manager.select(null), manager.getNodes().get(2));
+        }
+        manager.onRequestComplete(busy, System.nanoTime());
+        manager.onRequestComplete(busy, System.nanoTime());
+        Assert.assertEquals(busy.getInFlightRequests(), 0);
+        Assert.assertNotSame(manager.select(null), other);
+    }
+
+    @Test(groups = {"unit"})
+    public void testLatencyEwma() {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.latencyEwma(), 1, 60000, 0, null);
+        List<NodeState> states = manager.getNodes();
+        states.get(0).updateLatency(5_000_000L);
+        states.get(1).updateLatency(1_000_000L);
+        states.get(2).updateLatency(9_000_000L);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertSame(manager.select(null), states.get(1));
+        }
+
+        // fast node becomes busy
+        for (int i = 0; i < 10; i++) {
+            manager.onRequestStart(states.get(1));
+        }
+        Assert.assertSame(manager.select(null), states.get(0));
+    }
+
+    @Test(groups = {"unit"})
+    public void testEjectionAndReinstatement() throws Exception {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.roundRobin(), 2, 200, 0, null);
+        NodeState failing = manager.getNodes().get(0);
+
+        manager.onRequestStart(failing);
+        manager.onRequestFailure(failing);
+        Assert.assertFalse(failing.isEjected());
+        manager.onRequestStart(failing);
+        manager.onRequestFailure(failing);
+        Assert.assertTrue(failing.isEjected());
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNotSame(manager.select(null), failing);
+        }
+
+        Thread.sleep(300);
+        Set<NodeState> selected = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            selected.add(manager.select(null));
+        }
+        Assert.assertTrue(selected.contains(failing));
+
+        manager.onRequestStart(failing);
+        manager.onRequestComplete(failing, System.nanoTime());
+        Assert.assertFalse(failing.isEjected());
+        Assert.assertEquals(failing.getConsecutiveFailures(), 0);
+    }
+
+    @Test(groups = {"unit"})
+    public void testRetryAvoidsFailedNode() {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.roundRobin(), 3, 60000, 0, null);
+        for (int i = 0; i < 10; i++) {
+            NodeState first = manager.select(null);
+            Assert.assertNotSame(manager.select(first), first);
+        }
+
+        List<ClickHouseNode> single = Arrays.asList(ClickHouseNode.of("http://node1:8123"));
+        manager = new ServerNodeManager(single, LoadBalancingPolicy.roundRobin(), 3, 60000, 0, null);
+        NodeState only = manager.select(null);
+        Assert.assertSame(manager.select(only), only);
+    }
+
+    @Test(groups = {"unit"})
+    public void testAllNodesEjected() {
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.roundRobin(), 1, 60000, 0, null);
+        for (NodeState state : manager.getNodes()) {
+            manager.onRequestStart(state);
+            manager.onRequestFailure(state);
+        }
+        Assert.assertSame(manager.select(null), manager.getNodes().get(0));
+    }
+
+    @Test(groups = {"unit"})
+    public void testHealthCheck() {
+        Set<String> down = new HashSet<>();
+        down.add("node2");
+        ServerNodeManager manager = new ServerNodeManager(nodes(), LoadBalancingPolicy.roundRobin(), 3, 60000, 0,
+                node -> !down.contains(node.getHost()));
+        NodeState node2 = manager.getNodes().get(1);
+
+        manager.checkHealth();
+        manager.checkHealth();
+        Assert.assertFalse(node2.isEjected(), "Should not eject before reaching failure threshold");
+        Assert.assertEquals(node2.getInFlightRequests(), 0);
+        manager.checkHealth();
+        Assert.assertTrue(node2.isEjected());
+        Assert.assertFalse(manager.getNodes().get(0).isEjected());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNotSame(manager.select(null), node2);
+        }
+
+        down.clear();
+        manager.checkHealth();
+        Assert.assertFalse(node2.isEjected());
+        manager.close();
+    }
+
+    @Test(groups = {"unit"})
+    public void testHealthCheckSingleNode() {
+        List<ClickHouseNode> single = Arrays.asList(ClickHouseNode.of("http://node1:8123"));
+        ServerNodeManager manager = new ServerNodeManager(single, LoadBalancingPolicy.roundRobin(), 1, 60000, 0,
+                node -> false);
+        NodeState only = manager.getNodes().get(0);
+        for (int i = 0; i < 3; i++) {
+            manager.checkHealth();
+        }
+        Assert.assertFalse(only.isEjected(), "The only node should never be ejected");
+        manager.close();
+    }
+}
@@ -0,0 +1,50 @@
+package com.clickhouse.client.api.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClientMetricsRegistryTest {
+
+    @Test(groups = {"unit"})
+    public void testBuckets() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "value " + value);
+            if (index > 0) {
+                Assert.assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "value " + value);
+            }
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 0L);
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000);
+        }
+        Assert.assertEquals(histogram.getCount(), 10_000L);
+        Assert.assertEquals(histogram.getMax(), 10_000_000L);
+        assertWithin(histogram.getValueAtPercentile(50), 5_000_000L);
+        assertWithin(histogram.getValueAtPercentile(99), 9_900_000L);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 10_000_000L);
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test(groups = {"unit"})
+    public void testRegistry() {
+        ClientMetricsRegistry registry = new ClientMetricsRegistry();
+        registry.recordTime(ClientMetrics.OP_DURATION, 5_000);
+        registry.recordCount(ClientMetrics.RETRIES, 1);
+        registry.recordCount(ClientMetrics.RETRIES, 2);
+
+        Assert.assertEquals(registry.getHistogram(ClientMetrics.OP_DURATION).getCount(), 1L);
+        Assert.assertEquals(registry.getHistogram(ClientMetrics.OP_SERIALIZATION).getCount(), 0L);
+        Assert.assertEquals(registry.getCount(ClientMetrics.RETRIES), 3L);
+        Assert.assertTrue(registry.toString().contains("\"client.retries\"=3"), registry.toString());
+    }
+
+    private static void assertWithin(long actual, long expected) {
+        Assert.assertTrue(actual >= expected && actual <= expected * 1.125, actual + " is not close to " + expected);
+    }
+}
@@ -0,0 +1,95 @@
+package com.clickhouse.client;
+
+import com.clickhouse.client.api.internal.ClickHouseLZ4OutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.hc.core5.concurrent.DefaultThreadFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of LZ4 compression of a large request on the writing thread and on a pool of threads.
+ * Compressed data is discarded so only compression cost is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LZ4CompressionBenchmark {
+
+    private static final int DATA_SIZE = 64 * 1024 * 1024;
+
+    private static final int WRITE_CHUNK = 64 * 1024;
+
+    @Param({"8192", "1048576"})
+    private int blockSize;
+
+    @Param({"0", "2", "4"})
+    private int threads;
+
+    private byte[] data;
+
+    private LZ4Compressor compressor;
+
+    private ExecutorService executor;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Setup
+    public void setup() {
+        // semi-random data compresses about as well as typical RowBinary
+        data = new byte[DATA_SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (random.nextInt(32) + (i / 4096));
+        }
+        compressor = LZ4Factory.fastestInstance().fastCompressor();
+        if (threads > 0) {
+            executor = Executors.newFixedThreadPool(threads, new DefaultThreadFactory("bench-lz4-compress", true));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public long compress() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (ClickHouseLZ4OutputStream lz4 = new ClickHouseLZ4OutputStream(out, compressor, blockSize,
+                executor, threads * 2)) {
+            for (int i = 0; i < data.length; i += WRITE_CHUNK) {
+                lz4.write(data, i, Math.min(WRITE_CHUNK, data.length - i));
+            }
+        }
+        return out.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
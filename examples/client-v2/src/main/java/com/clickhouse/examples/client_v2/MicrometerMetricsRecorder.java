@@ -0,0 +1,53 @@
+package com.clickhouse.examples.client_v2;
+
+import com.clickhouse.client.api.Client;
+import com.clickhouse.client.api.metrics.ClientMetrics;
+import com.clickhouse.client.api.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Example of forwarding client metrics to Micrometer. Meters are created once so recording does not
+ * look them up on every call.</p>
+ *
+ * <pre>
+ *     Client client = new Client.Builder()
+ *             .addEndpoint(...)
+ *             .setMetricsRecorder(new MicrometerMetricsRecorder(meterRegistry))
+ *             .build();
+ * </pre>
+ *
+ * @see Client.Builder#setMetricsRecorder(MetricsRecorder)
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    private final Timer[] timers;
+
+    private final Counter[] counters;
+
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        ClientMetrics[] metrics = ClientMetrics.values();
+        timers = new Timer[metrics.length];
+        counters = new Counter[metrics.length];
+        for (ClientMetrics metric : metrics) {
+            timers[metric.ordinal()] = Timer.builder(metric.getKey())
+                    .publishPercentileHistogram()
+                    .register(registry);
+            counters[metric.ordinal()] = Counter.builder(metric.getKey() + ".count")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void recordTime(ClientMetrics metric, long nanos) {
+        timers[metric.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCount(ClientMetrics metric, long count) {
+        counters[metric.ordinal()].increment(count);
+    }
+}
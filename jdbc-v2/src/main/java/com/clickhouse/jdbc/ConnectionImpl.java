@@ -7,6 +7,7 @@ import com.clickhouse.client.api.query.GenericRecord;
 import com.clickhouse.client.api.query.QuerySettings;
 import com.clickhouse.data.ClickHouseDataType;
 import com.clickhouse.jdbc.internal.ClientInfoProperties;
+import com.clickhouse.jdbc.internal.DriverProperties;
 import com.clickhouse.jdbc.internal.JdbcConfiguration;
 import com.clickhouse.jdbc.internal.ExceptionUtils;
 import com.clickhouse.jdbc.internal.JdbcConfiguration;
@@ -35,6 +36,7 @@ import java.sql.Struct;
 import java.sql.Types;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -57,6 +59,12 @@ public class ConnectionImpl implements Connection, JdbcV2Wrapper {
 
     private final com.clickhouse.jdbc.metadata.DatabaseMetaData metadata;
 
+    private final Map<String, ParsedPreparedStatement> parsedStatements;
+
+    private final boolean useServerSideParameters;
+
+    private final int resultSetPrefetchRows;
+
     public ConnectionImpl(String url, Properties info) throws SQLException {
         log.debug("Creating connection to {}", url);
         this.url = url;//Raw URL
@@ -82,6 +90,44 @@ public class ConnectionImpl implements Connection, JdbcV2Wrapper {
                 .serverSetting(ServerSettings.WAIT_END_OF_QUERY, "0");
 
         this.metadata = new com.clickhouse.jdbc.metadata.DatabaseMetaData(this, false, url);
+
+        final int cacheSize = Integer.parseInt(config.getDriverProperty(DriverProperties.PREPARED_STATEMENT_CACHE_SIZE.getKey(),
+                DriverProperties.PREPARED_STATEMENT_CACHE_SIZE.getDefaultValue()));
+        this.parsedStatements = cacheSize <= 0 ? null : new LinkedHashMap<String, ParsedPreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedPreparedStatement> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.useServerSideParameters = Boolean.parseBoolean(config.getDriverProperty(DriverProperties.USE_SERVER_SIDE_PARAMETERS.getKey(),
+                DriverProperties.USE_SERVER_SIDE_PARAMETERS.getDefaultValue()));
+        this.resultSetPrefetchRows = Integer.parseInt(config.getDriverProperty(DriverProperties.RESULT_SET_PREFETCH_ROWS.getKey(),
+                DriverProperties.RESULT_SET_PREFETCH_ROWS.getDefaultValue()));
+    }
+
+    /**
+     * Returns parsed SQL of a prepared statement. Parsed statements are cached by SQL text.
+     */
+    ParsedPreparedStatement parsePreparedStatement(String sql) {
+        if (parsedStatements == null) {
+            return ParsedPreparedStatement.parse(sql);
+        }
+        synchronized (parsedStatements) {
+            ParsedPreparedStatement parsed = parsedStatements.get(sql);
+            if (parsed == null) {
+                parsed = ParsedPreparedStatement.parse(sql);
+                parsedStatements.put(sql, parsed);
+            }
+            return parsed;
+        }
+    }
+
+    boolean isUseServerSideParameters() {
+        return useServerSideParameters;
+    }
+
+    int getResultSetPrefetchRows() {
+        return resultSetPrefetchRows;
     }
 
     public QuerySettings getDefaultQuerySettings() {
@@ -0,0 +1,215 @@
+package com.clickhouse.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Result of parsing SQL of a prepared statement. SQL is split into segments around {@code ?} placeholders.
+ * Question marks inside string literals, quoted identifiers and comments are not placeholders.
+ * JDBC escape sequences are replaced while parsing so nothing is parsed again when statement is executed.
+ * <p>
+ * Instances are immutable and are shared between statements of a connection.
+ */
+final class ParsedPreparedStatement {
+
+    private static final Pattern DATE_ESCAPE = Pattern.compile("\\{d '([^']*)'\\}");
+
+    private static final Pattern TIMESTAMP_ESCAPE = Pattern.compile("\\{ts '([^']*)'\\}");
+
+    /**
+     * Matches {@code INSERT INTO table [(columns)] VALUES (?, ..., ?)} where every value is a parameter.
+     * Batches of such statements are sent as a single insert.
+     */
+    private static final Pattern INSERT_VALUES_PATTERN = Pattern.compile(
+            "^\\s*INSERT\\s+INTO\\s+(?:TABLE\\s+)?((?:`[^`]+`|\\w+)(?:\\.(?:`[^`]+`|\\w+))?)\\s*" +
+                    "(?:\\(([^)]*)\\))?\\s*VALUES\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final String[] segments;
+
+    private final StatementImpl.StatementType type;
+
+    private final String insertTable;
+
+    private final List<String> insertColumns;
+
+    private ParsedPreparedStatement(String[] segments, StatementImpl.StatementType type, String insertTable,
+                                    List<String> insertColumns) {
+        this.segments = segments;
+        this.type = type;
+        this.insertTable = insertTable;
+        this.insertColumns = insertColumns;
+    }
+
+    /**
+     * Returns SQL segments around parameters. There is one more segment than parameters.
+     */
+    String[] getSegments() {
+        return segments;
+    }
+
+    int getParameterCount() {
+        return segments.length - 1;
+    }
+
+    StatementImpl.StatementType getType() {
+        return type;
+    }
+
+    /**
+     * Returns target table if statement is {@code INSERT ... VALUES} with only parameters as values.
+     */
+    String getInsertTable() {
+        return insertTable;
+    }
+
+    /**
+     * Returns columns listed in the {@code INSERT} statement or null when columns are not listed.
+     */
+    List<String> getInsertColumns() {
+        return insertColumns;
+    }
+
+    static ParsedPreparedStatement parse(String sql) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder(sql.length());
+        Matcher dateEscape = DATE_ESCAPE.matcher(sql);
+        Matcher timestampEscape = TIMESTAMP_ESCAPE.matcher(sql);
+
+        int len = sql.length();
+        int i = 0;
+        int functionEscapes = 0; // number of open {fn ...} sequences
+        while (i < len) {
+            char c = sql.charAt(i);
+            int end;
+            switch (c) {
+                case '\'':
+                case '"':
+                case '`':
+                    end = skipQuoted(sql, i, c);
+                    segment.append(sql, i, end);
+                    i = end;
+                    break;
+                case '-':
+                    if (i + 1 < len && sql.charAt(i + 1) == '-') {
+                        end = skipLine(sql, i);
+                        segment.append(sql, i, end);
+                        i = end;
+                    } else {
+                        segment.append(c);
+                        i++;
+                    }
+                    break;
+                case '#':
+                    end = skipLine(sql, i);
+                    segment.append(sql, i, end);
+                    i = end;
+                    break;
+                case '/':
+                    if (i + 1 < len && sql.charAt(i + 1) == '*') {
+                        end = sql.indexOf("*/", i + 2);
+                        end = end < 0 ? len : end + 2;
+                        segment.append(sql, i, end);
+                        i = end;
+                    } else {
+                        segment.append(c);
+                        i++;
+                    }
+                    break;
+                case '?':
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                    i++;
+                    break;
+                case '{':
+                    if (lookingAt(dateEscape, i)) {
+                        segment.append("toDate('").append(dateEscape.group(1)).append("')");
+                        i = dateEscape.end();
+                    } else if (lookingAt(timestampEscape, i)) {
+                        segment.append("timestamp('").append(timestampEscape.group(1)).append("')");
+                        i = timestampEscape.end();
+                    } else if (sql.startsWith("{fn ", i)) {
+                        // function may have parameters so only the braces are removed
+                        functionEscapes++;
+                        i += 4;
+                    } else {
+                        segment.append(c);
+                        i++;
+                    }
+                    break;
+                case '}':
+                    if (functionEscapes > 0) {
+                        functionEscapes--;
+                    } else {
+                        segment.append(c);
+                    }
+                    i++;
+                    break;
+                default:
+                    segment.append(c);
+                    i++;
+            }
+        }
+        segments.add(segment.toString());
+
+        String insertTable = null;
+        List<String> insertColumns = null;
+        Matcher matcher = INSERT_VALUES_PATTERN.matcher(sql);
+        if (matcher.matches()) {
+            insertTable = matcher.group(1);
+            insertColumns = matcher.group(2) == null ? null : parseColumnList(matcher.group(2));
+        }
+
+        return new ParsedPreparedStatement(segments.toArray(new String[0]), StatementImpl.parseStatementType(sql),
+                insertTable, insertColumns);
+    }
+
+    private static boolean lookingAt(Matcher matcher, int from) {
+        matcher.region(from, matcher.regionEnd());
+        return matcher.lookingAt();
+    }
+
+    /**
+     * Returns position after the closing quote. Quote is escaped by a backslash or by doubling it.
+     */
+    private static int skipQuoted(String sql, int start, char quote) {
+        int len = sql.length();
+        int i = start + 1;
+        while (i < len) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < len && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return len;
+    }
+
+    private static int skipLine(String sql, int start) {
+        int end = sql.indexOf('\n', start);
+        return end < 0 ? sql.length() : end;
+    }
+
+    private static List<String> parseColumnList(String columns) {
+        List<String> names = new ArrayList<>();
+        for (String name : columns.split(",")) {
+            name = name.trim();
+            if (name.length() > 1 && (name.charAt(0) == '`' || name.charAt(0) == '"')
+                    && name.charAt(name.length() - 1) == name.charAt(0)) {
+                name = name.substring(1, name.length() - 1);
+            }
+            names.add(name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+}
@@ -1,10 +1,22 @@
 package com.clickhouse.jdbc;
 
+import com.clickhouse.client.api.ClientConfigProperties;
+import com.clickhouse.client.api.data_formats.RowBinaryFormatSerializer;
+import com.clickhouse.client.api.data_formats.internal.SerializerUtils;
+import com.clickhouse.client.api.insert.InsertResponse;
+import com.clickhouse.client.api.insert.InsertSettings;
+import com.clickhouse.client.api.metadata.TableSchema;
+import com.clickhouse.client.api.query.QuerySettings;
+import com.clickhouse.data.ClickHouseColumn;
+import com.clickhouse.data.ClickHouseFormat;
 import com.clickhouse.data.Tuple;
 import com.clickhouse.jdbc.internal.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -32,13 +44,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class PreparedStatementImpl extends StatementImpl implements PreparedStatement, JdbcV2Wrapper {
     private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementImpl.class);
@@ -49,30 +68,49 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     public static final DateTimeFormatter DATETIME_FORMATTER = new DateTimeFormatterBuilder()
             .appendPattern("yyyy-MM-dd HH:mm:ss").appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).toFormatter();
 
+    /**
+     * Longer strings are rendered into SQL because query parameters are sent in URL.
+     */
+    private static final int MAX_STRING_PARAMETER_LENGTH = 4096;
+
     String originalSql;
     String [] sqlSegments;
     Object [] parameters;
+    Object [] values; // parameters before encoding
+
+    private final ParsedPreparedStatement parsedSql;
+    private String[] parameterNames;
+    private String[] boundTypes; // parameter types of boundSql
+    private String boundSql;
+    private TableSchema insertTableSchema;
+    private final List<Object[]> batchValues = new ArrayList<>();
+    private boolean batchAsSql;
+
     public PreparedStatementImpl(ConnectionImpl connection, String sql) throws SQLException {
         super(connection);
         this.originalSql = sql;
-        //Split the sql string into an array of strings around question mark tokens
-        this.sqlSegments = sql.split("\\?");
+        //Split the sql string into an array of strings around parameter placeholders
+        this.parsedSql = connection.parsePreparedStatement(sql);
+        this.sqlSegments = parsedSql.getSegments();
+        this.parameters = new Object[parsedSql.getParameterCount()];
+        this.values = new Object[parameters.length];
+    }
 
-        //Create an array of objects to store the parameters
-        if (originalSql.contains("?")) {
-            int count = originalSql.length() - originalSql.replace("?", "").length();
-            this.parameters = new Object[count];
-        } else {
-            this.parameters = new Object[0];
-        }
+    private void setParameter(int parameterIndex, Object x) throws SQLException {
+        parameters[parameterIndex - 1] = encodeObject(x);
+        values[parameterIndex - 1] = x;
     }
 
     private String compileSql() {
+        return compileSql(parameters);
+    }
+
+    private String compileSql(Object[] encodedParameters) {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < sqlSegments.length; i++) {
             sb.append(sqlSegments[i]);
-            if (i < parameters.length) {
-                sb.append(parameters[i]);
+            if (i < encodedParameters.length) {
+                sb.append(encodedParameters[i]);
             }
         }
         LOG.trace("Compiled SQL: {}", sb);
@@ -82,13 +120,151 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public ResultSet executeQuery() throws SQLException {
         checkClosed();
-        return executeQuery(compileSql());
+        QuerySettings settings = new QuerySettings().setDatabase(getSchemaName());
+        Map<String, Object> queryParams = bindServerSideParameters();
+        if (queryParams != null) {
+            return executeQueryImpl(boundSql, queryParams, settings);
+        }
+        return executeQueryImpl(compileSql(), null, settings);
     }
 
     @Override
     public int executeUpdate() throws SQLException {
         checkClosed();
-        return executeUpdate(compileSql());
+        QuerySettings settings = new QuerySettings().setDatabase(getSchemaName());
+        Map<String, Object> queryParams = bindServerSideParameters();
+        if (queryParams != null) {
+            return executeUpdateImpl(boundSql, parsedSql.getType(), queryParams, settings);
+        }
+        return executeUpdateImpl(compileSql(), parsedSql.getType(), null, settings);
+    }
+
+    /**
+     * Returns query parameters when they should be sent to server or null if they should be rendered into SQL.
+     * SET statements are always rendered, because they are also handled by the driver.
+     */
+    private Map<String, Object> bindServerSideParameters() {
+        if (!connection.isUseServerSideParameters() || parameters.length == 0
+                || parsedSql.getType() == StatementType.SET) {
+            return null;
+        }
+        return bindParameters();
+    }
+
+    private boolean isQuery() {
+        StatementType type = parsedSql.getType();
+        return type == StatementType.SELECT || type == StatementType.SHOW || type == StatementType.DESCRIBE
+                || type == StatementType.EXPLAIN;
+    }
+
+    /**
+     * Returns query parameters for SQL with typed placeholders ({@code {p1:Int32}}) or null if a parameter
+     * has no matching ClickHouse type. SQL is built again only when types of parameters change.
+     */
+    private Map<String, Object> bindParameters() {
+        if (parameterNames == null) {
+            parameterNames = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                parameterNames[i] = "p" + (i + 1);
+            }
+        }
+
+        String[] types = new String[values.length];
+        Map<String, Object> queryParams = new HashMap<>(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            types[i] = parameterType(values[i]);
+            if (types[i] == null) {
+                return null;
+            }
+            queryParams.put(parameterNames[i], formatParameter(values[i]));
+        }
+
+        if (boundSql == null || !Arrays.equals(types, boundTypes)) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < sqlSegments.length; i++) {
+                sb.append(sqlSegments[i]);
+                if (i < types.length) {
+                    sb.append('{').append(parameterNames[i]).append(':').append(types[i]).append('}');
+                }
+            }
+            boundSql = sb.toString();
+            boundTypes = types;
+            LOG.trace("Bound SQL: {}", boundSql);
+        }
+        return queryParams;
+    }
+
+    /**
+     * Returns ClickHouse type of query parameter or null if value should be rendered into SQL.
+     */
+    private static String parameterType(Object x) {
+        if (x instanceof String) {
+            return ((String) x).length() <= MAX_STRING_PARAMETER_LENGTH ? "String" : null;
+        } else if (x instanceof Integer) {
+            return "Int32";
+        } else if (x instanceof Long) {
+            return "Int64";
+        } else if (x instanceof Short) {
+            return "Int16";
+        } else if (x instanceof Byte) {
+            return "Int8";
+        } else if (x instanceof Boolean) {
+            return "Bool";
+        } else if (x instanceof Double) {
+            return Double.isFinite((Double) x) ? "Float64" : null;
+        } else if (x instanceof Float) {
+            return Float.isFinite((Float) x) ? "Float32" : null;
+        } else if (x instanceof BigDecimal) {
+            BigDecimal d = (BigDecimal) x;
+            return d.scale() >= 0 && d.precision() <= 76 ? "Decimal(76, " + d.scale() + ")" : null;
+        } else if (x instanceof LocalDate) {
+            return "Date32";
+        } else if (x instanceof LocalDateTime) {
+            return "DateTime64(9)";
+        } else if (x instanceof UUID) {
+            return "UUID";
+        }
+        return null;
+    }
+
+    /**
+     * Formats query parameter value. Server parses values of query parameters in escaped text format.
+     */
+    private static String formatParameter(Object x) {
+        if (x instanceof String) {
+            return escapeParameter((String) x);
+        } else if (x instanceof BigDecimal) {
+            return ((BigDecimal) x).toPlainString();
+        } else if (x instanceof LocalDate) {
+            return DATE_FORMATTER.format((LocalDate) x);
+        } else if (x instanceof LocalDateTime) {
+            return DATETIME_FORMATTER.format((LocalDateTime) x);
+        }
+        return x.toString();
+    }
+
+    private static String escapeParameter(String x) {
+        StringBuilder sb = null;
+        for (int i = 0; i < x.length(); i++) {
+            char c = x.charAt(i);
+            String escaped;
+            switch (c) {
+                case '\\': escaped = "\\\\"; break;
+                case '\t': escaped = "\\t"; break;
+                case '\n': escaped = "\\n"; break;
+                case '\r': escaped = "\\r"; break;
+                default: escaped = null;
+            }
+            if (escaped != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(x.length() + 16).append(x, 0, i);
+                }
+                sb.append(escaped);
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? x : sb.toString();
     }
 
     @Override
@@ -100,61 +276,61 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setShort(int parameterIndex, short x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setFloat(int parameterIndex, float x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setString(int parameterIndex, String x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBytes(int parameterIndex, byte[] x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -178,29 +354,26 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void clearParameters() throws SQLException {
         checkClosed();
-        if (originalSql.contains("?")) {
-            this.parameters = new Object[sqlSegments.length];
-        } else {
-            this.parameters = new Object[0];
-        }
+        this.parameters = new Object[parsedSql.getParameterCount()];
+        this.values = new Object[parameters.length];
     }
 
     @Override
@@ -218,19 +391,218 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public boolean execute() throws SQLException {
         checkClosed();
-        return execute(compileSql());
+        if (isQuery()) {
+            executeQuery(); // keep open to allow getResultSet()
+            return true;
+        } else if (parsedSql.getType() == StatementType.SET) {
+            return execute(compileSql());
+        }
+        executeUpdate();
+        return false;
     }
 
     @Override
     public void addBatch() throws SQLException {
         checkClosed();
+        if (parsedSql.getInsertTable() != null && !batchAsSql) {
+            if (isBatchValues(values)) {
+                batchValues.add(Arrays.copyOf(values, values.length));
+                return;
+            }
+            // Keeping the order of rows: all rows of this batch go as SQL statements
+            moveBatchValuesToSql();
+        }
         addBatch(compileSql());
     }
 
+    @Override
+    public void clearBatch() throws SQLException {
+        super.clearBatch();
+        batchValues.clear();
+        batchAsSql = false;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        checkClosed();
+        if (batchValues.isEmpty()) {
+            try {
+                return super.executeBatch();
+            } finally {
+                clearBatch();
+            }
+        }
+
+        try {
+            byte[] data;
+            try {
+                data = encodeBatchValues();
+            } catch (Exception e) {
+                LOG.debug("Failed to encode batch as RowBinary, sending rows as SQL statements", e);
+                moveBatchValuesToSql();
+                return super.executeBatch();
+            }
+
+            String insertTable = parsedSql.getInsertTable();
+            InsertSettings settings = new InsertSettings().setDatabase(getSchemaName());
+            int queryTimeout = getQueryTimeout();
+            try (InsertResponse response = queryTimeout == 0 ?
+                    connection.client.insert(insertTable, new ByteArrayInputStream(data),
+                            ClickHouseFormat.RowBinaryWithDefaults, settings).get() :
+                    connection.client.insert(insertTable, new ByteArrayInputStream(data),
+                            ClickHouseFormat.RowBinaryWithDefaults, settings).get(queryTimeout, TimeUnit.SECONDS)) {
+                LOG.debug("Inserted {} rows of batch with query {}", response.getWrittenRows(), response.getQueryId());
+            } catch (Exception e) {
+                throw ExceptionUtils.toSqlState(e);
+            }
+
+            int[] results = new int[batchValues.size()];
+            Arrays.fill(results, 1);
+            return results;
+        } finally {
+            clearBatch();
+        }
+    }
+
+    private void moveBatchValuesToSql() throws SQLException {
+        batchAsSql = true;
+        for (Object[] row : batchValues) {
+            Object[] encoded = new Object[row.length];
+            for (int i = 0; i < row.length; i++) {
+                encoded[i] = encodeObject(row[i]);
+            }
+            addBatch(compileSql(encoded));
+        }
+        batchValues.clear();
+    }
+
+    /**
+     * Checks if the values can be kept until batch is executed and written in RowBinary format.
+     * Streams, readers and LOBs are consumed when set, so rows with them are sent as SQL statements.
+     */
+    private static boolean isBatchValues(Object[] values) {
+        for (Object value : values) {
+            if (!(value == null || value instanceof Number || value instanceof Boolean || value instanceof String
+                    || value instanceof LocalDate || value instanceof LocalDateTime || value instanceof UUID)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] encodeBatchValues() throws IOException {
+        String insertTable = parsedSql.getInsertTable();
+        List<String> insertColumns = parsedSql.getInsertColumns();
+        if (insertTableSchema == null) {
+            String schema = getSchemaName();
+            String table = insertTable.indexOf('.') > -1 || schema == null ? insertTable : "`" + schema + "`." + insertTable;
+            insertTableSchema = connection.client.getTableSchema(table);
+        }
+
+        // columns expected by INSERT without column list: MATERIALIZED, ALIAS and EPHEMERAL ones are skipped
+        List<ClickHouseColumn> columns = new ArrayList<>();
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (ClickHouseColumn column : insertTableSchema.getColumns()) {
+            if (isInsertable(insertTableSchema.getColumnDefaultType(column.getColumnName()))) {
+                columnIndexes.put(column.getColumnName(), columns.size());
+                columns.add(column);
+            }
+        }
+
+        // index of the parameter for each column or -1 when column is not in the statement
+        int[] parameterIndexes = new int[columns.size()];
+        if (insertColumns == null) {
+            if (columns.size() != parameters.length) {
+                throw new IllegalArgumentException("Statement has " + parameters.length + " values but table has "
+                        + columns.size() + " columns");
+            }
+            for (int i = 0; i < parameterIndexes.length; i++) {
+                parameterIndexes[i] = i;
+            }
+        } else {
+            if (insertColumns.size() != parameters.length) {
+                throw new IllegalArgumentException("Statement has " + parameters.length + " values but "
+                        + insertColumns.size() + " columns");
+            }
+            Arrays.fill(parameterIndexes, -1);
+            for (int i = 0; i < insertColumns.size(); i++) {
+                Integer index = columnIndexes.get(insertColumns.get(i));
+                if (index == null) {
+                    // e.g. EPHEMERAL column, which can only be written with explicit column list
+                    throw new IllegalArgumentException("Column " + insertColumns.get(i)
+                            + " is unknown or cannot be written without column list");
+                }
+                parameterIndexes[index] = i;
+            }
+        }
+
+        String serverTimeZone = connection.client.getConfiguration().get(ClientConfigProperties.SERVER_TIMEZONE.getKey());
+        ZoneId dateTimeZone = serverTimeZone == null ? ZoneId.of("UTC") : ZoneId.of(serverTimeZone);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(batchValues.size() * columns.size() * 8);
+        for (Object[] row : batchValues) {
+            for (int i = 0; i < parameterIndexes.length; i++) {
+                ClickHouseColumn column = columns.get(i);
+                Object value = parameterIndexes[i] < 0 ? null : toColumnValue(column, row[parameterIndexes[i]], dateTimeZone);
+                // Same as for VALUES: missing columns and nulls in not nullable columns get default value
+                boolean useDefault = parameterIndexes[i] < 0 || !column.isNullable();
+                if (RowBinaryFormatSerializer.writeValuePreamble(out, true, value, column.isNullable(),
+                        column.getDataType(), useDefault, column.getColumnName())) {
+                    SerializerUtils.serializeData(out, value, column);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isInsertable(String defaultType) {
+        return defaultType.isEmpty() || "DEFAULT".equalsIgnoreCase(defaultType);
+    }
+
+    /**
+     * Converts parameter value to the class expected by the serializer of the column.
+     */
+    private static Object toColumnValue(ClickHouseColumn column, Object value, ZoneId dateTimeZone) {
+        if (value == null) {
+            return null;
+        }
+
+        switch (column.getDataType()) {
+            case Float32:
+                return value instanceof String ? Float.parseFloat((String) value) : ((Number) value).floatValue();
+            case Float64:
+                return value instanceof String ? Double.parseDouble((String) value) : ((Number) value).doubleValue();
+            case Decimal:
+            case Decimal32:
+            case Decimal64:
+            case Decimal128:
+            case Decimal256:
+                return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            case Bool:
+                return value instanceof Number ? ((Number) value).longValue() != 0 : (Boolean) value;
+            case Date:
+            case Date32:
+                return value instanceof LocalDateTime ? ((LocalDateTime) value).toLocalDate() : (LocalDate) value;
+            case DateTime:
+            case DateTime64:
+                LocalDateTime dateTime = value instanceof LocalDate ?
+                        ((LocalDate) value).atStartOfDay() : (LocalDateTime) value;
+                // Text value would be parsed in the column or server timezone
+                ZonedDateTime zoned = dateTime.atZone(column.getTimeZone() == null ?
+                        dateTimeZone : column.getTimeZone().toZoneId());
+                return zoned;
+            case UUID:
+                return value instanceof String ? UUID.fromString((String) value) : (UUID) value;
+            case Enum8:
+                return ((Number) value).byteValue();
+            default:
+                return value;
+        }
+    }
+
     @Override
     public void setCharacterStream(int parameterIndex, Reader x, int length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -244,19 +616,19 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public void setBlob(int parameterIndex, Blob x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setClob(int parameterIndex, Clob x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setArray(int parameterIndex, Array x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -276,7 +648,7 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
         ZoneId tz = cal.getTimeZone().toZoneId();
         Calendar c = (Calendar) cal.clone();
         c.setTime(x);
-        parameters[parameterIndex - 1] = encodeObject(c.toInstant().atZone(tz).toLocalDate());
+        setParameter(parameterIndex, c.toInstant().atZone(tz).toLocalDate());
     }
 
     @Override
@@ -290,7 +662,7 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
         ZoneId tz = cal.getTimeZone().toZoneId();
         Calendar c = (Calendar) cal.clone();
         c.setTime(x);
-        parameters[parameterIndex - 1] = encodeObject(c.toInstant().atZone(tz).toLocalTime());
+        setParameter(parameterIndex, c.toInstant().atZone(tz).toLocalTime());
     }
 
     @Override
@@ -304,19 +676,19 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
         ZoneId tz = cal.getTimeZone().toZoneId();
         Calendar c = (Calendar) cal.clone();
         c.setTime(x);
-        parameters[parameterIndex - 1] = encodeObject(c.toInstant().atZone(tz).withNano(x.getNanos()).toLocalDateTime());
+        setParameter(parameterIndex, c.toInstant().atZone(tz).withNano(x.getNanos()).toLocalDateTime());
     }
 
     @Override
     public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(null);
+        setParameter(parameterIndex, null);
     }
 
     @Override
     public void setURL(int parameterIndex, URL x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -328,49 +700,49 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public void setRowId(int parameterIndex, RowId x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNString(int parameterIndex, String x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNClob(int parameterIndex, NClob x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setClob(int parameterIndex, Reader x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBlob(int parameterIndex, InputStream x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNClob(int parameterIndex, Reader x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -382,67 +754,67 @@ public class PreparedStatementImpl extends StatementImpl implements PreparedStat
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNCharacterStream(int parameterIndex, Reader x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setClob(int parameterIndex, Reader x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBlob(int parameterIndex, InputStream x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setNClob(int parameterIndex, Reader x) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
         checkClosed();
-        parameters[parameterIndex - 1] = encodeObject(x);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -33,6 +33,7 @@ public class ResultSetImpl implements ResultSet, JdbcV2Wrapper {
     private boolean closed;
     private final StatementImpl parentStatement;
     private boolean wasNull;
+    private int fetchSize;
 
     public ResultSetImpl(StatementImpl parentStatement, QueryResponse response, ClickHouseBinaryFormatReader reader) {
         this.parentStatement = parentStatement;
@@ -41,6 +42,7 @@ public class ResultSetImpl implements ResultSet, JdbcV2Wrapper {
         this.metaData = new com.clickhouse.jdbc.metadata.ResultSetMetaData(this);
         this.closed = false;
         this.wasNull = false;
+        this.fetchSize = parentStatement.getFetchSizeHint();
     }
 
     private void checkClosed() throws SQLException {
@@ -814,12 +816,17 @@ public class ResultSetImpl implements ResultSet, JdbcV2Wrapper {
     @Override
     public int getFetchSize() throws SQLException {
         checkClosed();
-        return 0;
+        return fetchSize;
     }
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
         checkClosed();
+        if (rows < 0) {
+            throw new SQLException("Fetch size should be non-negative", ExceptionUtils.SQL_STATE_CLIENT_ERROR);
+        }
+        // rows are already being read, the value is a hint only
+        fetchSize = rows;
     }
 
     @Override
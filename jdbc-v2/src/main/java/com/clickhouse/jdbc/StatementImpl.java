@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 public class StatementImpl implements Statement, JdbcV2Wrapper {
     private static final Logger LOG = LoggerFactory.getLogger(StatementImpl.class);
@@ -38,6 +40,7 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
     private volatile String lastQueryId;
     private String schema;
     private int maxRows;
+    private int fetchSize;
 
     public StatementImpl(ConnectionImpl connection) throws SQLException {
         this.connection = connection;
@@ -114,16 +117,26 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
         return tokens[2];
     }
 
+    private static final Pattern DATE_ESCAPE = Pattern.compile("\\{d '([^']*)'\\}");
+
+    private static final Pattern TIMESTAMP_ESCAPE = Pattern.compile("\\{ts '([^']*)'\\}");
+
+    private static final Pattern FUNCTION_ESCAPE = Pattern.compile("\\{fn ([^\\}]*)\\}");
+
     protected static String parseJdbcEscapeSyntax(String sql) {
         LOG.trace("Original SQL: {}", sql);
+        if (sql.indexOf('{') < 0) {
+            return sql; // no escape sequences
+        }
+
         // Replace {d 'YYYY-MM-DD'} with corresponding SQL date format
-        sql = sql.replaceAll("\\{d '([^']*)'\\}", "toDate('$1')");
+        sql = DATE_ESCAPE.matcher(sql).replaceAll("toDate('$1')");
 
         // Replace {ts 'YYYY-MM-DD HH:mm:ss'} with corresponding SQL timestamp format
-        sql = sql.replaceAll("\\{ts '([^']*)'\\}", "timestamp('$1')");
+        sql = TIMESTAMP_ESCAPE.matcher(sql).replaceAll("timestamp('$1')");
 
         // Replace function escape syntax {fn <function>} (e.g., {fn UCASE(name)})
-        sql = sql.replaceAll("\\{fn ([^\\}]*)\\}", "$1");
+        sql = FUNCTION_ESCAPE.matcher(sql).replaceAll("$1");
 
         // Handle outer escape syntax
         //sql = sql.replaceAll("\\{escape '([^']*)'\\}", "'$1'");
@@ -137,6 +150,20 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
         return lastSql;
     }
 
+    /**
+     * Returns database the statement was created for.
+     */
+    protected String getSchemaName() {
+        return schema;
+    }
+
+    /**
+     * Returns fetch size set for the statement without checking whether it is closed.
+     */
+    protected int getFetchSizeHint() {
+        return fetchSize;
+    }
+
     @Override
     public ResultSet executeQuery(String sql) throws SQLException {
         checkClosed();
@@ -158,13 +185,29 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
     }
 
     public ResultSetImpl executeQuery(String sql, QuerySettings settings) throws SQLException {
+        return executeQueryImpl(parseJdbcEscapeSyntax(sql), null, settings);
+    }
+
+    /**
+     * Executes a query which SQL has no JDBC escape sequences.
+     *
+     * @param sql - SQL query
+     * @param parameters - query parameters or null
+     * @param settings - query settings
+     */
+    ResultSetImpl executeQueryImpl(String sql, Map<String, Object> parameters, QuerySettings settings) throws SQLException {
         checkClosed();
         // Closing before trying to do next request. Otherwise, deadlock because previous connection will not be
         // release before this one completes.
         closePreviousResultSet();
 
         QuerySettings mergedSettings = QuerySettings.merge(connection.getDefaultQuerySettings(), settings);
-
+        int prefetchRows = connection.getResultSetPrefetchRows();
+        if (prefetchRows > 0 && mergedSettings.getReaderPrefetchRows() == null) {
+            // rows are decoded ahead in background while application processes current ones,
+            // fetch size only sizes the read-ahead buffer
+            mergedSettings.setReaderPrefetchRows(fetchSize > 0 ? fetchSize : prefetchRows);
+        }
 
         if (mergedSettings.getQueryId() != null) {
             lastQueryId = mergedSettings.getQueryId();
@@ -175,12 +218,12 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
         LOG.debug("Query ID: {}", lastQueryId);
 
         try {
-            lastSql = parseJdbcEscapeSyntax(sql);
+            lastSql = sql;
             QueryResponse response;
             if (queryTimeout == 0) {
-                response = connection.client.query(lastSql, mergedSettings).get();
+                response = connection.client.query(lastSql, parameters, mergedSettings).get();
             } else {
-                response = connection.client.query(lastSql, mergedSettings).get(queryTimeout, TimeUnit.SECONDS);
+                response = connection.client.query(lastSql, parameters, mergedSettings).get(queryTimeout, TimeUnit.SECONDS);
             }
             ClickHouseBinaryFormatReader reader = connection.client.newBinaryFormatReader(response);
 
@@ -200,9 +243,21 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
     }
 
     public int executeUpdate(String sql, QuerySettings settings) throws SQLException {
+        checkClosed();
+        return executeUpdateImpl(parseJdbcEscapeSyntax(sql), parseStatementType(sql), null, settings);
+    }
+
+    /**
+     * Executes a statement which SQL has no JDBC escape sequences.
+     *
+     * @param sql - SQL statement
+     * @param type - type of the statement
+     * @param parameters - query parameters or null
+     * @param settings - query settings
+     */
+    int executeUpdateImpl(String sql, StatementType type, Map<String, Object> parameters, QuerySettings settings) throws SQLException {
         // TODO: close current result set?
         checkClosed();
-        StatementType type = parseStatementType(sql);
         if (type == StatementType.SELECT || type == StatementType.SHOW || type == StatementType.DESCRIBE || type == StatementType.EXPLAIN) {
             throw new SQLException("executeUpdate() cannot be called with a SELECT/SHOW/DESCRIBE/EXPLAIN statement", ExceptionUtils.SQL_STATE_SQL_ERROR);
         }
@@ -220,10 +275,10 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
             mergedSettings.setQueryId(lastQueryId);
         }
 
-        lastSql = parseJdbcEscapeSyntax(sql);
+        lastSql = sql;
         int updateCount = 0;
-        try (QueryResponse response = queryTimeout == 0 ? connection.client.query(lastSql, mergedSettings).get()
-                : connection.client.query(lastSql, mergedSettings).get(queryTimeout, TimeUnit.SECONDS)) {
+        try (QueryResponse response = queryTimeout == 0 ? connection.client.query(lastSql, parameters, mergedSettings).get()
+                : connection.client.query(lastSql, parameters, mergedSettings).get(queryTimeout, TimeUnit.SECONDS)) {
             currentResultSet = null;
             updateCount = (int) response.getWrittenRows();
             metrics = response.getMetrics();
@@ -411,12 +466,16 @@ public class StatementImpl implements Statement, JdbcV2Wrapper {
     @Override
     public void setFetchSize(int rows) throws SQLException {
         checkClosed();
+        if (rows < 0) {
+            throw new SQLException("Fetch size should be non-negative", ExceptionUtils.SQL_STATE_CLIENT_ERROR);
+        }
+        fetchSize = rows;
     }
 
     @Override
     public int getFetchSize() throws SQLException {
         checkClosed();
-        return 0;
+        return fetchSize;
     }
 
     @Override
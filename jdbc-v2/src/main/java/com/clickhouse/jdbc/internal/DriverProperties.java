@@ -1,53 +1,72 @@
-package com.clickhouse.jdbc.internal;
-
-import java.util.Collections;
-import java.util.List;
-
-/**
- * JDBC driver specific properties. Should not include any of ClientConfigProperties.
- * Processing logic should be the follows
- * 1. If property is among DriverProperties then Driver handles it specially and will not pass to a client
- * 2. If property is not among DriverProperties then it is passed to a client
- */
-public enum DriverProperties {
-
-    IGNORE_UNSUPPORTED_VALUES("jdbc_ignore_unsupported_values", ""),
-    SCHEMA_TERM("jdbc_schema_term", ""),
-    /**
-     * Indicates if driver should create a secure connection over SSL/TLS
-     */
-    SECURE_CONNECTION("ssl", "false"),
-
-    /**
-     * query settings to be passed along with query operation.
-     * {@see com.clickhouse.client.api.query.QuerySettings}
-     */
-    DEFAULT_QUERY_SETTINGS("default_query_settings", null);
-    private final String key;
-
-    private final String defaultValue;
-
-    private final List<String> choices;
-
-    DriverProperties(String key, String defaultValue) {
-        this(key, defaultValue, Collections.emptyList());
-    }
-
-    DriverProperties(String key, String defaultValue, List<String> choices) {
-        this.key = key;
-        this.defaultValue = defaultValue;
-        this.choices = choices;
-    }
-
-    public String getKey() {
-        return key;
-    }
-
-    public String getDefaultValue() {
-        return defaultValue;
-    }
-
-    public List<String> getChoices() {
-        return choices;
-    }
-}
+package com.clickhouse.jdbc.internal;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC driver specific properties. Should not include any of ClientConfigProperties.
+ * Processing logic should be the follows
+ * 1. If property is among DriverProperties then Driver handles it specially and will not pass to a client
+ * 2. If property is not among DriverProperties then it is passed to a client
+ */
+public enum DriverProperties {
+
+    IGNORE_UNSUPPORTED_VALUES("jdbc_ignore_unsupported_values", ""),
+    SCHEMA_TERM("jdbc_schema_term", ""),
+    /**
+     * Indicates if driver should create a secure connection over SSL/TLS
+     */
+    SECURE_CONNECTION("ssl", "false"),
+
+    /**
+     * query settings to be passed along with query operation.
+     * {@see com.clickhouse.client.api.query.QuerySettings}
+     */
+    DEFAULT_QUERY_SETTINGS("default_query_settings", null),
+
+    /**
+     * Maximum number of parsed prepared statements kept by a connection. Statements are looked up by SQL text.
+     * Zero disables the cache.
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("jdbc_prepared_statement_cache_size", "256"),
+
+    /**
+     * Indicates if parameters of prepared statements should be sent as typed query parameters instead of
+     * being rendered into SQL text. Disabled by default, because it changes types of expressions: for example,
+     * {@code SELECT ?} with an int parameter returns {@code Int32} instead of the smallest type fitting the literal.
+     */
+    USE_SERVER_SIDE_PARAMETERS("jdbc_use_server_side_parameters", "false"),
+
+    /**
+     * Number of rows a result set reads ahead on a background thread. Zero disables read-ahead.
+     * When enabled, fetch size of a statement, if set, is used instead.
+     */
+    RESULT_SET_PREFETCH_ROWS("jdbc_result_set_prefetch_rows", "0");
+    private final String key;
+
+    private final String defaultValue;
+
+    private final List<String> choices;
+
+    DriverProperties(String key, String defaultValue) {
+        this(key, defaultValue, Collections.emptyList());
+    }
+
+    DriverProperties(String key, String defaultValue, List<String> choices) {
+        this.key = key;
+        this.defaultValue = defaultValue;
+        this.choices = choices;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    public List<String> getChoices() {
+        return choices;
+    }
+}
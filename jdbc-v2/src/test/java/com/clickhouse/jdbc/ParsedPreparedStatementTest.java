@@ -0,0 +1,49 @@
+package com.clickhouse.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class ParsedPreparedStatementTest {
+
+    @Test(groups = { "integration" })
+    public void testParameters() {
+        ParsedPreparedStatement parsed = ParsedPreparedStatement.parse("SELECT * FROM t WHERE a = ? AND b = ?");
+        assertEquals(parsed.getParameterCount(), 2);
+        assertEquals(parsed.getSegments(), new String[] {"SELECT * FROM t WHERE a = ", " AND b = ", ""});
+        assertEquals(parsed.getType(), StatementImpl.StatementType.SELECT);
+        assertNull(parsed.getInsertTable());
+    }
+
+    @Test(groups = { "integration" })
+    public void testQuotedQuestionMarks() {
+        ParsedPreparedStatement parsed = ParsedPreparedStatement.parse(
+                "SELECT '?', 'it''s ?', 'a\\'?', `c?`, \"d?\" /* ? */ FROM t -- ?\n WHERE a = ? # ?");
+        assertEquals(parsed.getParameterCount(), 1);
+        assertEquals(parsed.getSegments()[1], " # ?");
+    }
+
+    @Test(groups = { "integration" })
+    public void testJdbcEscapes() {
+        ParsedPreparedStatement parsed = ParsedPreparedStatement.parse(
+                "SELECT {d '2024-01-01'}, {ts '2024-01-01 10:00:00'}, {fn UCASE(?)}, '{d ''x''}', {p:String}");
+        assertEquals(parsed.getParameterCount(), 1);
+        assertEquals(parsed.getSegments()[0], "SELECT toDate('2024-01-01'), timestamp('2024-01-01 10:00:00'), UCASE(");
+        assertEquals(parsed.getSegments()[1], "), '{d ''x''}', {p:String}");
+    }
+
+    @Test(groups = { "integration" })
+    public void testInsertValues() {
+        ParsedPreparedStatement parsed = ParsedPreparedStatement.parse("insert into db.`t 1` (a, `b`) values (?, ?)");
+        assertEquals(parsed.getType(), StatementImpl.StatementType.INSERT);
+        assertEquals(parsed.getInsertTable(), "db.`t 1`");
+        assertEquals(parsed.getInsertColumns(), Arrays.asList("a", "b"));
+
+        parsed = ParsedPreparedStatement.parse("INSERT INTO t VALUES (?, now())");
+        assertEquals(parsed.getParameterCount(), 1);
+        assertNull(parsed.getInsertTable());
+    }
+}
@@ -1,16 +1,20 @@
 package com.clickhouse.jdbc;
 
 import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
+import com.clickhouse.jdbc.internal.DriverProperties;
 import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Properties;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -243,6 +247,59 @@ public class PreparedStatementTest extends JdbcIntegrationTest {
     }
 
 
+    @Test(groups = { "integration" })
+    public void testInsertBatch() throws Exception {
+        try (Connection conn = getJdbcConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS test_insert_batch (id Int32, name String, score Nullable(Float64), " +
+                        "name_length UInt32 MATERIALIZED length(name), upper_name String ALIAS upper(name), " +
+                        "tag String EPHEMERAL 'none', created DateTime DEFAULT now()) ENGINE = MergeTree ORDER BY id");
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO test_insert_batch (id, name, score) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < 100; i++) {
+                    stmt.setInt(1, i);
+                    stmt.setString(2, "name" + i);
+                    if (i % 2 == 0) {
+                        stmt.setDouble(3, i * 0.5);
+                    } else {
+                        stmt.setNull(3, Types.DOUBLE);
+                    }
+                    stmt.addBatch();
+                }
+                int[] results = stmt.executeBatch();
+                assertEquals(results.length, 100);
+                assertEquals(stmt.executeBatch().length, 0);
+            }
+
+            // without column list values go to all columns except MATERIALIZED, ALIAS and EPHEMERAL ones
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO test_insert_batch VALUES (?, ?, ?, ?)")) {
+                for (int i = 100; i < 110; i++) {
+                    stmt.setInt(1, i);
+                    stmt.setString(2, "name" + i);
+                    stmt.setDouble(3, i * 0.5);
+                    stmt.setObject(4, LocalDateTime.of(2024, 1, 1, 0, 0));
+                    stmt.addBatch();
+                }
+                assertEquals(stmt.executeBatch().length, 10);
+            }
+
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT count(), countIf(score IS NULL), sum(id), max(name), " +
+                         "sum(name_length), countIf(upper_name = upper(name)), countIf(created = '2024-01-01 00:00:00') " +
+                         "FROM test_insert_batch")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getInt(1), 110);
+                assertEquals(rs.getInt(2), 50);
+                assertEquals(rs.getInt(3), 5995);
+                assertEquals(rs.getString(4), "name99");
+                assertEquals(rs.getInt(5), 10 * 5 + 90 * 6 + 10 * 7);
+                assertEquals(rs.getInt(6), 110);
+                assertEquals(rs.getInt(7), 10);
+            }
+        }
+    }
+
     @Test(groups = { "integration" })
     public void testEscapeStrings() throws Exception {
         try (Connection conn = getJdbcConnection()) {
@@ -258,4 +315,36 @@ public class PreparedStatementTest extends JdbcIntegrationTest {
             }
         }
     }
+
+    @Test(groups = { "integration" })
+    public void testServerSideParameters() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty(DriverProperties.USE_SERVER_SIDE_PARAMETERS.getKey(), "true");
+        try (Connection conn = getJdbcConnection(properties)) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS test_server_side_params (id Int32, name String) ENGINE = Memory");
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO test_server_side_params SELECT ?, ?")) {
+                stmt.setInt(1, 1);
+                stmt.setString(2, "one' --");
+                assertEquals(stmt.executeUpdate(), 1);
+                stmt.setInt(1, 2);
+                stmt.setString(2, "two");
+                assertFalse(stmt.execute());
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT ?, name FROM test_server_side_params WHERE id = ?")) {
+                stmt.setInt(1, 10);
+                stmt.setInt(2, 1);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    assertTrue(rs.next());
+                    // typed parameter keeps its type instead of the smallest one fitting the literal
+                    assertEquals(rs.getMetaData().getColumnTypeName(1), "Int32");
+                    assertEquals(rs.getString(2), "one' --");
+                    assertFalse(rs.next());
+                }
+            }
+        }
+    }
 }